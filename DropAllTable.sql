@@ -50,6 +50,8 @@ BEGIN
 END $$;
 
 -- 3단계: 모든 테이블 삭제 (순서 중요)
+DROP TABLE IF EXISTS notification_outbox CASCADE;
+DROP TABLE IF EXISTS notification_read_watermark CASCADE;
 DROP TABLE IF EXISTS notification CASCADE;
 DROP TABLE IF EXISTS validation_history CASCADE;
 DROP TABLE IF EXISTS voice_recognition_logs CASCADE;
@@ -61,6 +63,13 @@ DROP TABLE IF EXISTS feedback CASCADE;
 DROP TABLE IF EXISTS recommendation CASCADE;
 DROP TABLE IF EXISTS user_achievements CASCADE;
 DROP TABLE IF EXISTS achievements CASCADE;
+DROP TABLE IF EXISTS user_calendar_month CASCADE;
+DROP TABLE IF EXISTS user_period_summary CASCADE;
+DROP TABLE IF EXISTS user_daily_summary CASCADE;
+DROP TABLE IF EXISTS user_streak CASCADE;
+DROP TABLE IF EXISTS scheduled_job_run CASCADE;
+DROP TABLE IF EXISTS ranking_batch_checkpoint CASCADE;
+DROP TABLE IF EXISTS ranking_score_event CASCADE;
 DROP TABLE IF EXISTS ranking_history CASCADE;
 DROP TABLE IF EXISTS user_rankings CASCADE;
 DROP TABLE IF EXISTS user_ranking CASCADE;
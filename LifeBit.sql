@@ -211,6 +211,26 @@ CREATE TABLE user_ranking (
 CREATE INDEX idx_user_ranking_user_id ON user_ranking(user_id);
 CREATE INDEX idx_user_ranking_total_score ON user_ranking(total_score);
 CREATE INDEX idx_user_ranking_rank_position ON user_ranking(rank_position);
+-- 시즌 리더보드 키셋 페이지네이션 (점수 DESC, id)
+CREATE INDEX idx_user_ranking_season_leaderboard ON user_ranking(season, is_active, total_score DESC, id);
+-- 사용자당 활성 랭킹 행은 하나 (점수 변경은 이 행을 UPSERT)
+-- 기존 데이터에 적용할 때 중복 활성 행이 있으면 인덱스 생성이 실패하므로 가장 최근 행만 남기고 비활성화
+UPDATE user_ranking ur
+   SET is_active = FALSE
+ WHERE ur.is_active = TRUE
+   AND EXISTS (SELECT 1 FROM user_ranking newer
+                WHERE newer.user_id = ur.user_id
+                  AND newer.is_active = TRUE
+                  AND (newer.last_updated_at, newer.id) > (ur.last_updated_at, ur.id));
+CREATE UNIQUE INDEX uq_user_ranking_active_user ON user_ranking(user_id) WHERE is_active = TRUE;
+-- 리더보드 변경 알림 (점수 변경 커밋마다 사용자 한 행, user_id 가 NULL 이면 전체 재계산)
+-- 각 노드는 마지막으로 본 id 이후 행의 사용자만 인메모리 리더보드에 다시 읽어 반영, 1일 지난 행은 정리
+CREATE TABLE leaderboard_change (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+CREATE INDEX idx_leaderboard_change_created ON leaderboard_change(created_at);
 
 -- ranking_history
 CREATE TABLE ranking_history (
@@ -230,6 +250,137 @@ CREATE INDEX idx_ranking_history_user_ranking_id ON ranking_history(user_ranking
 CREATE INDEX idx_ranking_history_recorded_at ON ranking_history(recorded_at);
 CREATE INDEX idx_ranking_history_period_type ON ranking_history(period_type);
 
+-- ranking_score_event (랭킹 점수 증분 이벤트 로그, 압축 작업이 ranking_history 스냅샷 생성)
+CREATE TABLE ranking_score_event (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(user_id) ON DELETE CASCADE,
+    season INTEGER NOT NULL,
+    delta INTEGER NOT NULL,
+    score_type VARCHAR(50) NOT NULL,
+    compacted BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_ranking_score_event_user_created ON ranking_score_event(user_id, created_at);
+CREATE INDEX idx_ranking_score_event_pending ON ranking_score_event(created_at) WHERE compacted = FALSE;
+
+-- ranking_batch_checkpoint (야간 랭킹 배치 청크 완료 기록, 중단 시 재시작 지점)
+CREATE TABLE ranking_batch_checkpoint (
+    id BIGSERIAL PRIMARY KEY,
+    job_name VARCHAR(50) NOT NULL,
+    run_date DATE NOT NULL,
+    first_user_id BIGINT NOT NULL,
+    last_user_id BIGINT NOT NULL,
+    user_count INTEGER NOT NULL,
+    completed_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_ranking_batch_checkpoint_job_date ON ranking_batch_checkpoint(job_name, run_date);
+
+-- scheduled_job_run (스케줄 작업 실행 이력, 노드 간 중복 실행 확인용)
+CREATE TABLE scheduled_job_run (
+    id BIGSERIAL PRIMARY KEY,
+    job_name VARCHAR(100) NOT NULL,
+    node_id VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('RUNNING', 'SUCCESS', 'FAILED')),
+    rows_processed BIGINT,
+    error_message TEXT,
+    started_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    finished_at TIMESTAMP
+);
+
+CREATE INDEX idx_scheduled_job_run_job_started ON scheduled_job_run(job_name, started_at DESC);
+
+-- user_streak (사용자별 운동/식단 연속 기록, 검증된 기록 변경 시 증분 갱신)
+CREATE TABLE user_streak (
+    user_id BIGINT NOT NULL REFERENCES users(user_id) ON DELETE CASCADE,
+    kind VARCHAR(20) NOT NULL CHECK (kind IN ('EXERCISE', 'MEAL')),
+    current_streak INTEGER NOT NULL DEFAULT 0,
+    max_streak INTEGER NOT NULL DEFAULT 0,
+    last_active_date DATE,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (user_id, kind)
+);
+
+-- user_daily_summary (사용자별 일별 운동/식단/신체 지표 요약, 기록 변경 시 해당 날짜만 재집계)
+CREATE TABLE user_daily_summary (
+    user_id BIGINT NOT NULL REFERENCES users(user_id) ON DELETE CASCADE,
+    summary_date DATE NOT NULL,
+    exercise_sessions INTEGER NOT NULL DEFAULT 0,
+    exercise_minutes INTEGER NOT NULL DEFAULT 0,
+    calories_burned INTEGER NOT NULL DEFAULT 0,
+    total_sets INTEGER NOT NULL DEFAULT 0,
+    chest_count INTEGER NOT NULL DEFAULT 0,
+    back_count INTEGER NOT NULL DEFAULT 0,
+    legs_count INTEGER NOT NULL DEFAULT 0,
+    shoulders_count INTEGER NOT NULL DEFAULT 0,
+    arms_count INTEGER NOT NULL DEFAULT 0,
+    abs_count INTEGER NOT NULL DEFAULT 0,
+    cardio_count INTEGER NOT NULL DEFAULT 0,
+    chest_minutes INTEGER NOT NULL DEFAULT 0,
+    back_minutes INTEGER NOT NULL DEFAULT 0,
+    legs_minutes INTEGER NOT NULL DEFAULT 0,
+    shoulders_minutes INTEGER NOT NULL DEFAULT 0,
+    arms_minutes INTEGER NOT NULL DEFAULT 0,
+    abs_minutes INTEGER NOT NULL DEFAULT 0,
+    cardio_minutes INTEGER NOT NULL DEFAULT 0,
+    -- 그날 운동한 부위 비트마스크 (BodyPartType 순서: chest=1, back=2, legs=4, shoulders=8, abs=16, arms=32, cardio=64)
+    body_part_mask SMALLINT NOT NULL DEFAULT 0,
+    primary_exercise VARCHAR(100),
+    primary_exercise_id BIGINT,
+    meal_log_count INTEGER NOT NULL DEFAULT 0,
+    kcal_intake DECIMAL(10,2) NOT NULL DEFAULT 0,
+    carbs_intake DECIMAL(10,2) NOT NULL DEFAULT 0,
+    protein_intake DECIMAL(10,2) NOT NULL DEFAULT 0,
+    fat_intake DECIMAL(10,2) NOT NULL DEFAULT 0,
+    health_record_count INTEGER NOT NULL DEFAULT 0,
+    weight DECIMAL(5,2),
+    bmi DECIMAL(4,2),
+    height DECIMAL(5,2),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (user_id, summary_date)
+);
+
+-- user_period_summary (일별 요약을 ISO 주/월/연 단위로 합친 구간 집계, 연은 월 집계로부터 계산)
+-- 평균값은 합계/일수로 저장해 상위 구간에서 그대로 더할 수 있게 함
+CREATE TABLE user_period_summary (
+    user_id BIGINT NOT NULL REFERENCES users(user_id) ON DELETE CASCADE,
+    bucket_type VARCHAR(10) NOT NULL CHECK (bucket_type IN ('WEEK', 'MONTH', 'YEAR')),
+    bucket_start DATE NOT NULL,
+    exercise_sessions INTEGER NOT NULL DEFAULT 0,
+    exercise_minutes INTEGER NOT NULL DEFAULT 0,
+    calories_burned INTEGER NOT NULL DEFAULT 0,
+    total_sets INTEGER NOT NULL DEFAULT 0,
+    workout_days INTEGER NOT NULL DEFAULT 0,
+    meal_days INTEGER NOT NULL DEFAULT 0,
+    kcal_intake DECIMAL(12,2) NOT NULL DEFAULT 0,
+    carbs_intake DECIMAL(12,2) NOT NULL DEFAULT 0,
+    protein_intake DECIMAL(12,2) NOT NULL DEFAULT 0,
+    fat_intake DECIMAL(12,2) NOT NULL DEFAULT 0,
+    health_record_count INTEGER NOT NULL DEFAULT 0,
+    weight_sum DECIMAL(10,2) NOT NULL DEFAULT 0,
+    weight_days INTEGER NOT NULL DEFAULT 0,
+    bmi_sum DECIMAL(10,2) NOT NULL DEFAULT 0,
+    bmi_days INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (user_id, bucket_type, bucket_start)
+);
+
+-- user_calendar_month (사용자별 월 달력, 일별 요약을 날짜 순 배열로 저장: 배열 n번째 칸 = n일)
+-- 달력 화면은 (사용자, 월) 한 줄만 읽음, 일별 요약이 바뀌면 그 달 한 줄만 다시 만듦
+CREATE TABLE user_calendar_month (
+    user_id BIGINT NOT NULL REFERENCES users(user_id) ON DELETE CASCADE,
+    month_start DATE NOT NULL,
+    workout_count INTEGER[] NOT NULL,
+    exercise_minutes INTEGER[] NOT NULL,
+    calories_burned INTEGER[] NOT NULL,
+    primary_exercise_id BIGINT[] NOT NULL,
+    meal_count INTEGER[] NOT NULL,
+    kcal_intake INTEGER[] NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (user_id, month_start)
+);
+
 -- achievements
 CREATE TABLE achievements (
     achievement_id BIGSERIAL PRIMARY KEY,
@@ -341,9 +492,36 @@ CREATE TABLE notification (
 );
 
 CREATE INDEX idx_notification_user_id ON notification(user_id);
+-- 알림 피드 키셋 페이지네이션용 (개인 알림: 사용자별 최신순, 시스템 알림: 부분 인덱스)
+CREATE INDEX idx_notification_user_feed ON notification(user_id, created_at DESC, id DESC);
+CREATE INDEX idx_notification_system_feed ON notification(created_at DESC, id DESC) WHERE user_id IS NULL;
 CREATE INDEX idx_notification_type ON notification(type);
 CREATE INDEX idx_notification_created_at ON notification(created_at);
 CREATE INDEX idx_notification_is_read ON notification(is_read);
+-- 시스템 알림(user_id IS NULL)의 워터마크 이후 구간 조회용
+CREATE INDEX idx_notification_system_id ON notification(id) WHERE user_id IS NULL;
+
+-- 읽지 않은 알림 수 변경 알림 (노드별 캐시 동기화용, user_id NULL 은 전체 사용자, delta NULL 은 변화량 모름, 1시간 지난 행은 정리)
+CREATE TABLE notification_count_change (
+    id BIGSERIAL PRIMARY KEY,
+    node_id VARCHAR(36) NOT NULL,
+    user_id BIGINT,
+    delta BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+CREATE INDEX idx_notification_count_change_created ON notification_count_change(created_at);
+
+-- 알림 저장 대기열 (메모리 큐가 가득 찼거나 종료 시 남은 알림, 배치 작업 알림)
+-- 저장 작업이 id 순으로 꺼내 notification 에 옮긴 뒤 삭제
+CREATE TABLE notification_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT REFERENCES users(user_id) ON DELETE CASCADE,
+    type VARCHAR(50) NOT NULL,
+    ref_id BIGINT,
+    title VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
 
 -- log 테이블 (파티셔닝)
 CREATE TABLE log (
@@ -439,30 +617,38 @@ CREATE TABLE IF NOT EXISTS notification_read (
     user_id BIGINT NOT NULL REFERENCES users(user_id) ON DELETE CASCADE,
     notification_id BIGINT NOT NULL REFERENCES notification(id) ON DELETE CASCADE,
     read_at TIMESTAMP NOT NULL DEFAULT NOW(),
-    UNIQUE (user_id, notification_id)
+    -- 일괄 읽음 처리(INSERT ... ON CONFLICT DO NOTHING)와 읽지 않은 알림 수(NOT EXISTS)가 이 유니크 인덱스를 사용
+    CONSTRAINT uq_notification_read_user_notification UNIQUE (user_id, notification_id)
 );
 
-CREATE INDEX IF NOT EXISTS idx_notification_read_user_notification ON notification_read(user_id, notification_id);
+-- notification_read_watermark (사용자별 시스템 알림 읽음 워터마크, 이 ID 이하의 시스템 알림은 모두 읽음)
+-- notification_read 에는 워터마크보다 큰 시스템 알림 중 개별로 읽은 것만 남으므로 저장량은 사용자 수에 비례
+CREATE TABLE IF NOT EXISTS notification_read_watermark (
+    user_id BIGINT PRIMARY KEY REFERENCES users(user_id) ON DELETE CASCADE,
+    last_read_system_notification_id BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
 
 -- 랭크(티어) 자동 업데이트 함수 및 트리거
+-- 애플리케이션/일괄 재계산이 쓴 티어를 이 트리거가 덮어쓰므로 RankingTier.fromScore 와 같은 기준 유지 (0점 UNRANK, 1000점 단위)
 CREATE OR REPLACE FUNCTION update_user_tier()
 RETURNS TRIGGER AS $$
 BEGIN
-    IF NEW.total_score < 100 THEN
+    IF NEW.total_score = 0 THEN
         NEW.tier := 'UNRANK';
-    ELSIF NEW.total_score < 500 THEN
-        NEW.tier := 'BRONZE';
     ELSIF NEW.total_score < 1000 THEN
-        NEW.tier := 'SILVER';
+        NEW.tier := 'BRONZE';
     ELSIF NEW.total_score < 2000 THEN
-        NEW.tier := 'GOLD';
+        NEW.tier := 'SILVER';
     ELSIF NEW.total_score < 3000 THEN
-        NEW.tier := 'PLATINUM';
+        NEW.tier := 'GOLD';
     ELSIF NEW.total_score < 4000 THEN
-        NEW.tier := 'DIAMOND';
+        NEW.tier := 'PLATINUM';
     ELSIF NEW.total_score < 5000 THEN
-        NEW.tier := 'MASTER';
+        NEW.tier := 'DIAMOND';
     ELSIF NEW.total_score < 6000 THEN
+        NEW.tier := 'MASTER';
+    ELSIF NEW.total_score < 7000 THEN
         NEW.tier := 'GRANDMASTER';
     ELSE
         NEW.tier := 'CHALLENGER';
@@ -38,7 +38,8 @@ public class SecurityConfig {
                                 "/uploads/**",
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
-                                "/actuator/**",
+                                "/actuator/health/**",
+                                "/actuator/info",
                                 "/ws/**",
                                 "/api/exercises/find-or-create",
                                 "/api/admin/**",
@@ -52,6 +53,8 @@ public class SecurityConfig {
                                 "/api/py/auth/**"
                         )
                         .permitAll()
+                        // 메트릭/스케줄 작업 이력 등 나머지 actuator 는 관리자만
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthenticationFilter,
                         org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter.class);
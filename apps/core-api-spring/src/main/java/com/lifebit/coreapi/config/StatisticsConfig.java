@@ -0,0 +1,21 @@
+package com.lifebit.coreapi.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 통계 계산 설정 클래스
+ * 건강 통계 섹션 조회를 동시에 실행하기 위한 가상 스레드 실행기 구성
+ * (DB 동시 접근 수 제한은 HealthStatisticsEngine의 세마포어 담당)
+ */
+@Configuration
+public class StatisticsConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService statisticsExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("lifebit-stats-", 0).factory());
+    }
+}
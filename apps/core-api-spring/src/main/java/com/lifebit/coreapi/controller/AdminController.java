@@ -2,6 +2,8 @@ package com.lifebit.coreapi.controller;
 
 import com.lifebit.coreapi.dto.UserDTO;
 import com.lifebit.coreapi.service.AdminService;
+import com.lifebit.coreapi.service.statistics.DailySummaryRollup;
+import com.lifebit.coreapi.service.streak.StreakTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +20,8 @@ import java.util.Map;
 public class AdminController {
 
     private final AdminService adminService;
+    private final StreakTracker streakTracker;
+    private final DailySummaryRollup dailySummaryRollup;
 
     @GetMapping("/users")
     @PreAuthorize("hasRole('ADMIN')")
@@ -32,6 +36,26 @@ public class AdminController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 전체 사용자 연속 기록(운동/식단) 재계산
+     */
+    @PostMapping("/streaks/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildStreaks() {
+        int rebuilt = streakTracker.rebuildAll();
+        return ResponseEntity.ok(Map.of("rebuilt", rebuilt));
+    }
+
+    /**
+     * 전체 사용자 일별 요약(운동/식단/건강 기록) 재구성
+     */
+    @PostMapping("/daily-summary/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildDailySummary() {
+        int rebuilt = dailySummaryRollup.rebuildAll();
+        return ResponseEntity.ok(Map.of("rebuilt", rebuilt));
+    }
+
     @GetMapping("/dashboard")
     public ResponseEntity<Map<String, Object>> getDashboardStats(
             @RequestHeader("Authorization") String token) {
@@ -1,18 +1,25 @@
 package com.lifebit.coreapi.controller;
 
 import com.lifebit.coreapi.service.AchievementService;
-import com.lifebit.coreapi.service.UserService;
+import com.lifebit.coreapi.service.UserSummaryLoader;
 import com.lifebit.coreapi.service.HealthStatisticsService;
 import com.lifebit.coreapi.service.ranking.RankingService;
-import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.service.export.HealthDataExporter;
 import com.lifebit.coreapi.entity.UserRanking;
 import com.lifebit.coreapi.security.JwtTokenProvider;
+import com.lifebit.coreapi.dto.UserSummaryDto;
 import com.lifebit.coreapi.dto.ranking.RankingUserDto;
 import com.lifebit.coreapi.repository.ranking.UserRankingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,7 +27,10 @@ import org.springframework.data.domain.Sort;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -35,10 +45,15 @@ public class HealthStatisticsController {
 
     private final AchievementService achievementService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserService userService;
     private final HealthStatisticsService healthStatisticsService; // 통합된 서비스 사용
     private final RankingService rankingService;
     private final UserRankingRepository userRankingRepository;
+    private final UserSummaryLoader userSummaryLoader;
+    private final HealthDataExporter healthDataExporter;
+
+    // 내보내기 응답만 기본 비동기 제한 시간(30초)보다 길게
+    @Value("${export.timeout-ms:600000}")
+    private long exportTimeoutMillis;
 
     /**
      * JWT 토큰에서 사용자 ID 추출
@@ -90,16 +105,6 @@ public class HealthStatisticsController {
             // ✅ 통합된 서비스에서 건강 통계 조회
             Map<String, Object> statistics = healthStatisticsService.getHealthStatistics(tokenUserId, period);
             
-            // 🍽️ period가 'day'인 경우 실제 영양소 통계 추가
-            if ("day".equals(period)) {
-                log.info("🍽️ [Controller] 영양소 통계 조회 시작 - 사용자: {}, 기간: {}", tokenUserId, period);
-                Map<String, Object> nutritionStats = healthStatisticsService.getRealMealNutritionStatistics(tokenUserId, period);
-                log.info("🍽️ [Controller] 영양소 통계 조회 결과: {}", nutritionStats);
-                statistics.putAll(nutritionStats);
-                log.info("🍽️ [Controller] 영양소 통계 추가 완료 - 사용자: {}, 칼로리: {}, 데이터 출처: {}", 
-                        tokenUserId, nutritionStats.get("dailyCalories"), nutritionStats.get("dataSource"));
-            }
-            
             log.info("건강 통계 조회 완료 - 사용자: {}, 기간: {}", tokenUserId, period);
             
             return ResponseEntity.ok(statistics);
@@ -183,23 +188,18 @@ public class HealthStatisticsController {
                 // 상위 5명 랭킹 조회
                 Pageable topRankingsPageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "totalScore"));
                 Page<UserRanking> topRankingsPage = userRankingRepository.findTopRankings(topRankingsPageable);
+                // 상위 랭커 사용자 정보는 IN 쿼리 1회로 조회
+                Map<Long, UserSummaryDto> rankerUsers = userSummaryLoader.loadAll(
+                    topRankingsPage.getContent().stream().map(UserRanking::getUserId).toList());
                 
                 topRankers = topRankingsPage.getContent().stream()
                     .map(ranking -> {
                         Map<String, Object> rankerMap = new HashMap<>();
                         rankerMap.put("rank", ranking.getRankPosition());
                         rankerMap.put("userId", ranking.getUserId());
-                        String nickname = "사용자" + ranking.getUserId();
-                        String profileImageUrl = null;
-                        try {
-                            User user = userService.getUserById(ranking.getUserId());
-                            if (user != null) {
-                                if (user.getNickname() != null) nickname = user.getNickname();
-                                profileImageUrl = user.getProfileImageUrl();
-                            }
-                        } catch (Exception ignore) {}
-                        rankerMap.put("nickname", nickname);
-                        rankerMap.put("profileImageUrl", profileImageUrl);
+                        UserSummaryDto user = rankerUsers.get(ranking.getUserId());
+                        rankerMap.put("nickname", user.getNicknameOrDefault());
+                        rankerMap.put("profileImageUrl", user.getProfileImageUrl());
                         rankerMap.put("score", ranking.getTotalScore());
                         rankerMap.put("badge", getBadgeFromScore(ranking.getTotalScore()));
                         rankerMap.put("streakDays", ranking.getStreakDays());
@@ -211,7 +211,7 @@ public class HealthStatisticsController {
                     .toList();
                 
                 // 현재 사용자의 랭킹 정보 조회 (없으면 자동 생성)
-                User currentUser = userService.getUserById(currentUserId);
+                UserSummaryDto currentUser = userSummaryLoader.load(currentUserId);
                 Optional<UserRanking> userRankingOpt = userRankingRepository.findActiveByUserId(currentUserId);
                 
                 // 사용자 랭킹이 없으면 자동 생성
@@ -223,7 +223,7 @@ public class HealthStatisticsController {
                 
                 if (userRankingOpt.isPresent()) {
                     UserRanking userRanking = userRankingOpt.get();
-                    String nickname = currentUser != null && currentUser.getNickname() != null ? currentUser.getNickname() : ("사용자" + currentUserId);
+                    String nickname = currentUser.getNicknameOrDefault();
                     RankingTier myTier = userRanking.getTier() != null ? userRanking.getTier() : RankingTier.UNRANK;
                     myRanking = Map.of(
                         "rank", userRanking.getRankPosition(),
@@ -368,6 +368,113 @@ public class HealthStatisticsController {
         }
     }
 
+    /**
+     * 🗓️ 월 달력 조회 (날짜별 운동 횟수/시간/칼로리, 대표 운동, 식단 기록 수/섭취 칼로리 배열)
+     */
+    @GetMapping("/{userId}/calendar/{year}/{month}")
+    public ResponseEntity<Map<String, Object>> getCalendarMonth(
+            @PathVariable Long userId,
+            @PathVariable int year,
+            @PathVariable int month,
+            HttpServletRequest request) {
+        
+        try {
+            // 토큰에서 사용자 ID 추출하여 권한 확인
+            Long tokenUserId = getUserIdFromToken(request);
+            
+            // 🔐 인증된 사용자만 자신의 데이터에 접근 가능
+            if (!tokenUserId.equals(userId)) {
+                log.warn("권한 없는 접근 시도 - 토큰 사용자: {}, 요청 사용자: {}", tokenUserId, userId);
+                return ResponseEntity.status(403).build();
+            }
+            if (month < 1 || month > 12) {
+                return ResponseEntity.badRequest().build();
+            }
+            
+            return ResponseEntity.ok(healthStatisticsService.getCalendarMonth(tokenUserId, year, month));
+            
+        } catch (Exception e) {
+            log.error("월 달력 조회 중 오류 발생 - 사용자: {}, {}년 {}월", userId, year, month, e);
+            return ResponseEntity.ok(Map.of("userId", userId, "year", year, "month", month, "days", 0));
+        }
+    }
+
+    /**
+     * 📦 전체 건강 기록 내보내기 (건강 기록, 운동 세션, 식단 기록)
+     * format: ndjson, csv / from, to: 기간 (선택) / gzip: 압축 여부
+     * 기록을 목록으로 모으지 않고 DB 커서에서 읽는 대로 응답에 씀
+     * 동시 내보내기 자리가 없으면 429
+     */
+    @GetMapping("/{userId}/export")
+    public ResponseEntity<StreamingResponseBody> exportHealthData(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletRequest request) {
+
+        // 토큰에서 사용자 ID 추출하여 권한 확인
+        Long tokenUserId;
+        try {
+            tokenUserId = getUserIdFromToken(request);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(401).build();
+        }
+
+        // 🔐 인증된 사용자만 자신의 데이터에 접근 가능
+        if (!tokenUserId.equals(userId)) {
+            log.warn("권한 없는 내보내기 시도 - 토큰 사용자: {}, 요청 사용자: {}", tokenUserId, userId);
+            return ResponseEntity.status(403).build();
+        }
+
+        HealthDataExporter.Format exportFormat;
+        try {
+            exportFormat = HealthDataExporter.Format.from(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        HealthDataExporter.Slot slot = healthDataExporter.tryAcquire(tokenUserId);
+        if (slot == null) {
+            log.info("건강 기록 내보내기 거절 (동시 실행 제한) - 사용자: {}", tokenUserId);
+            return ResponseEntity.status(429).header(HttpHeaders.RETRY_AFTER, "30").build();
+        }
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncWebRequest != null) {
+            asyncWebRequest.setTimeout(exportTimeoutMillis);
+            // 본문이 실행되지 못하고 끝나는 경우(시간 초과, 오류, 연결 종료)에도 자리 반환 (close 는 여러 번 호출해도 안전)
+            asyncWebRequest.addTimeoutHandler(slot::close);
+            asyncWebRequest.addErrorHandler(e -> slot.close());
+            asyncWebRequest.addCompletionHandler(slot::close);
+        }
+
+        String filename = "lifebit-health-" + tokenUserId + "-" + LocalDate.now() + "." + exportFormat.getExtension()
+                + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> {
+            try {
+                healthDataExporter.export(tokenUserId, exportFormat, from, to, gzip, out);
+            } catch (IOException e) {
+                // 응답을 이미 쓰기 시작했으므로 상태 코드를 바꿀 수 없음 (대부분 클라이언트 연결 종료)
+                log.warn("건강 기록 내보내기 중단 - 사용자: {}, 사유: {}", tokenUserId, e.getMessage());
+            } finally {
+                slot.close();
+            }
+        };
+
+        log.info("건강 기록 내보내기 시작 - 사용자: {}, 형식: {}, 기간: {} ~ {}, 압축: {}",
+                tokenUserId, exportFormat, from, to, gzip);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip")
+                        : MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+
     /**
      * 사용자 업적 초기화
      */
@@ -37,6 +37,27 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.getUserNotificationsPageDto(userId, pageable, isRead));
     }
 
+    /**
+     * 알림 피드 (키셋 페이지네이션, cursor 는 이전 응답의 nextCursor)
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<?> getMyNotificationFeed(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Boolean isRead
+    ) {
+        Long userId = Long.parseLong(userDetails.getUsername());
+        try {
+            return ResponseEntity.ok(notificationService.getNotificationFeed(userId, cursor, size, isRead));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "알림 피드 조회 실패",
+                "message", e.getMessage()
+            ));
+        }
+    }
+
     /**
      * 알림 전체 읽음 처리
      */
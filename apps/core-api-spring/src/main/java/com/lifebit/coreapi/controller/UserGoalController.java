@@ -3,6 +3,7 @@ package com.lifebit.coreapi.controller;
 import com.lifebit.coreapi.entity.UserGoal;
 import com.lifebit.coreapi.service.UserGoalService;
 import com.lifebit.coreapi.security.JwtTokenProvider;
+import com.lifebit.coreapi.service.ranking.RankingBulkUpdater;
 import com.lifebit.coreapi.service.ranking.RankingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -300,11 +301,13 @@ public class UserGoalController {
     @PostMapping("/update-ranking-positions")
     public ResponseEntity<Map<String, Object>> updateRankingPositions() {
         try {
-            rankingService.updateRankingPositions();
+            RankingBulkUpdater.Result result = rankingService.updateRankingPositions();
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "랭킹 순위가 업데이트되었습니다.");
+            response.put("updatedRows", result.rowsUpdated());
+            response.put("elapsedMillis", result.elapsedMillis());
             
             return ResponseEntity.ok(response);
             
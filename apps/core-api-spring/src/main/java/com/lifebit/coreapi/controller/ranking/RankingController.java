@@ -1,20 +1,25 @@
 package com.lifebit.coreapi.controller.ranking;
 
-import com.lifebit.coreapi.dto.ranking.RankingResponseDto;
+import com.lifebit.coreapi.dto.ranking.LeaderboardPageDto;
 import com.lifebit.coreapi.dto.ranking.MyRankingResponseDto;
 import com.lifebit.coreapi.dto.ranking.RankingUserDto;
 import com.lifebit.coreapi.dto.ranking.RankingHistoryDto;
 import com.lifebit.coreapi.dto.ranking.RankingStatsDto;
 import com.lifebit.coreapi.dto.ranking.RankingRewardDto;
+import com.lifebit.coreapi.service.ranking.LeaderboardSnapshotCache;
+import com.lifebit.coreapi.service.ranking.RankingLeaderboardService;
 import com.lifebit.coreapi.service.ranking.RankingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/rankings")
@@ -22,10 +27,25 @@ import java.util.List;
 public class RankingController {
 
     private final RankingService rankingService;
+    private final LeaderboardSnapshotCache leaderboardSnapshotCache;
+    private final RankingLeaderboardService rankingLeaderboardService;
 
+    /**
+     * 홈 화면 랭킹: 캐시된 상위 랭커 JSON + 요청 시점의 내 랭킹을 합쳐 응답
+     */
     @GetMapping
-    public ResponseEntity<RankingResponseDto> getRankingData() {
-        return ResponseEntity.ok(rankingService.getRankingData());
+    public ResponseEntity<String> getRankingData(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        LeaderboardSnapshotCache.Snapshot top = leaderboardSnapshotCache.get("home", rankingService::getHomeTopRankers);
+        String body = leaderboardSnapshotCache.homeJson(top, rankingService.getMyRankingSummary());
+        String etag = LeaderboardSnapshotCache.etagOf("lb-home", body);
+        if (etagMatches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     @GetMapping("/me")
@@ -34,18 +54,42 @@ public class RankingController {
     }
 
     @GetMapping("/season")
-    public ResponseEntity<List<RankingUserDto>> getSeasonRankings(@RequestParam int season) {
-        return ResponseEntity.ok(rankingService.getSeasonRankings(season));
+    public ResponseEntity<String> getSeasonRankings(@RequestParam int season,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return snapshotResponse(leaderboardSnapshotCache.get("season:" + season,
+                () -> rankingService.getSeasonRankings(season)), ifNoneMatch);
     }
 
     @GetMapping("/period")
-    public ResponseEntity<List<RankingUserDto>> getPeriodRankings(@RequestParam String periodType) {
-        return ResponseEntity.ok(rankingService.getPeriodRankings(periodType));
+    public ResponseEntity<String> getPeriodRankings(@RequestParam String periodType,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return snapshotResponse(leaderboardSnapshotCache.get("period:" + periodType,
+                () -> rankingService.getPeriodRankings(periodType)), ifNoneMatch);
     }
 
     @GetMapping("/top")
-    public ResponseEntity<List<RankingUserDto>> getTopRankings() {
-        return ResponseEntity.ok(rankingService.getTopRankings());
+    public ResponseEntity<String> getTopRankings(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return snapshotResponse(leaderboardSnapshotCache.get("top", rankingService::getTopRankings), ifNoneMatch);
+    }
+
+    /**
+     * 시즌 리더보드 (키셋 페이지네이션, cursor = 이전 응답의 nextCursor)
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<LeaderboardPageDto> getLeaderboardPage(@RequestParam(defaultValue = "1") int season,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(rankingLeaderboardService.getLeaderboardPage(season, cursor, size));
+    }
+
+    /**
+     * 내 위/아래 순위 구간
+     */
+    @GetMapping("/around-me")
+    public ResponseEntity<java.util.List<RankingUserDto>> getAroundMe(@RequestParam(defaultValue = "5") int above,
+                                                                      @RequestParam(defaultValue = "5") int below) {
+        return ResponseEntity.ok(rankingService.getAroundMe(above, below));
     }
 
     @GetMapping("/history")
@@ -77,4 +121,37 @@ public class RankingController {
     public ResponseEntity<RankingRewardDto> getMyReward() {
         return ResponseEntity.ok(rankingService.getMyReward());
     }
-} 
\ No newline at end of file
+
+    // 미리 직렬화된 스냅샷을 그대로 응답 (ETag가 같으면 304)
+    private ResponseEntity<String> snapshotResponse(LeaderboardSnapshotCache.Snapshot snapshot, String ifNoneMatch) {
+        String etag = snapshot.etag();
+        if (etagMatches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.json());
+    }
+
+    /**
+     * If-None-Match 비교 (여러 값 목록, "*", 약한 ETag W/ 접두어 허용 - RFC 9110 약한 비교)
+     */
+    static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String target = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || opaqueTag(value).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -0,0 +1,18 @@
+package com.lifebit.coreapi.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지네이션 알림 피드 한 페이지
+ * nextCursor는 마지막 항목의 "생성시각_알림ID" (다음 페이지가 없으면 null)
+ */
+@Getter
+@Builder
+public class NotificationFeedDto {
+    private final List<NotificationDto> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+}
@@ -0,0 +1,23 @@
+package com.lifebit.coreapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 랭킹/목록 표시용 사용자 요약 (닉네임, 프로필 이미지)
+ */
+@Getter
+@AllArgsConstructor
+public class UserSummaryDto {
+    private final Long userId;
+    private final String nickname;
+    private final String profileImageUrl;
+
+    public static UserSummaryDto unknown(Long userId) {
+        return new UserSummaryDto(userId, null, null);
+    }
+
+    public String getNicknameOrDefault() {
+        return nickname != null ? nickname : ("사용자" + userId);
+    }
+}
@@ -0,0 +1,18 @@
+package com.lifebit.coreapi.dto.ranking;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지네이션 리더보드 한 페이지
+ * nextCursor는 마지막 항목의 "점수_랭킹ID" (다음 페이지가 없으면 null)
+ */
+@Getter
+@Builder
+public class LeaderboardPageDto {
+    private final List<RankingUserDto> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+}
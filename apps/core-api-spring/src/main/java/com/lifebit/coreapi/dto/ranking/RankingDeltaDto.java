@@ -0,0 +1,20 @@
+package com.lifebit.coreapi.dto.ranking;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 랭킹 변화 실시간 푸시 메시지 (병합 구간 동안의 첫 상태 → 마지막 상태, 다른 사용자 이동으로 바뀐 순위 포함)
+ */
+@Getter
+@Builder
+public class RankingDeltaDto {
+    private final int previousRank;
+    private final int rank;
+    private final int totalScore;
+    private final String previousTier;
+    private final String tier;
+    private final boolean tierChanged;
+    // 상위 목록이 바뀌었거나 전체 재계산됨 (클라이언트는 목록을 다시 조회)
+    private final boolean leaderboardChanged;
+}
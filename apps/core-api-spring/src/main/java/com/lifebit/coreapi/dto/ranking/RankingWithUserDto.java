@@ -0,0 +1,25 @@
+package com.lifebit.coreapi.dto.ranking;
+
+import com.lifebit.coreapi.entity.enums.RankingTier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * user_ranking + users 조인 프로젝션 (랭킹 목록 한 줄)
+ */
+@Getter
+@AllArgsConstructor
+public class RankingWithUserDto {
+    private final Long rankingId;
+    private final Long userId;
+    private final int totalScore;
+    private final int streakDays;
+    private final int rankPosition;
+    private final RankingTier tier;
+    private final String nickname;
+    private final String profileImageUrl;
+
+    public String getNicknameOrDefault() {
+        return nickname != null ? nickname : ("사용자" + userId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.lifebit.coreapi.dto.statistics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 사용자 월 달력 (user_calendar_month 한 줄)
+ * 배열의 index 칸 = (index + 1)일, 배열 길이 = 그 달의 일수
+ * 기록이 없는 달은 모두 0 (대표 운동은 0 = 없음)
+ */
+@Getter
+@Builder
+public class CalendarMonth {
+    private final Long userId;
+    private final LocalDate monthStart;
+
+    private final int[] workoutCount;
+    private final int[] exerciseMinutes;
+    private final int[] caloriesBurned;
+    // 그날 가장 많이 한 운동의 exercise_catalog_id
+    private final long[] primaryExerciseId;
+
+    private final int[] mealCount;
+    // 섭취 칼로리 (kcal, 반올림)
+    private final int[] kcalIntake;
+
+    public int days() {
+        return workoutCount.length;
+    }
+
+    public LocalDate dateOf(int index) {
+        return monthStart.plusDays(index);
+    }
+
+    public static CalendarMonth empty(Long userId, YearMonth month) {
+        int days = month.lengthOfMonth();
+        return CalendarMonth.builder()
+                .userId(userId)
+                .monthStart(month.atDay(1))
+                .workoutCount(new int[days])
+                .exerciseMinutes(new int[days])
+                .caloriesBurned(new int[days])
+                .primaryExerciseId(new long[days])
+                .mealCount(new int[days])
+                .kcalIntake(new int[days])
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.lifebit.coreapi.dto.statistics;
+
+import com.lifebit.coreapi.entity.BodyPartType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 사용자 하루 요약 (user_daily_summary 한 줄)
+ * 운동/식단/건강 기록 중 하나라도 있는 날짜만 존재
+ */
+@Getter
+@Builder
+public class DailySummary {
+    private final Long userId;
+    private final LocalDate summaryDate;
+
+    private final int exerciseSessions;
+    private final int exerciseMinutes;
+    private final int caloriesBurned;
+    private final int totalSets;
+    // 부위별 세션 수 / 운동 시간 (카탈로그에 부위가 없는 세션은 제외)
+    private final Map<BodyPartType, Integer> bodyPartSessions;
+    private final Map<BodyPartType, Integer> bodyPartMinutes;
+    // 운동한 부위 비트마스크 (BodyPartCalendar.bit 기준)
+    private final int bodyPartMask;
+    // 그날 가장 많이 한 운동명
+    private final String primaryExercise;
+    private final Long primaryExerciseId;
+
+    private final int mealLogCount;
+    private final BigDecimal kcalIntake;
+    private final BigDecimal carbsIntake;
+    private final BigDecimal proteinIntake;
+    private final BigDecimal fatIntake;
+
+    // 그날 마지막 건강 기록의 체중/BMI/키
+    private final int healthRecordCount;
+    private final BigDecimal weight;
+    private final BigDecimal bmi;
+    private final BigDecimal height;
+
+    public int sessionsFor(BodyPartType bodyPart) {
+        return bodyPartSessions.getOrDefault(bodyPart, 0);
+    }
+
+    public int minutesFor(BodyPartType bodyPart) {
+        return bodyPartMinutes.getOrDefault(bodyPart, 0);
+    }
+}
@@ -0,0 +1,46 @@
+package com.lifebit.coreapi.dto.statistics;
+
+import com.lifebit.coreapi.entity.BodyPartType;
+import com.lifebit.coreapi.entity.TimePeriodType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 운동 통계 계산용 프로젝션 (exercise_sessions + exercise_catalog 부위, 엔티티/지연 로딩 없음)
+ * 카탈로그가 없으면 bodyPart는 null
+ */
+@Getter
+@AllArgsConstructor
+public class ExerciseStatRow {
+    private final LocalDate exerciseDate;
+    private final Integer durationMinutes;
+    private final Integer caloriesBurned;
+    private final Integer sets;
+    private final BodyPartType bodyPart;
+    private final TimePeriodType timePeriod;
+    private final String notes;
+
+    public int minutes() {
+        return durationMinutes != null ? durationMinutes : 0;
+    }
+
+    public int calories() {
+        return caloriesBurned != null ? caloriesBurned : 0;
+    }
+
+    /**
+     * 세트 수가 없는 유산소/플랭크 등은 1세트로 간주
+     */
+    public int setsOrOne() {
+        return sets != null && sets > 0 ? sets : 1;
+    }
+
+    /**
+     * 부위 키 (CHEST, BACK ...), 카탈로그 부위가 없으면 null
+     */
+    public String bodyPartKey() {
+        return bodyPart != null ? bodyPart.name().toUpperCase() : null;
+    }
+}
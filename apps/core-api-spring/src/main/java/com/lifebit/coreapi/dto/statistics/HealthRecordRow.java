@@ -0,0 +1,25 @@
+package com.lifebit.coreapi.dto.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 건강 기록 조회용 프로젝션 (영속성 컨텍스트에 엔티티를 올리지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class HealthRecordRow {
+    private final Long healthRecordId;
+    private final UUID uuid;
+    private final Long userId;
+    private final BigDecimal weight;
+    private final BigDecimal height;
+    private final BigDecimal bmi;
+    private final LocalDate recordDate;
+    private final LocalDateTime createdAt;
+}
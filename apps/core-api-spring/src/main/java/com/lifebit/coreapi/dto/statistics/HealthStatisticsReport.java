@@ -0,0 +1,201 @@
+package com.lifebit.coreapi.dto.statistics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 종합 건강 통계 결과 (섹션별 타입)
+ * 기존 API 응답 형식은 toMap()으로 제공 (키 이름/덮어쓰기 순서 유지)
+ * 조회에 실패한 섹션은 null로 두고 degradedSections에 이름을 남김
+ */
+@Getter
+@Builder
+public class HealthStatisticsReport {
+
+    /** 주간 부위별 횟수/시간 응답 키 순서 */
+    public static final List<String> BODY_PARTS = List.of("CHEST", "BACK", "LEGS", "SHOULDERS", "ARMS", "ABS", "CARDIO");
+
+    private final Long userId;
+    private final String period;
+    // 프로필 조회 실패 시 null
+    private final Double currentWeight;
+    private final Double currentHeight;
+    private final Double currentBMI;
+    private final GoalTargets goals;
+    private final ExerciseSummary exercise;
+    private final HealthRecordSummary healthRecords;
+    private final MealSummary meals;
+    private final List<HealthChartPoint> healthChart;
+    private final List<ExerciseChartPoint> exerciseChart;
+    private final BodyPartSummary bodyParts;
+    private final NutritionSummary nutrition;
+    private final WeeklyWorkoutSummary weekly;
+    private final List<String> degradedSections;
+
+    public record GoalTargets(Integer weeklyWorkoutTarget, Integer dailyCarbsTarget,
+                              Integer dailyProteinTarget, Integer dailyFatTarget) {}
+
+    /**
+     * 기간 운동 통계 (workouts/minutes는 period별 키로 응답)
+     */
+    public record ExerciseSummary(String workoutKey, String minutesKey, int workouts, int minutes,
+                                  int totalCaloriesBurned, int averageDailyCalories, int streak,
+                                  int totalWorkoutDays, int goalAchievementRate, int goalChange) {}
+
+    public record HealthRecordSummary(double weightChange, double bmiChange, int healthRecordCount) {}
+
+    /**
+     * 오늘 식단 합계 (반올림 없이 합산)
+     */
+    public record MealSummary(double calories, double carbs, double protein, double fat, int mealLogCount) {}
+
+    public record HealthChartPoint(LocalDate date, Double weight, Double bmi, Double height) {}
+
+    public record ExerciseChartPoint(LocalDate date, int durationMinutes, int caloriesBurned) {}
+
+    public record BodyPartFrequency(String bodyPart, String bodyPartKorean, int count, int duration,
+                                    double percentage, String color) {}
+
+    public record BodyPartSummary(List<BodyPartFrequency> frequency, int totalExerciseSessions) {}
+
+    /**
+     * 실제 식단 기록 기반 영양소 (오늘 기록이 없으면 최근 7일 중 가장 최근 날짜, 항목별 소수 둘째 자리 반올림)
+     */
+    public record NutritionSummary(double calories, double carbs, double protein, double fat,
+                                   int mealLogCount, String dataSource) {}
+
+    /**
+     * 이번 주(일~토) 운동 횟수, 부위별 횟수/시간
+     */
+    public record WeeklyWorkoutSummary(int totalWorkouts, Map<String, Integer> bodyPartCounts,
+                                       Map<String, Integer> bodyPartMinutes) {}
+
+    public boolean isDegraded() {
+        return degradedSections != null && !degradedSections.isEmpty();
+    }
+
+    /**
+     * 기존 getHealthStatistics 응답 형식 (섹션 병합 순서대로 키를 덮어씀)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("userId", userId);
+        statistics.put("currentWeight", currentWeight);
+        statistics.put("currentBMI", currentBMI);
+        statistics.put("currentHeight", currentHeight);
+
+        if (healthRecords != null) {
+            statistics.put("weightChange", healthRecords.weightChange());
+            statistics.put("bmiChange", healthRecords.bmiChange());
+            statistics.put("healthRecordCount", healthRecords.healthRecordCount());
+        }
+
+        if (exercise != null) {
+            statistics.put(exercise.workoutKey(), exercise.workouts());
+            statistics.put(exercise.minutesKey(), exercise.minutes());
+            statistics.put("totalCaloriesBurned", exercise.totalCaloriesBurned());
+            statistics.put("averageDailyCalories", exercise.averageDailyCalories());
+            statistics.put("streak", exercise.streak());
+            statistics.put("totalWorkoutDays", exercise.totalWorkoutDays());
+            statistics.put("goalAchievementRate", exercise.goalAchievementRate());
+            statistics.put("goalChange", exercise.goalChange());
+            // 주간 부위별 횟수/시간은 주간 기준으로만 제공
+            if ("week".equalsIgnoreCase(period) && weekly != null) {
+                for (String part : BODY_PARTS) {
+                    String label = capitalize(part);
+                    statistics.put("weekly" + label + "Count", weekly.bodyPartCounts().getOrDefault(part, 0));
+                    statistics.put("weekly" + label + "Minutes", weekly.bodyPartMinutes().getOrDefault(part, 0));
+                }
+            }
+        }
+
+        if (meals != null) {
+            statistics.put("dailyCaloriesAverage", meals.calories());
+            statistics.put("dailyCarbsIntake", meals.carbs());
+            statistics.put("dailyProteinIntake", meals.protein());
+            statistics.put("dailyFatIntake", meals.fat());
+            statistics.put("mealLogCount", meals.mealLogCount());
+        }
+
+        if (healthChart != null) {
+            statistics.put("healthChartData", healthChart.stream().map(point -> {
+                Map<String, Object> dataPoint = new HashMap<>();
+                dataPoint.put("date", point.date().toString());
+                dataPoint.put("weight", point.weight());
+                dataPoint.put("bmi", point.bmi());
+                dataPoint.put("height", point.height());
+                return dataPoint;
+            }).toList());
+        }
+        if (exerciseChart != null) {
+            statistics.put("exerciseChartData", exerciseChart.stream().map(point -> {
+                Map<String, Object> dataPoint = new HashMap<>();
+                dataPoint.put("date", point.date().toString());
+                dataPoint.put("duration_minutes", point.durationMinutes());
+                dataPoint.put("calories_burned", point.caloriesBurned());
+                return dataPoint;
+            }).toList());
+        }
+
+        if (bodyParts != null) {
+            statistics.put("bodyPartFrequency", bodyParts.frequency().stream().map(frequency -> {
+                Map<String, Object> bodyPartInfo = new HashMap<>();
+                bodyPartInfo.put("bodyPart", frequency.bodyPart());
+                bodyPartInfo.put("bodyPartKorean", frequency.bodyPartKorean());
+                bodyPartInfo.put("count", frequency.count());
+                bodyPartInfo.put("duration", frequency.duration());
+                bodyPartInfo.put("percentage", frequency.percentage());
+                bodyPartInfo.put("color", frequency.color());
+                return bodyPartInfo;
+            }).toList());
+            statistics.put("totalExerciseSessions", bodyParts.totalExerciseSessions());
+        }
+
+        if (nutrition != null) {
+            statistics.put("dailyCalories", nutrition.calories());
+            statistics.put("dailyCarbs", nutrition.carbs());
+            statistics.put("dailyProtein", nutrition.protein());
+            statistics.put("dailyFat", nutrition.fat());
+            statistics.put("mealLogCount", nutrition.mealLogCount());
+            statistics.put("dataSource", nutrition.dataSource());
+        }
+
+        if (goals != null) {
+            statistics.put("workoutGoal", goals.weeklyWorkoutTarget());
+            statistics.put("dailyCarbsTarget", goals.dailyCarbsTarget());
+            statistics.put("dailyProteinTarget", goals.dailyProteinTarget());
+            statistics.put("dailyFatTarget", goals.dailyFatTarget());
+        }
+
+        if (weekly != null) {
+            statistics.put("weeklyTotalWorkouts", weekly.totalWorkouts());
+            for (String part : BODY_PARTS) {
+                statistics.put("weekly" + capitalize(part), weekly.bodyPartCounts().get(part));
+            }
+        }
+
+        statistics.put("degradedSections", degradedSections != null ? degradedSections : List.of());
+        return statistics;
+    }
+
+    private static String capitalize(String part) {
+        return part.charAt(0) + part.substring(1).toLowerCase();
+    }
+
+    /**
+     * 부위별 값 맵 (응답 키 순서 고정, 0으로 초기화)
+     */
+    public static Map<String, Integer> emptyBodyPartMap() {
+        Map<String, Integer> values = new LinkedHashMap<>();
+        for (String part : BODY_PARTS) {
+            values.put(part, 0);
+        }
+        return values;
+    }
+}
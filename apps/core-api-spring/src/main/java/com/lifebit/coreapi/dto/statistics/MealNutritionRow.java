@@ -0,0 +1,29 @@
+package com.lifebit.coreapi.dto.statistics;
+
+import com.lifebit.coreapi.entity.MealTimeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 통계 계산용 식단 기록 프로젝션 (meal_logs + food_items 영양소, 음식 정보가 없으면 영양소 null)
+ */
+@Getter
+@AllArgsConstructor
+public class MealNutritionRow {
+    private final Long mealLogId;
+    private final LocalDate logDate;
+    private final MealTimeType mealTime;
+    private final BigDecimal quantity;
+    private final Long foodItemId;
+    private final BigDecimal calories;
+    private final BigDecimal carbs;
+    private final BigDecimal protein;
+    private final BigDecimal fat;
+
+    public boolean hasFoodItem() {
+        return foodItemId != null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.lifebit.coreapi.dto.statistics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * 주/월/연 구간 집계 (user_period_summary 한 줄)
+ * 종료일이 오늘 이전인 구간(closed)은 과거 날짜 기록이 수정되지 않는 한 바뀌지 않음
+ */
+@Getter
+@Builder
+public class PeriodBucket {
+    private final String bucketType;
+    private final LocalDate bucketStart;
+    private final LocalDate bucketEnd;
+    private final boolean closed;
+
+    private final int exerciseSessions;
+    private final int exerciseMinutes;
+    private final int caloriesBurned;
+    private final int totalSets;
+    private final int workoutDays;
+
+    private final int mealDays;
+    private final BigDecimal kcalIntake;
+    private final BigDecimal carbsIntake;
+    private final BigDecimal proteinIntake;
+    private final BigDecimal fatIntake;
+
+    private final int healthRecordCount;
+    private final BigDecimal weightSum;
+    private final int weightDays;
+    private final BigDecimal bmiSum;
+    private final int bmiDays;
+
+    /**
+     * 구간 내 일별 체중의 평균 (기록 없으면 null)
+     */
+    public BigDecimal getAverageWeight() {
+        return average(weightSum, weightDays);
+    }
+
+    public BigDecimal getAverageBmi() {
+        return average(bmiSum, bmiDays);
+    }
+
+    /**
+     * 식단 기록이 있는 날 기준 하루 평균 섭취 칼로리
+     */
+    public BigDecimal getAverageDailyKcal() {
+        return average(kcalIntake, mealDays);
+    }
+
+    private static BigDecimal average(BigDecimal sum, int days) {
+        return days > 0 && sum != null ? sum.divide(BigDecimal.valueOf(days), 2, RoundingMode.HALF_UP) : null;
+    }
+}
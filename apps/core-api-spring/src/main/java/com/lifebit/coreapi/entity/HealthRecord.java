@@ -1,5 +1,7 @@
 package com.lifebit.coreapi.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.lifebit.coreapi.service.statistics.DailySummaryEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,6 +14,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "health_records")
+@EntityListeners(DailySummaryEntityListener.class)
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,6 +45,11 @@ public class HealthRecord {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // 일별 요약 갱신용: 로드/저장 시점의 기록 날짜 (수정 전후 비교)
+    @Transient
+    @JsonIgnore
+    private LocalDate loadedRecordDate;
+
     @PrePersist
     protected void onCreate() {
         this.uuid = UUID.randomUUID();
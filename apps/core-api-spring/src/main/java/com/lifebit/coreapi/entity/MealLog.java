@@ -1,5 +1,8 @@
 package com.lifebit.coreapi.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.lifebit.coreapi.service.statistics.DailySummaryEntityListener;
+import com.lifebit.coreapi.service.streak.StreakEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,6 +19,7 @@ import java.util.UUID;
         @Index(name = "idx_meal_logs_validation", columnList = "validation_status")
     }
 )
+@EntityListeners({DailySummaryEntityListener.class, StreakEntityListener.class})
 @Getter @Setter
 public class MealLog {
     @Id
@@ -63,4 +67,13 @@ public class MealLog {
     
     @Column(name = "created_at")
     private LocalDateTime createdAt;
+
+    // 연속 기록/일별 요약 갱신용: 로드/저장 시점의 날짜와 검증 상태 (수정 전후 비교)
+    @Transient
+    @JsonIgnore
+    private LocalDate loadedLogDate;
+
+    @Transient
+    @JsonIgnore
+    private ValidationStatusType loadedValidationStatus;
 } 
\ No newline at end of file
@@ -7,7 +7,9 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notification_read")
+// 사용자별 알림 읽음 기록 (같은 알림은 한 번만, 일괄 읽음 처리가 ON CONFLICT DO NOTHING 으로 의존)
+@Table(name = "notification_read",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "notification_id"}))
 @Getter @Setter @NoArgsConstructor
 public class NotificationRead {
     @Id
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
     indexes = {
         @Index(name = "idx_user_ranking_user_id", columnList = "user_id"),
         @Index(name = "idx_user_ranking_total_score", columnList = "total_score DESC"),
-        @Index(name = "idx_user_ranking_rank_position", columnList = "rank_position")
+        @Index(name = "idx_user_ranking_rank_position", columnList = "rank_position"),
+        @Index(name = "idx_user_ranking_season_leaderboard", columnList = "season, is_active, total_score DESC, id")
     }
 )
 @Getter
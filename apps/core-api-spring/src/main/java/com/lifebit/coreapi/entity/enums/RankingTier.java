@@ -52,4 +52,33 @@ public enum RankingTier {
             default: return "언랭크";
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 티어 하한 점수 (UNRANK는 0점인 경우에만 해당)
+     */
+    public int getMinScore() {
+        switch (this) {
+            case BRONZE: return 1;
+            case SILVER: return 1000;
+            case GOLD: return 2000;
+            case PLATINUM: return 3000;
+            case DIAMOND: return 4000;
+            case MASTER: return 5000;
+            case GRANDMASTER: return 6000;
+            case CHALLENGER: return 7000;
+            default: return 0;
+        }
+    }
+
+    /**
+     * 점수에 해당하는 티어 (0점은 UNRANK, 음수는 BRONZE)
+     */
+    public static RankingTier fromScore(int totalScore) {
+        if (totalScore == 0) return UNRANK;
+        RankingTier[] tiers = values();
+        for (int i = tiers.length - 1; i > BRONZE.ordinal(); i--) {
+            if (totalScore >= tiers[i].getMinScore()) return tiers[i];
+        }
+        return BRONZE;
+    }
+}
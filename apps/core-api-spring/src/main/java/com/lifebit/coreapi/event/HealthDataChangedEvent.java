@@ -0,0 +1,29 @@
+package com.lifebit.coreapi.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 사용자의 운동/식단/건강 기록, 목표, 프로필 신체 정보(키/체중)가 추가, 수정, 삭제되었음을 알리는 이벤트
+ * (통계 캐시 무효화 등 커밋 이후 처리용)
+ */
+@Getter
+public class HealthDataChangedEvent extends ApplicationEvent {
+
+    public enum DataType {
+        EXERCISE,
+        MEAL,
+        HEALTH_RECORD,
+        GOAL,
+        PROFILE
+    }
+
+    private final Long userId;
+    private final DataType dataType;
+
+    public HealthDataChangedEvent(Long userId, DataType dataType) {
+        super(userId);
+        this.userId = userId;
+        this.dataType = dataType;
+    }
+}
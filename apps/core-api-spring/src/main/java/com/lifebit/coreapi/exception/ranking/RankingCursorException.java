@@ -0,0 +1,11 @@
+package com.lifebit.coreapi.exception.ranking;
+
+public class RankingCursorException extends RankingException {
+    public RankingCursorException(String message) {
+        super(message);
+    }
+
+    public static RankingCursorException invalid(String cursor) {
+        return new RankingCursorException(String.format("잘못된 페이지 커서입니다. (cursor: %s)", cursor));
+    }
+}
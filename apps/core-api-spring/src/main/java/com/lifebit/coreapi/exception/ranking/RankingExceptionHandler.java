@@ -31,6 +31,13 @@ public class RankingExceptionHandler {
                 .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
     }
 
+    @ExceptionHandler(RankingCursorException.class)
+    public ResponseEntity<ErrorResponse> handleRankingCursorException(RankingCursorException e) {
+        log.warn("잘못된 랭킹 페이지 요청: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+    }
+
     @ExceptionHandler(RankingException.class)
     public ResponseEntity<ErrorResponse> handleRankingException(RankingException e) {
         log.error("랭킹 시스템 오류 발생: {}", e.getMessage());
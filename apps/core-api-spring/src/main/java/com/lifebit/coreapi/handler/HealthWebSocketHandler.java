@@ -148,6 +148,29 @@ public class HealthWebSocketHandler extends TextWebSocketHandler {
         sendUpdateMessage(userId, "recommendation_update", data);
     }
 
+    /**
+     * 특정 사용자에게 랭킹 변화 메시지 전송
+     */
+    public void sendRankingUpdate(String userId, Object data) {
+        sendUpdateMessage(userId, "ranking_update", data);
+    }
+
+    /**
+     * 특정 사용자에게 읽지 않은 알림 수 전송 (알림 배지)
+     */
+    public void sendNotificationCount(String userId, long unreadCount) {
+        sendUpdateMessage(userId, "notification_count", java.util.Map.of("unreadCount", unreadCount));
+    }
+
+    /**
+     * 서버가 현재 값을 모르는 사용자에게 읽지 않은 알림 수 변화만 전송
+     * delta 가 null 이면 변화량을 알 수 없음 → 클라이언트가 다시 조회
+     */
+    public void sendNotificationCountChanged(String userId, Long delta) {
+        sendUpdateMessage(userId, "notification_count_changed",
+                delta != null ? java.util.Map.of("delta", delta) : java.util.Map.of("stale", true));
+    }
+
     /**
      * 업데이트 메시지 전송 (내부 메서드)
      */
@@ -353,6 +376,16 @@ public class HealthWebSocketHandler extends TextWebSocketHandler {
         return userSession != null && userSession.getSession().isOpen();
     }
 
+    /**
+     * 연결된 사용자 ID 목록
+     */
+    public java.util.List<String> getConnectedUserIds() {
+        return userSessions.values().stream()
+                .filter(session -> session.getSession().isOpen())
+                .map(UserSessionInfo::getUserId)
+                .toList();
+    }
+
     /**
      * 사용자의 현재 페이지 업데이트
      */
@@ -364,6 +397,26 @@ public class HealthWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
+    /**
+     * 특정 사용자가 연결되어 있고 해당 페이지를 보고 있는지 확인
+     */
+    public boolean isUserOnPage(String userId, String pageName) {
+        UserSessionInfo userSession = userSessions.get(userId);
+        return userSession != null && userSession.getSession().isOpen()
+                && pageName.equals(userSession.getCurrentPage());
+    }
+
+    /**
+     * 해당 페이지를 보고 있는 사용자 ID 목록
+     */
+    public java.util.List<String> getUserIdsOnPage(String pageName) {
+        return userSessions.values().stream()
+                .filter(session -> session.getSession().isOpen())
+                .filter(session -> pageName.equals(session.getCurrentPage()))
+                .map(UserSessionInfo::getUserId)
+                .toList();
+    }
+
     /**
      * 페이지별 접속자 수 조회
      */
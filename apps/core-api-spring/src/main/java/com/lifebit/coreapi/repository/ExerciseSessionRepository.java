@@ -1,5 +1,6 @@
 package com.lifebit.coreapi.repository;
 
+import com.lifebit.coreapi.dto.statistics.ExerciseStatRow;
 import com.lifebit.coreapi.entity.ExerciseSession;
 import com.lifebit.coreapi.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -21,6 +22,25 @@ public interface ExerciseSessionRepository extends JpaRepository<ExerciseSession
 
     // ✅ NoteExerciseService 용
     List<ExerciseSession> findByUser_UserIdAndExerciseDateBetween(Long userId, LocalDate start, LocalDate end);
+
+    // 통계 계산용 프로젝션 (엔티티/사용자/카탈로그 로딩 없이 필요한 컬럼만, 최신순)
+    @Query("SELECT new com.lifebit.coreapi.dto.statistics.ExerciseStatRow(" +
+           "es.exerciseDate, es.durationMinutes, es.caloriesBurned, es.sets, ec.bodyPart, es.timePeriod, es.notes) " +
+           "FROM ExerciseSession es LEFT JOIN es.exerciseCatalog ec " +
+           "WHERE es.user.userId = :userId AND es.exerciseDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY es.exerciseDate DESC")
+    List<ExerciseStatRow> findStatRows(@Param("userId") Long userId,
+                                       @Param("startDate") LocalDate startDate,
+                                       @Param("endDate") LocalDate endDate);
+
+    // 운동 기록이 있는 날짜 (최신순, 연속 기록 계산용)
+    @Query("SELECT DISTINCT es.exerciseDate FROM ExerciseSession es " +
+           "WHERE es.user.userId = :userId AND es.exerciseDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY es.exerciseDate DESC")
+    List<LocalDate> findExerciseDates(@Param("userId") Long userId,
+                                      @Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
+
     @Query("SELECT es FROM ExerciseSession es JOIN FETCH es.user JOIN FETCH es.exerciseCatalog WHERE es.user.userId = :userId AND es.exerciseDate = :date")
     List<ExerciseSession> findByUser_UserIdAndExerciseDateWithCatalog(@Param("userId") Long userId, @Param("date") LocalDate date);
 
@@ -1,5 +1,6 @@
 package com.lifebit.coreapi.repository;
 
+import com.lifebit.coreapi.dto.statistics.HealthRecordRow;
 import com.lifebit.coreapi.entity.HealthRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -20,6 +21,15 @@ public interface HealthRecordRepository extends JpaRepository<HealthRecord, Long
     List<HealthRecord> findByUserIdAndRecordDateBetweenOrderByRecordDateDesc(
         Long userId, LocalDate startDate, LocalDate endDate);
     
+    // 사용자별 특정 기간 건강 기록 프로젝션 (최신순, 엔티티 로딩 없이 조회 전용)
+    @Query("SELECT new com.lifebit.coreapi.dto.statistics.HealthRecordRow(" +
+           "hr.healthRecordId, hr.uuid, hr.userId, hr.weight, hr.height, hr.bmi, hr.recordDate, hr.createdAt) " +
+           "FROM HealthRecord hr WHERE hr.userId = :userId AND hr.recordDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY hr.recordDate DESC")
+    List<HealthRecordRow> findRows(@Param("userId") Long userId,
+                                   @Param("startDate") LocalDate startDate,
+                                   @Param("endDate") LocalDate endDate);
+    
     // 사용자의 최신 건강 기록 조회
     Optional<HealthRecord> findFirstByUserIdOrderByRecordDateDesc(Long userId);
     
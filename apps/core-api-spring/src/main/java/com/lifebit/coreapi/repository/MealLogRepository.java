@@ -1,5 +1,6 @@
 package com.lifebit.coreapi.repository;
 
+import com.lifebit.coreapi.dto.statistics.MealNutritionRow;
 import com.lifebit.coreapi.entity.MealLog;
 import com.lifebit.coreapi.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -23,18 +24,34 @@ public interface MealLogRepository extends JpaRepository<MealLog, Long> {
     @Query("SELECT ml FROM MealLog ml WHERE ml.user = :user AND ml.logDate = :logDate ORDER BY ml.logDate DESC, ml.createdAt DESC")
     List<MealLog> findDailyMealLogs(@Param("user") User user, @Param("logDate") LocalDate logDate);
     
-    @Query("SELECT ml.logDate as date, COUNT(ml) as count FROM MealLog ml " +
-           "WHERE ml.user = :user AND ml.logDate BETWEEN :startDate AND :endDate " +
-           "GROUP BY ml.logDate")
-    List<Object[]> findDietCountByDateRange(@Param("user") User user, 
-                                           @Param("startDate") LocalDate startDate, 
-                                           @Param("endDate") LocalDate endDate);
-    
     @Query("SELECT ml FROM MealLog ml WHERE ml.user.userId = :userId AND ml.logDate = :logDate ORDER BY ml.logDate DESC, ml.createdAt DESC")
     List<MealLog> findByUserIdAndLogDateOrderByLogDateDescCreatedAtDesc(@Param("userId") Long userId, @Param("logDate") LocalDate logDate);
     
     @Query("SELECT ml FROM MealLog ml WHERE ml.user.userId = :userId AND ml.logDate BETWEEN :startDate AND :endDate ORDER BY ml.logDate DESC, ml.createdAt DESC")
     List<MealLog> findByUserIdAndLogDateBetweenOrderByLogDateDescCreatedAtDesc(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 영양소 합계용 프로젝션 (엔티티/음식 지연 로딩 없이 한 번의 조인으로, 최신순)
+    @Query("SELECT new com.lifebit.coreapi.dto.statistics.MealNutritionRow(" +
+           "ml.mealLogId, ml.logDate, ml.mealTime, ml.quantity, fi.foodItemId, fi.calories, fi.carbs, fi.protein, fi.fat) " +
+           "FROM MealLog ml LEFT JOIN ml.foodItem fi " +
+           "WHERE ml.user.userId = :userId AND ml.logDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY ml.logDate DESC, ml.createdAt DESC")
+    List<MealNutritionRow> findNutritionRows(@Param("userId") Long userId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    // 식단 기록이 있는 날짜 (최신순, 연속 기록 계산용)
+    @Query("SELECT DISTINCT ml.logDate FROM MealLog ml " +
+           "WHERE ml.user.userId = :userId AND ml.logDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY ml.logDate DESC")
+    List<LocalDate> findLogDates(@Param("userId") Long userId,
+                                 @Param("startDate") LocalDate startDate,
+                                 @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT COUNT(ml) FROM MealLog ml WHERE ml.user.userId = :userId AND ml.logDate BETWEEN :startDate AND :endDate")
+    long countByUserIdAndLogDateBetween(@Param("userId") Long userId,
+                                        @Param("startDate") LocalDate startDate,
+                                        @Param("endDate") LocalDate endDate);
     
     // 대시보드 통계용 메서드
     @Query("SELECT COUNT(ml) FROM MealLog ml WHERE ml.createdAt BETWEEN :start AND :end")
@@ -2,13 +2,99 @@ package com.lifebit.coreapi.repository;
 
 import com.lifebit.coreapi.entity.NotificationRead;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
+/**
+ * 시스템 알림 읽음 상태
+ * - 사용자별 워터마크(notification_read_watermark): 이 ID 이하의 시스템 알림은 모두 읽음
+ * - notification_read: 워터마크보다 큰 알림 중 개별로 읽은 것만 보관하는 예외 목록
+ */
 public interface NotificationReadRepository extends JpaRepository<NotificationRead, Long> {
     Optional<NotificationRead> findByUserIdAndNotificationId(Long userId, Long notificationId);
-    @Query("SELECT COUNT(nr) > 0 FROM NotificationRead nr WHERE nr.userId = :userId AND nr.notificationId = :notificationId")
-    boolean existsByUserIdAndNotificationId(@Param("userId") Long userId, @Param("notificationId") Long notificationId);
 
-} 
\ No newline at end of file
+    /**
+     * 사용자의 시스템 알림 읽음 워터마크 (없으면 0 = 모두 안 읽음)
+     */
+    @Query(value = """
+            SELECT COALESCE((SELECT w.last_read_system_notification_id
+                               FROM notification_read_watermark w
+                              WHERE w.user_id = :userId), 0)
+            """, nativeQuery = true)
+    long findSystemWatermark(@Param("userId") Long userId);
+
+    /**
+     * 시스템 알림 한 건 읽음 처리 (워터마크 이하이거나 이미 읽었으면 무시)
+     * @return 새로 읽음 처리된 건수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO notification_read (user_id, notification_id, read_at)
+            SELECT :userId, :notificationId, NOW()
+             WHERE :notificationId > COALESCE((SELECT w.last_read_system_notification_id
+                                                 FROM notification_read_watermark w
+                                                WHERE w.user_id = :userId), 0)
+            ON CONFLICT (user_id, notification_id) DO NOTHING
+            """, nativeQuery = true)
+    int markRead(@Param("userId") Long userId, @Param("notificationId") Long notificationId);
+
+    /**
+     * 현재까지의 시스템 알림 전체 읽음 처리 (워터마크를 가장 최근 시스템 알림 ID로 이동)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO notification_read_watermark (user_id, last_read_system_notification_id, updated_at)
+            SELECT :userId, COALESCE(MAX(n.id), 0), NOW()
+              FROM notification n
+             WHERE n.user_id IS NULL
+            ON CONFLICT (user_id) DO UPDATE
+               SET last_read_system_notification_id = GREATEST(notification_read_watermark.last_read_system_notification_id,
+                                                               EXCLUDED.last_read_system_notification_id),
+                   updated_at = NOW()
+            """, nativeQuery = true)
+    int markAllSystemNotificationsRead(@Param("userId") Long userId);
+
+    /**
+     * 워터마크 바로 위부터 빈틈없이 읽은 시스템 알림이 이어지면 워터마크를 그 끝까지 올림
+     * (안 읽은 시스템 알림이 없으면 가장 최근 시스템 알림 ID까지)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO notification_read_watermark (user_id, last_read_system_notification_id, updated_at)
+            SELECT :userId,
+                   COALESCE((SELECT MIN(n.id) - 1
+                               FROM notification n
+                              WHERE n.user_id IS NULL AND n.id > w.watermark
+                                AND NOT EXISTS (SELECT 1 FROM notification_read nr
+                                                 WHERE nr.user_id = :userId AND nr.notification_id = n.id)),
+                            (SELECT COALESCE(MAX(n.id), 0) FROM notification n WHERE n.user_id IS NULL)),
+                   NOW()
+              FROM (SELECT COALESCE((SELECT last_read_system_notification_id
+                                       FROM notification_read_watermark
+                                      WHERE user_id = :userId), 0) AS watermark) w
+            ON CONFLICT (user_id) DO UPDATE
+               SET last_read_system_notification_id = GREATEST(notification_read_watermark.last_read_system_notification_id,
+                                                               EXCLUDED.last_read_system_notification_id),
+                   updated_at = NOW()
+            """, nativeQuery = true)
+    int advanceSystemWatermark(@Param("userId") Long userId);
+
+    /**
+     * 워터마크 이하로 내려간 시스템 알림 예외(개별 읽음 기록) 삭제
+     * @return 삭제된 건수
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM notification_read nr
+             USING notification n
+             WHERE nr.user_id = :userId
+               AND n.id = nr.notification_id
+               AND n.user_id IS NULL
+               AND nr.notification_id <= (SELECT w.last_read_system_notification_id
+                                            FROM notification_read_watermark w
+                                           WHERE w.user_id = :userId)
+            """, nativeQuery = true)
+    int deleteSystemReadsBelowWatermark(@Param("userId") Long userId);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -17,35 +18,107 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     Page<Notification> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
     Page<Notification> findByUserIdAndIsReadOrderByCreatedAtDesc(Long userId, boolean isRead, Pageable pageable);
 
-    // 시스템 공용 알림을 포함한 조회 메서드
-    @Query("SELECT n FROM Notification n WHERE (n.userId = :userId OR n.userId IS NULL) ORDER BY n.createdAt DESC")
-    Page<Notification> findByUserIdOrUserIdIsNullOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
-
-    @Query("SELECT n FROM Notification n WHERE (n.userId = :userId OR n.userId IS NULL) AND n.isRead = :isRead ORDER BY n.createdAt DESC")
-    Page<Notification> findByUserIdOrUserIdIsNullAndIsReadOrderByCreatedAtDesc(@Param("userId") Long userId, @Param("isRead") boolean isRead, Pageable pageable);
+    /**
+     * 알림 목록 한 행 (개인/시스템 알림 + 사용자 기준 읽음 여부)
+     */
+    interface FeedRow {
+        Long getId();
+        String getType();
+        Long getRefId();
+        String getTitle();
+        String getMessage();
+        LocalDateTime getCreatedAt();
+        // null 이면 시스템 알림
+        Long getUserId();
+        boolean isRead();
+    }
 
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false")
     void markAllAsReadByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT COUNT(n) FROM Notification n WHERE (n.userId = :userId OR n.userId IS NULL) AND n.isRead = false")
-    long countUnreadByUserIdOrUserIdIsNull(@Param("userId") Long userId);
+    // 안 읽은 개인 알림일 때만 읽음 처리 (같은 알림을 동시에 읽어도 1을 반환하는 요청은 하나뿐)
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.userId = :userId AND n.isRead = false")
+    int markReadIfUnread(@Param("id") Long id, @Param("userId") Long userId);
 
-    // 시스템 공용 알림만 조회
-    @Query("SELECT n FROM Notification n WHERE n.userId IS NULL ORDER BY n.createdAt DESC")
-    List<Notification> findByUserIdIsNullOrderByCreatedAtDesc();
+    // 삭제된 행 수 (동시에 삭제해도 1을 반환하는 요청은 하나뿐)
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id = :id")
+    int deleteAndCount(@Param("id") Long id);
 
     /**
-     * 시스템 알림(공용) 및 개인 알림을 모두 조회하며, 시스템 알림의 경우 notification_read 테이블과 조인하여 읽음 여부를 반환
-     * 반환: Object[] { Notification, isRead(boolean) }
+     * 읽지 않은 알림 수
+     * = 개인 알림(is_read = false) + 워터마크보다 큰 시스템 알림 수 - 그중 개별로 읽은 알림 수(notification_read)
+     */
+    @Query(value = """
+            SELECT (SELECT COUNT(*) FROM notification n
+                     WHERE n.user_id = :userId AND n.is_read = FALSE)
+                 + (SELECT COUNT(*) FROM notification n
+                     WHERE n.user_id IS NULL AND n.id > w.watermark)
+                 - (SELECT COUNT(*) FROM notification_read nr
+                      JOIN notification n ON n.id = nr.notification_id
+                     WHERE nr.user_id = :userId AND n.user_id IS NULL AND n.id > w.watermark)
+              FROM (SELECT COALESCE((SELECT last_read_system_notification_id
+                                       FROM notification_read_watermark
+                                      WHERE user_id = :userId), 0) AS watermark) w
+            """, nativeQuery = true)
+    long countUnread(@Param("userId") Long userId);
+
+    /**
+     * 시스템 알림(공용) 및 개인 알림을 모두 조회하며, notification_read 테이블과 조인하여 읽음 여부를 반환 (OFFSET 페이징)
+     * (개인 알림은 일괄 읽음 처리 시 is_read 만 바뀌므로 is_read 도 함께 확인, 시스템 알림은 워터마크 이하면 읽음)
      */
     @Query("""
-    SELECT n, 
-           CASE WHEN nr.id IS NOT NULL THEN true ELSE false END as isRead
+    SELECT n.id AS id, n.type AS type, n.refId AS refId, n.title AS title, n.message AS message,
+           n.createdAt AS createdAt, n.userId AS userId,
+           CASE WHEN nr.id IS NOT NULL OR n.isRead = true OR (n.userId IS NULL AND n.id <= :watermark)
+                THEN true ELSE false END AS read
     FROM Notification n
     LEFT JOIN NotificationRead nr ON nr.notificationId = n.id AND nr.userId = :userId
     WHERE n.userId = :userId OR n.userId IS NULL
     ORDER BY n.createdAt DESC
     """)
-    Page<Object[]> findAllNotificationsWithReadStatus(@Param("userId") Long userId, Pageable pageable);
+    Page<FeedRow> findAllNotificationsWithReadStatus(@Param("userId") Long userId, @Param("watermark") long watermark,
+                                                     Pageable pageable);
+
+    /**
+     * 알림 피드 (키셋 페이지네이션, (created_at, id) 커서 이전 항목을 최신순으로 limit 건)
+     * - OR 조건 대신 개인 알림 / 시스템 알림을 각각 인덱스 순서로 limit 건씩 읽어 합친 뒤 다시 limit
+     *   (개인: idx_notification_user_feed, 시스템: 부분 인덱스 idx_notification_system_feed)
+     * - filterRead 가 true 이면 읽음 여부가 isRead 인 알림만
+     */
+    @Query(value = """
+            SELECT f.id AS id, f.type AS type, f.ref_id AS "refId", f.title AS title, f.message AS message,
+                   f.created_at AS "createdAt", f.user_id AS "userId", f.is_read AS "read"
+              FROM ((SELECT n.id, n.type, n.ref_id, n.title, n.message, n.created_at, n.user_id,
+                            COALESCE(n.is_read, FALSE) AS is_read
+                       FROM notification n
+                      WHERE n.user_id = :userId
+                        AND (n.created_at, n.id) < (:cursorCreatedAt, :cursorId)
+                        AND (:filterRead = FALSE OR COALESCE(n.is_read, FALSE) = :isRead)
+                      ORDER BY n.created_at DESC, n.id DESC
+                      LIMIT :limit)
+                    UNION ALL
+                    (SELECT s.id, s.type, s.ref_id, s.title, s.message, s.created_at, s.user_id, s.sys_read
+                       FROM (SELECT n.*,
+                                    (n.id <= :watermark
+                                     OR EXISTS (SELECT 1 FROM notification_read nr
+                                                 WHERE nr.user_id = :userId AND nr.notification_id = n.id)) AS sys_read
+                               FROM notification n
+                              WHERE n.user_id IS NULL
+                                AND (n.created_at, n.id) < (:cursorCreatedAt, :cursorId)) s
+                      WHERE (:filterRead = FALSE OR s.sys_read = :isRead)
+                      ORDER BY s.created_at DESC, s.id DESC
+                      LIMIT :limit)) f
+             ORDER BY f.created_at DESC, f.id DESC
+             LIMIT :limit
+            """, nativeQuery = true)
+    List<FeedRow> findFeed(@Param("userId") Long userId,
+                           @Param("watermark") long watermark,
+                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                           @Param("cursorId") long cursorId,
+                           @Param("filterRead") boolean filterRead,
+                           @Param("isRead") boolean isRead,
+                           @Param("limit") int limit);
 } 
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.lifebit.coreapi.repository;
 
+import com.lifebit.coreapi.dto.UserSummaryDto;
 import com.lifebit.coreapi.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -37,5 +40,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
         """, nativeQuery = true)
     Long countDistinctActiveUsersInPeriod(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
+    // 랭킹 목록용 사용자 요약 일괄 조회 (IN 쿼리 1회)
+    @Query("SELECT new com.lifebit.coreapi.dto.UserSummaryDto(u.userId, u.nickname, u.profileImageUrl) " +
+           "FROM User u WHERE u.userId IN :userIds")
+    List<UserSummaryDto> findSummariesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
     // 커스텀 저장 메서드 제거 - 표준 JPA save() 사용
 } 
\ No newline at end of file
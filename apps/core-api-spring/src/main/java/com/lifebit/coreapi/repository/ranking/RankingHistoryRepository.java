@@ -27,4 +27,8 @@ public interface RankingHistoryRepository extends JpaRepository<RankingHistory,
 
     @Query("SELECT rh FROM RankingHistory rh WHERE rh.periodType = :periodType AND rh.season = :season ORDER BY rh.recordedAt DESC")
     java.util.List<RankingHistory> findByPeriodTypeAndSeasonOrderByRecordedAtDesc(@Param("periodType") String periodType, @Param("season") int season);
-} 
\ No newline at end of file
+
+    // 기간별 히스토리 + 랭킹 행 함께 조회 (userRanking 지연 로딩 N+1 방지)
+    @Query("SELECT rh FROM RankingHistory rh JOIN FETCH rh.userRanking WHERE rh.periodType = :periodType ORDER BY rh.recordedAt DESC")
+    List<RankingHistory> findWithRankingByPeriodType(@Param("periodType") String periodType, Pageable pageable);
+}
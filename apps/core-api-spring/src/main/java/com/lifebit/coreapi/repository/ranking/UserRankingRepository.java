@@ -1,5 +1,6 @@
 package com.lifebit.coreapi.repository.ranking;
 
+import com.lifebit.coreapi.dto.ranking.RankingWithUserDto;
 import com.lifebit.coreapi.entity.UserRanking;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +23,14 @@ public interface UserRankingRepository extends JpaRepository<UserRanking, Long>
     @Query("SELECT ur FROM UserRanking ur WHERE ur.isActive = true ORDER BY ur.totalScore DESC")
     Page<UserRanking> findTopRankings(Pageable pageable);
 
+    // 리더보드 인덱스 초기화용: 활성 랭킹 전체
+    @Query("SELECT ur FROM UserRanking ur WHERE ur.isActive = true")
+    List<UserRanking> findAllActive();
+
+    // 리더보드 인덱스 부분 갱신용: 다른 노드에서 바뀐 사용자들의 활성 랭킹
+    @Query("SELECT ur FROM UserRanking ur WHERE ur.userId IN :userIds AND ur.isActive = true")
+    List<UserRanking> findActiveByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
     @Query("SELECT ur FROM UserRanking ur WHERE ur.season = :season AND ur.isActive = true ORDER BY ur.totalScore DESC")
     Page<UserRanking> findAllBySeasonOrderByTotalScoreDesc(@Param("season") int season, Pageable pageable);
 
@@ -29,4 +39,42 @@ public interface UserRankingRepository extends JpaRepository<UserRanking, Long>
 
     @Query("SELECT ur FROM UserRanking ur WHERE ur.season = :season AND ur.isActive = true ORDER BY ur.totalScore DESC")
     List<UserRanking> findTopRankingsBySeason(@Param("season") String season, Pageable pageable);
-} 
\ No newline at end of file
+
+    // 랭킹 + 사용자 조인 프로젝션 (목록 한 페이지를 쿼리 1회로 조회)
+    @Query("SELECT new com.lifebit.coreapi.dto.ranking.RankingWithUserDto(" +
+           "ur.id, ur.userId, ur.totalScore, ur.streakDays, ur.rankPosition, ur.tier, u.nickname, u.profileImageUrl) " +
+           "FROM UserRanking ur LEFT JOIN User u ON u.userId = ur.userId " +
+           "WHERE ur.season = :season AND ur.isActive = true ORDER BY ur.totalScore DESC, ur.id ASC")
+    List<RankingWithUserDto> findSeasonRankingsWithUser(@Param("season") int season, Pageable pageable);
+
+    @Query("SELECT new com.lifebit.coreapi.dto.ranking.RankingWithUserDto(" +
+           "ur.id, ur.userId, ur.totalScore, ur.streakDays, ur.rankPosition, ur.tier, u.nickname, u.profileImageUrl) " +
+           "FROM UserRanking ur LEFT JOIN User u ON u.userId = ur.userId " +
+           "WHERE ur.isActive = true ORDER BY ur.streakDays DESC")
+    List<RankingWithUserDto> findStreakRankingsWithUser(Pageable pageable);
+
+    // 키셋 페이지네이션: (점수, ID) 커서 다음 구간. (season, is_active, total_score DESC, id) 인덱스를 그대로 따라감
+    @Query("SELECT new com.lifebit.coreapi.dto.ranking.RankingWithUserDto(" +
+           "ur.id, ur.userId, ur.totalScore, ur.streakDays, ur.rankPosition, ur.tier, u.nickname, u.profileImageUrl) " +
+           "FROM UserRanking ur LEFT JOIN User u ON u.userId = ur.userId " +
+           "WHERE ur.season = :season AND ur.isActive = true " +
+           "AND (ur.totalScore < :score OR (ur.totalScore = :score AND ur.id > :id)) " +
+           "ORDER BY ur.totalScore DESC, ur.id ASC")
+    List<RankingWithUserDto> findSeasonRankingsAfter(@Param("season") int season, @Param("score") int score,
+                                                     @Param("id") Long id, Pageable pageable);
+
+    // 시즌 안에서 점수가 더 높은 인원 (RANK() = 이 값 + 1, 시즌 리더보드 인덱스 범위 스캔)
+    @Query("SELECT COUNT(ur) FROM UserRanking ur " +
+           "WHERE ur.season = :season AND ur.isActive = true AND ur.totalScore > :score")
+    long countSeasonRankingsAbove(@Param("season") int season, @Param("score") int score);
+
+    // 키셋 역방향: 커서 바로 위 구간 (점수 오름차순으로 반환)
+    @Query("SELECT new com.lifebit.coreapi.dto.ranking.RankingWithUserDto(" +
+           "ur.id, ur.userId, ur.totalScore, ur.streakDays, ur.rankPosition, ur.tier, u.nickname, u.profileImageUrl) " +
+           "FROM UserRanking ur LEFT JOIN User u ON u.userId = ur.userId " +
+           "WHERE ur.season = :season AND ur.isActive = true " +
+           "AND (ur.totalScore > :score OR (ur.totalScore = :score AND ur.id < :id)) " +
+           "ORDER BY ur.totalScore ASC, ur.id DESC")
+    List<RankingWithUserDto> findSeasonRankingsBefore(@Param("season") int season, @Param("score") int score,
+                                                      @Param("id") Long id, Pageable pageable);
+}
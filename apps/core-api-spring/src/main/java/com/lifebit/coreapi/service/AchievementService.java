@@ -24,6 +24,7 @@ import com.lifebit.coreapi.event.AchievementCompletedEvent;
 import com.lifebit.coreapi.repository.ExerciseSessionRepository;
 import com.lifebit.coreapi.repository.MealLogRepository;
 import com.lifebit.coreapi.repository.HealthRecordRepository;
+import com.lifebit.coreapi.service.streak.StreakTracker;
 
 @Service
 @RequiredArgsConstructor
@@ -38,6 +39,7 @@ public class AchievementService {
     private final ExerciseSessionRepository exerciseSessionRepository;
     private final MealLogRepository mealLogRepository;
     private final HealthRecordRepository healthRecordRepository;
+    private final StreakTracker streakTracker;
     
     /**
      * 특정 사용자의 업적 정보를 조회합니다.
@@ -246,37 +248,21 @@ public class AchievementService {
     
     /**
      * 연속형 업적(연속 운동/식단 기록) 자동 체크 및 달성 처리
+     * 최대 연속 일수는 기록 변경 시 증분 갱신되는 연속 기록 저장소에서 조회
      */
     @Transactional
     public void checkAndUpdateStreakAchievements(Long userId) {
         // 1. 운동 연속 기록
-        List<LocalDate> exerciseDates = exerciseSessionRepository.findValidatedExerciseDatesByUserId(userId);
-        int maxExerciseStreak = calculateMaxStreak(exerciseDates);
+        int maxExerciseStreak = streakTracker.get(userId, StreakTracker.Kind.EXERCISE).maxStreak();
         updateUserAchievementProgress(userId, "7일 연속 운동", maxExerciseStreak);
         updateUserAchievementProgress(userId, "30일 연속 운동", maxExerciseStreak);
 
         // 2. 식단 연속 기록
-        List<LocalDate> mealDates = mealLogRepository.findValidatedMealDatesByUserId(userId);
-        int maxMealStreak = calculateMaxStreak(mealDates);
+        int maxMealStreak = streakTracker.get(userId, StreakTracker.Kind.MEAL).maxStreak();
         updateUserAchievementProgress(userId, "7일 연속 식단", maxMealStreak);
         updateUserAchievementProgress(userId, "30일 연속 식단", maxMealStreak);
     }
 
-    /** 날짜 리스트에서 최대 연속 기록 일수 계산 */
-    private int calculateMaxStreak(List<LocalDate> dates) {
-        if (dates == null || dates.isEmpty()) return 0;
-        int maxStreak = 1, curStreak = 1;
-        for (int i = 1; i < dates.size(); i++) {
-            if (dates.get(i).equals(dates.get(i - 1).plusDays(1))) {
-                curStreak++;
-                maxStreak = Math.max(maxStreak, curStreak);
-            } else {
-                curStreak = 1;
-            }
-        }
-        return maxStreak;
-    }
-
     /**
      * 특정 요일/시간대 업적(아침 운동, 저녁 운동, 주말 운동) 자동 체크 및 달성 처리
      */
@@ -3,18 +3,23 @@ package com.lifebit.coreapi.service;
 import com.lifebit.coreapi.dto.DietCalendarDTO;
 import com.lifebit.coreapi.dto.DietLogDTO;
 import com.lifebit.coreapi.dto.DietNutritionDTO;
+import com.lifebit.coreapi.dto.statistics.CalendarMonth;
 import com.lifebit.coreapi.entity.*;
+import com.lifebit.coreapi.event.HealthDataChangedEvent;
 import com.lifebit.coreapi.repository.FoodItemRepository;
 import com.lifebit.coreapi.repository.MealLogRepository;
 import com.lifebit.coreapi.repository.UserGoalRepository;
 import com.lifebit.coreapi.repository.UserRepository;
+import com.lifebit.coreapi.service.statistics.CalendarMonthStore;
+import com.lifebit.coreapi.service.statistics.DailySummaryRollup;
+import com.lifebit.coreapi.service.statistics.NutritionAccumulator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
@@ -37,6 +42,9 @@ public class DietService {
     private final UserGoalRepository userGoalRepository;
     private final UserGoalService userGoalService;
     private final AchievementService achievementService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CalendarMonthStore calendarMonthStore;
+    private final DailySummaryRollup dailySummaryRollup;
 
     public List<DietLogDTO> getDailyDietRecords(LocalDate date, Long userId) {
         User user = userRepository.findById(userId)
@@ -95,37 +103,17 @@ public class DietService {
         UserGoal userGoal = userGoalRepository.findTopByUserIdOrderByCreatedAtDesc(userId)
             .orElse(userGoalService.getDefaultDietGoalByGender(userId));
 
-        // 해당 날짜의 실제 섭취량 계산 (직접 엔티티 조회)
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        List<MealLog> dailyMealLogs = mealLogRepository.findByUserAndLogDateOrderByLogDateDescCreatedAtDesc(user, date);
-
-        double totalCalories = 0.0;
-        double totalCarbs = 0.0;
-        double totalProtein = 0.0;
-        double totalFat = 0.0;
-
-        for (MealLog mealLog : dailyMealLogs) {
-            FoodItem foodItem = mealLog.getFoodItem();
-            if (foodItem == null) {
-                continue; // 음식이 없는 기록은 건너뛰기
-            }
-            BigDecimal quantity = mealLog.getQuantity();
-            
-            if (foodItem.getCalories() != null) {
-                totalCalories += foodItem.getCalories().multiply(quantity).divide(new BigDecimal(100)).doubleValue();
-            }
-            if (foodItem.getCarbs() != null) {
-                totalCarbs += foodItem.getCarbs().multiply(quantity).divide(new BigDecimal(100)).doubleValue();
-            }
-            if (foodItem.getProtein() != null) {
-                totalProtein += foodItem.getProtein().multiply(quantity).divide(new BigDecimal(100)).doubleValue();
-            }
-            if (foodItem.getFat() != null) {
-                totalFat += foodItem.getFat().multiply(quantity).divide(new BigDecimal(100)).doubleValue();
-            }
+        // 해당 날짜의 실제 섭취량 계산 (영양소 프로젝션으로 조회)
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
         }
+        
+        NutritionAccumulator totals = new NutritionAccumulator()
+            .addAll(mealLogRepository.findNutritionRows(userId, date, date));
+        double totalCalories = totals.calories();
+        double totalCarbs = totals.carbs();
+        double totalProtein = totals.protein();
+        double totalFat = totals.fat();
 
         // 목표 대비 백분율 계산 (Integer -> double 변환)
         return List.of(
@@ -141,26 +129,19 @@ public class DietService {
     }
 
     public Map<String, DietCalendarDTO> getCalendarRecords(Long userId, int year, int month) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
+        // 월 달력 한 줄에서 날짜별 식단 기록 수 (운동은 제외)
+        CalendarMonth calendar = calendarMonthStore.findMonth(userId, YearMonth.of(year, month));
+        int[] mealCounts = calendar.getMealCount();
         
         Map<String, DietCalendarDTO> calendarData = new HashMap<>();
-        
-        // 해당 월의 식단 기록 가져오기 (운동은 제외)
-        List<MealLog> dietRecords = mealLogRepository.findByUserAndLogDateBetweenOrderByLogDateDesc(user, startDate, endDate);
-        
-        // 식단 기록 처리
-        for (MealLog mealLog : dietRecords) {
-            String dateStr = mealLog.getLogDate().toString();
-            
-            DietCalendarDTO dto = calendarData.getOrDefault(dateStr, new DietCalendarDTO());
+        for (int i = 0; i < mealCounts.length; i++) {
+            if (mealCounts[i] == 0) {
+                continue;
+            }
+            DietCalendarDTO dto = new DietCalendarDTO();
             dto.setHasDiet(true);
-            dto.setDietCount(dto.getDietCount() + 1);
-            calendarData.put(dateStr, dto);
+            dto.setDietCount(mealCounts[i]);
+            calendarData.put(calendar.dateOf(i).toString(), dto);
         }
         
         return calendarData;
@@ -220,6 +201,7 @@ public class DietService {
         // createdAt은 이미 위에서 설정
 
         MealLog savedMealLog = mealLogRepository.save(mealLog);
+        eventPublisher.publishEvent(new HealthDataChangedEvent(user.getUserId(), HealthDataChangedEvent.DataType.MEAL));
         
         // ✅ 업적 체크 및 업데이트
         try {
@@ -288,12 +270,19 @@ public class DietService {
         mealLog.setMealTime(convertMealTimeWithFallback(request.getMealTime()));
         
         MealLog updatedMealLog = mealLogRepository.save(mealLog);
+        eventPublisher.publishEvent(new HealthDataChangedEvent(
+                updatedMealLog.getUser().getUserId(), HealthDataChangedEvent.DataType.MEAL));
         return convertToDietLogDTO(updatedMealLog);
     }
 
     @Transactional
     public void deleteDietRecord(Long id) {
-        mealLogRepository.deleteById(id);
+        // 통계 캐시 무효화를 위해 소유자를 알아야 하므로 조회 후 삭제 (없는 ID는 기존처럼 무시)
+        mealLogRepository.findById(id).ifPresent(mealLog -> {
+            Long userId = mealLog.getUser().getUserId();
+            mealLogRepository.delete(mealLog);
+            eventPublisher.publishEvent(new HealthDataChangedEvent(userId, HealthDataChangedEvent.DataType.MEAL));
+        });
     }
 
     /**
@@ -372,6 +361,11 @@ public class DietService {
         }
         
         FoodItem updatedFoodItem = foodItemRepository.save(foodItem);
+        if (calories != null || carbs != null || protein != null || fat != null) {
+            // 이 음식을 기록한 날짜의 일별 요약 재집계 (엔티티 리스너는 식단 기록 변경만 감지)
+            foodItemRepository.flush();
+            dailySummaryRollup.refreshFoodItem(updatedFoodItem.getFoodItemId());
+        }
         
         // 응답 데이터 구성
         Map<String, Object> response = new HashMap<>();
@@ -431,12 +425,11 @@ public class DietService {
         dto.setFoodName(foodItem.getName());
 
         BigDecimal quantity = mealLog.getQuantity();
-        BigDecimal HUNDRED = new BigDecimal("100.0");
 
-        dto.setCalories(foodItem.getCalories() != null ? foodItem.getCalories().multiply(quantity).divide(HUNDRED, 2, RoundingMode.HALF_UP).doubleValue() : 0.0);
-        dto.setCarbs(foodItem.getCarbs() != null ? foodItem.getCarbs().multiply(quantity).divide(HUNDRED, 2, RoundingMode.HALF_UP).doubleValue() : 0.0);
-        dto.setProtein(foodItem.getProtein() != null ? foodItem.getProtein().multiply(quantity).divide(HUNDRED, 2, RoundingMode.HALF_UP).doubleValue() : 0.0);
-        dto.setFat(foodItem.getFat() != null ? foodItem.getFat().multiply(quantity).divide(HUNDRED, 2, RoundingMode.HALF_UP).doubleValue() : 0.0);
+        dto.setCalories(NutritionAccumulator.portion(foodItem.getCalories(), quantity));
+        dto.setCarbs(NutritionAccumulator.portion(foodItem.getCarbs(), quantity));
+        dto.setProtein(NutritionAccumulator.portion(foodItem.getProtein(), quantity));
+        dto.setFat(NutritionAccumulator.portion(foodItem.getFat(), quantity));
 
         log.debug("✅ [DietService] convertToDietLogDTO 완료 - MealLogId: {}, FoodName: {}", 
             mealLog.getMealLogId(), dto.getFoodName());
@@ -490,12 +483,8 @@ public class DietService {
      * 총 식단 기록 수 계산
      */
     private int getTotalMealRecords(Long userId) {
-        User user = new User();
-        user.setUserId(userId);
-        List<MealLog> mealLogs = mealLogRepository.findByUserAndLogDateBetweenOrderByLogDateDesc(
-            user, LocalDate.now().minusDays(365), LocalDate.now());
-        
-        int totalRecords = mealLogs.size();
+        int totalRecords = (int) mealLogRepository.countByUserIdAndLogDateBetween(
+            userId, LocalDate.now().minusDays(365), LocalDate.now());
         log.info("🟣 [DietService] 총 식단 기록 수 계산 - 사용자: {}, 총 기록 수: {}", userId, totalRecords);
         return totalRecords;
     }
@@ -504,15 +493,11 @@ public class DietService {
      * 연속 식단 기록 일수 계산
      */
     private int getConsecutiveMealDays(Long userId) {
-        User user = new User();
-        user.setUserId(userId);
-        List<MealLog> mealLogs = mealLogRepository.findByUserAndLogDateBetweenOrderByLogDateDesc(
-            user, LocalDate.now().minusDays(365), LocalDate.now());
-        
-        // 날짜별 내림차순 정렬 (최근 → 과거)
-        mealLogs.sort(java.util.Comparator.comparing(MealLog::getLogDate).reversed());
+        // 식단을 기록한 날짜만 조회 (최근 → 과거)
+        List<LocalDate> logDates = mealLogRepository.findLogDates(
+            userId, LocalDate.now().minusDays(365), LocalDate.now());
         
-        if (mealLogs.isEmpty()) {
+        if (logDates.isEmpty()) {
             log.info("🟣 [DietService] 식단 기록 없음 - 사용자: {}", userId);
             return 0;
         }
@@ -521,10 +506,8 @@ public class DietService {
         LocalDate currentDate = LocalDate.now();
         
         // 오늘부터 역순으로 연속 식단 기록 일수 계산
-        for (int i = 0; i < mealLogs.size(); i++) {
-            MealLog mealLog = mealLogs.get(i);
-            LocalDate logDate = mealLog.getLogDate();
-            
+        for (LocalDate logDate : logDates) {
+
             // 현재 확인하려는 날짜와 로그 날짜가 일치하는지 확인
             if (logDate.equals(currentDate)) {
                 streak++;
@@ -575,6 +558,11 @@ public class DietService {
         }
         
         FoodItem updatedFoodItem = foodItemRepository.save(foodItem);
+        if (calories != null || carbs != null || protein != null || fat != null) {
+            // 이 음식을 기록한 날짜의 일별 요약 재집계 (엔티티 리스너는 식단 기록 변경만 감지)
+            foodItemRepository.flush();
+            dailySummaryRollup.refreshFoodItem(updatedFoodItem.getFoodItemId());
+        }
         return convertFoodItemToMap(updatedFoodItem);
     }
 } 
\ No newline at end of file
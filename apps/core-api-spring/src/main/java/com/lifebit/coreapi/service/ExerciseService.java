@@ -1,14 +1,20 @@
 package com.lifebit.coreapi.service;
 
+import com.lifebit.coreapi.dto.statistics.ExerciseStatRow;
+import com.lifebit.coreapi.entity.BodyPartType;
 import com.lifebit.coreapi.entity.ExerciseCatalog;
 import com.lifebit.coreapi.entity.ExerciseSession;
 import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.event.HealthDataChangedEvent;
 import com.lifebit.coreapi.repository.ExerciseCatalogRepository;
 import com.lifebit.coreapi.repository.ExerciseSessionRepository;
 import com.lifebit.coreapi.repository.UserRepository;
+import com.lifebit.coreapi.service.statistics.BodyPartCalendar;
+import com.lifebit.coreapi.service.statistics.DailySummaryRollup;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,8 +27,6 @@ import com.lifebit.coreapi.entity.TimePeriodType;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Optional;
-import java.util.Set;
-import java.util.HashSet;
 
 @Service
 @Transactional(readOnly = true)
@@ -32,6 +36,8 @@ public class ExerciseService {
     private final ExerciseSessionRepository exerciseSessionRepository;
     private final ExerciseCatalogRepository exerciseCatalogRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DailySummaryRollup dailySummaryRollup;
 
     @Transactional
     public ExerciseSession recordExercise(
@@ -57,7 +63,9 @@ public class ExerciseService {
         session.setWeight(weight != null ? BigDecimal.valueOf(weight) : null);
         session.setTimePeriod(timePeriod);
 
-        return exerciseSessionRepository.save(session);
+        ExerciseSession saved = exerciseSessionRepository.save(session);
+        eventPublisher.publishEvent(new HealthDataChangedEvent(userId, HealthDataChangedEvent.DataType.EXERCISE));
+        return saved;
     }
 
     public List<ExerciseSession> getExerciseHistory(User user, LocalDate startDate, LocalDate endDate) {
@@ -159,9 +167,7 @@ public class ExerciseService {
         LocalDate startDate = today.minusDays(daysFromSunday); // 이번 주 일요일
         LocalDate endDate = startDate.plusDays(6); // 이번 주 토요일
         
-        User user = userRepository.getReferenceById(userId);
-        List<ExerciseSession> sessions = exerciseSessionRepository.findByUserAndExerciseDateBetweenOrderByExerciseDateDesc(
-                user, startDate, endDate);
+        List<ExerciseStatRow> sessions = exerciseSessionRepository.findStatRows(userId, startDate, endDate);
         return sessions.size();
     }
 
@@ -177,11 +183,9 @@ public class ExerciseService {
         LocalDate startDate = today.minusDays(daysFromSunday); // 이번 주 일요일
         LocalDate endDate = startDate.plusDays(6); // 이번 주 토요일
         
-        User user = userRepository.getReferenceById(userId);
-        List<ExerciseSession> sessions = exerciseSessionRepository.findByUserAndExerciseDateBetweenOrderByExerciseDateDesc(
-                user, startDate, endDate);
+        List<ExerciseStatRow> sessions = exerciseSessionRepository.findStatRows(userId, startDate, endDate);
         return sessions.stream()
-                .mapToInt(session -> session.getCaloriesBurned() != null ? session.getCaloriesBurned() : 0)
+                .mapToInt(ExerciseStatRow::calories)
                 .sum();
     }
 
@@ -189,20 +193,21 @@ public class ExerciseService {
      * 현재 연속 운동 일수 계산
      */
     public int getCurrentStreak(Long userId) {
-        List<ExerciseSession> sessions = getRecentExerciseSessions(userId, 365); // 최근 1년
-        if (sessions.isEmpty()) {
+        LocalDate today = LocalDate.now();
+        List<LocalDate> exerciseDates = exerciseSessionRepository.findExerciseDates(userId, today.minusDays(365), today); // 최근 1년
+        if (exerciseDates.isEmpty()) {
             return 0;
         }
 
         int streak = 0;
-        LocalDate currentDate = LocalDate.now();
+        LocalDate currentDate = today;
 
         // 오늘부터 역순으로 연속 운동 일수 계산
-        for (ExerciseSession session : sessions) {
-            if (session.getExerciseDate().equals(currentDate)) {
+        for (LocalDate exerciseDate : exerciseDates) {
+            if (exerciseDate.equals(currentDate)) {
                 streak++;
                 currentDate = currentDate.minusDays(1);
-            } else if (session.getExerciseDate().isBefore(currentDate)) {
+            } else if (exerciseDate.isBefore(currentDate)) {
                 break; // 연속이 끊어짐
             }
         }
@@ -312,6 +317,8 @@ public class ExerciseService {
         managedSession.getExerciseCatalog().getName();
         managedSession.getUser().getUserId();
 
+        eventPublisher.publishEvent(new HealthDataChangedEvent(
+                managedSession.getUser().getUserId(), HealthDataChangedEvent.DataType.EXERCISE));
         return managedSession;
     }
 
@@ -320,10 +327,12 @@ public class ExerciseService {
      */
     @Transactional
     public void deleteExerciseSession(Long sessionId) {
-        if (!exerciseSessionRepository.existsById(sessionId)) {
-            throw new RuntimeException("운동 세션을 찾을 수 없습니다: " + sessionId);
-        }
-        exerciseSessionRepository.deleteById(sessionId);
+        // 통계 캐시 무효화를 위해 소유자를 알아야 하므로 존재 확인 대신 조회
+        ExerciseSession session = exerciseSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new RuntimeException("운동 세션을 찾을 수 없습니다: " + sessionId));
+        Long userId = session.getUser().getUserId();
+        exerciseSessionRepository.delete(session);
+        eventPublisher.publishEvent(new HealthDataChangedEvent(userId, HealthDataChangedEvent.DataType.EXERCISE));
     }
 
     /**
@@ -337,17 +346,15 @@ public class ExerciseService {
      * 지정된 기간 동안의 운동 횟수 조회
      */
     public int getExerciseCountByPeriod(Long userId, int days) {
-        List<ExerciseSession> sessions = getRecentExerciseSessions(userId, days);
-        return sessions.size();
+        return getRecentStatRows(userId, days).size();
     }
 
     /**
      * 지정된 기간 동안의 총 운동 시간(분) 조회
      */
     public int getExerciseMinutesByPeriod(Long userId, int days) {
-        List<ExerciseSession> sessions = getRecentExerciseSessions(userId, days);
-        return sessions.stream()
-                .mapToInt(session -> session.getDurationMinutes() != null ? session.getDurationMinutes() : 0)
+        return getRecentStatRows(userId, days).stream()
+                .mapToInt(ExerciseStatRow::minutes)
                 .sum();
     }
 
@@ -355,12 +362,19 @@ public class ExerciseService {
      * 지정된 기간 동안의 총 칼로리 소모량 조회
      */
     public int getCaloriesBurnedByPeriod(Long userId, int days) {
-        List<ExerciseSession> sessions = getRecentExerciseSessions(userId, days);
-        return sessions.stream()
-                .mapToInt(session -> session.getCaloriesBurned() != null ? session.getCaloriesBurned() : 0)
+        return getRecentStatRows(userId, days).stream()
+                .mapToInt(ExerciseStatRow::calories)
                 .sum();
     }
 
+    /**
+     * 최근 N일간 운동 통계 행 (합계 계산용 프로젝션)
+     */
+    private List<ExerciseStatRow> getRecentStatRows(Long userId, int days) {
+        LocalDate endDate = LocalDate.now();
+        return exerciseSessionRepository.findStatRows(userId, endDate.minusDays(days), endDate);
+    }
+
     public List<ExerciseSession> getExerciseSessions(Long userId, LocalDate startDate, LocalDate endDate) {
         User user = userRepository.getReferenceById(userId);
         return exerciseSessionRepository.findByUserAndExerciseDateBetweenOrderByExerciseDateDesc(
@@ -382,9 +396,7 @@ public class ExerciseService {
         log.info("🗓️ [getWeeklyBodyPartCounts] 주별 운동 부위별 빈도 조회 - 사용자: {}, 기간: {} ~ {} (오늘: {})", 
                 userId, startDate, endDate, today);
         
-        User user = userRepository.getReferenceById(userId);
-        List<ExerciseSession> sessions = exerciseSessionRepository.findByUserAndExerciseDateBetweenOrderByExerciseDateDesc(
-                user, startDate, endDate);
+        List<ExerciseStatRow> sessions = exerciseSessionRepository.findStatRows(userId, startDate, endDate);
         
         log.info("📊 [getWeeklyBodyPartCounts] 조회된 운동 세션 수: {}", sessions.size());
         
@@ -396,11 +408,8 @@ public class ExerciseService {
         bodyPartCounts.put("ARMS", 0);
         bodyPartCounts.put("ABS", 0);
         bodyPartCounts.put("CARDIO", 0);
-        for (ExerciseSession session : sessions) {
-            String bodyPart = null;
-            if (session.getExerciseCatalog() != null && session.getExerciseCatalog().getBodyPart() != null) {
-                bodyPart = session.getExerciseCatalog().getBodyPart().name().toUpperCase();
-            }
+        for (ExerciseStatRow session : sessions) {
+            String bodyPart = session.bodyPartKey();
             if (bodyPart != null) {
                 bodyPartCounts.put(bodyPart, bodyPartCounts.getOrDefault(bodyPart, 0) + 1); // 횟수로 카운트
             }
@@ -471,9 +480,7 @@ public class ExerciseService {
         LocalDate startDate = today.minusDays(daysFromSunday); // 이번 주 일요일
         LocalDate endDate = startDate.plusDays(6); // 이번 주 토요일
         
-        User user = userRepository.getReferenceById(userId);
-        List<ExerciseSession> sessions = exerciseSessionRepository.findByUserAndExerciseDateBetweenOrderByExerciseDateDesc(
-                user, startDate, endDate);
+        List<ExerciseStatRow> sessions = exerciseSessionRepository.findStatRows(userId, startDate, endDate);
         Map<String, Integer> bodyPartMinutes = new HashMap<>();
         bodyPartMinutes.put("CHEST", 0);
         bodyPartMinutes.put("BACK", 0);
@@ -482,14 +489,10 @@ public class ExerciseService {
         bodyPartMinutes.put("ARMS", 0);
         bodyPartMinutes.put("ABS", 0);
         bodyPartMinutes.put("CARDIO", 0);
-        for (ExerciseSession session : sessions) {
-            String bodyPart = null;
-            if (session.getExerciseCatalog() != null && session.getExerciseCatalog().getBodyPart() != null) {
-                bodyPart = session.getExerciseCatalog().getBodyPart().name().toUpperCase();
-            }
+        for (ExerciseStatRow session : sessions) {
+            String bodyPart = session.bodyPartKey();
             if (bodyPart != null) {
-                int duration = session.getDurationMinutes() != null ? session.getDurationMinutes() : 0;
-                bodyPartMinutes.put(bodyPart, bodyPartMinutes.getOrDefault(bodyPart, 0) + duration);
+                bodyPartMinutes.put(bodyPart, bodyPartMinutes.getOrDefault(bodyPart, 0) + session.minutes());
             }
         }
         return bodyPartMinutes;
@@ -507,17 +510,11 @@ public class ExerciseService {
         LocalDate startDate = today.minusDays(daysFromSunday); // 이번 주 일요일
         LocalDate endDate = startDate.plusDays(6); // 이번 주 토요일
         
-        User user = userRepository.getReferenceById(userId);
-        List<ExerciseSession> sessions = exerciseSessionRepository.findByUserAndExerciseDateBetweenOrderByExerciseDateDesc(
-                user, startDate, endDate);
+        List<ExerciseStatRow> sessions = exerciseSessionRepository.findStatRows(userId, startDate, endDate);
         
+        // 세트 수가 없는 유산소/플랭크 등은 1세트로 간주
         return sessions.stream()
-                .mapToInt(session -> {
-                    Integer s = session.getSets();
-                    if (s != null && s > 0) return s;
-                    // 세트 수가 없는 유산소/플랭크 등은 1세트로 간주
-                    return 1;
-                })
+                .mapToInt(ExerciseStatRow::setsOrOne)
                 .sum();
     }
 
@@ -533,9 +530,7 @@ public class ExerciseService {
         LocalDate startDate = today.minusDays(daysFromSunday); // 이번 주 일요일
         LocalDate endDate = startDate.plusDays(6); // 이번 주 토요일
         
-        User user = userRepository.getReferenceById(userId);
-        List<ExerciseSession> sessions = exerciseSessionRepository.findByUserAndExerciseDateBetweenOrderByExerciseDateDesc(
-                user, startDate, endDate);
+        List<ExerciseStatRow> sessions = exerciseSessionRepository.findStatRows(userId, startDate, endDate);
         
         Map<String, Integer> bodyPartSets = new HashMap<>();
         bodyPartSets.put("CHEST", 0);
@@ -546,21 +541,14 @@ public class ExerciseService {
         bodyPartSets.put("ABS", 0);
         bodyPartSets.put("CARDIO", 0);
         
-        for (ExerciseSession session : sessions) {
-            String bodyPart = null;
-            if (session.getExerciseCatalog() != null && session.getExerciseCatalog().getBodyPart() != null) {
-                bodyPart = session.getExerciseCatalog().getBodyPart().name().toUpperCase();
-            } else if (session.getNotes() != null) {
-                String note = session.getNotes().toLowerCase();
-                if (note.contains("조깅") || note.contains("달리기") || note.contains("런닝") || note.contains("걷기") || note.contains("run")) {
-                    bodyPart = "CARDIO";
-                }
+        for (ExerciseStatRow session : sessions) {
+            String bodyPart = session.bodyPartKey();
+            if (bodyPart == null && isCardioNote(session.getNotes())) {
+                bodyPart = "CARDIO";
             }
             
             if (bodyPart != null) {
-                Integer sets = session.getSets();
-                int setsToAdd = (sets != null && sets > 0) ? sets : 1; // 세트 수가 없으면 1세트로 간주
-                bodyPartSets.put(bodyPart, bodyPartSets.getOrDefault(bodyPart, 0) + setsToAdd);
+                bodyPartSets.put(bodyPart, bodyPartSets.getOrDefault(bodyPart, 0) + session.setsOrOne()); // 세트 수가 없으면 1세트로 간주
             }
         }
         
@@ -654,6 +642,11 @@ public class ExerciseService {
             catalog.getBodyPart(), catalog.getExerciseType(), catalog.getIntensity());
 
         ExerciseCatalog savedCatalog = exerciseCatalogRepository.save(catalog);
+        if (request.containsKey("name") || request.containsKey("bodyPart")) {
+            // 이 운동을 기록한 날짜의 일별 요약 재집계 (부위별 집계/대표 운동이 카탈로그 값을 따름)
+            exerciseCatalogRepository.flush();
+            dailySummaryRollup.refreshExerciseCatalog(savedCatalog.getExerciseCatalogId());
+        }
         
         log.info("✅ [ExerciseService] 운동 카탈로그 수정 완료 - ID: {}, 이름: {}, 부위: {}, 타입: {}, 강도: {}", 
             savedCatalog.getExerciseCatalogId(), savedCatalog.getName(), 
@@ -699,7 +692,11 @@ public class ExerciseService {
         if (!exerciseCatalogRepository.existsById(id)) {
             throw new RuntimeException("운동을 찾을 수 없습니다: " + id);
         }
+        // 삭제되면 세션의 카탈로그가 NULL 이 되어 대상 날짜를 찾을 수 없으므로 먼저 읽어 둠
+        List<DailySummaryRollup.UserDay> days = dailySummaryRollup.exerciseCatalogDays(id);
         exerciseCatalogRepository.deleteById(id);
+        exerciseCatalogRepository.flush();
+        dailySummaryRollup.refreshDays(days);
     }
     
     // 강도 미설정 운동만 조회
@@ -726,52 +723,41 @@ public class ExerciseService {
         log.info("🗓️ [getWeeklyBodyPartCounts_healthloguse] 건강로그용 주별 운동 부위별 횟수 조회 - 사용자: {}, 기간: {} ~ {} (오늘: {})", 
                 userId, startDate, endDate, today);
         
-        User user = userRepository.getReferenceById(userId);
-        List<ExerciseSession> sessions = exerciseSessionRepository.findByUserAndExerciseDateBetweenOrderByExerciseDateDesc(
-                user, startDate, endDate);
+        List<ExerciseStatRow> sessions = exerciseSessionRepository.findStatRows(userId, startDate, endDate);
         
         log.info("📊 [getWeeklyBodyPartCounts_healthloguse] 조회된 운동 세션 수: {}", sessions.size());
         
-        // 날짜별 부위별 운동 여부 추적 (하루에 부위별 1회만 카운트)
-        Map<String, Set<String>> dateBodyPartMap = new HashMap<>();
-        
-        for (ExerciseSession session : sessions) {
-            String bodyPart = null;
-            if (session.getExerciseCatalog() != null && session.getExerciseCatalog().getBodyPart() != null) {
-                bodyPart = session.getExerciseCatalog().getBodyPart().name().toUpperCase();
-            } else if (session.getNotes() != null) {
-                String note = session.getNotes().toLowerCase();
-                if (note.contains("조깅") || note.contains("달리기") || note.contains("런닝") || note.contains("걷기") || note.contains("run")) {
-                    bodyPart = "CARDIO";
-                }
-            }
-            
-            if (bodyPart != null) {
-                String dateKey = session.getExerciseDate().toString();
-                dateBodyPartMap.computeIfAbsent(dateKey, k -> new HashSet<>()).add(bodyPart);
+        // 날짜별 운동 부위 비트마스크 (하루에 부위별 1회만 카운트)
+        BodyPartCalendar calendar = new BodyPartCalendar(startDate, endDate);
+        for (ExerciseStatRow session : sessions) {
+            BodyPartType bodyPart = session.getBodyPart();
+            if (bodyPart == null && isCardioNote(session.getNotes())) {
+                bodyPart = BodyPartType.cardio;
             }
+            calendar.mark(session.getExerciseDate(), bodyPart);
         }
         
-        // 부위별 횟수 집계 (날짜별로 1회씩만 카운트)
+        // 부위별 횟수 집계 (부위별 운동 일수 = 비트 수)
         Map<String, Integer> bodyPartCounts = new HashMap<>();
-        bodyPartCounts.put("CHEST", 0);
-        bodyPartCounts.put("BACK", 0);
-        bodyPartCounts.put("LEGS", 0);
-        bodyPartCounts.put("SHOULDERS", 0);
-        bodyPartCounts.put("ARMS", 0);
-        bodyPartCounts.put("ABS", 0);
-        bodyPartCounts.put("CARDIO", 0);
-        
-        for (Set<String> bodyParts : dateBodyPartMap.values()) {
-            for (String bodyPart : bodyParts) {
-                bodyPartCounts.put(bodyPart, bodyPartCounts.getOrDefault(bodyPart, 0) + 1);
-            }
+        for (BodyPartType bodyPart : BodyPartType.values()) {
+            bodyPartCounts.put(bodyPart.name().toUpperCase(), calendar.daysWith(bodyPart));
         }
         
         log.info("✅ [getWeeklyBodyPartCounts_healthloguse] 결과: {}", bodyPartCounts);
         return bodyPartCounts;
     }
 
+    /**
+     * 카탈로그 부위가 없는 세션의 메모로 유산소 운동 여부 판단
+     */
+    private static boolean isCardioNote(String notes) {
+        if (notes == null) {
+            return false;
+        }
+        String note = notes.toLowerCase();
+        return note.contains("조깅") || note.contains("달리기") || note.contains("런닝") || note.contains("걷기") || note.contains("run");
+    }
+
     /**
      * 건강로그용 - 주간 가슴 운동 횟수 조회
      */
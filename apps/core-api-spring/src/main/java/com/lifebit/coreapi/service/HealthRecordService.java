@@ -1,9 +1,12 @@
 package com.lifebit.coreapi.service;
 
+import com.lifebit.coreapi.dto.statistics.HealthRecordRow;
 import com.lifebit.coreapi.entity.HealthRecord;
+import com.lifebit.coreapi.event.HealthDataChangedEvent;
 import com.lifebit.coreapi.repository.HealthRecordRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +21,7 @@ import java.util.Optional;
 public class HealthRecordService {
 
     private final HealthRecordRepository healthRecordRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자의 모든 건강 기록 조회 (최신순)
@@ -36,6 +40,16 @@ public class HealthRecordService {
         return healthRecordRepository.findByUserIdAndRecordDateBetweenOrderByRecordDateDesc(userId, startDate, endDate);
     }
 
+    /**
+     * 사용자의 최근 N일간 건강 기록 조회 (조회 전용 프로젝션, 최신순)
+     */
+    public List<HealthRecordRow> getRecentHealthRecordRows(Long userId, int days) {
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = today.minusDays(days);
+        LocalDate endDate = today.plusDays(days); // 미래 데이터도 포함 (getRecentHealthRecords와 동일 범위)
+        return healthRecordRepository.findRows(userId, startDate, endDate);
+    }
+
     /**
      * 사용자의 특정 기간 건강 기록 조회
      */
@@ -71,7 +85,9 @@ public class HealthRecordService {
     public HealthRecord createHealthRecord(HealthRecord healthRecord) {
         log.info("건강 기록 생성 - 사용자: {}, 체중: {}kg, 날짜: {}", 
             healthRecord.getUserId(), healthRecord.getWeight(), healthRecord.getRecordDate());
-        return healthRecordRepository.save(healthRecord);
+        HealthRecord saved = healthRecordRepository.save(healthRecord);
+        publishChanged(saved.getUserId());
+        return saved;
     }
 
     /**
@@ -94,7 +110,9 @@ public class HealthRecordService {
         }
 
         log.info("건강 기록 업데이트 - ID: {}, 사용자: {}", recordId, existingRecord.getUserId());
-        return healthRecordRepository.save(existingRecord);
+        HealthRecord saved = healthRecordRepository.save(existingRecord);
+        publishChanged(saved.getUserId());
+        return saved;
     }
 
     /**
@@ -103,7 +121,9 @@ public class HealthRecordService {
     @Transactional
     public HealthRecord updateHealthRecord(HealthRecord healthRecord) {
         log.info("건강 기록 업데이트 - ID: {}, 사용자: {}", healthRecord.getHealthRecordId(), healthRecord.getUserId());
-        return healthRecordRepository.save(healthRecord);
+        HealthRecord saved = healthRecordRepository.save(healthRecord);
+        publishChanged(saved.getUserId());
+        return saved;
     }
 
     /**
@@ -111,12 +131,19 @@ public class HealthRecordService {
      */
     @Transactional
     public void deleteHealthRecord(Long recordId) {
-        if (!healthRecordRepository.existsById(recordId)) {
-            throw new RuntimeException("건강 기록을 찾을 수 없습니다: " + recordId);
-        }
+        HealthRecord record = healthRecordRepository.findById(recordId)
+            .orElseThrow(() -> new RuntimeException("건강 기록을 찾을 수 없습니다: " + recordId));
         
         log.info("건강 기록 삭제 - ID: {}", recordId);
-        healthRecordRepository.deleteById(recordId);
+        healthRecordRepository.delete(record);
+        publishChanged(record.getUserId());
+    }
+
+    /**
+     * 통계 캐시 무효화 등 커밋 이후 처리를 위한 변경 이벤트 발행
+     */
+    private void publishChanged(Long userId) {
+        eventPublisher.publishEvent(new HealthDataChangedEvent(userId, HealthDataChangedEvent.DataType.HEALTH_RECORD));
     }
 
     /**
@@ -1,16 +1,20 @@
 package com.lifebit.coreapi.service;
 
+import com.lifebit.coreapi.dto.statistics.MealNutritionRow;
 import com.lifebit.coreapi.entity.FoodItem;
 import com.lifebit.coreapi.entity.MealLog;
 import com.lifebit.coreapi.entity.MealTimeType;
 import com.lifebit.coreapi.entity.User;
 import com.lifebit.coreapi.entity.UserGoal;
+import com.lifebit.coreapi.event.HealthDataChangedEvent;
 import com.lifebit.coreapi.repository.FoodItemRepository;
 import com.lifebit.coreapi.repository.MealLogRepository;
 import com.lifebit.coreapi.repository.UserGoalRepository;
+import com.lifebit.coreapi.service.statistics.NutritionAccumulator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +35,7 @@ public class MealService {
     private final FoodItemRepository foodItemRepository;
     private final UserGoalRepository userGoalRepository;
     private final UserGoalService userGoalService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MealLog recordMeal(Long userId, Long foodItemId, BigDecimal quantity) {
@@ -46,7 +51,9 @@ public class MealService {
         mealLog.setMealTime(MealTimeType.lunch);
         mealLog.setCreatedAt(LocalDateTime.now());
 
-        return mealLogRepository.save(mealLog);
+        MealLog saved = mealLogRepository.save(mealLog);
+        eventPublisher.publishEvent(new HealthDataChangedEvent(userId, HealthDataChangedEvent.DataType.MEAL));
+        return saved;
     }
 
     public List<MealLog> getMealHistory(User user, LocalDate startDate, LocalDate endDate) {
@@ -216,42 +223,15 @@ public class MealService {
         Map<String, Object> summary = new HashMap<>();
         
         try {
-            User user = new User();
-            user.setUserId(userId);
+            // 해당 날짜의 모든 식단 기록 영양소 합계
+            NutritionAccumulator totals = new NutritionAccumulator()
+                .addAll(mealLogRepository.findNutritionRows(userId, date, date));
             
-            // 해당 날짜의 모든 식단 기록 조회
-            List<MealLog> dailyMealLogs = mealLogRepository.findByUserAndLogDateOrderByLogDateDescCreatedAtDesc(user, date);
-            
-            double totalCalories = 0.0;
-            double totalCarbs = 0.0;
-            double totalProtein = 0.0;
-            double totalFat = 0.0;
-            int mealCount = dailyMealLogs.size();
-            
-            // 각 식단 기록의 영양소 합계 계산
-            for (MealLog mealLog : dailyMealLogs) {
-                FoodItem foodItem = mealLog.getFoodItem();
-                BigDecimal quantity = mealLog.getQuantity();
-                
-                if (foodItem.getCalories() != null) {
-                    totalCalories += foodItem.getCalories().multiply(quantity).divide(new BigDecimal(100)).doubleValue();
-                }
-                if (foodItem.getCarbs() != null) {
-                    totalCarbs += foodItem.getCarbs().multiply(quantity).divide(new BigDecimal(100)).doubleValue();
-                }
-                if (foodItem.getProtein() != null) {
-                    totalProtein += foodItem.getProtein().multiply(quantity).divide(new BigDecimal(100)).doubleValue();
-                }
-                if (foodItem.getFat() != null) {
-                    totalFat += foodItem.getFat().multiply(quantity).divide(new BigDecimal(100)).doubleValue();
-                }
-            }
-            
-            summary.put("totalCalories", totalCalories);
-            summary.put("totalCarbs", totalCarbs);
-            summary.put("totalProtein", totalProtein);
-            summary.put("totalFat", totalFat);
-            summary.put("mealCount", mealCount);
+            summary.put("totalCalories", totals.calories());
+            summary.put("totalCarbs", totals.carbs());
+            summary.put("totalProtein", totals.protein());
+            summary.put("totalFat", totals.fat());
+            summary.put("mealCount", totals.mealCount());
             summary.put("date", date.toString());
             
         } catch (Exception e) {
@@ -275,10 +255,8 @@ public class MealService {
     public int getWeeklyNutritionAchievementRate(Long userId) {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(6);
-        User user = new User();
-        user.setUserId(userId);
-        List<MealLog> mealLogs = mealLogRepository.findByUserAndLogDateBetweenOrderByLogDateDesc(user, startDate, endDate);
-        if (mealLogs.isEmpty()) return 0;
+        List<MealNutritionRow> mealRows = mealLogRepository.findNutritionRows(userId, startDate, endDate);
+        if (mealRows.isEmpty()) return 0;
 
         // 사용자별 목표 가져오기
         UserGoal userGoal = userGoalRepository.findTopByUserIdOrderByCreatedAtDesc(userId)
@@ -295,16 +273,11 @@ public class MealService {
         double targetFat = userGoal.getDailyFatTarget() != null ? userGoal.getDailyFatTarget() * 7 : 60 * 7;
         double targetCalories = userGoal.getDailyCaloriesTarget() != null ? userGoal.getDailyCaloriesTarget() * 7 : 1500 * 7;
 
-        double totalCarbs = 0, totalProtein = 0, totalFat = 0, totalCalories = 0;
-        for (MealLog log : mealLogs) {
-            FoodItem food = log.getFoodItem();
-            if (food == null) continue;
-            double qty = log.getQuantity() != null ? log.getQuantity().doubleValue() : 1.0;
-            totalCarbs += food.getCarbs() != null ? food.getCarbs().doubleValue() * qty / 100.0 : 0;
-            totalProtein += food.getProtein() != null ? food.getProtein().doubleValue() * qty / 100.0 : 0;
-            totalFat += food.getFat() != null ? food.getFat().doubleValue() * qty / 100.0 : 0;
-            totalCalories += food.getCalories() != null ? food.getCalories().doubleValue() * qty / 100.0 : 0;
-        }
+        NutritionAccumulator totals = new NutritionAccumulator().addAll(mealRows);
+        double totalCarbs = totals.carbs();
+        double totalProtein = totals.protein();
+        double totalFat = totals.fat();
+        double totalCalories = totals.calories();
 
         // 각 영양소별 달성률 계산 (최대 100%로 제한)
         double carbsRate = Math.min(100, totalCarbs / targetCarbs * 100);
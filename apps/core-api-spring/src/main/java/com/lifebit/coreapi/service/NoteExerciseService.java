@@ -5,11 +5,13 @@ import com.lifebit.coreapi.dto.NoteExerciseDTO;
 import com.lifebit.coreapi.entity.ExerciseCatalog;
 import com.lifebit.coreapi.entity.ExerciseSession;
 import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.event.HealthDataChangedEvent;
 import com.lifebit.coreapi.repository.ExerciseCatalogRepository;
 import com.lifebit.coreapi.repository.ExerciseSessionRepository;
 import com.lifebit.coreapi.repository.UserRepository;
 import com.lifebit.coreapi.service.AchievementService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +30,7 @@ public class NoteExerciseService {
     private final ExerciseCatalogRepository exerciseCatalogRepository;
     private final UserRepository userRepository;
     private final AchievementService achievementService;
+    private final ApplicationEventPublisher eventPublisher;
     private static final Logger log = LoggerFactory.getLogger(NoteExerciseService.class);
 
     // ✅ 주간 요약 데이터
@@ -98,6 +101,7 @@ public class NoteExerciseService {
 
         // ✅ 저장
         ExerciseSession saved = exerciseSessionRepository.save(session);
+        publishChanged(dto.getUserId());
 
         // ✅ 업적 체크 및 업데이트
         try {
@@ -144,6 +148,7 @@ public class NoteExerciseService {
         }
 
         exerciseSessionRepository.delete(session);
+        publishChanged(userId);
     }
 
     // ✅ 운동 기록 수정
@@ -163,18 +168,22 @@ public class NoteExerciseService {
 
         // 💾 저장 후 DTO 변환하여 반환
         ExerciseSession saved = exerciseSessionRepository.save(session);
+        publishChanged(userId);
         return new ExerciseRecordDTO(saved);
     }
 
+    // ✅ 통계 캐시 무효화용 변경 이벤트 발행
+    private void publishChanged(Long userId) {
+        eventPublisher.publishEvent(new HealthDataChangedEvent(userId, HealthDataChangedEvent.DataType.EXERCISE));
+    }
+
     // ✅ 연속 운동 일수 계산
     private int calculateCurrentStreak(Long userId) {
-        List<ExerciseSession> sessions = exerciseSessionRepository.findByUser_UserIdAndExerciseDateBetween(
+        // 운동한 날짜만 조회 (최근 → 과거)
+        List<LocalDate> exerciseDates = exerciseSessionRepository.findExerciseDates(
             userId, LocalDate.now().minusDays(365), LocalDate.now());
         
-        // 날짜별 내림차순 정렬 (최근 → 과거)
-        sessions.sort(java.util.Comparator.comparing(ExerciseSession::getExerciseDate).reversed());
-        
-        if (sessions.isEmpty()) {
+        if (exerciseDates.isEmpty()) {
             log.info("🟣 [NoteExerciseService] 운동 기록 없음 - 사용자: {}", userId);
             return 0;
         }
@@ -183,10 +192,8 @@ public class NoteExerciseService {
         LocalDate currentDate = LocalDate.now();
         
         // 오늘부터 역순으로 연속 운동 일수 계산
-        for (int i = 0; i < sessions.size(); i++) {
-            ExerciseSession session = sessions.get(i);
-            LocalDate sessionDate = session.getExerciseDate();
-            
+        for (LocalDate sessionDate : exerciseDates) {
+
             // 현재 확인하려는 날짜와 세션 날짜가 일치하는지 확인
             if (sessionDate.equals(currentDate)) {
                 streak++;
@@ -206,13 +213,8 @@ public class NoteExerciseService {
 
     // ✅ 총 운동 일수 계산
     private int getTotalWorkoutDays(Long userId) {
-        List<ExerciseSession> sessions = exerciseSessionRepository.findByUser_UserIdAndExerciseDateBetween(
-            userId, LocalDate.now().minusDays(365), LocalDate.now());
-        
-        int totalDays = (int) sessions.stream()
-            .map(ExerciseSession::getExerciseDate)
-            .distinct()
-            .count();
+        int totalDays = exerciseSessionRepository.findExerciseDates(
+            userId, LocalDate.now().minusDays(365), LocalDate.now()).size();
             
         log.info("🟣 [NoteExerciseService] 총 운동 일수 계산 - 사용자: {}, 총 일수: {}", userId, totalDays);
         return totalDays;
@@ -220,10 +222,8 @@ public class NoteExerciseService {
 
     // ✅ 주간 운동 횟수 계산
     private int getWeeklyExerciseCount(Long userId) {
-        List<ExerciseSession> sessions = exerciseSessionRepository.findByUser_UserIdAndExerciseDateBetween(
-            userId, LocalDate.now().minusDays(7), LocalDate.now());
-        
-        int weeklyCount = sessions.size();
+        int weeklyCount = exerciseSessionRepository.findStatRows(
+            userId, LocalDate.now().minusDays(7), LocalDate.now()).size();
         log.info("🟣 [NoteExerciseService] 주간 운동 횟수 계산 - 사용자: {}, 주간 횟수: {}", userId, weeklyCount);
         return weeklyCount;
     }
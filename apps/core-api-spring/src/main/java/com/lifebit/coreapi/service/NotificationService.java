@@ -3,78 +3,119 @@ package com.lifebit.coreapi.service;
 import com.lifebit.coreapi.entity.Notification;
 import com.lifebit.coreapi.repository.NotificationRepository;
 import com.lifebit.coreapi.dto.NotificationDto;
-import com.lifebit.coreapi.entity.NotificationRead;
+import com.lifebit.coreapi.dto.NotificationFeedDto;
 import com.lifebit.coreapi.repository.NotificationReadRepository;
+import com.lifebit.coreapi.service.notification.NotificationOutbox;
+import com.lifebit.coreapi.service.notification.UnreadCountCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.ArrayList;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final NotificationReadRepository notificationReadRepository;
-
-    @PersistenceContext
-    private EntityManager entityManager;
+    private final UnreadCountCache unreadCountCache;
+    private final NotificationOutbox notificationOutbox;
 
     private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 50;
 
     public void saveNotification(Long userId, String type, String title, String message) {
         saveNotification(userId, type, title, message, null);
     }
 
+    /**
+     * 알림 저장 예약 (커밋 후 outbox 저장 작업이 배치 INSERT, 저장 주기만큼 늦게 보일 수 있음)
+     */
     public void saveNotification(Long userId, String type, String title, String message, Long refId) {
-        Notification notification = new Notification();
-        notification.setUserId(userId);
-        notification.setType(type);
-        notification.setRefId(refId);
-        notification.setTitle(title);
-        notification.setMessage(message);
-        notification.setRead(false);
-        notification.setCreatedAt(LocalDateTime.now());
-        notificationRepository.save(notification);
+        notificationOutbox.enqueue(new NotificationOutbox.Message(userId, type, refId, title, message));
     }
 
     public List<Notification> getUserNotifications(Long userId) {
         return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
     }
 
-    public Page<Notification> getUserNotificationsPage(Long userId, Pageable pageable, Boolean isRead) {
-        if (isRead != null) {
-            return notificationRepository.findByUserIdOrUserIdIsNullAndIsReadOrderByCreatedAtDesc(userId, isRead, pageable);
-        } else {
-            return notificationRepository.findByUserIdOrUserIdIsNullOrderByCreatedAtDesc(userId, pageable);
-        }
+    public Page<NotificationDto> getUserNotificationsPageDto(Long userId, Pageable pageable, Boolean isRead) {
+        // 시스템 알림 + 개인 알림 + 읽음 여부
+        long watermark = notificationReadRepository.findSystemWatermark(userId);
+        return notificationRepository.findAllNotificationsWithReadStatus(userId, watermark, pageable)
+            .map(NotificationService::toDto);
     }
 
-    public Page<NotificationDto> getUserNotificationsPageDto(Long userId, Pageable pageable, Boolean isRead) {
-        // 새로운 쿼리 사용: 시스템 알림 + 개인 알림 + 읽음 여부
-        Page<Object[]> results = notificationRepository.findAllNotificationsWithReadStatus(userId, pageable);
-        return results.map(obj -> {
-            Notification n = (Notification) obj[0];
-            boolean read = (Boolean) obj[1];
-            return NotificationDto.builder()
-                .id(n.getId())
-                .type(n.getType())
-                .refId(n.getRefId())
-                .title(n.getTitle())
-                .message(n.getMessage())
-                .isRead(read)
-                .createdAt(n.getCreatedAt())
-                .userId(n.getUserId())
-                .build();
-        });
+    /**
+     * 알림 피드 한 페이지 (cursor가 없으면 첫 페이지, isRead 가 있으면 읽음 여부로 필터)
+     * OFFSET 없이 (생성시각, ID) 커서로 인덱스를 이어서 읽으므로 깊은 페이지도 첫 페이지와 비용이 같다.
+     */
+    @Transactional(readOnly = true)
+    public NotificationFeedDto getNotificationFeed(Long userId, String cursor, Integer size, Boolean isRead) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_FEED_SIZE : Math.min(size, MAX_FEED_SIZE);
+        FeedCursor position = cursor == null || cursor.isBlank() ? FeedCursor.FIRST : FeedCursor.parse(cursor);
+        long watermark = notificationReadRepository.findSystemWatermark(userId);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<NotificationRepository.FeedRow> rows = notificationRepository.findFeed(userId, watermark,
+            position.createdAt(), position.id(), isRead != null, Boolean.TRUE.equals(isRead), pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<NotificationRepository.FeedRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        NotificationRepository.FeedRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return NotificationFeedDto.builder()
+            .items(page.stream().map(NotificationService::toDto).toList())
+            .nextCursor(hasNext ? new FeedCursor(last.getCreatedAt(), last.getId()).encode() : null)
+            .hasNext(hasNext)
+            .build();
+    }
+
+    private static NotificationDto toDto(NotificationRepository.FeedRow row) {
+        return NotificationDto.builder()
+            .id(row.getId())
+            .type(row.getType())
+            .refId(row.getRefId())
+            .title(row.getTitle())
+            .message(row.getMessage())
+            .isRead(row.isRead())
+            .createdAt(row.getCreatedAt())
+            .userId(row.getUserId())
+            .build();
+    }
+
+    /**
+     * 피드 커서 ("생성시각_알림ID", 생성시각은 ISO-8601)
+     */
+    private record FeedCursor(LocalDateTime createdAt, long id) {
+        // 첫 페이지: 모든 알림보다 뒤
+        static final FeedCursor FIRST = new FeedCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+        String encode() {
+            return createdAt + "_" + id;
+        }
+
+        static FeedCursor parse(String value) {
+            int separator = value.lastIndexOf('_');
+            if (separator <= 0) {
+                throw invalid(value);
+            }
+            try {
+                return new FeedCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw invalid(value);
+            }
+        }
+
+        private static IllegalArgumentException invalid(String value) {
+            return new IllegalArgumentException(String.format("잘못된 페이지 커서입니다. (cursor: %s)", value));
+        }
     }
 
     @Transactional
@@ -82,62 +123,31 @@ public class NotificationService {
         Notification notification = notificationRepository.findById(notificationId)
             .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다. (ID: " + notificationId + ")"));
         boolean isSystem = notification.getUserId() == null;
-        System.out.println("[DEBUG] markAsRead: notificationId=" + notificationId + ", userId=" + userId + ", isSystem=" + isSystem);
-        if (!notificationReadRepository.existsByUserIdAndNotificationId(userId, notificationId)) {
-            NotificationRead read = new NotificationRead();
-            read.setUserId(userId);
-            read.setNotificationId(notificationId);
-            notificationReadRepository.save(read);
-            entityManager.flush();
-            entityManager.clear();
-            System.out.println("[DEBUG] markAsRead: notification_read INSERT (userId=" + userId + ", notificationId=" + notificationId + ")");
-        } else {
-            System.out.println("[DEBUG] markAsRead: notification_read ALREADY EXISTS (userId=" + userId + ", notificationId=" + notificationId + ")");
-        }
-        if (!isSystem && notification.getUserId().equals(userId)) {
-            notification.setRead(true);
-            notificationRepository.saveAndFlush(notification);
-            entityManager.clear();
-            System.out.println("[DEBUG] markAsRead: 개인 알림 is_read=true UPDATE (notificationId=" + notificationId + ")");
+        if (isSystem) {
+            // 워터마크 이하이거나 이미 읽은 알림이면 무시됨
+            int inserted = notificationReadRepository.markRead(userId, notificationId);
+            if (inserted > 0) {
+                compactSystemReads(userId);
+                unreadCountCache.read(userId);
+            }
+        } else if (notification.getUserId().equals(userId) && !notification.isRead()) {
+            // 조건부 UPDATE 로 처리하여 같은 알림의 동시 읽음 요청이 두 번 차감하지 않도록 함
+            if (notificationRepository.markReadIfUnread(notificationId, userId) == 1) {
+                unreadCountCache.read(userId);
+            }
         }
+        log.debug("알림 읽음 처리 - 사용자: {}, 알림: {}, 시스템 알림: {}", userId, notificationId, isSystem);
     }
 
     @Transactional
     public void markAllAsRead(Long userId) {
-        System.out.println("[DEBUG] markAllAsRead 시작: userId=" + userId);
-        
         // 개인 알림 일괄 처리
         notificationRepository.markAllAsReadByUserId(userId);
-        System.out.println("[DEBUG] markAllAsRead: 개인 알림 일괄 업데이트 완료");
-
-        // 시스템 알림 일괄 처리 (batch insert)
-        List<Notification> systemNotifications = notificationRepository.findByUserIdIsNullOrderByCreatedAtDesc();
-        List<NotificationRead> toInsert = new ArrayList<>();
-        
-        for (Notification n : systemNotifications) {
-            if (!notificationReadRepository.existsByUserIdAndNotificationId(userId, n.getId())) {
-                NotificationRead read = new NotificationRead();
-                read.setUserId(userId);
-                read.setNotificationId(n.getId());
-                toInsert.add(read);
-            }
-        }
-        
-        if (!toInsert.isEmpty()) {
-            notificationReadRepository.saveAll(toInsert);
-            System.out.println("[DEBUG] markAllAsRead: 시스템 알림 " + toInsert.size() + "개 읽음 처리");
-        } else {
-            System.out.println("[DEBUG] markAllAsRead: 이미 모든 시스템 알림을 읽음 처리함");
-        }
-        
-        // 처리 후 상태 확인
-        System.out.println("[DEBUG] markAllAsRead: 처리 후 상태 확인");
-        for (Notification n : systemNotifications) {
-            boolean exists = notificationReadRepository.existsByUserIdAndNotificationId(userId, n.getId());
-            System.out.println("[DEBUG] 알림 ID " + n.getId() + " 읽음 상태: " + exists);
-        }
-        
-        System.out.println("[DEBUG] markAllAsRead 완료: userId=" + userId);
+        // 시스템 알림: 워터마크를 최신 시스템 알림까지 올리고, 그 아래의 개별 읽음 기록은 정리
+        notificationReadRepository.markAllSystemNotificationsRead(userId);
+        int removed = notificationReadRepository.deleteSystemReadsBelowWatermark(userId);
+        unreadCountCache.readAll(userId);
+        log.debug("알림 전체 읽음 처리 - 사용자: {}, 정리된 개별 읽음 기록 {}건", userId, removed);
     }
 
     @Transactional
@@ -148,62 +158,40 @@ public class NotificationService {
         if (notification.getUserId() != null && !notification.getUserId().equals(userId)) {
             throw new RuntimeException("해당 알림을 삭제할 권한이 없습니다. (사용자 ID: " + userId + ", 알림 소유자 ID: " + notification.getUserId() + ")");
         }
-        notificationRepository.deleteById(notificationId);
+        if (notificationRepository.deleteAndCount(notificationId) == 0) {
+            // 동시 요청이 먼저 삭제함 (차감도 그쪽에서 처리)
+            return;
+        }
+        if (notification.getUserId() == null) {
+            // 시스템 알림은 사용자마다 읽음 여부가 달라 증감을 알 수 없으므로 전체 재계산
+            unreadCountCache.invalidateAll();
+        } else if (!notification.isRead()) {
+            unreadCountCache.read(notification.getUserId());
+        }
     }
 
     public long getUnreadCount(Long userId) {
-        System.out.println("[DEBUG] getUnreadCount 시작: userId=" + userId);
-        
-        // 개인 알림: isRead = false
-        long personalUnread = notificationRepository.countUnreadByUserIdOrUserIdIsNull(userId) - countUnreadSystemNotifications(userId);
-        // 시스템 알림: notification_read에 없는 것만 카운트
-        long systemUnread = countUnreadSystemNotifications(userId);
-        long totalUnread = personalUnread + systemUnread;
-        
-        System.out.println("[DEBUG] getUnreadCount 결과: personalUnread=" + personalUnread + ", systemUnread=" + systemUnread + ", totalUnread=" + totalUnread);
-        
-        return totalUnread;
-    }
-
-    private long countUnreadSystemNotifications(Long userId) {
-        System.out.println("[DEBUG] countUnreadSystemNotifications 시작: userId=" + userId);
-        
-        List<Notification> systemNotifications = notificationRepository.findByUserIdIsNullOrderByCreatedAtDesc();
-        long count = 0;
-        
-        for (Notification n : systemNotifications) {
-            boolean exists = notificationReadRepository.existsByUserIdAndNotificationId(userId, n.getId());
-            if (!exists) {
-                count++;
-                System.out.println("[DEBUG] 읽지 않은 시스템 알림: id=" + n.getId());
-            } else {
-                System.out.println("[DEBUG] 읽은 시스템 알림: id=" + n.getId());
-            }
-        }
-        
-        System.out.println("[DEBUG] countUnreadSystemNotifications 결과: " + count);
-        return count;
+        // 캐시에 없을 때만 DB에서 계산 (개인 알림 + 워터마크 이후 안 읽은 시스템 알림)
+        return unreadCountCache.get(userId);
     }
 
     /**
-     * 회원가입 시 기존 시스템 알림(Notification.userId == null)에 대해 NotificationRead(userId, notificationId)를 생성
+     * 회원가입 시 기존 시스템 알림(Notification.userId == null)을 모두 읽음 상태로 시작
+     * (알림마다 NotificationRead 를 만들지 않고 워터마크 한 줄만 기록)
      */
     @Transactional
     public void markAllSystemNotificationsAsUnreadForUser(Long userId) {
-        List<Notification> systemNotifications = notificationRepository.findByUserIdIsNullOrderByCreatedAtDesc();
-        log.info("시스템 알림 개수: {}", systemNotifications.size());
-        List<NotificationRead> toInsert = new ArrayList<>();
-        for (Notification n : systemNotifications) {
-            if (!notificationReadRepository.existsByUserIdAndNotificationId(userId, n.getId())) {
-                NotificationRead read = new NotificationRead();
-                read.setUserId(userId);
-                read.setNotificationId(n.getId());
-                toInsert.add(read);
-            }
-        }
-        log.info("NotificationRead 생성 개수: {}", toInsert.size());
-        if (!toInsert.isEmpty()) {
-            notificationReadRepository.saveAll(toInsert);
-        }
+        notificationReadRepository.markAllSystemNotificationsRead(userId);
+        unreadCountCache.invalidate(userId);
+        log.info("시스템 알림 읽음 워터마크 설정 - 사용자: {}", userId);
+    }
+
+    /**
+     * 개별 읽음 기록이 워터마크 바로 위부터 이어지면 워터마크를 올리고 그 아래 기록 삭제
+     * (사용자별 예외 목록을 '중간에 안 읽은 알림이 있는 구간'으로만 유지)
+     */
+    private void compactSystemReads(Long userId) {
+        notificationReadRepository.advanceSystemWatermark(userId);
+        notificationReadRepository.deleteSystemReadsBelowWatermark(userId);
     }
 } 
\ No newline at end of file
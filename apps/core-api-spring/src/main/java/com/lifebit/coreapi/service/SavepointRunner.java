@@ -0,0 +1,55 @@
+package com.lifebit.coreapi.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Savepoint;
+import java.util.function.Supplier;
+
+/**
+ * 부가 데이터(연속 기록, 일별 요약 등) 갱신을 현재 트랜잭션의 세이브포인트 안에서 실행
+ * - PostgreSQL은 실패한 문장이 있으면 트랜잭션 전체가 중단되므로, 실패 시 세이브포인트까지만 되돌려
+ *   원래 기록 저장은 그대로 커밋되게 함
+ * - 트랜잭션 밖이면 그냥 실행 (문장마다 자동 커밋)
+ */
+@Component
+@RequiredArgsConstructor
+public class SavepointRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * action 실행 (예외는 세이브포인트를 되돌린 뒤 그대로 던짐)
+     */
+    public void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 결과를 돌려주는 action 실행 (예외 처리는 run 과 같음)
+     */
+    public <T> T call(Supplier<T> action) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        // 트랜잭션에 묶인 커넥션 (action 안의 JdbcTemplate 호출도 같은 커넥션 사용)
+        return jdbcTemplate.execute((ConnectionCallback<T>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            T result;
+            try {
+                result = action.get();
+            } catch (RuntimeException e) {
+                connection.rollback(savepoint);
+                throw e;
+            }
+            connection.releaseSavepoint(savepoint);
+            return result;
+        });
+    }
+}
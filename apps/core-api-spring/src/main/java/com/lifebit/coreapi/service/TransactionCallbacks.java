@@ -0,0 +1,49 @@
+package com.lifebit.coreapi.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 완료 시점에 맞춘 인메모리 반영/알림 실행
+ * - 커밋 전에 캐시를 비우거나 알림을 보내면 다른 요청이 이전 값을 다시 읽거나, 롤백된 변경이 밖으로 나갈 수 있음
+ * - 트랜잭션 동기화가 없으면 (트랜잭션 밖, 스케줄러 등) 바로 실행
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행 (롤백되면 실행하지 않음)
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 실행 (트랜잭션 밖이면 아무것도 하지 않음)
+     */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
@@ -3,8 +3,10 @@ package com.lifebit.coreapi.service;
 import com.lifebit.coreapi.entity.UserGoal;
 import com.lifebit.coreapi.repository.UserGoalRepository;
 import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.event.HealthDataChangedEvent;
 import com.lifebit.coreapi.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class UserGoalService {
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final AchievementService achievementService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public UserGoal getUserGoal(Long userId) {
@@ -88,6 +91,7 @@ public class UserGoalService {
 
         existingGoal.setUpdatedAt(LocalDateTime.now());
         UserGoal savedGoal = userGoalRepository.save(existingGoal);
+        eventPublisher.publishEvent(new HealthDataChangedEvent(userId, HealthDataChangedEvent.DataType.GOAL));
 
         // 목표 수정 알림
         notificationService.saveNotification(userId, "GOAL_UPDATE", "목표 수정", "목표가 수정되었습니다.");
@@ -179,6 +183,7 @@ public class UserGoalService {
         userGoal.setUpdatedAt(now);
         
         UserGoal savedGoal = userGoalRepository.save(userGoal);
+        eventPublisher.publishEvent(new HealthDataChangedEvent(userGoal.getUserId(), HealthDataChangedEvent.DataType.GOAL));
         // 목표 설정 알림
         notificationService.saveNotification(userGoal.getUserId(), "GOAL_SET", "목표 설정", "목표가 성공적으로 설정되었습니다.");
         // 목표 progress 갱신은 DB 트리거에서 처리하므로, 서비스에서는 별도 호출하지 않음
@@ -198,10 +203,10 @@ public class UserGoalService {
      */
     @Transactional
     public void deleteUserGoal(Long goalId) {
-        if (!userGoalRepository.existsById(goalId)) {
-            throw new RuntimeException("사용자 목표를 찾을 수 없습니다: " + goalId);
-        }
-        userGoalRepository.deleteById(goalId);
+        UserGoal goal = userGoalRepository.findById(goalId)
+            .orElseThrow(() -> new RuntimeException("사용자 목표를 찾을 수 없습니다: " + goalId));
+        userGoalRepository.delete(goal);
+        eventPublisher.publishEvent(new HealthDataChangedEvent(goal.getUserId(), HealthDataChangedEvent.DataType.GOAL));
     }
 
     /**
@@ -210,11 +215,17 @@ public class UserGoalService {
     public UserGoal getDefaultDietGoalByGender(Long userId) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found"));
-        String gender = user.getGender();
+        UserGoal defaultGoal = getDefaultDietGoalForGender(user.getGender());
+        defaultGoal.setUserId(userId);
+        return defaultGoal;
+    }
 
+    /**
+     * 성별 식단 목표치 디폴트값 (사용자 조회 없음, userId 는 비어 있음)
+     */
+    public UserGoal getDefaultDietGoalForGender(String gender) {
         UserGoal defaultGoal = new UserGoal();
         defaultGoal.setUuid(UUID.randomUUID());
-        defaultGoal.setUserId(userId);
         // 운동 목표치는 null 또는 필요시 설정
         defaultGoal.setWeeklyWorkoutTarget(null);
         // 식단 목표치는 성별에 따라 다르게 설정
@@ -4,12 +4,14 @@ import com.lifebit.coreapi.dto.LoginRequest;
 import com.lifebit.coreapi.dto.SignUpRequest;
 import com.lifebit.coreapi.dto.UserProfileUpdateRequest;
 import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.event.HealthDataChangedEvent;
 import com.lifebit.coreapi.repository.UserRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +34,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${file.upload-dir}")
     private String uploadDir;
@@ -118,11 +121,14 @@ public class UserService {
             user.setNickname(nickname);
         }
 
+        boolean bodyChanged = false;
         if (updateData.getHeight() != null) {
+            bodyChanged |= !sameValue(user.getHeight(), updateData.getHeight());
             user.setHeight(updateData.getHeight());
         }
 
         if (updateData.getWeight() != null) {
+            bodyChanged |= !sameValue(user.getWeight(), updateData.getWeight());
             user.setWeight(updateData.getWeight());
         }
 
@@ -160,7 +166,16 @@ public class UserService {
             }
         }
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        if (bodyChanged) {
+            // 통계의 현재 체중/키/BMI 갱신용
+            eventPublisher.publishEvent(new HealthDataChangedEvent(userId, HealthDataChangedEvent.DataType.PROFILE));
+        }
+        return savedUser;
+    }
+
+    private static boolean sameValue(BigDecimal current, BigDecimal updated) {
+        return current != null && current.compareTo(updated) == 0;
     }
 
     /**
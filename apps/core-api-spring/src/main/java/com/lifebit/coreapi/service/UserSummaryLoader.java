@@ -0,0 +1,75 @@
+package com.lifebit.coreapi.service;
+
+import com.lifebit.coreapi.dto.UserSummaryDto;
+import com.lifebit.coreapi.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 요약(닉네임, 프로필 이미지) 일괄 로더
+ * - 여러 사용자 ID를 IN 쿼리 1회로 조회 (목록마다 findById를 반복하던 N+1 제거)
+ * - 웹 요청 안에서는 조회 결과를 요청 단위로 메모하여 같은 요청의 재조회를 생략
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSummaryLoader {
+
+    private static final String MEMO_ATTRIBUTE = UserSummaryLoader.class.getName() + ".memo";
+
+    private final UserRepository userRepository;
+
+    /**
+     * 사용자 ID → 요약. 존재하지 않는 사용자는 닉네임/이미지가 null인 요약으로 채운다.
+     */
+    public Map<Long, UserSummaryDto> loadAll(Collection<Long> userIds) {
+        Map<Long, UserSummaryDto> memo = requestMemo();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long userId : userIds) {
+            if (userId != null && !memo.containsKey(userId)) {
+                missing.add(userId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (UserSummaryDto summary : userRepository.findSummariesByUserIdIn(missing)) {
+                memo.put(summary.getUserId(), summary);
+            }
+            for (Long userId : missing) {
+                memo.putIfAbsent(userId, UserSummaryDto.unknown(userId));
+            }
+        }
+        Map<Long, UserSummaryDto> result = new HashMap<>();
+        for (Long userId : userIds) {
+            if (userId != null) {
+                result.put(userId, memo.get(userId));
+            }
+        }
+        return result;
+    }
+
+    public UserSummaryDto load(Long userId) {
+        return loadAll(Set.of(userId)).get(userId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, UserSummaryDto> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new HashMap<>();
+        }
+        Map<Long, UserSummaryDto> memo =
+                (Map<Long, UserSummaryDto>) attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+}
@@ -0,0 +1,409 @@
+package com.lifebit.coreapi.service.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사용자 전체 건강 기록 내보내기 (건강 기록, 운동 세션, 식단 기록 + 섭취 영양소)
+ * - 목록(Map)을 만들지 않고 DB 커서(fetch size 단위)에서 읽은 행을 바로 응답 스트림에 씀
+ *   → 기록 기간과 무관하게 메모리 사용량이 일정
+ * - PostgreSQL 은 트랜잭션(autocommit off) 안에서만 커서로 나눠 읽으므로 읽기 전용 트랜잭션으로 실행
+ * - NDJSON: 한 줄에 기록 하나, type 필드로 종류 구분
+ * - CSV: 모든 종류의 컬럼을 합친 헤더 한 줄, 해당 없는 컬럼은 빈 값 (엑셀 한글 표시를 위해 BOM 포함)
+ *   = + - @ 로 시작하는 문자열 값은 스프레드시트가 수식으로 실행하지 않도록 앞에 ' 를 붙임
+ * - 내보내기 하나가 끝날 때까지 풀 커넥션을 하나 잡고 있으므로 동시 실행 수를 제한 (사용자당 1개, 전체 export.max-concurrent 개)
+ */
+@Service
+@Slf4j
+public class HealthDataExporter {
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+    }
+
+    /**
+     * 내보내는 기록 종류 (SELECT 컬럼 순서 = columns 순서)
+     */
+    private enum Dataset {
+        HEALTH_RECORD("health_record", "hr.record_date", """
+                SELECT hr.health_record_id, hr.record_date, hr.weight, hr.height, hr.bmi, hr.created_at
+                  FROM health_records hr
+                 WHERE hr.user_id = ?%s
+                 ORDER BY hr.record_date, hr.health_record_id
+                """,
+                "id", "date", "weight", "height", "bmi", "created_at"),
+        EXERCISE_SESSION("exercise_session", "es.exercise_date", """
+                SELECT es.exercise_session_id, es.exercise_date, ec.name, ec.body_part, ec.exercise_type,
+                       es.duration_minutes, es.calories_burned, es.sets, es.reps, es.weight,
+                       es.time_period, es.notes, es.created_at
+                  FROM exercise_sessions es
+                  LEFT JOIN exercise_catalog ec ON ec.exercise_catalog_id = es.exercise_catalog_id
+                 WHERE es.user_id = ?%s
+                 ORDER BY es.exercise_date, es.exercise_session_id
+                """,
+                "id", "date", "exercise_name", "body_part", "exercise_type",
+                "duration_minutes", "calories_burned", "sets", "reps", "lifted_weight",
+                "time_period", "notes", "created_at"),
+        // 섭취 영양소 = 100g 기준 영양소 × 섭취량 / 100 (NutritionAccumulator.portion 과 같은 규칙)
+        MEAL_LOG("meal_log", "ml.log_date", """
+                SELECT ml.meal_log_id, ml.log_date, ml.meal_time, f.name, ml.quantity,
+                       %1$s AS calories, %2$s AS carbs, %3$s AS protein, %4$s AS fat, ml.created_at
+                  FROM meal_logs ml
+                  LEFT JOIN food_items f ON f.food_item_id = ml.food_item_id
+                 WHERE ml.user_id = ?%%s
+                 ORDER BY ml.log_date, ml.meal_log_id
+                """.formatted(portion("calories"), portion("carbs"), portion("protein"), portion("fat")),
+                "id", "date", "meal_time", "food_name", "quantity", "calories", "carbs", "protein", "fat",
+                "created_at");
+
+        private final String type;
+        private final String dateColumn;
+        private final String sql;
+        private final String[] columns;
+
+        Dataset(String type, String dateColumn, String sql, String... columns) {
+            this.type = type;
+            this.dateColumn = dateColumn;
+            this.sql = sql;
+            this.columns = columns;
+        }
+
+        String query(LocalDate from, LocalDate to) {
+            StringBuilder range = new StringBuilder();
+            if (from != null) {
+                range.append(" AND ").append(dateColumn).append(" >= ?");
+            }
+            if (to != null) {
+                range.append(" AND ").append(dateColumn).append(" <= ?");
+            }
+            return sql.formatted(range);
+        }
+
+        private static String portion(String nutrient) {
+            return "CASE WHEN ml.quantity > 0 THEN ROUND(GREATEST(f.%s, 0) * ml.quantity / 100, 2) END"
+                    .formatted(nutrient);
+        }
+    }
+
+    /**
+     * 동시 실행 자리 (내보내기가 끝나면 close 로 반납, 여러 번 호출해도 한 번만 반납)
+     */
+    public final class Slot implements AutoCloseable {
+        private final Long userId;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Slot(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                activeUsers.remove(userId);
+                slots.release();
+            }
+        }
+    }
+
+    private final JdbcTemplate cursorTemplate;
+    private final ObjectMapper objectMapper;
+    private final Semaphore slots;
+    private final Set<Long> activeUsers = ConcurrentHashMap.newKeySet();
+
+    public HealthDataExporter(DataSource dataSource,
+                              ObjectMapper objectMapper,
+                              @Value("${export.fetch-size:500}") int fetchSize,
+                              @Value("${export.max-concurrent:2}") int maxConcurrent) {
+        // 내보내기 전용: fetch size 만큼씩 커서로 읽음 (공용 JdbcTemplate 설정은 건드리지 않음)
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        this.cursorTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+        this.slots = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * 내보내기 자리 확보 (같은 사용자가 이미 내보내는 중이거나 전체 자리가 없으면 null)
+     */
+    public Slot tryAcquire(Long userId) {
+        if (!activeUsers.add(userId)) {
+            return null;
+        }
+        if (!slots.tryAcquire()) {
+            activeUsers.remove(userId);
+            return null;
+        }
+        return new Slot(userId);
+    }
+
+    /**
+     * 사용자 기록을 지정 형식으로 출력 스트림에 씀 (스트림은 닫지 않음)
+     * @param from 시작일 (null 이면 처음부터)
+     * @param to 종료일 (null 이면 끝까지)
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(Long userId, Format format, LocalDate from, LocalDate to, boolean gzip,
+                       OutputStream out) throws IOException {
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, 8192) : null;
+        OutputStream target = gzipOut != null ? gzipOut : out;
+        RowWriter writer = format == Format.NDJSON ? new NdjsonWriter(target) : new CsvWriter(target);
+
+        long started = System.currentTimeMillis();
+        long rows = 0;
+        writer.begin();
+        for (Dataset dataset : Dataset.values()) {
+            rows += exportDataset(dataset, userId, from, to, writer);
+        }
+        writer.end();
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+        out.flush();
+
+        log.info("[내보내기] 완료 - 사용자: {}, 형식: {}, 기간: {} ~ {}, 행 수: {}, 소요: {}ms",
+                userId, format, from, to, rows, System.currentTimeMillis() - started);
+        return rows;
+    }
+
+    private long exportDataset(Dataset dataset, Long userId, LocalDate from, LocalDate to,
+                               RowWriter writer) throws IOException {
+        List<Object> args = new ArrayList<>(3);
+        args.add(userId);
+        if (from != null) {
+            args.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            args.add(Date.valueOf(to));
+        }
+        long[] count = {0};
+        try {
+            cursorTemplate.query(dataset.query(from, to), rs -> {
+                try {
+                    writer.row(dataset, rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            }, args.toArray());
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 쓰기 실패는 원래 예외로 전달
+            throw e.getCause();
+        }
+        return count[0];
+    }
+
+    /**
+     * DB 값 → 문자열 (날짜는 ISO 형식)
+     */
+    private static String text(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate().toString();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * CSV 칸 값 (문자열이 수식 시작 문자(= + - @ 탭 CR)로 시작하면 ' 를 붙여 텍스트로 취급되게 함, 숫자는 그대로)
+     */
+    static String csvText(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof String string && !string.isEmpty() && "=+-@\t\r".indexOf(string.charAt(0)) >= 0) {
+            return "'" + string;
+        }
+        return text(value);
+    }
+
+    private interface RowWriter {
+        void begin() throws IOException;
+
+        void row(Dataset dataset, ResultSet rs) throws IOException, SQLException;
+
+        void end() throws IOException;
+    }
+
+    private final class NdjsonWriter implements RowWriter {
+        private final OutputStream out;
+        private JsonGenerator generator;
+
+        NdjsonWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 줄 사이 구분은 직접 쓰는 개행만 (기본 구분자 공백이 두 번째 줄부터 앞에 붙지 않도록)
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void row(Dataset dataset, ResultSet rs) throws IOException, SQLException {
+            generator.writeStartObject();
+            generator.writeStringField("type", dataset.type);
+            for (int i = 0; i < dataset.columns.length; i++) {
+                Object value = rs.getObject(i + 1);
+                generator.writeFieldName(dataset.columns[i]);
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof BigDecimal decimal) {
+                    generator.writeNumber(decimal);
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.longValue());
+                } else {
+                    generator.writeString(text(value));
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void end() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvWriter implements RowWriter {
+        private static final String[] HEADER;
+
+        static {
+            Set<String> columns = new LinkedHashSet<>();
+            columns.add("type");
+            for (Dataset dataset : Dataset.values()) {
+                columns.addAll(List.of(dataset.columns));
+            }
+            HEADER = columns.toArray(String[]::new);
+        }
+
+        // 종류별 컬럼 → 헤더 위치
+        private static final int[][] POSITIONS = new int[Dataset.values().length][];
+
+        static {
+            List<String> header = List.of(HEADER);
+            for (Dataset dataset : Dataset.values()) {
+                int[] positions = new int[dataset.columns.length];
+                for (int i = 0; i < positions.length; i++) {
+                    positions[i] = header.indexOf(dataset.columns[i]);
+                }
+                POSITIONS[dataset.ordinal()] = positions;
+            }
+        }
+
+        private final Writer writer;
+        private final String[] line = new String[HEADER.length];
+
+        CsvWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 8192);
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write('\uFEFF');
+            writeLine(HEADER);
+        }
+
+        @Override
+        public void row(Dataset dataset, ResultSet rs) throws IOException, SQLException {
+            Arrays.fill(line, null);
+            line[0] = dataset.type;
+            int[] positions = POSITIONS[dataset.ordinal()];
+            for (int i = 0; i < positions.length; i++) {
+                line[positions[i]] = csvText(rs.getObject(i + 1));
+            }
+            writeLine(line);
+        }
+
+        @Override
+        public void end() throws IOException {
+            writer.flush();
+        }
+
+        private void writeLine(String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writer.write(escape(values[i]));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.lifebit.coreapi.service.notification;
+
+import com.lifebit.coreapi.service.SavepointRunner;
+import com.lifebit.coreapi.service.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 알림 비동기 일괄 저장 (outbox)
+ * - 호출자 트랜잭션 안에서 notification_outbox 에 한 행 INSERT → 호출자 커밋과 함께 확정되고, 프로세스가 죽어도 남음
+ * - 커밋 후 메모리 큐에도 넣어 저장 작업이 테이블을 다시 읽지 않고 바로 저장 (빠른 경로)
+ *   큐에서 꺼낸 알림은 outbox 행을 ID로 지운 만큼만 저장하므로 다른 인스턴스/주기와 중복 저장되지 않음
+ * - 큐가 가득 차거나 저장에 실패하면 메모리에서만 버림 (행은 테이블에 남아 다음 주기에 저장)
+ * - 저장 작업은 전용 단일 스레드 스케줄러에서 실행 (공용 스케줄러의 야간 배치 등에 밀리지 않음)
+ * - 배치 작업처럼 여러 건을 한 번에 확정하는 알림은 outbox 테이블에 배치 INSERT (enqueueDurably)
+ * - 설정한 종류의 알림은 한 저장 주기 안에서 (사용자, 종류)별 마지막 한 건만 저장
+ * - 큐 길이/지연 시간(테이블에 남은 가장 오래된 행 포함)/저장·중복 제거·보관 건수는 actuator 메트릭(notification.outbox.*)으로 노출
+ */
+@Component
+@Slf4j
+public class NotificationOutbox {
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO notification (user_id, type, ref_id, title, message, is_read, created_at) VALUES (?, ?, ?, ?, ?, FALSE, ?)";
+
+    private static final String INSERT_OUTBOX_SQL =
+            "INSERT INTO notification_outbox (user_id, type, ref_id, title, message, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_OUTBOX_RETURNING_SQL = INSERT_OUTBOX_SQL + " RETURNING id";
+
+    // 큐에서 꺼낸 알림의 행을 가져감 (이미 다른 쪽이 가져간 행은 결과에서 빠짐)
+    private static final String CLAIM_OUTBOX_SQL = "DELETE FROM notification_outbox WHERE id = ANY(?) RETURNING id";
+
+    private static final String OLDEST_OUTBOX_SQL = "SELECT created_at FROM notification_outbox ORDER BY id LIMIT 1";
+
+    // 다른 인스턴스와 겹치지 않도록 잠긴 행은 건너뛰고 꺼냄
+    private static final String TAKE_OUTBOX_SQL = """
+            DELETE FROM notification_outbox
+             WHERE id IN (SELECT id FROM notification_outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED)
+            RETURNING user_id, type, ref_id, title, message, created_at
+            """;
+
+    /**
+     * 저장할 알림 (userId 가 null 이면 시스템 알림)
+     */
+    public record Message(Long userId, String type, Long refId, String title, String message, LocalDateTime createdAt) {
+        public Message(Long userId, String type, Long refId, String title, String message) {
+            this(userId, type, refId, title, message, LocalDateTime.now());
+        }
+
+        Object[] toArgs() {
+            return new Object[]{userId, type, refId, title, message, Timestamp.valueOf(createdAt)};
+        }
+    }
+
+    /**
+     * 메모리 큐 항목 (outbox 테이블 행 ID 포함)
+     */
+    private record Queued(long outboxId, Message message) {}
+
+    private record DedupKey(Long userId, String type) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SavepointRunner savepointRunner;
+    private final UnreadCountCache unreadCountCache;
+    private final ThreadPoolTaskScheduler scheduler;
+    private final BlockingQueue<Queued> queue;
+    // 마지막 저장 주기 뒤 outbox 테이블에 남은 가장 오래된 행의 생성 시각 (없으면 null)
+    private final AtomicReference<LocalDateTime> oldestStored = new AtomicReference<>();
+    private final Counter written;
+    private final Counter deduplicated;
+    private final Counter spilled;
+
+    @Value("${notification.outbox.batch-size:500}")
+    private int batchSize;
+
+    // 저장 주기 안에서 (사용자, 종류)별 마지막 한 건만 남길 알림 종류
+    @Value("${notification.outbox.dedup-types:}")
+    private Set<String> dedupTypes;
+
+    @Value("${notification.outbox.flush-interval-ms:1000}")
+    private long flushIntervalMillis;
+
+    public NotificationOutbox(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              SavepointRunner savepointRunner,
+                              UnreadCountCache unreadCountCache,
+                              @Qualifier("notificationOutboxScheduler") ThreadPoolTaskScheduler scheduler,
+                              @Value("${notification.outbox.capacity:10000}") int capacity,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.savepointRunner = savepointRunner;
+        this.unreadCountCache = unreadCountCache;
+        this.scheduler = scheduler;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.written = Counter.builder("notification.outbox.written")
+                .description("notification 에 저장된 알림 수").register(meterRegistry);
+        this.deduplicated = Counter.builder("notification.outbox.deduplicated")
+                .description("중복 제거로 저장하지 않은 알림 수").register(meterRegistry);
+        this.spilled = Counter.builder("notification.outbox.spilled")
+                .description("큐가 가득 차거나 저장 실패로 outbox 테이블에서 다시 읽어 저장할 알림 수").register(meterRegistry);
+        meterRegistry.gauge("notification.outbox.queue.depth", queue, BlockingQueue::size);
+        meterRegistry.gauge("notification.outbox.lag.ms", this, NotificationOutbox::lagMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flushSafely, Duration.ofMillis(flushIntervalMillis));
+    }
+
+    /**
+     * 알림 저장 예약
+     * - 호출자 트랜잭션 안에서 outbox 행 INSERT (세이브포인트 안에서 실행, 실패해도 호출자 트랜잭션은 계속)
+     * - 커밋 후 메모리 큐에 추가, 롤백되면 행과 함께 사라짐
+     * - 읽기 전용 트랜잭션에서는 INSERT 할 수 없으므로 커밋 후 별도로 INSERT
+     */
+    public void enqueue(Message message) {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            TransactionCallbacks.afterCommit(() -> store(message));
+            return;
+        }
+        Long outboxId;
+        try {
+            outboxId = savepointRunner.call(() ->
+                    jdbcTemplate.queryForObject(INSERT_OUTBOX_RETURNING_SQL, Long.class, message.toArgs()));
+        } catch (Exception e) {
+            log.error("[알림 저장] outbox 저장 실패 - 사용자: {}, 종류: {}, 오류: {}",
+                    message.userId(), message.type(), e.getMessage());
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> offer(new Queued(outboxId, message)));
+    }
+
+    private void store(Message message) {
+        try {
+            offer(new Queued(jdbcTemplate.queryForObject(INSERT_OUTBOX_RETURNING_SQL, Long.class, message.toArgs()),
+                    message));
+        } catch (Exception e) {
+            log.error("[알림 저장] outbox 저장 실패 - 사용자: {}, 종류: {}, 오류: {}",
+                    message.userId(), message.type(), e.getMessage());
+        }
+    }
+
+    private void offer(Queued queued) {
+        if (!queue.offer(queued)) {
+            // 행은 이미 테이블에 있으므로 다음 주기에 테이블에서 읽어 저장
+            spilled.increment();
+        }
+    }
+
+    /**
+     * 호출자 트랜잭션 안에서 outbox 테이블에 배치 INSERT (배치 작업 체크포인트와 함께 확정)
+     */
+    public void enqueueDurably(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, messages.stream().map(Message::toArgs).toList());
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("[알림 저장] 저장 주기 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장 주기마다 큐와 outbox 테이블의 알림을 notification 에 배치 INSERT
+     */
+    public void flush() {
+        List<Queued> drained = new ArrayList<>();
+        while (true) {
+            drained.clear();
+            queue.drainTo(drained, batchSize);
+            if (!write(drained, batchSize - drained.size())) {
+                break;
+            }
+            if (drained.size() < batchSize && queue.isEmpty()) {
+                // outbox 테이블에 남은 알림은 다음 주기에
+                break;
+            }
+        }
+        List<Timestamp> oldest = jdbcTemplate.queryForList(OLDEST_OUTBOX_SQL, Timestamp.class);
+        oldestStored.set(oldest.isEmpty() ? null : oldest.get(0).toLocalDateTime());
+    }
+
+    /**
+     * 저장 지연 시간: 큐에서 가장 오래된 알림과 테이블에 남은 가장 오래된 행 중 큰 값
+     */
+    private double lagMillis() {
+        LocalDateTime now = LocalDateTime.now();
+        long lag = 0;
+        Queued head = queue.peek();
+        if (head != null) {
+            lag = ChronoUnit.MILLIS.between(head.message().createdAt(), now);
+        }
+        LocalDateTime stored = oldestStored.get();
+        if (stored != null) {
+            lag = Math.max(lag, ChronoUnit.MILLIS.between(stored, now));
+        }
+        return lag;
+    }
+
+    /**
+     * 큐에서 꺼낸 알림(행을 가져간 것만) + outbox 테이블 알림(최대 outboxLimit 건)을 한 트랜잭션으로 저장
+     * 실패하면 트랜잭션이 롤백되어 행이 테이블에 그대로 남음
+     * @return 저장 성공 여부
+     */
+    private boolean write(List<Queued> drained, int outboxLimit) {
+        List<Message> batch;
+        try {
+            batch = transactionTemplate.execute(status -> {
+                List<Message> messages = new ArrayList<>(claim(drained));
+                if (outboxLimit > 0) {
+                    messages.addAll(jdbcTemplate.query(TAKE_OUTBOX_SQL, (rs, rowNum) -> new Message(
+                            rs.getObject("user_id", Long.class),
+                            rs.getString("type"),
+                            rs.getObject("ref_id", Long.class),
+                            rs.getString("title"),
+                            rs.getString("message"),
+                            rs.getTimestamp("created_at").toLocalDateTime()), outboxLimit));
+                }
+                List<Message> deduped = deduplicate(messages);
+                if (!deduped.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, deduped.stream().map(Message::toArgs).toList());
+                }
+                return deduped;
+            });
+        } catch (Exception e) {
+            log.warn("[알림 저장] 배치 저장 실패 - {}건 (outbox 테이블에서 다시 저장), 오류: {}", drained.size(), e.getMessage());
+            spilled.increment(drained.size());
+            return false;
+        }
+        if (batch == null || batch.isEmpty()) {
+            return false;
+        }
+        written.increment(batch.size());
+        List<Long> userIds = new ArrayList<>(batch.size());
+        for (Message message : batch) {
+            if (message.userId() == null) {
+                unreadCountCache.added(null);
+            } else {
+                userIds.add(message.userId());
+            }
+        }
+        unreadCountCache.addedAll(userIds);
+        log.debug("[알림 저장] {}건 저장", batch.size());
+        return true;
+    }
+
+    /**
+     * 큐에서 꺼낸 알림 중 이번 트랜잭션이 outbox 행을 지운 것만 (다른 인스턴스가 테이블에서 먼저 가져간 행은 제외)
+     */
+    private List<Message> claim(List<Queued> drained) {
+        if (drained.isEmpty()) {
+            return List.of();
+        }
+        Long[] ids = drained.stream().map(Queued::outboxId).toArray(Long[]::new);
+        Set<Long> claimed = new HashSet<>(jdbcTemplate.queryForList(CLAIM_OUTBOX_SQL, Long.class, (Object) ids));
+        List<Message> messages = new ArrayList<>(claimed.size());
+        for (Queued queued : drained) {
+            if (claimed.contains(queued.outboxId())) {
+                messages.add(queued.message());
+            }
+        }
+        return messages;
+    }
+
+    private List<Message> deduplicate(List<Message> messages) {
+        if (dedupTypes.isEmpty()) {
+            return messages;
+        }
+        // 중복 대상은 (사용자, 종류)별 마지막 알림만, 나머지는 순서 유지
+        Map<Object, Message> kept = new LinkedHashMap<>();
+        for (Message message : messages) {
+            Object key = dedupTypes.contains(message.type())
+                    ? new DedupKey(message.userId(), message.type())
+                    : new Object();
+            kept.remove(key);
+            kept.put(key, message);
+        }
+        deduplicated.increment(messages.size() - kept.size());
+        return new ArrayList<>(kept.values());
+    }
+}
@@ -0,0 +1,305 @@
+package com.lifebit.coreapi.service.notification;
+
+import com.lifebit.coreapi.handler.HealthWebSocketHandler;
+import com.lifebit.coreapi.repository.NotificationRepository;
+import com.lifebit.coreapi.service.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 사용자별 읽지 않은 알림 수 캐시 (알림 배지)
+ * - 처음 조회할 때만 DB에서 계산하고, 이후에는 알림 저장/읽음/삭제 시 증감만 반영
+ * - 값이 바뀔 때마다 WebSocket 으로 notification_count 메시지를 보내 클라이언트 폴링을 대체
+ *   캐시에 없는 사용자에게는 DB 를 다시 세지 않고 변화량(또는 다시 조회하라는 신호)만 보냄
+ *   → 시스템 알림을 전체에 보내도 접속자 수만큼 COUNT 쿼리가 몰리지 않음
+ * - 변경은 커밋 후에만 반영 (롤백된 변경은 적용하지 않음)
+ * - DB 조회 중에 변경이 일어나면 조회 결과를 저장하지 않음 (사용자 ID 구간별 버전으로 확인)
+ * - 최근에 조회한 사용자 수를 상한으로 두는 LRU, DB에서 센 지 ttl-ms 가 지난 값은 다시 계산
+ *   (증감 누락 등으로 어긋난 값이 계속 남지 않도록)
+ * - 캐시는 노드마다 따로 있으므로 변경을 UnreadCountChangeFeed 로 남기고, 다른 노드는 sync-interval-ms 마다 읽어
+ *   해당 사용자의 캐시 값을 버리고 그 노드에 연결된 사용자에게 변경 신호 전송
+ */
+@Component
+@Slf4j
+public class UnreadCountCache {
+
+    private static final int VERSION_STRIPES = 64;
+
+    // 읽지 않은 알림 수와 DB에서 센 시각 (증감은 시각을 바꾸지 않음)
+    private record Entry(long count, long loadedAtMillis) {
+        Entry plus(LongUnaryOperator change) {
+            return new Entry(Math.max(0L, change.applyAsLong(count)), loadedAtMillis);
+        }
+    }
+
+    private final NotificationRepository notificationRepository;
+    private final HealthWebSocketHandler webSocketHandler;
+    private final UnreadCountChangeFeed changeFeed;
+    private final LinkedHashMap<Long, Entry> counts;
+    // 조회 중 변경 감지용 버전 (counts 로 동기화)
+    private final long[] versions = new long[VERSION_STRIPES];
+    private final Counter hits;
+    private final Counter misses;
+
+    @Value("${notification.unread-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.unread-cache.ttl-ms:600000}")
+    private long ttlMillis;
+
+    public UnreadCountCache(NotificationRepository notificationRepository,
+                            HealthWebSocketHandler webSocketHandler,
+                            UnreadCountChangeFeed changeFeed,
+                            @Value("${notification.unread-cache.max-users:50000}") int maxUsers,
+                            MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.webSocketHandler = webSocketHandler;
+        this.changeFeed = changeFeed;
+        this.counts = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxUsers;
+            }
+        };
+        this.hits = Counter.builder("notification.unread-cache.requests")
+                .tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("notification.unread-cache.requests")
+                .tag("result", "miss").register(meterRegistry);
+        meterRegistry.gauge("notification.unread-cache.users", counts, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        });
+    }
+
+    /**
+     * 읽지 않은 알림 수 (캐시에 없으면 DB에서 계산 후 저장)
+     */
+    public long get(Long userId) {
+        if (!enabled) {
+            return notificationRepository.countUnread(userId);
+        }
+        long version;
+        synchronized (counts) {
+            Entry cached = cached(userId);
+            if (cached != null) {
+                hits.increment();
+                return cached.count();
+            }
+            version = versions[stripe(userId)];
+        }
+        misses.increment();
+        long count = notificationRepository.countUnread(userId);
+        synchronized (counts) {
+            if (versions[stripe(userId)] == version) {
+                counts.put(userId, new Entry(count, System.currentTimeMillis()));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 새 알림 저장 (userId 가 null 이면 시스템 알림 → 모든 사용자 +1)
+     */
+    public void added(Long userId) {
+        if (userId == null) {
+            TransactionCallbacks.afterCommit(() -> {
+                broadcastAdded();
+                changeFeed.publish(null, 1L);
+            });
+        } else {
+            TransactionCallbacks.afterCommit(() -> {
+                apply(userId, 1);
+                changeFeed.publish(userId, 1L);
+            });
+        }
+    }
+
+    /**
+     * 여러 사용자에게 개인 알림 저장 (배치 INSERT)
+     */
+    public void addedAll(Iterable<Long> userIds) {
+        TransactionCallbacks.afterCommit(() -> {
+            for (Long userId : userIds) {
+                apply(userId, 1);
+            }
+            changeFeed.publishAll(userIds, 1L);
+        });
+    }
+
+    /**
+     * 안 읽은 알림 한 건이 읽음 처리되거나 삭제됨
+     */
+    public void read(Long userId) {
+        TransactionCallbacks.afterCommit(() -> {
+            apply(userId, -1);
+            changeFeed.publish(userId, -1L);
+        });
+    }
+
+    /**
+     * 모든 알림 읽음 처리
+     */
+    public void readAll(Long userId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (counts) {
+                versions[stripe(userId)]++;
+                if (enabled) {
+                    counts.put(userId, new Entry(0L, System.currentTimeMillis()));
+                }
+            }
+            push(userId, 0L);
+            changeFeed.publish(userId, null);
+        });
+    }
+
+    /**
+     * 증감을 알 수 없는 변경 (다음 조회 때 다시 계산)
+     */
+    public void invalidate(Long userId) {
+        TransactionCallbacks.afterCommit(() -> {
+            drop(userId, null);
+            changeFeed.publish(userId, null);
+        });
+    }
+
+    /**
+     * 모든 사용자에게 영향이 있지만 사용자별 증감을 알 수 없는 변경 (시스템 알림 삭제 등)
+     */
+    public void invalidateAll() {
+        TransactionCallbacks.afterCommit(() -> {
+            dropAll(null);
+            changeFeed.publish(null, null);
+        });
+    }
+
+    /**
+     * 다른 노드에서 커밋된 변경 반영 (노드별 실행)
+     */
+    @Scheduled(fixedDelayString = "${notification.unread-cache.sync-interval-ms:5000}")
+    public void syncFromOtherNodes() {
+        try {
+            changeFeed.poll(this::remoteChanged, () -> dropAll(null));
+        } catch (Exception e) {
+            log.warn("[알림 배지] 다른 노드 변경 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    // 다른 노드의 변경은 캐시 값을 버리고 변화량(또는 다시 조회 신호)만 전송
+    private void remoteChanged(UnreadCountChangeFeed.Change change) {
+        if (change.userId() == null) {
+            dropAll(change.delta());
+        } else {
+            drop(change.userId(), change.delta());
+        }
+    }
+
+    private void drop(Long userId, Long delta) {
+        synchronized (counts) {
+            versions[stripe(userId)]++;
+            counts.remove(userId);
+        }
+        pushChanged(userId, delta);
+    }
+
+    private void dropAll(Long delta) {
+        synchronized (counts) {
+            Arrays.setAll(versions, i -> versions[i] + 1);
+            counts.clear();
+        }
+        for (String userId : webSocketHandler.getConnectedUserIds()) {
+            pushChanged(Long.valueOf(userId), delta);
+        }
+    }
+
+    private void apply(Long userId, long delta) {
+        Entry updated = null;
+        synchronized (counts) {
+            versions[stripe(userId)]++;
+            Entry cached = cached(userId);
+            if (cached != null) {
+                updated = cached.plus(count -> count + delta);
+                counts.put(userId, updated);
+            }
+        }
+        if (updated != null) {
+            push(userId, updated.count());
+        } else {
+            pushChanged(userId, delta);
+        }
+    }
+
+    private void broadcastAdded() {
+        synchronized (counts) {
+            Arrays.setAll(versions, i -> versions[i] + 1);
+            counts.replaceAll((userId, entry) -> entry.plus(count -> count + 1));
+        }
+        for (String userId : webSocketHandler.getConnectedUserIds()) {
+            Long id = Long.valueOf(userId);
+            Entry cached;
+            synchronized (counts) {
+                cached = cached(id);
+            }
+            if (cached != null) {
+                push(id, cached.count());
+            } else {
+                pushChanged(id, 1L);
+            }
+        }
+    }
+
+    /**
+     * 캐시 값 (ttl 이 지났으면 지우고 null, counts 로 동기화된 상태에서 호출)
+     */
+    private Entry cached(Long userId) {
+        Entry entry = counts.get(userId);
+        if (entry != null && System.currentTimeMillis() - entry.loadedAtMillis() > ttlMillis) {
+            counts.remove(userId);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 연결된 사용자에게 현재 값 전송
+     */
+    private void push(Long userId, long count) {
+        String id = userId.toString();
+        if (!webSocketHandler.isUserConnected(id)) {
+            return;
+        }
+        try {
+            webSocketHandler.sendNotificationCount(id, count);
+        } catch (Exception e) {
+            log.warn("[알림 배지] 읽지 않은 알림 수 전송 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시에 값이 없는 사용자에게 변화량만 전송 (delta 가 null 이면 다시 조회하라는 신호, DB 조회 없음)
+     */
+    private void pushChanged(Long userId, Long delta) {
+        String id = userId.toString();
+        if (!webSocketHandler.isUserConnected(id)) {
+            return;
+        }
+        try {
+            webSocketHandler.sendNotificationCountChanged(id, delta);
+        } catch (Exception e) {
+            log.warn("[알림 배지] 읽지 않은 알림 수 변경 전송 실패 - 사용자: {}, 오류: {}", userId, e.getMessage());
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return (int) (userId & (VERSION_STRIPES - 1));
+    }
+}
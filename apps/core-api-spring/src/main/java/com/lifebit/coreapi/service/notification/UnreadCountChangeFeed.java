@@ -0,0 +1,140 @@
+package com.lifebit.coreapi.service.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 읽지 않은 알림 수 변경 알림 (notification_count_change 테이블)
+ * - 알림 수가 바뀐 커밋마다 (노드, 사용자, 변화량) 한 행을 남김 (user_id NULL 은 전체 사용자, delta NULL 은 변화량 모름)
+ * - 다른 노드는 주기적으로 마지막으로 본 id 이후 행을 읽어 그 사용자의 캐시 값을 버리고, 그 노드에 연결된 사용자에게 변경 신호 전송
+ *   (캐시 값에 변화량을 더하지 않는 이유: 변경 커밋 후에 DB에서 센 값이면 두 번 반영됨)
+ * - 놓친 행(커밋 순서 역전, 기록 실패)은 캐시 ttl 이 지나면 다시 세어 바로잡힘
+ */
+@Component
+@Slf4j
+public class UnreadCountChangeFeed {
+
+    private static final String PUBLISH_SQL =
+            "INSERT INTO notification_count_change (node_id, user_id, delta) VALUES (?, ?, ?)";
+
+    private static final String LATEST_SQL = "SELECT COALESCE(MAX(id), 0) FROM notification_count_change";
+
+    private static final String POLL_SQL = """
+            SELECT id, user_id, delta
+              FROM notification_count_change
+             WHERE id > ? AND node_id <> ?
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String PURGE_SQL =
+            "DELETE FROM notification_count_change WHERE created_at < NOW() - INTERVAL '1 hour'";
+
+    // 한 번에 개별 반영할 최대 행 수 (넘으면 이 노드 캐시 전체를 버림)
+    static final int MAX_ROWS_PER_POLL = 1_000;
+    // 이보다 오래 확인하지 못했으면 그 사이 행이 정리되었을 수 있으므로 캐시 전체를 버림 (보존 기간 1시간의 절반)
+    private static final long MAX_POLL_GAP_MILLIS = 30 * 60 * 1000L;
+    private static final long PURGE_INTERVAL_MILLIS = 10 * 60 * 1000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    // 이 노드가 남긴 행은 이미 반영되어 있으므로 읽지 않음
+    private final String nodeId = UUID.randomUUID().toString();
+    // 이 id 까지는 반영 완료 (-1 이면 아직 확인 전)
+    private long lastSeen = -1;
+    private long lastPolledAtMillis;
+    private long lastPurgedAtMillis;
+
+    /**
+     * 다른 노드의 변경 (userId 가 null 이면 전체 사용자, delta 가 null 이면 변화량 모름)
+     */
+    public record Change(Long userId, Long delta) {
+    }
+
+    private record Row(long id, Change change) {
+    }
+
+    public UnreadCountChangeFeed(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 변경 기록 (커밋 후 호출)
+     */
+    public void publish(Long userId, Long delta) {
+        try {
+            jdbcTemplate.update(PUBLISH_SQL, nodeId, userId, delta);
+        } catch (Exception e) {
+            log.warn("[알림 배지] 변경 알림 기록 실패 (다른 노드는 캐시 ttl 후 반영): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 사용자의 같은 변화량 기록 (배치 INSERT, 커밋 후 호출)
+     */
+    public void publishAll(Iterable<Long> userIds, Long delta) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Long userId : userIds) {
+            rows.add(new Object[] {nodeId, userId, delta});
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(PUBLISH_SQL, rows);
+        } catch (Exception e) {
+            log.warn("[알림 배지] 변경 알림 기록 실패 (다른 노드는 캐시 ttl 후 반영): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막 확인 이후 다른 노드의 변경 반영
+     * - 처음 확인, 오랜만의 확인, 변경 과다일 때는 개별 반영 대신 resetAll 실행
+     */
+    public synchronized void poll(Consumer<Change> apply, Runnable resetAll) {
+        long now = System.currentTimeMillis();
+        if (lastSeen < 0 || now - lastPolledAtMillis > MAX_POLL_GAP_MILLIS) {
+            resetFromLatest(resetAll, now);
+            return;
+        }
+        List<Row> rows = jdbcTemplate.query(POLL_SQL, (rs, rowNum) -> new Row(rs.getLong("id"),
+                new Change(rs.getObject("user_id", Long.class), rs.getObject("delta", Long.class))),
+                lastSeen, nodeId, MAX_ROWS_PER_POLL + 1);
+        if (rows.size() > MAX_ROWS_PER_POLL) {
+            resetFromLatest(resetAll, now);
+            return;
+        }
+        for (Row row : rows) {
+            apply.accept(row.change());
+            lastSeen = row.id();
+        }
+        lastPolledAtMillis = now;
+        purgeIfDue(now);
+    }
+
+    private void resetFromLatest(Runnable resetAll, long now) {
+        // 버리기 전에 읽은 id 까지를 반영 완료로 기록 → 그 뒤 변경은 다음 확인 때 개별 반영
+        Long latest = jdbcTemplate.queryForObject(LATEST_SQL, Long.class);
+        resetAll.run();
+        lastSeen = latest != null ? latest : 0;
+        lastPolledAtMillis = now;
+        purgeIfDue(now);
+    }
+
+    private void purgeIfDue(long now) {
+        if (now - lastPurgedAtMillis < PURGE_INTERVAL_MILLIS) {
+            return;
+        }
+        lastPurgedAtMillis = now;
+        try {
+            jdbcTemplate.update(PURGE_SQL);
+        } catch (Exception e) {
+            log.warn("[알림 배지] 변경 알림 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.service.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 리더보드 변경 알림 (leaderboard_change 테이블)
+ * - 점수 변경이 커밋되면 바뀐 사용자 ID 한 행, 전체 재계산이 커밋되면 user_id NULL 한 행을 남김
+ * - 주기 확인 시 마지막으로 본 id 이후 행의 사용자만 DB 에서 다시 읽어 반영 (전체 재구성은 NULL 행/변경 과다/오래 못 본 경우만)
+ * - 이 노드의 변경도 다시 읽지만, DB 값 그대로라 결과는 같고 롤백된 인메모리 반영이 있었다면 바로잡힘
+ * - 커밋 순서와 id 순서가 어긋난 행을 놓치지 않도록, 최근 몇 초 안의 행은 다음 확인 때 한 번 더 읽음 (다시 읽어도 결과 동일)
+ */
+@Component
+@Slf4j
+public class LeaderboardChangeFeed {
+
+    private static final String PUBLISH_SQL = "INSERT INTO leaderboard_change (user_id) VALUES (?)";
+
+    private static final String SETTLED_SQL =
+            "SELECT COALESCE(MAX(id), 0) FROM leaderboard_change WHERE created_at < NOW() - INTERVAL '10 seconds'";
+
+    private static final String POLL_SQL = """
+            SELECT id, user_id, created_at < NOW() - INTERVAL '10 seconds' AS settled
+              FROM leaderboard_change
+             WHERE id > ?
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String PURGE_SQL =
+            "DELETE FROM leaderboard_change WHERE created_at < NOW() - INTERVAL '1 day'";
+
+    // 한 번에 개별 반영할 최대 행 수 (넘으면 전체 재구성이 더 쌈)
+    static final int MAX_ROWS_PER_POLL = 5_000;
+    // 이보다 오래 확인하지 못했으면 그 사이 행이 정리되었을 수 있으므로 전체 재구성 (보존 기간 1일의 절반)
+    private static final long MAX_POLL_GAP_MILLIS = 12 * 60 * 60 * 1000L;
+    private static final long PURGE_INTERVAL_MILLIS = 60 * 60 * 1000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    // 이 id 까지는 반영 완료 (-1 이면 아직 구성 전)
+    private long lastSeen = -1;
+    private long lastPolledAtMillis;
+    private long lastPurgedAtMillis;
+
+    private record Change(long id, Long userId, boolean settled) {
+    }
+
+    public LeaderboardChangeFeed(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 사용자 점수 변경 알림 (트랜잭션 안이면 커밋 후)
+     */
+    public void changed(Long userId) {
+        TransactionCallbacks.afterCommit(() -> publish(userId));
+    }
+
+    /**
+     * 전체 순위 재계산 알림 (다른 노드는 인덱스 전체 재구성)
+     */
+    public void changedAll() {
+        TransactionCallbacks.afterCommit(() -> publish(null));
+    }
+
+    /**
+     * 마지막 확인 이후 변경 반영
+     * - 바뀐 사용자만 reload 로 넘기고, 전체 재계산 행이 있거나 처음/오랜만의 확인이면 rebuild 실행
+     * @return 반영한 변경이 있었는지 여부
+     */
+    public synchronized boolean refresh(Consumer<Set<Long>> reload, Runnable rebuild) {
+        long now = System.currentTimeMillis();
+        if (lastSeen < 0 || now - lastPolledAtMillis > MAX_POLL_GAP_MILLIS) {
+            return rebuildAll(rebuild, now);
+        }
+        List<Change> changes;
+        try {
+            changes = jdbcTemplate.query(POLL_SQL, (rs, rowNum) -> new Change(
+                    rs.getLong("id"), rs.getObject("user_id", Long.class), rs.getBoolean("settled")),
+                    lastSeen, MAX_ROWS_PER_POLL + 1);
+        } catch (Exception e) {
+            log.warn("[리더보드] 변경 목록 조회 실패 (다음 확인 때 재시도): {}", e.getMessage());
+            return false;
+        }
+        if (changes.size() > MAX_ROWS_PER_POLL) {
+            return rebuildAll(rebuild, now);
+        }
+        Set<Long> userIds = new HashSet<>();
+        long settledUpTo = lastSeen;
+        boolean settledPrefix = true;
+        for (Change change : changes) {
+            if (change.userId() == null) {
+                return rebuildAll(rebuild, now);
+            }
+            userIds.add(change.userId());
+            // 앞에서부터 이어지는 오래된 행까지만 확인 완료로 기록 (최근 행은 다음에 한 번 더 읽음)
+            if (settledPrefix && change.settled()) {
+                settledUpTo = change.id();
+            } else {
+                settledPrefix = false;
+            }
+        }
+        if (!userIds.isEmpty()) {
+            reload.accept(userIds);
+        }
+        lastSeen = settledUpTo;
+        lastPolledAtMillis = now;
+        purgeIfDue(now);
+        return !userIds.isEmpty();
+    }
+
+    private boolean rebuildAll(Runnable rebuild, long now) {
+        // 재구성 전에 읽은 id 까지를 반영 완료로 기록 → 재구성 도중/직후 커밋된 변경은 다음 확인 때 잡힘
+        Long settled;
+        try {
+            settled = jdbcTemplate.queryForObject(SETTLED_SQL, Long.class);
+        } catch (Exception e) {
+            // 테이블을 읽을 수 없으면 (마이그레이션 전 등) 재구성만 하고 다음 확인 때 다시 전체 재구성
+            log.warn("[리더보드] 변경 알림 조회 실패, 인덱스 재구성: {}", e.getMessage());
+            rebuild.run();
+            return true;
+        }
+        rebuild.run();
+        lastSeen = settled != null ? settled : 0;
+        lastPolledAtMillis = now;
+        purgeIfDue(now);
+        return true;
+    }
+
+    private void purgeIfDue(long now) {
+        if (now - lastPurgedAtMillis < PURGE_INTERVAL_MILLIS) {
+            return;
+        }
+        lastPurgedAtMillis = now;
+        try {
+            int purged = jdbcTemplate.update(PURGE_SQL);
+            if (purged > 0) {
+                log.debug("[리더보드] 오래된 변경 알림 {}건 정리", purged);
+            }
+        } catch (Exception e) {
+            log.warn("[리더보드] 변경 알림 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void publish(Long userId) {
+        try {
+            jdbcTemplate.update(PUBLISH_SQL, userId);
+        } catch (Exception e) {
+            log.warn("[리더보드] 변경 알림 실패 (다른 노드는 다음 변경 때 반영): {}", e.getMessage());
+        }
+    }
+}
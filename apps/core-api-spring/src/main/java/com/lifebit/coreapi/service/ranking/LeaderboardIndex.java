@@ -0,0 +1,486 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.entity.UserRanking;
+import com.lifebit.coreapi.entity.enums.RankingTier;
+import com.lifebit.coreapi.repository.ranking.UserRankingRepository;
+import com.lifebit.coreapi.service.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 활성 user_ranking 레코드의 인메모리 리더보드 인덱스
+ * - 시즌별로 점수별 인원수를 Fenwick 트리로 관리하여 "X의 순위"를 O(log n)에 계산
+ * - 시즌별 (점수 DESC, userId ASC) 정렬 집합으로 상위 N명을 O(log n + N)에 조회
+ * - 애플리케이션 기동 시 활성 레코드로 채우고, 점수 변경 시 RankingService가 갱신
+ * - 순위 규칙은 야간 배치/시즌 리더보드와 같은 시즌 내 RANK() (동점자는 같은 순위, 같은 시즌에서 점수가 더 높은 인원 + 1)
+ * - 커밋된 변경은 LeaderboardChangeFeed 로 알려 다른 노드가 바뀐 사용자만 다시 읽도록 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardIndex {
+
+    private static final int INITIAL_SCORE_CAPACITY = 1 << 14;
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingInt(Entry::totalScore).reversed()
+            .thenComparing(Entry::userId);
+
+    private final UserRankingRepository userRankingRepository;
+    private final LeaderboardChangeFeed changeFeed;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entriesByUser = new HashMap<>();
+    // 시즌 → 그 시즌 항목의 정렬 집합 + 점수별 인원수 (항목이 없는 시즌은 제거)
+    private final NavigableMap<Integer, Board> boards = new TreeMap<>();
+    // 인덱스가 바뀔 때마다 증가 (스냅샷 캐시의 무효화 기준)
+    private final AtomicLong version = new AtomicLong();
+    // 시즌별 마지막 변경 시점의 version (해당 시즌 스냅샷만 무효화하기 위함, lock 으로 보호)
+    private final Map<Integer, Long> seasonVersions = new HashMap<>();
+    private long rebuiltAtVersion;
+    // 재구성 중(DB 조회 ~ 교체)에 들어온 변경 (userId → 반영할 항목, null 이면 삭제). 재구성 중이 아니면 null
+    private Map<Long, Entry> rebuildJournal;
+
+    /**
+     * 리더보드 항목 (순위 계산에 필요한 값만 보관)
+     */
+    public record Entry(Long userId, int totalScore, int streakDays, RankingTier tier, int season) {
+        public static Entry of(UserRanking ranking) {
+            return new Entry(ranking.getUserId(), ranking.getTotalScore(), ranking.getStreakDays(),
+                    ranking.getTier(), ranking.getSeason());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        try {
+            refreshIfChanged();
+        } catch (Exception e) {
+            log.error("[리더보드] 초기 인덱스 구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 활성 랭킹 레코드 전체로 인덱스를 다시 구성 (기동 시, 전체 재계산 후)
+     * DB 조회는 잠금 밖에서 하므로, 조회 시작 이후 들어온 변경은 기록해 두었다가 교체 직후 다시 적용한다.
+     */
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildJournal = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<UserRanking> activeRankings;
+        try {
+            activeRankings = userRankingRepository.findAllActive();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuildJournal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            entriesByUser.clear();
+            boards.clear();
+            for (UserRanking ranking : activeRankings) {
+                putLocked(Entry.of(ranking));
+            }
+            replayed = rebuildJournal.size();
+            for (Map.Entry<Long, Entry> change : rebuildJournal.entrySet()) {
+                if (change.getValue() != null) {
+                    putLocked(change.getValue());
+                } else {
+                    removeLocked(change.getKey());
+                }
+            }
+            rebuildJournal = null;
+            rebuiltAtVersion = version.incrementAndGet();
+            seasonVersions.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[리더보드] 인덱스 구성 완료 - 활성 사용자 {}명 (재구성 중 변경 {}건 재적용)", size(), replayed);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 인덱스 재구성 (전체 순위 재계산 작업용, 다른 노드에도 변경 알림)
+     */
+    public void rebuildAfterCommit() {
+        TransactionCallbacks.afterCommit(this::rebuild);
+        changeFeed.changedAll();
+    }
+
+    /**
+     * 다른 노드에서 커밋된 변경 반영 (주기 확인용, 바뀐 사용자만 다시 읽고 전체 재계산이 있었을 때만 재구성)
+     */
+    public boolean refreshIfChanged() {
+        return changeFeed.refresh(this::reload, this::rebuild);
+    }
+
+    /**
+     * 주어진 사용자들의 활성 랭킹을 DB 에서 다시 읽어 반영 (활성 랭킹이 없으면 제거, 변경 알림은 다시 내지 않음)
+     */
+    void reload(Set<Long> userIds) {
+        Map<Long, Entry> loaded = new HashMap<>();
+        for (UserRanking ranking : userRankingRepository.findActiveByUserIdIn(userIds)) {
+            loaded.put(ranking.getUserId(), Entry.of(ranking));
+        }
+        lock.writeLock().lock();
+        try {
+            for (Long userId : userIds) {
+                Entry entry = loaded.get(userId);
+                journalLocked(userId, entry);
+                if (entry != null) {
+                    Entry previous = putLocked(entry);
+                    if (!entry.equals(previous)) {
+                        bumpLocked(entry, previous);
+                    }
+                } else {
+                    Entry removed = removeLocked(userId);
+                    if (removed != null) {
+                        bumpLocked(removed, null);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 점수 반영. 트랜잭션 안에서 호출되면 롤백 시 이전 상태로 되돌린다.
+     * (롤백 전에 다른 변경이 같은 사용자에 반영되었으면 그 변경을 유지)
+     */
+    public void upsert(UserRanking ranking) {
+        upsert(Entry.of(ranking));
+    }
+
+    public void upsert(Entry entry) {
+        Entry previous = put(entry);
+        changeFeed.changed(entry.userId());
+        TransactionCallbacks.afterRollback(() -> revert(entry.userId(), entry, previous));
+    }
+
+    public void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            journalLocked(userId, null);
+            Entry removed = removeLocked(userId);
+            if (removed != null) {
+                bumpLocked(removed, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        changeFeed.changed(userId);
+    }
+
+    /**
+     * 롤백된 반영 되돌리기 (현재 항목이 그 반영 그대로일 때만)
+     */
+    private void revert(Long userId, Entry applied, Entry previous) {
+        lock.writeLock().lock();
+        try {
+            if (entriesByUser.get(userId) != applied) {
+                return;
+            }
+            journalLocked(userId, previous);
+            if (previous != null) {
+                putLocked(previous);
+            } else {
+                removeLocked(userId);
+            }
+            bumpLocked(applied, previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 연속 운동 일수만 변경 (점수/순위는 그대로, 인덱스에 없는 사용자는 무시)
+     */
+    public void updateStreakDays(Long userId, int streakDays) {
+        Entry current = get(userId);
+        if (current != null && current.streakDays() != streakDays) {
+            upsert(new Entry(userId, current.totalScore(), streakDays, current.tier(), current.season()));
+        }
+    }
+
+    /**
+     * 사용자의 시즌 내 순위 (동점자는 같은 순위, 인덱스에 없으면 0)
+     */
+    public int rankOf(Long userId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entriesByUser.get(userId);
+            if (entry == null) {
+                return 0;
+            }
+            return rankOfScoreLocked(entry.season(), entry.totalScore());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 시즌에서 주어진 점수를 가진 사용자가 받게 될 순위 (같은 시즌에서 점수가 더 높은 인원 + 1)
+     */
+    public int rankOfScore(int season, int totalScore) {
+        lock.readLock().lock();
+        try {
+            return rankOfScoreLocked(season, totalScore);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 시즌 상위 limit명 (점수 내림차순)
+     */
+    public List<Entry> top(int season, int limit) {
+        lock.readLock().lock();
+        try {
+            Board board = boards.get(season);
+            if (board == null) {
+                return Collections.emptyList();
+            }
+            List<Entry> result = new ArrayList<>(Math.min(limit, board.ordered.size()));
+            Iterator<Entry> it = board.ordered.iterator();
+            while (it.hasNext() && result.size() < limit) {
+                result.add(it.next());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 항목이 있는 가장 최근 시즌 (홈/상위 랭킹 기준, 비어 있으면 0)
+     */
+    public int latestSeason() {
+        lock.readLock().lock();
+        try {
+            return boards.isEmpty() ? 0 : boards.lastKey();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Entry get(Long userId) {
+        lock.readLock().lock();
+        try {
+            return entriesByUser.get(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스 변경 버전 (점수 반영/삭제/재구성 시 증가)
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 시즌의 변경 버전 (그 시즌 항목이 바뀌거나 인덱스가 재구성될 때만 증가)
+     */
+    public long seasonVersion(int season) {
+        lock.readLock().lock();
+        try {
+            return Math.max(rebuiltAtVersion, seasonVersions.getOrDefault(season, 0L));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entriesByUser.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 시즌의 활성 사용자 수
+     */
+    public int size(int season) {
+        lock.readLock().lock();
+        try {
+            Board board = boards.get(season);
+            return board != null ? board.ordered.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Entry put(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            journalLocked(entry.userId(), entry);
+            Entry previous = putLocked(entry);
+            bumpLocked(entry, previous);
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Entry putLocked(Entry entry) {
+        Entry previous = entriesByUser.put(entry.userId(), entry);
+        if (previous != null) {
+            detachLocked(previous);
+        }
+        boards.computeIfAbsent(entry.season(), season -> new Board()).add(entry);
+        return previous;
+    }
+
+    private Entry removeLocked(Long userId) {
+        Entry removed = entriesByUser.remove(userId);
+        if (removed == null) {
+            return null;
+        }
+        detachLocked(removed);
+        return removed;
+    }
+
+    private void detachLocked(Entry entry) {
+        Board board = boards.get(entry.season());
+        board.remove(entry);
+        if (board.ordered.isEmpty()) {
+            boards.remove(entry.season());
+        }
+    }
+
+    // 전체 버전 증가 + 바뀐 항목의 시즌 버전 기록
+    private void bumpLocked(Entry changed, Entry previous) {
+        long next = version.incrementAndGet();
+        seasonVersions.put(changed.season(), next);
+        if (previous != null && previous.season() != changed.season()) {
+            seasonVersions.put(previous.season(), next);
+        }
+    }
+
+    private void journalLocked(Long userId, Entry entry) {
+        if (rebuildJournal != null) {
+            rebuildJournal.put(userId, entry);
+        }
+    }
+
+    private int rankOfScoreLocked(int season, int totalScore) {
+        Board board = boards.get(season);
+        if (board == null) {
+            return 1;
+        }
+        return board.rankOfScore(totalScore);
+    }
+
+    private static int capacityFor(int maxScore) {
+        int capacity = INITIAL_SCORE_CAPACITY;
+        while (capacity <= maxScore) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    // 음수 점수는 0점으로 취급
+    private static int clamp(int score) {
+        return Math.max(score, 0);
+    }
+
+    /**
+     * 한 시즌의 항목 정렬 집합과 점수별 인원수
+     */
+    private static final class Board {
+        private final NavigableSet<Entry> ordered = new TreeSet<>(ORDER);
+        private ScoreFenwickTree scoreCounts = new ScoreFenwickTree(INITIAL_SCORE_CAPACITY);
+
+        void add(Entry entry) {
+            int score = clamp(entry.totalScore());
+            if (score >= scoreCounts.capacity()) {
+                grow(score);
+            }
+            ordered.add(entry);
+            scoreCounts.add(score, 1);
+        }
+
+        void remove(Entry entry) {
+            ordered.remove(entry);
+            scoreCounts.add(clamp(entry.totalScore()), -1);
+        }
+
+        int rankOfScore(int totalScore) {
+            int score = clamp(totalScore);
+            if (score >= scoreCounts.capacity()) {
+                return 1;
+            }
+            return (int) (ordered.size() - scoreCounts.prefixSum(score)) + 1;
+        }
+
+        // 점수 상한을 넘는 점수가 들어오면 트리를 키워서 다시 채운다 (드묾)
+        private void grow(int score) {
+            ScoreFenwickTree grown = new ScoreFenwickTree(capacityFor(score));
+            for (Entry existing : ordered) {
+                grown.add(clamp(existing.totalScore()), 1);
+            }
+            scoreCounts = grown;
+        }
+    }
+
+    /**
+     * 점수(0 ~ capacity-1)별 인원수 누적합을 관리하는 Fenwick 트리
+     */
+    private static final class ScoreFenwickTree {
+        private final long[] tree;
+
+        ScoreFenwickTree(int capacity) {
+            this.tree = new long[capacity + 1];
+        }
+
+        int capacity() {
+            return tree.length - 1;
+        }
+
+        void add(int score, long delta) {
+            for (int i = score + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        // 점수가 score 이하인 인원수
+        long prefixSum(int score) {
+            long sum = 0;
+            for (int i = Math.min(score + 1, tree.length - 1); i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.lifebit.coreapi.dto.ranking.RankingUserDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 리더보드 스냅샷 캐시
+ * - (시즌, 기간 타입)별 상위 N명 목록을 JSON으로 미리 직렬화한 불변 스냅샷으로 보관
+ * - 스냅샷이 의존하는 버전이 바뀌었거나 최대 보관 시간이 지나면 기존 스냅샷을 그대로 응답하면서 비동기로 재생성
+ *   (홈/상위 랭커: 인덱스 전체 버전, 시즌: 그 시즌의 버전, 기간: ranking_history 기반이라 보관 시간과 명시적 폐기만)
+ * - 버전 변경으로 인한 재생성은 키마다 최소 간격을 두어 점수 변경이 잦아도 재생성 빈도가 제한됨
+ * - 스냅샷마다 직렬화된 JSON의 해시로 ETag를 부여 (노드/재기동과 무관하게 내용이 같으면 같은 ETag, 변경이 없으면 304)
+ * - 비동기 재생성은 배치 작업용 기본 스케줄러가 아닌 전용 스케줄러(leaderboardSnapshotScheduler)에서 실행
+ */
+@Component
+@Slf4j
+public class LeaderboardSnapshotCache {
+
+    // 요청 파라미터로 키가 늘어나는 것을 막기 위한 상한 (초과 시 캐시하지 않고 매번 생성)
+    private static final int MAX_KEYS = 64;
+
+    private final LeaderboardIndex leaderboardIndex;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<String> rebuilding = ConcurrentHashMap.newKeySet();
+
+    @Value("${ranking.snapshot.max-age-ms:60000}")
+    private long maxAgeMillis;
+
+    @Value("${ranking.snapshot.min-rebuild-interval-ms:1000}")
+    private long minRebuildIntervalMillis;
+
+    public LeaderboardSnapshotCache(LeaderboardIndex leaderboardIndex,
+                                    ObjectMapper objectMapper,
+                                    @Qualifier("leaderboardSnapshotScheduler") ThreadPoolTaskScheduler taskScheduler) {
+        this.leaderboardIndex = leaderboardIndex;
+        this.objectMapper = objectMapper;
+        this.taskScheduler = taskScheduler;
+    }
+
+    /**
+     * 불변 스냅샷 (직렬화된 JSON, 생성 시점의 인덱스 버전)
+     */
+    public record Snapshot(String key, long indexVersion, long builtAtMillis,
+                           List<RankingUserDto> rankers, String json) {
+        public String etag() {
+            return etagOf("lb-" + Integer.toHexString(key.hashCode()), json);
+        }
+    }
+
+    /**
+     * 응답 본문 내용 기반 ETag ("접두어-MD5", 같은 내용이면 어느 노드에서 만들어도 같은 값)
+     */
+    public static String etagOf(String prefix, String body) {
+        return "\"" + prefix + "-" + DigestUtils.md5DigestAsHex(body.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * 스냅샷 조회. 없으면 동기 생성, 오래되었으면 기존 스냅샷을 반환하고 비동기 재생성
+     */
+    public Snapshot get(String key, Supplier<List<RankingUserDto>> builder) {
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot == null) {
+            return build(key, builder);
+        }
+        if (isStale(snapshot)) {
+            rebuildAsync(key, builder);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 전체 스냅샷 폐기 (기간/시즌 히스토리가 일괄 변경된 경우)
+     */
+    public void invalidateAll() {
+        snapshots.clear();
+    }
+
+    /**
+     * 홈 화면 응답 JSON (직렬화된 상위 랭커 스냅샷 + 요청 시점의 내 랭킹)
+     */
+    public String homeJson(Snapshot top, Object myRanking) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.putRawValue("topRankers", new RawValue(top.json()));
+        body.set("myRanking", objectMapper.valueToTree(myRanking));
+        return toJson(body);
+    }
+
+    public String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("랭킹 응답 직렬화 실패", e);
+        }
+    }
+
+    private boolean isStale(Snapshot snapshot) {
+        long age = System.currentTimeMillis() - snapshot.builtAtMillis();
+        return age > maxAgeMillis
+                || (age >= minRebuildIntervalMillis && snapshot.indexVersion() != dependencyVersion(snapshot.key()));
+    }
+
+    /**
+     * 스냅샷이 의존하는 인덱스 버전 (키별)
+     */
+    private long dependencyVersion(String key) {
+        if (key.startsWith("season:")) {
+            try {
+                return leaderboardIndex.seasonVersion(Integer.parseInt(key.substring("season:".length())));
+            } catch (NumberFormatException e) {
+                return leaderboardIndex.version();
+            }
+        }
+        if (key.startsWith("period:")) {
+            // ranking_history 기반 (압축 작업이 invalidateAll 로 폐기)
+            return 0L;
+        }
+        return leaderboardIndex.version();
+    }
+
+    private void rebuildAsync(String key, Supplier<List<RankingUserDto>> builder) {
+        if (!rebuilding.add(key)) {
+            return;
+        }
+        try {
+            taskScheduler.execute(() -> {
+                try {
+                    build(key, builder);
+                } catch (Exception e) {
+                    log.warn("[리더보드] 스냅샷 재생성 실패 - key: {}, 오류: {}", key, e.getMessage());
+                } finally {
+                    rebuilding.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuilding.remove(key);
+            log.warn("[리더보드] 스냅샷 재생성 예약 실패 - key: {}, 오류: {}", key, e.getMessage());
+        }
+    }
+
+    private Snapshot build(String key, Supplier<List<RankingUserDto>> builder) {
+        // 목록을 만드는 동안 점수가 바뀌면 다음 요청에서 다시 재생성되도록 생성 전 버전을 기록
+        long indexVersion = dependencyVersion(key);
+        List<RankingUserDto> rankers = List.copyOf(builder.get());
+        Snapshot snapshot = new Snapshot(key, indexVersion, System.currentTimeMillis(), rankers, toJson(rankers));
+        if (snapshots.containsKey(key) || snapshots.size() < MAX_KEYS) {
+            snapshots.put(key, snapshot);
+        }
+        return snapshot;
+    }
+}
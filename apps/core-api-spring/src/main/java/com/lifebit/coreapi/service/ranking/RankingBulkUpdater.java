@@ -0,0 +1,65 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.entity.enums.RankingTier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 전체 랭킹 순위/티어를 단일 SQL로 재계산하는 벌크 엔진
+ * 엔티티를 JVM으로 읽어 정렬한 뒤 행마다 UPDATE 하던 방식을 대체한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RankingBulkUpdater {
+
+    private static final String RECALCULATE_SQL = """
+            UPDATE user_ranking ur
+               SET previous_rank = ur.rank_position,
+                   rank_position = ranked.new_rank,
+                   tier = %s,
+                   last_updated_at = NOW()
+              FROM (
+                    SELECT id,
+                           RANK() OVER (PARTITION BY season ORDER BY total_score DESC) AS new_rank
+                      FROM user_ranking
+                     WHERE is_active = TRUE
+                   ) ranked
+             WHERE ur.id = ranked.id
+            """.formatted(tierCaseExpression("ur.total_score"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 재계산 결과 (갱신된 행 수, 소요 시간)
+     */
+    public record Result(int rowsUpdated, long elapsedMillis) {}
+
+    /**
+     * 활성 랭킹 전체의 rank_position을 시즌별 RANK()로 다시 매기고
+     * 기존 순위는 previous_rank로, 티어는 RankingTier 기준으로 같은 UPDATE에서 갱신
+     */
+    @Transactional
+    public Result recalculateRankPositions() {
+        long start = System.currentTimeMillis();
+        int rows = jdbcTemplate.update(RECALCULATE_SQL);
+        Result result = new Result(rows, System.currentTimeMillis() - start);
+        log.info("[랭킹] 전체 순위 일괄 재계산 - 갱신 {}행, 소요 {}ms", result.rowsUpdated(), result.elapsedMillis());
+        return result;
+    }
+
+    // RankingTier.fromScore와 같은 기준의 CASE 식
+    static String tierCaseExpression(String scoreColumn) {
+        StringBuilder sql = new StringBuilder("CASE WHEN ").append(scoreColumn).append(" = 0 THEN '")
+                .append(RankingTier.UNRANK.name()).append("'");
+        RankingTier[] tiers = RankingTier.values();
+        for (int i = tiers.length - 1; i > RankingTier.BRONZE.ordinal(); i--) {
+            sql.append(" WHEN ").append(scoreColumn).append(" >= ").append(tiers[i].getMinScore())
+                    .append(" THEN '").append(tiers[i].name()).append("'");
+        }
+        return sql.append(" ELSE '").append(RankingTier.BRONZE.name()).append("' END").toString();
+    }
+}
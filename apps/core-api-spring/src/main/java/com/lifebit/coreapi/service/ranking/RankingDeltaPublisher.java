@@ -0,0 +1,150 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.dto.ranking.RankingDeltaDto;
+import com.lifebit.coreapi.entity.enums.RankingTier;
+import com.lifebit.coreapi.handler.HealthWebSocketHandler;
+import com.lifebit.coreapi.service.TransactionCallbacks;
+import com.lifebit.coreapi.service.notification.NotificationOutbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 랭킹 변화(순위/티어) 실시간 전파
+ * - 사용자별 변화를 짧은 구간 동안 병합하여 (첫 순위 → 마지막 순위) 한 건만 전송
+ * - 한 사용자의 순위 이동으로 밀려나거나 올라간 다른 사용자에게도 바뀐 순위를 전송
+ *   (마지막으로 전송한 순위와 현재 순위가 다른 랭킹 페이지 사용자)
+ * - 상위 목록 범위 안에서 순위가 바뀌면 랭킹 페이지 전체에 leaderboardChanged 신호 (목록 재조회)
+ * - WebSocket 세션이 열려 있고 랭킹 페이지를 보고 있는 사용자에게만 전송 (클라이언트 폴링 대체)
+ * - 티어 변경 알림은 알림 outbox 로 넘겨 일괄 저장
+ * - 트랜잭션 안에서 기록되면 커밋 이후에만 반영 (롤백된 변화는 전송하지 않음)
+ */
+@Component
+@Slf4j
+public class RankingDeltaPublisher {
+
+    private final HealthWebSocketHandler webSocketHandler;
+    private final LeaderboardIndex leaderboardIndex;
+    private final NotificationOutbox notificationOutbox;
+
+    private final Map<Long, Delta> pendingDeltas = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    // 랭킹 페이지 사용자에게 마지막으로 전송한 순위 (페이지를 떠나면 제거)
+    private final Map<Long, Integer> lastSentRanks = new ConcurrentHashMap<>();
+
+    @Value("${ranking.delta.page:ranking}")
+    private String rankingPage;
+
+    // 랭킹 페이지에 함께 표시되는 상위 목록 크기
+    @Value("${ranking.delta.top-size:10}")
+    private int topSize;
+
+    public RankingDeltaPublisher(HealthWebSocketHandler webSocketHandler,
+                                 LeaderboardIndex leaderboardIndex,
+                                 NotificationOutbox notificationOutbox) {
+        this.webSocketHandler = webSocketHandler;
+        this.leaderboardIndex = leaderboardIndex;
+        this.notificationOutbox = notificationOutbox;
+    }
+
+    /**
+     * 병합 중인 변화 (첫 이전 상태는 유지, 현재 상태는 마지막 값으로 교체)
+     */
+    private record Delta(int previousRank, RankingTier previousTier, int rank, int totalScore, RankingTier tier) {
+        Delta merge(Delta next) {
+            return new Delta(previousRank, previousTier, next.rank, next.totalScore, next.tier);
+        }
+    }
+
+    /**
+     * 사용자 순위/티어 변화 기록
+     */
+    public void rankChanged(Long userId, int previousRank, RankingTier previousTier,
+                            int rank, int totalScore, RankingTier tier) {
+        Delta delta = new Delta(previousRank, previousTier, rank, totalScore, tier);
+        TransactionCallbacks.afterCommit(() -> pendingDeltas.merge(userId, delta, Delta::merge));
+    }
+
+    /**
+     * 티어 변경 알림 저장 예약 (커밋 후 outbox 저장 주기에 배치 INSERT)
+     */
+    public void tierChanged(Long userId, String title, String message) {
+        notificationOutbox.enqueue(new NotificationOutbox.Message(userId, "TIER_CHANGE", null, title, message));
+    }
+
+    /**
+     * 전체 순위가 일괄 재계산됨 (야간 배치 등). 랭킹 페이지 사용자에게 인덱스 기준 현재 순위를 전송
+     */
+    public void rankingRefreshed() {
+        TransactionCallbacks.afterCommit(() -> refreshPending.set(true));
+    }
+
+    /**
+     * 병합 구간마다 랭킹 변화 전송
+     */
+    @Scheduled(fixedDelayString = "${ranking.delta.coalesce-window-ms:2000}")
+    public void flush() {
+        flushDeltas();
+    }
+
+    private void flushDeltas() {
+        Map<Long, Delta> drained = new HashMap<>();
+        for (Long userId : pendingDeltas.keySet()) {
+            Delta delta = pendingDeltas.remove(userId);
+            if (delta != null) {
+                drained.put(userId, delta);
+            }
+        }
+        boolean refreshed = refreshPending.getAndSet(false);
+        if (drained.isEmpty() && !refreshed) {
+            return;
+        }
+        // 상위 목록 안에서 순위가 움직였으면 목록 자체가 바뀜
+        boolean leaderboardChanged = refreshed || drained.values().stream()
+                .anyMatch(delta -> Math.min(delta.previousRank() > 0 ? delta.previousRank() : Integer.MAX_VALUE,
+                        delta.rank()) <= topSize);
+
+        List<String> onPage = webSocketHandler.getUserIdsOnPage(rankingPage);
+        lastSentRanks.keySet().retainAll(onPage.stream().map(Long::valueOf).collect(Collectors.toSet()));
+        int sent = 0;
+        for (String userId : onPage) {
+            Long id = Long.valueOf(userId);
+            Delta delta = drained.get(id);
+            if (delta == null) {
+                // 직접 바뀌지 않았어도 다른 사용자 이동으로 순위가 밀리거나 올라갔을 수 있음
+                LeaderboardIndex.Entry entry = leaderboardIndex.get(id);
+                if (entry == null) {
+                    continue;
+                }
+                int rank = leaderboardIndex.rankOf(id);
+                Integer lastSent = lastSentRanks.get(id);
+                if (!leaderboardChanged && lastSent != null && lastSent == rank) {
+                    continue;
+                }
+                delta = new Delta(lastSent != null ? lastSent : rank, entry.tier(), rank, entry.totalScore(), entry.tier());
+            }
+            webSocketHandler.sendRankingUpdate(userId, RankingDeltaDto.builder()
+                    .previousRank(delta.previousRank())
+                    .rank(delta.rank())
+                    .totalScore(delta.totalScore())
+                    .previousTier(delta.previousTier() != null ? delta.previousTier().name() : null)
+                    .tier(delta.tier() != null ? delta.tier().name() : null)
+                    .tierChanged(delta.previousTier() != delta.tier())
+                    .leaderboardChanged(leaderboardChanged)
+                    .build());
+            lastSentRanks.put(id, delta.rank());
+            sent++;
+        }
+        if (sent > 0) {
+            log.debug("[랭킹 알림] 랭킹 변화 {}건 전송 (직접 변화 {}명, 목록 변경: {})", sent, drained.size(), leaderboardChanged);
+        }
+    }
+}
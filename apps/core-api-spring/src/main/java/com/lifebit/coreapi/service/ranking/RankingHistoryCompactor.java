@@ -0,0 +1,82 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.service.scheduling.ScheduledJobRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 랭킹 점수 이벤트 로그 압축 작업
+ * - 아직 압축되지 않은 이벤트가 있는 사용자마다 ranking_history에 일간('daily') 스냅샷 1건 생성
+ * - 스냅샷 점수 = 현재 총점 - 기준 시각 이후 이벤트 증분 합계
+ * - 보존 기간이 지난 압축 완료 이벤트는 삭제하여 로그 크기를 일정하게 유지
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RankingHistoryCompactor {
+
+    static final String JOB_NAME = "ranking-event-compaction";
+
+    private static final String COMPACT_SQL = """
+            WITH compacted AS (
+                UPDATE ranking_score_event
+                   SET compacted = TRUE
+                 WHERE compacted = FALSE AND created_at < ?
+             RETURNING user_id
+            )
+            INSERT INTO ranking_history
+                   (user_ranking_id, user_id, total_score, streak_days, rank_position, season, period_type, tier, recorded_at)
+            SELECT ur.id, ur.user_id,
+                   ur.total_score - COALESCE((SELECT SUM(e.delta) FROM ranking_score_event e
+                                               WHERE e.user_id = ur.user_id AND e.created_at >= ?), 0),
+                   ur.streak_days, ur.rank_position, ur.season, 'daily', ur.tier, ?
+              FROM (SELECT DISTINCT user_id FROM compacted) c
+              JOIN user_ranking ur ON ur.user_id = c.user_id AND ur.is_active = TRUE
+            """;
+
+    private static final String PRUNE_SQL =
+            "DELETE FROM ranking_score_event WHERE compacted = TRUE AND created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final LeaderboardSnapshotCache leaderboardSnapshotCache;
+
+    @Value("${ranking.events.retention-days:30}")
+    private int retentionDays;
+
+    /**
+     * 압축 결과 (생성된 스냅샷 수, 삭제된 이벤트 수)
+     */
+    public record Result(int snapshots, int prunedEvents) {}
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void scheduledCompaction() {
+        scheduledJobRunner.run(JOB_NAME, Duration.ofHours(1), () -> compact().snapshots());
+    }
+
+    /**
+     * 현재 시각 이전 이벤트를 스냅샷으로 압축하고 오래된 이벤트 삭제
+     */
+    @Transactional
+    public Result compact() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now());
+        int snapshots = jdbcTemplate.update(COMPACT_SQL, cutoff, cutoff, cutoff);
+        int pruned = jdbcTemplate.update(PRUNE_SQL,
+                Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays)));
+        if (snapshots > 0) {
+            // 기간별 랭킹 목록이 ranking_history 기반이므로 스냅샷 폐기
+            leaderboardSnapshotCache.invalidateAll();
+        }
+        log.info("[랭킹] 점수 이벤트 압축 완료 - 스냅샷 {}건, 삭제된 이벤트 {}건", snapshots, pruned);
+        return new Result(snapshots, pruned);
+    }
+}
@@ -0,0 +1,145 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.constant.ranking.RankingConstants;
+import com.lifebit.coreapi.dto.ranking.LeaderboardPageDto;
+import com.lifebit.coreapi.dto.ranking.RankingUserDto;
+import com.lifebit.coreapi.dto.ranking.RankingWithUserDto;
+import com.lifebit.coreapi.entity.UserRanking;
+import com.lifebit.coreapi.exception.ranking.RankingCursorException;
+import com.lifebit.coreapi.exception.ranking.RankingNotFoundException;
+import com.lifebit.coreapi.repository.ranking.UserRankingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 시즌 리더보드 조회 (키셋 페이지네이션, 내 주변 순위)
+ * OFFSET 없이 (점수, 랭킹 ID) 커서로 인덱스를 이어서 읽으므로 깊은 페이지도 첫 페이지와 비용이 같다.
+ * 순위는 조회한 시즌 안에서 점수 기준으로 계산 (동점자는 같은 순위, RANK()와 동일).
+ * 페이지 첫 항목보다 점수가 높은 인원만 한 번 세고, 나머지는 페이지 안의 위치로 계산한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RankingLeaderboardService {
+
+    private static final int MAX_WINDOW = 50;
+
+    private final UserRankingRepository userRankingRepository;
+
+    /**
+     * 리더보드 한 페이지 (cursor가 없으면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public LeaderboardPageDto getLeaderboardPage(int season, String cursor, Integer size) {
+        int pageSize = clampPageSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<RankingWithUserDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = userRankingRepository.findSeasonRankingsWithUser(season, limit);
+        } else {
+            Cursor position = Cursor.parse(cursor);
+            rows = userRankingRepository.findSeasonRankingsAfter(season, position.score(), position.rankingId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<RankingWithUserDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+        RankingWithUserDto last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return LeaderboardPageDto.builder()
+                .items(toRankedDtos(season, page))
+                .nextCursor(hasNext ? new Cursor(last.getTotalScore(), last.getRankingId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 내 위로 above명, 아래로 below명을 포함한 순위 구간 (나 포함, 점수 내림차순)
+     */
+    @Transactional(readOnly = true)
+    public List<RankingUserDto> getAroundUser(Long userId, int above, int below) {
+        int aboveCount = Math.max(0, Math.min(above, MAX_WINDOW));
+        int belowCount = Math.max(0, Math.min(below, MAX_WINDOW));
+        UserRanking me = userRankingRepository.findActiveByUserId(userId)
+                .orElseThrow(() -> new RankingNotFoundException(userId));
+
+        List<RankingWithUserDto> window = new ArrayList<>(aboveCount + belowCount + 1);
+        if (aboveCount > 0) {
+            List<RankingWithUserDto> upper = new ArrayList<>(userRankingRepository.findSeasonRankingsBefore(
+                    me.getSeason(), me.getTotalScore(), me.getId(), PageRequest.of(0, aboveCount)));
+            Collections.reverse(upper);
+            window.addAll(upper);
+        }
+        // 나 자신 + 아래 구간은 내 직전 커서에서 한 번에 조회
+        window.addAll(userRankingRepository.findSeasonRankingsAfter(
+                me.getSeason(), me.getTotalScore(), me.getId() - 1, PageRequest.of(0, belowCount + 1)));
+        return toRankedDtos(me.getSeason(), window);
+    }
+
+    /**
+     * 점수 내림차순 목록에 시즌 내 순위를 붙임
+     */
+    private List<RankingUserDto> toRankedDtos(int season, List<RankingWithUserDto> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        long above = userRankingRepository.countSeasonRankingsAbove(season, rows.get(0).getTotalScore());
+        List<RankingUserDto> result = new ArrayList<>(rows.size());
+        int rank = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            RankingWithUserDto row = rows.get(i);
+            if (i == 0 || row.getTotalScore() != rows.get(i - 1).getTotalScore()) {
+                rank = (int) above + i + 1;
+            }
+            result.add(toDto(row, rank));
+        }
+        return result;
+    }
+
+    private RankingUserDto toDto(RankingWithUserDto row, int rank) {
+        return RankingUserDto.builder()
+                .rank(rank)
+                .userId(row.getUserId())
+                .nickname(row.getNickname())
+                .score(row.getTotalScore())
+                .badge("default")
+                .streakDays(row.getStreakDays())
+                .tier(row.getTier() != null ? row.getTier().name() : null)
+                .colorCode(row.getTier() != null ? row.getTier().getColorCode() : null)
+                .profileImageUrl(row.getProfileImageUrl())
+                .build();
+    }
+
+    private static int clampPageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return RankingConstants.DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, RankingConstants.MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 페이지 커서 ("점수_랭킹ID")
+     */
+    private record Cursor(int score, long rankingId) {
+        String encode() {
+            return score + "_" + rankingId;
+        }
+
+        static Cursor parse(String value) {
+            int separator = value.lastIndexOf('_');
+            if (separator <= 0) {
+                throw RankingCursorException.invalid(value);
+            }
+            try {
+                return new Cursor(Integer.parseInt(value.substring(0, separator)),
+                        Long.parseLong(value.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                throw RankingCursorException.invalid(value);
+            }
+        }
+    }
+}
@@ -1,19 +1,23 @@
 package com.lifebit.coreapi.service.ranking;
 
 import com.lifebit.coreapi.constant.ranking.RankingConstants;
+import com.lifebit.coreapi.dto.UserSummaryDto;
 import com.lifebit.coreapi.dto.ranking.RankingRewardDto;
+import com.lifebit.coreapi.dto.ranking.RankingWithUserDto;
 import com.lifebit.coreapi.entity.UserRanking;
 import com.lifebit.coreapi.entity.enums.PeriodType;
 import com.lifebit.coreapi.exception.ranking.RankingNotFoundException;
 import com.lifebit.coreapi.repository.ranking.UserRankingRepository;
 import com.lifebit.coreapi.repository.ranking.RankingHistoryRepository;
 import com.lifebit.coreapi.service.UserService;
+import com.lifebit.coreapi.service.UserSummaryLoader;
 import com.lifebit.coreapi.validator.ranking.RankingValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,19 +26,19 @@ public class RankingRewardService {
     private final UserRankingRepository userRankingRepository;
     private final RankingHistoryRepository rankingHistoryRepository;
     private final UserService userService;
+    private final UserSummaryLoader userSummaryLoader;
     private final RankingValidator rankingValidator;
 
     @Transactional(readOnly = true)
     public List<RankingRewardDto> getSeasonRewards(int season) {
-        java.util.List<UserRanking> seasonRankings = userRankingRepository.findAllBySeasonOrderByTotalScoreDesc(season, org.springframework.data.domain.PageRequest.of(0, 3)).getContent();
+        java.util.List<RankingWithUserDto> seasonRankings = userRankingRepository.findSeasonRankingsWithUser(season, org.springframework.data.domain.PageRequest.of(0, 3));
         int[] rewards = {10000, 5000, 2000};
         java.util.List<RankingRewardDto> result = new java.util.ArrayList<>();
         for (int i = 0; i < seasonRankings.size(); i++) {
-            UserRanking ranking = seasonRankings.get(i);
-            com.lifebit.coreapi.entity.User user = userService.getUserById(ranking.getUserId());
+            RankingWithUserDto ranking = seasonRankings.get(i);
             result.add(RankingRewardDto.builder()
                     .userId(ranking.getUserId())
-                    .nickname(user != null ? user.getNickname() : ("사용자" + ranking.getUserId()))
+                    .nickname(ranking.getNicknameOrDefault())
                     .rankPosition(i + 1)
                     .totalScore(ranking.getTotalScore())
                     .rewardType("season")
@@ -49,16 +53,18 @@ public class RankingRewardService {
         // 기간별 상위 3명 보상
         // (periodType은 weekly, monthly 등 문자열)
         // ranking_history에서 periodType별로 상위 3명 추출
-        java.util.List<com.lifebit.coreapi.entity.RankingHistory> histories = rankingHistoryRepository.findByPeriodTypeOrderByRecordedAtDesc(periodType, org.springframework.data.domain.PageRequest.of(0, 3)).getContent();
+        java.util.List<com.lifebit.coreapi.entity.RankingHistory> histories = rankingHistoryRepository.findWithRankingByPeriodType(periodType, org.springframework.data.domain.PageRequest.of(0, 3));
+        Map<Long, UserSummaryDto> users = userSummaryLoader.loadAll(
+                histories.stream().map(history -> history.getUserRanking().getUserId()).toList());
         int[] rewards = {3000, 2000, 1000};
         java.util.List<RankingRewardDto> result = new java.util.ArrayList<>();
         for (int i = 0; i < histories.size(); i++) {
             com.lifebit.coreapi.entity.RankingHistory history = histories.get(i);
             UserRanking ranking = history.getUserRanking();
-            com.lifebit.coreapi.entity.User user = userService.getUserById(ranking.getUserId());
+            UserSummaryDto user = users.get(ranking.getUserId());
             result.add(RankingRewardDto.builder()
                     .userId(ranking.getUserId())
-                    .nickname(user != null ? user.getNickname() : ("사용자" + ranking.getUserId()))
+                    .nickname(user.getNicknameOrDefault())
                     .rankPosition(history.getRankPosition())
                     .totalScore(history.getTotalScore())
                     .rewardType("period")
@@ -70,15 +76,14 @@ public class RankingRewardService {
 
     @Transactional(readOnly = true)
     public List<RankingRewardDto> getStreakRewards() {
-        java.util.List<UserRanking> streakRankings = userRankingRepository.findTopRankingsByStreakDays(org.springframework.data.domain.PageRequest.of(0, 3));
+        java.util.List<RankingWithUserDto> streakRankings = userRankingRepository.findStreakRankingsWithUser(org.springframework.data.domain.PageRequest.of(0, 3));
         int[] rewards = {2000, 1000, 500};
         java.util.List<RankingRewardDto> result = new java.util.ArrayList<>();
         for (int i = 0; i < streakRankings.size(); i++) {
-            UserRanking ranking = streakRankings.get(i);
-            com.lifebit.coreapi.entity.User user = userService.getUserById(ranking.getUserId());
+            RankingWithUserDto ranking = streakRankings.get(i);
             result.add(RankingRewardDto.builder()
                     .userId(ranking.getUserId())
-                    .nickname(user != null ? user.getNickname() : ("사용자" + ranking.getUserId()))
+                    .nickname(ranking.getNicknameOrDefault())
                     .rankPosition(i + 1)
                     .totalScore(ranking.getTotalScore())
                     .rewardType("streak")
@@ -0,0 +1,351 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.entity.UserGoal;
+import com.lifebit.coreapi.entity.enums.RankingTier;
+import com.lifebit.coreapi.service.UserGoalService;
+import com.lifebit.coreapi.service.notification.NotificationOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 야간 랭킹 점수 재계산 배치 파이프라인
+ * 1. 최근 7일 운동 시간/칼로리, 영양소 합계, 최신 목표를 사용자 전체에 대해 GROUP BY 쿼리 몇 번으로 집계
+ * 2. 사용자 ID 순 청크로 나눠 제한된 스레드 풀에서 병렬로 점수 계산
+ * 3. 청크마다 별도 트랜잭션으로 JDBC 배치 UPDATE + 체크포인트 기록 (중단 시 완료된 청크는 건너뜀)
+ * 4. 점수가 바뀐 사용자는 차이를 랭킹 점수 이벤트 로그에 보정 이벤트로 기록
+ * 5. 모든 청크가 끝나면 그날 체크포인트를 지워 같은 날 다시 실행해도 전체를 재계산
+ */
+@Component
+@Slf4j
+public class RankingScoreBatchJob {
+
+    static final String JOB_NAME = "ranking_score";
+
+    private static final String ACTIVE_RANKINGS_SQL = """
+            SELECT ur.id, ur.user_id, ur.total_score, ur.tier, ur.season, u.gender
+              FROM user_ranking ur
+              LEFT JOIN users u ON u.user_id = ur.user_id
+             WHERE ur.is_active = TRUE
+             ORDER BY ur.user_id
+            """;
+
+    private static final String EXERCISE_TOTALS_SQL = """
+            SELECT user_id,
+                   COALESCE(SUM(duration_minutes), 0) AS minutes,
+                   COALESCE(SUM(calories_burned), 0) AS calories
+              FROM exercise_sessions
+             WHERE exercise_date BETWEEN ? AND ?
+             GROUP BY user_id
+            """;
+
+    // NutritionAccumulator 와 같은 규칙: 섭취량이 없거나 0 이하인 기록과 음수 영양소 제외, 합계를 낸 뒤 한 번만 반올림
+    private static final String NUTRITION_TOTALS_SQL = """
+            SELECT ml.user_id,
+                   ROUND(COALESCE(SUM(GREATEST(fi.carbs, 0) * ml.quantity) FILTER (WHERE ml.quantity > 0), 0) / 100, 2) AS carbs,
+                   ROUND(COALESCE(SUM(GREATEST(fi.protein, 0) * ml.quantity) FILTER (WHERE ml.quantity > 0), 0) / 100, 2) AS protein,
+                   ROUND(COALESCE(SUM(GREATEST(fi.fat, 0) * ml.quantity) FILTER (WHERE ml.quantity > 0), 0) / 100, 2) AS fat,
+                   ROUND(COALESCE(SUM(GREATEST(fi.calories, 0) * ml.quantity) FILTER (WHERE ml.quantity > 0), 0) / 100, 2) AS calories
+              FROM meal_logs ml
+              LEFT JOIN food_items fi ON fi.food_item_id = ml.food_item_id
+             WHERE ml.log_date BETWEEN ? AND ?
+             GROUP BY ml.user_id
+            """;
+
+    private static final String LATEST_GOALS_SQL = """
+            SELECT DISTINCT ON (user_id)
+                   user_id, daily_carbs_target, daily_protein_target, daily_fat_target, daily_calory_target
+              FROM user_goals
+             ORDER BY user_id, created_at DESC
+            """;
+
+    private static final String UPDATE_SCORE_SQL =
+            "UPDATE user_ranking SET total_score = ?, tier = ?, last_updated_at = NOW() WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserGoalService userGoalService;
+    private final NotificationOutbox notificationOutbox;
+    private final RankingScoreEventLog rankingScoreEventLog;
+
+    private final Counter processedCounter;
+    private final Timer runTimer;
+    private final AtomicLong lastUsersPerSecond = new AtomicLong();
+
+    @Value("${ranking.batch.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${ranking.batch.parallelism:4}")
+    private int parallelism;
+
+    public RankingScoreBatchJob(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                UserGoalService userGoalService,
+                                NotificationOutbox notificationOutbox,
+                                RankingScoreEventLog rankingScoreEventLog,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userGoalService = userGoalService;
+        this.notificationOutbox = notificationOutbox;
+        this.rankingScoreEventLog = rankingScoreEventLog;
+        this.processedCounter = Counter.builder("ranking.batch.users.processed")
+                .description("야간 랭킹 배치에서 점수를 재계산한 사용자 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("ranking.batch.duration")
+                .description("야간 랭킹 배치 소요 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("ranking.batch.users.per.second", lastUsersPerSecond);
+    }
+
+    /**
+     * 실행 결과
+     */
+    public record Result(int usersProcessed, int usersResumed, int chunks, int tierChanges,
+                         long elapsedMillis, long usersPerSecond) {}
+
+    private record RankingRow(long id, long userId, int totalScore, RankingTier tier, int season, String gender) {}
+
+    private record ExerciseTotals(int minutes, int calories) {}
+
+    private record NutritionTotals(double carbs, double protein, double fat, double calories) {}
+
+    private record NutritionTargets(int carbs, int protein, int fat, int calories) {}
+
+    /**
+     * 전체 활성 사용자 점수 재계산. 같은 날 이전 실행이 중단됐다면 완료된 청크는 건너뛴다.
+     */
+    public Result run() {
+        long start = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+
+        jdbcTemplate.update("DELETE FROM ranking_batch_checkpoint WHERE job_name = ? AND run_date < ?",
+                JOB_NAME, today.minusDays(7));
+        List<long[]> completedRanges = jdbcTemplate.query(
+                "SELECT first_user_id, last_user_id FROM ranking_batch_checkpoint WHERE job_name = ? AND run_date = ?",
+                (rs, i) -> new long[]{rs.getLong(1), rs.getLong(2)}, JOB_NAME, today);
+
+        List<RankingRow> pending = new ArrayList<>();
+        int resumed = 0;
+        for (RankingRow row : jdbcTemplate.query(ACTIVE_RANKINGS_SQL, (rs, i) -> new RankingRow(
+                rs.getLong("id"), rs.getLong("user_id"), rs.getInt("total_score"), parseTier(rs.getString("tier")),
+                rs.getInt("season"), rs.getString("gender")))) {
+            if (isCompleted(row.userId(), completedRanges)) {
+                resumed++;
+            } else {
+                pending.add(row);
+            }
+        }
+
+        Map<Long, ExerciseTotals> exerciseTotals = loadExerciseTotals(today.minusDays(7), today);
+        Map<Long, NutritionTotals> nutritionTotals = loadNutritionTotals(today.minusDays(6), today);
+        Map<Long, NutritionTargets> goals = loadLatestGoals();
+        Map<String, NutritionTargets> defaultGoals = loadDefaultGoals();
+
+        List<List<RankingRow>> chunks = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i += chunkSize) {
+            chunks.add(pending.subList(i, Math.min(i + chunkSize, pending.size())));
+        }
+
+        AtomicInteger tierChanges = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism * 2), new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunks.size());
+            for (List<RankingRow> chunk : chunks) {
+                futures.add(executor.submit(() -> processChunk(chunk, today, exerciseTotals, nutritionTotals, goals, defaultGoals, tierChanges)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("랭킹 배치가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("랭킹 배치 청크 처리 실패 (완료된 청크는 다음 실행에서 건너뜀)", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        // 완료된 실행의 체크포인트는 지움 (중단된 실행만 이어서 하고, 같은 날 재실행은 전체 재계산)
+        jdbcTemplate.update("DELETE FROM ranking_batch_checkpoint WHERE job_name = ? AND run_date = ?", JOB_NAME, today);
+
+        long elapsed = System.currentTimeMillis() - start;
+        long usersPerSecond = elapsed > 0 ? pending.size() * 1000L / elapsed : pending.size();
+        lastUsersPerSecond.set(usersPerSecond);
+        runTimer.record(elapsed, TimeUnit.MILLISECONDS);
+
+        Result result = new Result(pending.size(), resumed, chunks.size(), tierChanges.get(), elapsed, usersPerSecond);
+        log.info("[랭킹 배치] 점수 재계산 완료 - 처리 {}명 (이전 실행분 {}명 건너뜀), 청크 {}개, 티어 변경 {}건, {}ms, {}명/초",
+                result.usersProcessed(), result.usersResumed(), result.chunks(), result.tierChanges(),
+                result.elapsedMillis(), result.usersPerSecond());
+        return result;
+    }
+
+    /**
+     * 랭킹 점수 산정 공식: 운동 시간(분) ×2 + 칼로리 소모 ×0.5 + 식단 달성률(%)
+     */
+    public static int totalScore(int exerciseMinutes, int caloriesBurned, int mealAchievementRate) {
+        return exerciseMinutes * 2 + (int) (caloriesBurned * 0.5) + mealAchievementRate;
+    }
+
+    private void processChunk(List<RankingRow> chunk, LocalDate runDate,
+                              Map<Long, ExerciseTotals> exerciseTotals,
+                              Map<Long, NutritionTotals> nutritionTotals,
+                              Map<Long, NutritionTargets> goals,
+                              Map<String, NutritionTargets> defaultGoals,
+                              AtomicInteger tierChanges) {
+        List<Object[]> updates = new ArrayList<>(chunk.size());
+        List<NotificationOutbox.Message> tierNotifications = new ArrayList<>();
+        List<Object[]> scoreEvents = new ArrayList<>();
+        for (RankingRow row : chunk) {
+            ExerciseTotals exercise = exerciseTotals.getOrDefault(row.userId(), new ExerciseTotals(0, 0));
+            int mealRate = mealAchievementRate(row, nutritionTotals.get(row.userId()), goals, defaultGoals);
+            int newScore = totalScore(exercise.minutes(), exercise.calories(), mealRate);
+            RankingTier newTier = RankingTier.fromScore(newScore);
+            updates.add(new Object[]{newScore, newTier.name(), row.id()});
+            if (newScore != row.totalScore()) {
+                scoreEvents.add(new Object[]{row.userId(), row.season(), newScore - row.totalScore(),
+                        RankingScoreEventLog.DAILY_RECALC});
+            }
+            if (row.tier() != newTier) {
+                String prevTier = row.tier() != null ? row.tier().name() : RankingTier.UNRANK.name();
+                tierNotifications.add(new NotificationOutbox.Message(row.userId(), "TIER_CHANGE", null, "등급 변화 알림",
+                        String.format("등급이 %s에서 %s로 변경되었습니다.", prevTier, newTier.name())));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(UPDATE_SCORE_SQL, updates);
+            // 이벤트 로그와 총점이 어긋나지 않도록 재계산 차이를 보정 이벤트로 기록
+            rankingScoreEventLog.recordOverwrites(scoreEvents);
+            // 등급 변화 알림은 청크 단위로 outbox 에 배치 INSERT (체크포인트와 함께 확정, 알림 저장은 outbox 저장 작업이 담당)
+            notificationOutbox.enqueueDurably(tierNotifications);
+            jdbcTemplate.update("INSERT INTO ranking_batch_checkpoint (job_name, run_date, first_user_id, last_user_id, user_count) VALUES (?, ?, ?, ?, ?)",
+                    JOB_NAME, runDate, chunk.get(0).userId(), chunk.get(chunk.size() - 1).userId(), chunk.size());
+        });
+
+        tierChanges.addAndGet(tierNotifications.size());
+        processedCounter.increment(chunk.size());
+        log.debug("[랭킹 배치] 청크 완료 - 사용자 {} ~ {} ({}명)",
+                chunk.get(0).userId(), chunk.get(chunk.size() - 1).userId(), chunk.size());
+    }
+
+    /**
+     * MealService.getWeeklyNutritionAchievementRate와 같은 공식 (7일 목표 대비 달성률 평균, 항목별 최대 100%)
+     */
+    private int mealAchievementRate(RankingRow row, NutritionTotals totals, Map<Long, NutritionTargets> goals,
+                                    Map<String, NutritionTargets> defaultGoals) {
+        if (totals == null) {
+            return 0;
+        }
+        try {
+            NutritionTargets targets = goals.get(row.userId());
+            if (targets == null) {
+                targets = defaultGoals.get(genderKey(row.gender()));
+            }
+            double carbsRate = Math.min(100, totals.carbs() / (targets.carbs() * 7.0) * 100);
+            double proteinRate = Math.min(100, totals.protein() / (targets.protein() * 7.0) * 100);
+            double fatRate = Math.min(100, totals.fat() / (targets.fat() * 7.0) * 100);
+            double caloriesRate = Math.min(100, totals.calories() / (targets.calories() * 7.0) * 100);
+            return (int) Math.round((carbsRate + proteinRate + fatRate + caloriesRate) / 4.0);
+        } catch (Exception e) {
+            // 단건 계산과 동일하게 예외 시 0점 처리
+            return 0;
+        }
+    }
+
+    private Map<Long, ExerciseTotals> loadExerciseTotals(LocalDate from, LocalDate to) {
+        Map<Long, ExerciseTotals> result = new HashMap<>();
+        jdbcTemplate.query(EXERCISE_TOTALS_SQL, rs -> {
+            result.put(rs.getLong("user_id"), new ExerciseTotals(rs.getInt("minutes"), rs.getInt("calories")));
+        }, from, to);
+        return result;
+    }
+
+    private Map<Long, NutritionTotals> loadNutritionTotals(LocalDate from, LocalDate to) {
+        Map<Long, NutritionTotals> result = new HashMap<>();
+        jdbcTemplate.query(NUTRITION_TOTALS_SQL, rs -> {
+            result.put(rs.getLong("user_id"), new NutritionTotals(
+                    rs.getDouble("carbs"), rs.getDouble("protein"), rs.getDouble("fat"), rs.getDouble("calories")));
+        }, from, to);
+        return result;
+    }
+
+    private Map<Long, NutritionTargets> loadLatestGoals() {
+        Map<Long, NutritionTargets> result = new HashMap<>();
+        jdbcTemplate.query(LATEST_GOALS_SQL, rs -> {
+            result.put(rs.getLong("user_id"), new NutritionTargets(
+                    orDefault((Integer) rs.getObject("daily_carbs_target"), 200),
+                    orDefault((Integer) rs.getObject("daily_protein_target"), 120),
+                    orDefault((Integer) rs.getObject("daily_fat_target"), 60),
+                    orDefault((Integer) rs.getObject("daily_calory_target"), 1500)));
+        });
+        return result;
+    }
+
+    /**
+     * 목표가 없는 사용자용 성별 디폴트 목표 (성별마다 한 번만 생성)
+     */
+    private Map<String, NutritionTargets> loadDefaultGoals() {
+        Map<String, NutritionTargets> result = new HashMap<>();
+        for (String gender : new String[]{"MALE", "FEMALE", ""}) {
+            UserGoal defaultGoal = userGoalService.getDefaultDietGoalForGender(gender);
+            result.put(gender, new NutritionTargets(
+                    orDefault(defaultGoal.getDailyCarbsTarget(), 200),
+                    orDefault(defaultGoal.getDailyProteinTarget(), 120),
+                    orDefault(defaultGoal.getDailyFatTarget(), 60),
+                    orDefault(defaultGoal.getDailyCaloriesTarget(), 1500)));
+        }
+        return result;
+    }
+
+    private static String genderKey(String gender) {
+        if ("MALE".equalsIgnoreCase(gender)) {
+            return "MALE";
+        }
+        return "FEMALE".equalsIgnoreCase(gender) ? "FEMALE" : "";
+    }
+
+    private static boolean isCompleted(long userId, List<long[]> completedRanges) {
+        for (long[] range : completedRanges) {
+            if (userId >= range[0] && userId <= range[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static RankingTier parseTier(String tier) {
+        if (tier == null) {
+            return RankingTier.UNRANK;
+        }
+        try {
+            return RankingTier.valueOf(tier);
+        } catch (IllegalArgumentException e) {
+            return RankingTier.UNRANK;
+        }
+    }
+
+    private static int orDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+}
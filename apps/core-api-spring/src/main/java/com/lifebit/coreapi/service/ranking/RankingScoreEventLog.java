@@ -0,0 +1,122 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.entity.enums.RankingTier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 랭킹 점수 이벤트 로그 + 사용자별 현재 점수 행 갱신
+ * 점수가 바뀔 때마다 user_ranking 행을 비활성화하고 새로 INSERT 하던 방식을 대체한다.
+ * - ranking_score_event: (사용자, 시즌, 증분, 점수 타입, 시각)만 담는 추가 전용 로그
+ * - user_ranking: 사용자당 활성 행 하나를 INSERT ... ON CONFLICT 로 갱신
+ * 히스토리 스냅샷은 RankingHistoryCompactor가 이벤트 로그로부터 만든다.
+ * 점수를 절댓값으로 덮어쓰는 경로(야간 재계산, 시즌 초기화, 점수 직접 설정)도 차이만큼 보정 이벤트를 남겨
+ * "현재 총점 = 과거 총점 + 이후 이벤트 증분 합계"가 항상 성립하도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RankingScoreEventLog {
+
+    private static final String INSERT_EVENT_SQL =
+            "INSERT INTO ranking_score_event (user_id, season, delta, score_type) VALUES (?, ?, ?, ?)";
+
+    // goal_based_score 파라미터가 NULL이면 기존 값 유지
+    // 시즌이 바뀐 경우 previous_rank는 0으로 초기화
+    private static final String UPSERT_CURRENT_SQL = """
+            INSERT INTO user_ranking AS ur
+                   (user_id, total_score, goal_based_score, streak_days, rank_position, previous_rank,
+                    season, is_active, tier, created_at, last_updated_at)
+            VALUES (?, ?, COALESCE(CAST(? AS INTEGER), 0), 0, 0, 0, ?, TRUE, ?, NOW(), NOW())
+            ON CONFLICT (user_id) WHERE is_active = TRUE
+            DO UPDATE SET total_score = ur.total_score + EXCLUDED.total_score,
+                          goal_based_score = COALESCE(CAST(? AS INTEGER), ur.goal_based_score),
+                          previous_rank = CASE WHEN ur.season = EXCLUDED.season THEN ur.rank_position ELSE 0 END,
+                          season = EXCLUDED.season,
+                          tier = %s,
+                          last_updated_at = NOW()
+            RETURNING id, total_score, streak_days, season
+            """.formatted(RankingBulkUpdater.tierCaseExpression("(ur.total_score + EXCLUDED.total_score)"));
+
+    private static final String SELECT_GOAL_SCORE_SQL =
+            "SELECT goal_based_score FROM user_ranking WHERE user_id = ? AND is_active = TRUE";
+
+    private static final String UPDATE_RANK_SQL =
+            "UPDATE user_ranking SET rank_position = ? WHERE id = ?";
+
+    /**
+     * 보정 이벤트 점수 타입 (절댓값 덮어쓰기)
+     */
+    public static final String DAILY_RECALC = "DAILY_RECALC";
+    public static final String SEASON_RESET = "SEASON_RESET";
+    public static final String SCORE_SET = "SCORE_SET";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 반영 결과 (갱신된 현재 행 + 반영 전 총점)
+     */
+    public record Applied(long rankingId, Long userId, int previousScore, int totalScore,
+                          int streakDays, int season) {
+        public RankingTier previousTier() {
+            return RankingTier.fromScore(previousScore);
+        }
+
+        public RankingTier tier() {
+            return RankingTier.fromScore(totalScore);
+        }
+
+        public LeaderboardIndex.Entry toEntry() {
+            return new LeaderboardIndex.Entry(userId, totalScore, streakDays, tier(), season);
+        }
+    }
+
+    /**
+     * 점수 증분 기록 + 현재 점수 행 갱신 (이벤트 INSERT 1회 + UPSERT 1회)
+     * @param goalBasedScore 목표 달성 점수 절댓값 (변경하지 않으면 null)
+     */
+    @Transactional
+    public Applied append(Long userId, int season, int delta, String scoreType, Integer goalBasedScore) {
+        jdbcTemplate.update(INSERT_EVENT_SQL, userId, season, delta, scoreType);
+        return jdbcTemplate.queryForObject(UPSERT_CURRENT_SQL,
+                (rs, rowNum) -> {
+                    int totalScore = rs.getInt("total_score");
+                    return new Applied(rs.getLong("id"), userId, totalScore - delta, totalScore,
+                            rs.getInt("streak_days"), rs.getInt("season"));
+                },
+                userId, delta, goalBasedScore, season, RankingTier.fromScore(delta).name(), goalBasedScore);
+    }
+
+    /**
+     * 점수를 절댓값으로 덮어쓴 만큼 보정 이벤트 기록 (user_ranking 은 호출자가 갱신, 변화가 없으면 기록하지 않음)
+     */
+    public void recordOverwrite(Long userId, int season, int previousScore, int newScore, String scoreType) {
+        if (previousScore != newScore) {
+            jdbcTemplate.update(INSERT_EVENT_SQL, userId, season, newScore - previousScore, scoreType);
+        }
+    }
+
+    /**
+     * 보정 이벤트 배치 기록 (배열: user_id, season, delta, score_type)
+     */
+    public void recordOverwrites(List<Object[]> events) {
+        if (!events.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, events);
+        }
+    }
+
+    /**
+     * 현재 목표 달성 점수 (활성 행이 없으면 0)
+     */
+    public int currentGoalBasedScore(Long userId) {
+        List<Integer> scores = jdbcTemplate.queryForList(SELECT_GOAL_SCORE_SQL, Integer.class, userId);
+        return scores.isEmpty() ? 0 : scores.get(0);
+    }
+
+    public void updateRankPosition(long rankingId, int rankPosition) {
+        jdbcTemplate.update(UPDATE_RANK_SQL, rankPosition, rankingId);
+    }
+}
@@ -14,13 +14,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class RankingScoreService {
     private final UserRankingRepository userRankingRepository;
     private final RankingValidator rankingValidator;
+    private final LeaderboardIndex leaderboardIndex;
+    private final RankingScoreEventLog rankingScoreEventLog;
 
     @Transactional
     public void updateScore(Long userId, int score) {
         UserRanking ranking = findAndValidateRanking(userId);
         rankingValidator.validatePoints(score);
+        rankingScoreEventLog.recordOverwrite(userId, ranking.getSeason(), ranking.getTotalScore(), score,
+                RankingScoreEventLog.SCORE_SET);
         ranking.setTotalScore(score);
         userRankingRepository.save(ranking);
+        leaderboardIndex.upsert(ranking);
     }
 
     @Transactional
@@ -29,6 +34,7 @@ public class RankingScoreService {
         rankingValidator.validateStreakDays(streakDays);
         ranking.setStreakDays(streakDays);
         userRankingRepository.save(ranking);
+        leaderboardIndex.upsert(ranking);
     }
 
     @Transactional(readOnly = true)
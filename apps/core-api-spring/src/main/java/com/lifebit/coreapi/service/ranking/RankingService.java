@@ -8,6 +8,8 @@ import com.lifebit.coreapi.dto.ranking.RankingHistoryDto;
 import com.lifebit.coreapi.dto.ranking.RankingStatsDto;
 import com.lifebit.coreapi.dto.ranking.RankingRewardDto;
 import com.lifebit.coreapi.dto.ranking.RankingNotificationDto;
+import com.lifebit.coreapi.dto.ranking.RankingWithUserDto;
+import com.lifebit.coreapi.dto.UserSummaryDto;
 import com.lifebit.coreapi.entity.User;
 import com.lifebit.coreapi.entity.UserRanking;
 import com.lifebit.coreapi.entity.RankingHistory;
@@ -25,6 +27,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,8 +40,9 @@ import com.lifebit.coreapi.service.MealService;
 import com.lifebit.coreapi.service.NotificationService;
 import com.lifebit.coreapi.entity.UserGoal;
 import com.lifebit.coreapi.service.UserGoalService;
-import com.lifebit.coreapi.entity.MealLog;
-import com.lifebit.coreapi.entity.FoodItem;
+import com.lifebit.coreapi.service.UserSummaryLoader;
+import com.lifebit.coreapi.service.scheduling.ScheduledJobRunner;
+import com.lifebit.coreapi.service.statistics.NutritionAccumulator;
 import com.lifebit.coreapi.repository.MealLogRepository;
 
 import java.time.LocalDate;
@@ -50,6 +54,8 @@ import java.util.HashMap;
 @Slf4j
 public class RankingService {
 
+    private static final String NIGHTLY_RANKING_JOB = "ranking-nightly-update";
+
     private final UserRankingRepository userRankingRepository;
     private final UserRepository userRepository;
     private final RankingHistoryRepository rankingHistoryRepository;
@@ -61,57 +67,77 @@ public class RankingService {
     private final NotificationService notificationService;
     private final UserGoalService userGoalService;
     private final MealLogRepository mealLogRepository;
+    private final LeaderboardIndex leaderboardIndex;
+    private final RankingBulkUpdater rankingBulkUpdater;
+    private final RankingScoreBatchJob rankingScoreBatchJob;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final RankingScoreEventLog rankingScoreEventLog;
+    private final UserSummaryLoader userSummaryLoader;
+    private final RankingLeaderboardService rankingLeaderboardService;
+    private final RankingDeltaPublisher rankingDeltaPublisher;
 
     @Transactional(readOnly = true)
     public RankingResponseDto getRankingData() {
-        User currentUser = getCurrentUser();
-        Long currentUserId = currentUser.getUserId();
+        return RankingResponseDto.builder()
+                .topRankers(getHomeTopRankers())
+                .myRanking(getMyRankingSummary())
+                .build();
+    }
 
-        // 1. 상위 10명 랭커 조회 (total_score 기준으로 변경)
-        List<UserRanking> topRankings = userRankingRepository.findTopRankings(PageRequest.of(0, 10)).getContent();
+    /**
+     * 홈 화면 상위 10명 랭커 (리더보드 인덱스의 최근 시즌, 사용자와 무관하여 스냅샷 캐시 대상)
+     */
+    @Transactional(readOnly = true)
+    public List<RankingUserDto> getHomeTopRankers() {
+        int season = leaderboardIndex.latestSeason();
+        List<LeaderboardIndex.Entry> topEntries = leaderboardIndex.top(season, 10);
+        Map<Long, UserSummaryDto> users = userSummaryLoader.loadAll(
+                topEntries.stream().map(LeaderboardIndex.Entry::userId).toList());
         List<RankingUserDto> topRankers = new java.util.ArrayList<>();
-        int rank = 1;
-        for (UserRanking ranking : topRankings) {
-            User user = userRepository.findById(ranking.getUserId()).orElse(new User());
+        for (LeaderboardIndex.Entry entry : topEntries) {
+            UserSummaryDto user = users.get(entry.userId());
             topRankers.add(RankingUserDto.builder()
-                    .rank(rank++)
-                    .userId(ranking.getUserId())
+                    // 시즌 리더보드/내 주변 순위와 같은 규칙 (시즌 내 RANK(), 동점자는 같은 순위)
+                    .rank(leaderboardIndex.rankOfScore(season, entry.totalScore()))
+                    .userId(entry.userId())
                     .nickname(user.getNickname())
-                    .score(ranking.getTotalScore())
+                    .score(entry.totalScore())
                     .badge("default")
-                    .streakDays(ranking.getStreakDays())
-                    .tier(ranking.getTier() != null ? ranking.getTier().name() : null)
-                    .colorCode(ranking.getTier() != null ? ranking.getTier().getColorCode() : null)
+                    .streakDays(entry.streakDays())
+                    .tier(entry.tier() != null ? entry.tier().name() : null)
+                    .colorCode(entry.tier() != null ? entry.tier().getColorCode() : null)
                     .profileImageUrl(user.getProfileImageUrl())
                     .build());
         }
+        return topRankers;
+    }
 
-        // 2. 나의 랭킹 정보 조회 (활성 레코드만)
+    /**
+     * 현재 사용자의 랭킹 요약 (요청마다 계산하여 캐시된 상위 랭커 목록과 합침)
+     */
+    @Transactional
+    public MyRankingDto getMyRankingSummary() {
+        Long currentUserId = getCurrentUser().getUserId();
         UserRanking myRankingEntity = userRankingRepository.findActiveByUserId(currentUserId)
                 .orElseGet(() -> createDefaultRanking(currentUserId));
-        // 내 랭킹의 실시간 순위 계산
-        int myRank = 0;
-        List<UserRanking> allRankings = userRankingRepository.findTopRankings(PageRequest.of(0, 1000)).getContent();
-        for (int i = 0; i < allRankings.size(); i++) {
-            if (allRankings.get(i).getUserId().equals(currentUserId)) {
-                myRank = i + 1;
-                break;
-            }
-        }
-        MyRankingDto myRanking = MyRankingDto.builder()
+        // 내 랭킹의 실시간 시즌 내 순위 계산 (인덱스에서 O(log n))
+        int myRank = leaderboardIndex.rankOf(currentUserId);
+        return MyRankingDto.builder()
                 .rank(myRank)
                 .score(myRankingEntity.getTotalScore())
                 .streakDays(myRankingEntity.getStreakDays())
-                .totalUsers(userRankingRepository.count())
+                .totalUsers(leaderboardIndex.size(myRankingEntity.getSeason()))
                 .tier(myRankingEntity.getTier() != null ? myRankingEntity.getTier().name() : null)
                 .colorCode(myRankingEntity.getTier() != null ? myRankingEntity.getTier().getColorCode() : null)
                 .build();
+    }
 
-        // 3. 최종 응답 생성
-        return RankingResponseDto.builder()
-                .topRankers(topRankers)
-                .myRanking(myRanking)
-                .build();
+    /**
+     * 현재 사용자 기준 위/아래 순위 구간
+     */
+    @Transactional(readOnly = true)
+    public List<RankingUserDto> getAroundMe(int above, int below) {
+        return rankingLeaderboardService.getAroundUser(getCurrentUser().getUserId(), above, below);
     }
 
     @Transactional(readOnly = true)
@@ -134,33 +160,33 @@ public class RankingService {
 
     @Transactional(readOnly = true)
     public List<RankingUserDto> getSeasonRankings(int season) {
-        List<UserRanking> seasonRankings = userRankingRepository.findAllBySeasonOrderByTotalScoreDesc(season, PageRequest.of(0, 10)).getContent();
+        // 랭킹 + 사용자 조인 프로젝션 (쿼리 1회)
+        List<RankingWithUserDto> seasonRankings = userRankingRepository.findSeasonRankingsWithUser(season, PageRequest.of(0, 10));
         return seasonRankings.stream()
-                .map(ranking -> {
-                    User user = userRepository.findById(ranking.getUserId()).orElse(new User());
-                    return RankingUserDto.builder()
-                            .rank(ranking.getRankPosition())
-                            .userId(ranking.getUserId())
-                            .nickname(user.getNickname())
-                            .score(ranking.getTotalScore())
-                            .badge("default")
-                            .streakDays(ranking.getStreakDays())
-                            .tier(ranking.getTier() != null ? ranking.getTier().name() : null)
-                            .colorCode(ranking.getTier() != null ? ranking.getTier().getColorCode() : null)
-                            .profileImageUrl(user.getProfileImageUrl())
-                            .build();
-                })
+                .map(ranking -> RankingUserDto.builder()
+                        .rank(ranking.getRankPosition())
+                        .userId(ranking.getUserId())
+                        .nickname(ranking.getNickname())
+                        .score(ranking.getTotalScore())
+                        .badge("default")
+                        .streakDays(ranking.getStreakDays())
+                        .tier(ranking.getTier() != null ? ranking.getTier().name() : null)
+                        .colorCode(ranking.getTier() != null ? ranking.getTier().getColorCode() : null)
+                        .profileImageUrl(ranking.getProfileImageUrl())
+                        .build())
                 .collect(java.util.stream.Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<RankingUserDto> getPeriodRankings(String periodType) {
         // 최근 기록 기준, ranking_history에서 periodType별로 상위 10명 추출
-        List<com.lifebit.coreapi.entity.RankingHistory> histories = rankingHistoryRepository.findByPeriodTypeOrderByRecordedAtDesc(periodType, PageRequest.of(0, 10)).getContent();
+        List<com.lifebit.coreapi.entity.RankingHistory> histories = rankingHistoryRepository.findWithRankingByPeriodType(periodType, PageRequest.of(0, 10));
+        Map<Long, UserSummaryDto> users = userSummaryLoader.loadAll(
+                histories.stream().map(history -> history.getUserRanking().getUserId()).toList());
         return histories.stream()
                 .map(history -> {
                     UserRanking ranking = history.getUserRanking();
-                    User user = userRepository.findById(ranking.getUserId()).orElse(new User());
+                    UserSummaryDto user = users.get(ranking.getUserId());
                     return RankingUserDto.builder()
                             .rank(history.getRankPosition())
                             .userId(ranking.getUserId())
@@ -178,19 +204,22 @@ public class RankingService {
 
     @Transactional(readOnly = true)
     public List<RankingUserDto> getTopRankings() {
-        List<UserRanking> topRankings = userRankingRepository.findTopRankings(PageRequest.of(0, 10)).getContent();
-        return topRankings.stream()
-                .map(ranking -> {
-                    User user = userRepository.findById(ranking.getUserId()).orElse(new User());
+        int season = leaderboardIndex.latestSeason();
+        List<LeaderboardIndex.Entry> topEntries = leaderboardIndex.top(season, 10);
+        Map<Long, UserSummaryDto> users = userSummaryLoader.loadAll(
+                topEntries.stream().map(LeaderboardIndex.Entry::userId).toList());
+        return topEntries.stream()
+                .map(entry -> {
+                    UserSummaryDto user = users.get(entry.userId());
                     return RankingUserDto.builder()
-                            .rank(ranking.getRankPosition())
-                            .userId(ranking.getUserId())
+                            .rank(leaderboardIndex.rankOfScore(season, entry.totalScore()))
+                            .userId(entry.userId())
                             .nickname(user.getNickname())
-                            .score(ranking.getTotalScore())
+                            .score(entry.totalScore())
                             .badge("default")
-                            .streakDays(ranking.getStreakDays())
-                            .tier(ranking.getTier() != null ? ranking.getTier().name() : null)
-                            .colorCode(ranking.getTier() != null ? ranking.getTier().getColorCode() : null)
+                            .streakDays(entry.streakDays())
+                            .tier(entry.tier() != null ? entry.tier().name() : null)
+                            .colorCode(entry.tier() != null ? entry.tier().getColorCode() : null)
                             .profileImageUrl(user.getProfileImageUrl())
                             .build();
                 })
@@ -238,15 +267,14 @@ public class RankingService {
     @Transactional(readOnly = true)
     public java.util.List<RankingRewardDto> getSeasonRewards(int season) {
         // 예시: 시즌 상위 3명에게만 보상 지급
-        java.util.List<UserRanking> seasonRankings = userRankingRepository.findAllBySeasonOrderByTotalScoreDesc(season, org.springframework.data.domain.PageRequest.of(0, 3)).getContent();
+        java.util.List<RankingWithUserDto> seasonRankings = userRankingRepository.findSeasonRankingsWithUser(season, org.springframework.data.domain.PageRequest.of(0, 3));
         int[] rewards = {10000, 5000, 2000};
         java.util.List<RankingRewardDto> result = new java.util.ArrayList<>();
         for (int i = 0; i < seasonRankings.size(); i++) {
-            UserRanking ranking = seasonRankings.get(i);
-            com.lifebit.coreapi.entity.User user = userRepository.findById(ranking.getUserId()).orElse(new com.lifebit.coreapi.entity.User());
+            RankingWithUserDto ranking = seasonRankings.get(i);
             result.add(RankingRewardDto.builder()
                     .userId(ranking.getUserId())
-                    .nickname(user.getNickname())
+                    .nickname(ranking.getNickname())
                     .rankPosition(ranking.getRankPosition())
                     .totalScore(ranking.getTotalScore())
                     .rewardType("season")
@@ -259,13 +287,15 @@ public class RankingService {
     @Transactional(readOnly = true)
     public java.util.List<RankingRewardDto> getPeriodRewards(String periodType) {
         // 예시: 기간 상위 3명에게만 보상 지급
-        java.util.List<com.lifebit.coreapi.entity.RankingHistory> histories = rankingHistoryRepository.findByPeriodTypeOrderByRecordedAtDesc(periodType, org.springframework.data.domain.PageRequest.of(0, 3)).getContent();
+        java.util.List<com.lifebit.coreapi.entity.RankingHistory> histories = rankingHistoryRepository.findWithRankingByPeriodType(periodType, org.springframework.data.domain.PageRequest.of(0, 3));
+        Map<Long, UserSummaryDto> users = userSummaryLoader.loadAll(
+                histories.stream().map(history -> history.getUserRanking().getUserId()).toList());
         int[] rewards = {3000, 2000, 1000};
         java.util.List<RankingRewardDto> result = new java.util.ArrayList<>();
         for (int i = 0; i < histories.size(); i++) {
             com.lifebit.coreapi.entity.RankingHistory history = histories.get(i);
             UserRanking ranking = history.getUserRanking();
-            com.lifebit.coreapi.entity.User user = userRepository.findById(ranking.getUserId()).orElse(new com.lifebit.coreapi.entity.User());
+            UserSummaryDto user = users.get(ranking.getUserId());
             result.add(RankingRewardDto.builder()
                     .userId(ranking.getUserId())
                     .nickname(user.getNickname())
@@ -281,15 +311,14 @@ public class RankingService {
     @Transactional(readOnly = true)
     public java.util.List<RankingRewardDto> getStreakRewards() {
         // 예시: 연속 기록 상위 3명에게만 보상 지급
-        java.util.List<UserRanking> streakRankings = userRankingRepository.findTopRankingsByStreakDays(org.springframework.data.domain.PageRequest.of(0, 3));
+        java.util.List<RankingWithUserDto> streakRankings = userRankingRepository.findStreakRankingsWithUser(org.springframework.data.domain.PageRequest.of(0, 3));
         int[] rewards = {2000, 1000, 500};
         java.util.List<RankingRewardDto> result = new java.util.ArrayList<>();
         for (int i = 0; i < streakRankings.size(); i++) {
-            UserRanking ranking = streakRankings.get(i);
-            com.lifebit.coreapi.entity.User user = userRepository.findById(ranking.getUserId()).orElse(new com.lifebit.coreapi.entity.User());
+            RankingWithUserDto ranking = streakRankings.get(i);
             result.add(RankingRewardDto.builder()
                     .userId(ranking.getUserId())
-                    .nickname(user.getNickname())
+                    .nickname(ranking.getNickname())
                     .rankPosition(ranking.getRankPosition())
                     .totalScore(ranking.getTotalScore())
                     .rewardType("streak")
@@ -338,39 +367,48 @@ public class RankingService {
         ranking.setPreviousRank(0);
         ranking.setSeason(1); // 기본 시즌
         ranking.setActive(true);
-        return userRankingRepository.save(ranking);
+        UserRanking saved = userRankingRepository.save(ranking);
+        leaderboardIndex.upsert(saved);
+        return saved;
     }
 
+    /**
+     * 야간 전체 랭킹 갱신
+     * 점수는 배치 파이프라인이 청크 단위 트랜잭션으로 재계산하고, 순위/티어는 단일 SQL로 갱신
+     * (전체 테이블에 걸친 하나의 긴 트랜잭션을 잡지 않음)
+     */
     @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
     public void scheduledRankingUpdate() {
-        log.info("[스케줄러] 전체 사용자 랭킹 자동 갱신 시작");
-        List<UserRanking> allRankings = userRankingRepository.findAll();
-        int rank = 1;
-        for (UserRanking ranking : allRankings) {
-            int prevScore = ranking.getTotalScore();
-            RankingTier prevTier = ranking.getTier();
+        // 여러 노드 중 한 곳에서만 실행 (advisory lock + 실행 이력)
+        scheduledJobRunner.run(NIGHTLY_RANKING_JOB, Duration.ofHours(1), () -> {
+            log.info("[스케줄러] 전체 사용자 랭킹 자동 갱신 시작");
 
-            // 1. 점수/등급 재계산
-            int newScore = calculateTotalScore(ranking.getUserId());
-            RankingTier newTier = calculateTier(newScore);
-            ranking.setPreviousRank(ranking.getRankPosition());
-            ranking.setRankPosition(rank++);
-            ranking.setTotalScore(newScore);
-            ranking.setTier(newTier);
-            ranking.setLastUpdatedAt(LocalDateTime.now());
+            // 1. 점수/등급 재계산 + 등급 변화 알림 (병렬 청크, 체크포인트)
+            RankingScoreBatchJob.Result scoreResult = rankingScoreBatchJob.run();
 
-            // 2. 등급 변화 감지 시 알림 전송
-            if (prevTier != newTier) {
-                try {
-                    notificationService.saveNotification(ranking.getUserId(), "TIER_CHANGE", "등급 변화 알림", String.format("등급이 %s에서 %s로 변경되었습니다.", prevTier.name(), newTier.name()));
-                } catch (Exception e) {
-                    log.warn("등급 변화 알림 전송 실패: userId={}, {} -> {}", ranking.getUserId(), prevTier, newTier);
-                }
-            }
+            // 2. 순위/이전 순위/티어 일괄 갱신
+            RankingBulkUpdater.Result rankResult = rankingBulkUpdater.recalculateRankPositions();
+            leaderboardIndex.rebuildAfterCommit();
+            rankingDeltaPublisher.rankingRefreshed();
+            log.info("[스케줄러] 전체 사용자 랭킹 자동 갱신 완료: {}명, 순위 갱신 {}행, {}ms",
+                    scoreResult.usersProcessed(), rankResult.rowsUpdated(),
+                    scoreResult.elapsedMillis() + rankResult.elapsedMillis());
+            return scoreResult.usersProcessed();
+        });
+    }
+
+    /**
+     * 리더보드 인덱스 변경 확인 (노드별 실행)
+     * 다른 노드에서 커밋된 점수 변경의 사용자만 이 노드의 인메모리 인덱스에 다시 읽어 반영 (전체 재구성은 전체 재계산 후에만)
+     */
+    @Scheduled(fixedDelayString = "${ranking.leaderboard.refresh-interval-ms:60000}",
+               initialDelayString = "${ranking.leaderboard.refresh-interval-ms:60000}")
+    public void refreshLeaderboardIndex() {
+        try {
+            leaderboardIndex.refreshIfChanged();
+        } catch (Exception e) {
+            log.warn("[리더보드] 주기적 인덱스 갱신 실패: {}", e.getMessage());
         }
-        userRankingRepository.saveAll(allRankings);
-        log.info("[스케줄러] 전체 사용자 랭킹 자동 갱신 완료: {}명", allRankings.size());
     }
 
     /**
@@ -381,7 +419,6 @@ public class RankingService {
         // 1. 운동 점수: 최근 7일간 총 운동 시간(분) ×2 + 칼로리 소모(0.5)
         int exerciseMinutes = exerciseService.getExerciseMinutesByPeriod(userId, 7); // 실제 기록
         int caloriesBurned = exerciseService.getCaloriesBurnedByPeriod(userId, 7);   // 실제 기록
-        int exerciseScore = exerciseMinutes * 2 + (int)(caloriesBurned * 0.5);
 
         // 2. 식단 점수: 최근 7일간 목표 영양소 달성률(%) ×1
         // 예시: MealService에 getWeeklyNutritionAchievementRate(Long userId) 메서드가 있다고 가정
@@ -402,22 +439,14 @@ public class RankingService {
         // int achievementScore = achievementCount * 50;
 
         // return exerciseScore + mealScore + streakScore + achievementScore;
-        return exerciseScore + mealScore;
+        return RankingScoreBatchJob.totalScore(exerciseMinutes, caloriesBurned, mealScore);
     }
 
     /**
      * 랭킹 등급 산정 (점수 기준)
      */
     public RankingTier calculateTier(int totalScore) {
-        if (totalScore == 0) return RankingTier.UNRANK;
-        if (totalScore < 1000) return RankingTier.BRONZE;
-        if (totalScore < 2000) return RankingTier.SILVER;
-        if (totalScore < 3000) return RankingTier.GOLD;
-        if (totalScore < 4000) return RankingTier.PLATINUM;
-        if (totalScore < 5000) return RankingTier.DIAMOND;
-        if (totalScore < 6000) return RankingTier.MASTER;
-        if (totalScore < 7000) return RankingTier.GRANDMASTER;
-        return RankingTier.CHALLENGER;
+        return RankingTier.fromScore(totalScore);
     }
 
     /**
@@ -447,6 +476,10 @@ public class RankingService {
         }
         // 2. user_ranking 초기화(시즌+1, 점수/순위/연속일수 등 0)
         for (UserRanking ranking : allRankings) {
+            if (ranking.isActive()) {
+                rankingScoreEventLog.recordOverwrite(ranking.getUserId(), currentSeason + 1,
+                        ranking.getTotalScore(), 0, RankingScoreEventLog.SEASON_RESET);
+            }
             ranking.setSeason(currentSeason + 1);
             ranking.setTotalScore(0);
             ranking.setRankPosition(0);
@@ -456,6 +489,7 @@ public class RankingService {
             ranking.setLastUpdatedAt(java.time.LocalDateTime.now());
         }
         userRankingRepository.saveAll(allRankings);
+        leaderboardIndex.rebuildAfterCommit();
     }
 
     // 임시: 현재 시즌 번호 반환
@@ -473,64 +507,36 @@ public class RankingService {
 
     /**
      * 목표 달성률 기반 점수 업데이트 (개선된 증분 계산 방식)
-     * 점수 변경이 있을 때만 새 레코드 생성
+     * 점수 변경이 있을 때만 이벤트 기록 + 현재 랭킹 행 갱신
      */
     @Transactional
     public void updateGoalAchievementScore(Long userId) {
         try {
             log.info("목표 달성률 점수 업데이트 시작 - 사용자 ID: {}", userId);
             
-            // 1. 현재 활성 랭킹 레코드 조회
-            UserRanking currentRanking = userRankingRepository.findActiveByUserId(userId)
-                    .orElseGet(() -> createDefaultRanking(userId));
-            
-            // 2. 현재 목표 달성 점수 계산 (운동 + 식단)
+            // 1. 현재 목표 달성 점수 계산 (운동 + 식단)
             int newGoalBasedScore = calculateGoalBasedScore(userId);
             
-            // 3. 이전 목표 달성 점수와 비교
-            int previousGoalBasedScore = currentRanking.getGoalBasedScore();
+            // 2. 이전 목표 달성 점수와 비교
+            int previousGoalBasedScore = rankingScoreEventLog.currentGoalBasedScore(userId);
             
-            // 4. 점수 변경이 있는 경우에만 처리
+            // 3. 점수 변경이 있는 경우에만 처리
             if (newGoalBasedScore != previousGoalBasedScore) {
-                
-                // 5. 기존 레코드 비활성화
-                currentRanking.setActive(false);
-                userRankingRepository.save(currentRanking);
-                
-                // 6. 새로운 레코드 생성
-                UserRanking newRanking = new UserRanking();
-                newRanking.setUserId(userId);
-                
-                // 7. 점수 계산 및 설정
                 int goalScoreDifference = newGoalBasedScore - previousGoalBasedScore;
-                int newTotalScore = currentRanking.getTotalScore() + goalScoreDifference;
-                
-                newRanking.setTotalScore(newTotalScore);
-                newRanking.setGoalBasedScore(newGoalBasedScore);
-                newRanking.setActive(true);
                 
-                // 8. 기타 필드 복사
-                newRanking.setStreakDays(currentRanking.getStreakDays());
-                newRanking.setPreviousRank(currentRanking.getRankPosition());
-                newRanking.setSeason(currentRanking.getSeason());
-                newRanking.setCreatedAt(LocalDateTime.now());
-                newRanking.setLastUpdatedAt(LocalDateTime.now());
+                // 4. 이벤트 기록 + 현재 랭킹 행 UPSERT (총점 증분, 목표 점수 교체)
+                RankingScoreEventLog.Applied applied = rankingScoreEventLog.append(
+                        userId, getCurrentSeason(), goalScoreDifference, "GOAL_ACHIEVEMENT", newGoalBasedScore);
                 
-                // 9. 티어 계산 및 저장
-                RankingTier newTier = calculateTier(newTotalScore);
-                newRanking.setTier(newTier);
-                userRankingRepository.save(newRanking);
-                
-                // 10. 랭킹 순위 업데이트
-                updateUserRankingPosition(userId);
+                // 5. 랭킹 순위 업데이트
+                applyRankPosition(applied);
                 
                 log.info("목표 달성률 점수 업데이트 완료 - 사용자 ID: {}, 이전 목표점수: {}점, 새 목표점수: {}점, 증분: {}점, 새 총점: {}점", 
-                        userId, previousGoalBasedScore, newGoalBasedScore, goalScoreDifference, newTotalScore);
+                        userId, previousGoalBasedScore, newGoalBasedScore, goalScoreDifference, applied.totalScore());
                         
-                // 11. 티어 변경 시 알림 발송
-                RankingTier previousTier = currentRanking.getTier();
-                if (previousTier != newTier) {
-                    sendTierChangeNotification(userId, previousTier, newTier);
+                // 6. 티어 변경 시 알림 발송
+                if (applied.previousTier() != applied.tier()) {
+                    sendTierChangeNotification(userId, applied.previousTier(), applied.tier());
                 }
             } else {
                 log.info("목표 달성률 점수 변경 없음 - 사용자 ID: {}, 현재 목표점수: {}점", userId, newGoalBasedScore);
@@ -562,6 +568,8 @@ public class RankingService {
 
             // 목표 달성률 기반 점수 재계산 (운동 점수 업데이트)
             int totalScore = calculateGoalBasedScore(userId);
+            rankingScoreEventLog.recordOverwrite(userId, userRanking.getSeason(),
+                    userRanking.getTotalScore(), totalScore, RankingScoreEventLog.SCORE_SET);
             
             userRanking.setTotalScore(totalScore);
             userRanking.setLastUpdatedAt(LocalDateTime.now());
@@ -604,6 +612,8 @@ public class RankingService {
 
             // 목표 달성률 기반 점수 재계산 (식단 점수 업데이트)
             int totalScore = calculateGoalBasedScore(userId);
+            rankingScoreEventLog.recordOverwrite(userId, userRanking.getSeason(),
+                    userRanking.getTotalScore(), totalScore, RankingScoreEventLog.SCORE_SET);
             
             userRanking.setTotalScore(totalScore);
             userRanking.setLastUpdatedAt(LocalDateTime.now());
@@ -638,15 +648,10 @@ public class RankingService {
             UserRanking currentUserRanking = userRankingRepository.findActiveByUserId(userId)
                     .orElseThrow(() -> new RuntimeException("User ranking not found: " + userId));
             
-            // 전체 사용자 중 현재 사용자보다 높은 점수를 가진 사용자 수 계산
-            long higherScoreCount = userRankingRepository.findAll()
-                    .stream()
-                    .filter(UserRanking::isActive)
-                    .filter(ranking -> ranking.getTotalScore() > currentUserRanking.getTotalScore())
-                    .count();
-            
-            // 새 순위 = 더 높은 점수 사용자 수 + 1
-            int newRank = (int) higherScoreCount + 1;
+            // 리더보드 인덱스에 현재 점수 반영 후 순위 조회
+            // (새 순위 = 더 높은 점수 사용자 수 + 1, O(log n))
+            leaderboardIndex.upsert(currentUserRanking);
+            int newRank = leaderboardIndex.rankOf(userId);
             
             // 이전 순위 저장
             currentUserRanking.setPreviousRank(currentUserRanking.getRankPosition());
@@ -665,33 +670,18 @@ public class RankingService {
 
     /**
      * 전체 사용자의 랭킹 순위 업데이트 (수동 호출용)
-     * 점수 순으로 정렬하여 순위를 재계산
+     * 시즌별 점수 순 RANK()를 단일 UPDATE로 재계산
      */
     @Transactional
-    public void updateRankingPositions() {
+    public RankingBulkUpdater.Result updateRankingPositions() {
         try {
             log.info("전체 랭킹 순위 업데이트 시작");
             
-            // 모든 활성 사용자 랭킹을 점수 순으로 조회
-            List<UserRanking> allRankings = userRankingRepository.findAll()
-                    .stream()
-                    .filter(UserRanking::isActive)
-                    .sorted((a, b) -> Integer.compare(b.getTotalScore(), a.getTotalScore()))
-                    .collect(java.util.stream.Collectors.toList());
-            
-            int rank = 1;
-            for (UserRanking ranking : allRankings) {
-                // 이전 순위 저장
-                ranking.setPreviousRank(ranking.getRankPosition());
-                // 새 순위 설정
-                ranking.setRankPosition(rank++);
-                ranking.setLastUpdatedAt(LocalDateTime.now());
-            }
+            RankingBulkUpdater.Result result = rankingBulkUpdater.recalculateRankPositions();
+            leaderboardIndex.rebuildAfterCommit();
             
-            // 변경사항 저장
-            userRankingRepository.saveAll(allRankings);
-            
-            log.info("전체 랭킹 순위 업데이트 완료 - 총 {}명", allRankings.size());
+            log.info("전체 랭킹 순위 업데이트 완료 - 총 {}행, {}ms", result.rowsUpdated(), result.elapsedMillis());
+            return result;
             
         } catch (Exception e) {
             log.error("전체 랭킹 순위 업데이트 실패: {}", e.getMessage(), e);
@@ -826,29 +816,13 @@ public class RankingService {
         result.put("totalCalories", 0.0);
         
         try {
-            List<MealLog> mealLogs = mealLogRepository.findByUserIdAndLogDateOrderByLogDateDescCreatedAtDesc(userId, date);
+            NutritionAccumulator totals = new NutritionAccumulator()
+                    .addAll(mealLogRepository.findNutritionRows(userId, date, date));
             
-            double totalCarbs = 0.0;
-            double totalProtein = 0.0;
-            double totalFat = 0.0;
-            double totalCalories = 0.0;
-            
-            for (MealLog mealLog : mealLogs) {
-                if (mealLog.getFoodItem() != null) {
-                    FoodItem foodItem = mealLog.getFoodItem();
-                    double quantity = mealLog.getQuantity() != null ? mealLog.getQuantity().doubleValue() : 0.0;
-                    
-                    totalCarbs += foodItem.getCarbs() != null ? foodItem.getCarbs().doubleValue() * quantity / 100 : 0.0;
-                    totalProtein += foodItem.getProtein() != null ? foodItem.getProtein().doubleValue() * quantity / 100 : 0.0;
-                    totalFat += foodItem.getFat() != null ? foodItem.getFat().doubleValue() * quantity / 100 : 0.0;
-                    totalCalories += foodItem.getCalories() != null ? foodItem.getCalories().doubleValue() * quantity / 100 : 0.0;
-                }
-            }
-            
-            result.put("totalCarbs", totalCarbs);
-            result.put("totalProtein", totalProtein);
-            result.put("totalFat", totalFat);
-            result.put("totalCalories", totalCalories);
+            result.put("totalCarbs", totals.carbs());
+            result.put("totalProtein", totals.protein());
+            result.put("totalFat", totals.fat());
+            result.put("totalCalories", totals.calories());
             
         } catch (Exception e) {
             log.error("일일 영양소 섭취량 조회 실패 - 사용자 ID: {}, 날짜: {}, 오류: {}", userId, date, e.getMessage());
@@ -858,77 +832,28 @@ public class RankingService {
     }
 
     /**
-     * 증분 점수 업데이트 (새로운 레코드 생성하여 점수 추가)
+     * 증분 점수 업데이트 (이벤트 로그 기록 + 현재 랭킹 행 갱신)
      * 운동이나 식단 목표 달성 시 호출
      */
     @Transactional
     public void addIncrementalScore(Long userId, int scoreToAdd, String scoreType) {
         try {
-            log.info("증분 점수 업데이트 시작 (새 레코드 생성) - 사용자 ID: {}, 추가 점수: {}, 점수 타입: {}", userId, scoreToAdd, scoreType);
-            
-            // 가장 최근 활성 랭킹 조회하여 현재 점수 확인
-            UserRanking latestRanking = userRankingRepository.findActiveByUserId(userId)
-                    .orElse(null);
-            
-            // 이전 점수 및 시즌 정보 계산
-            int previousScore = 0;
-            int previousRank = 0;
-            int currentSeason = getCurrentSeason();
-            RankingTier previousTier = RankingTier.UNRANK;
-            
-            if (latestRanking != null) {
-                previousScore = latestRanking.getTotalScore();
-                previousTier = latestRanking.getTier();
-                
-                // 시즌이 같으면 기존 랭킹을 previous_rank로 사용
-                // 시즌이 다르면 previous_rank는 0으로 초기화
-                if (latestRanking.getSeason() == currentSeason) {
-                    previousRank = latestRanking.getRankPosition();
-                    log.info("같은 시즌 내 점수 업데이트 - 이전 순위 유지: {}", previousRank);
-                } else {
-                    previousRank = 0;
-                    log.info("새 시즌 시작 - 이전 순위 초기화");
-                }
-                
-                // 기존 레코드를 비활성화
-                latestRanking.setActive(false);
-                latestRanking.setLastUpdatedAt(LocalDateTime.now());
-                userRankingRepository.save(latestRanking);
-                log.info("기존 랭킹 레코드 비활성화 - 사용자 ID: {}, 기존 점수: {}, 기존 순위: {}", userId, previousScore, latestRanking.getRankPosition());
-            }
-            
-            // 새로운 점수 계산 (기존 점수 + 증분 점수)
-            int newTotalScore = previousScore + scoreToAdd;
-            
-            // 새로운 랭킹 레코드 생성
-            UserRanking newRanking = new UserRanking();
-            newRanking.setUserId(userId);
-            newRanking.setTotalScore(newTotalScore);
-            newRanking.setStreakDays(latestRanking != null ? latestRanking.getStreakDays() : 0);
-            newRanking.setRankPosition(0); // 순위는 나중에 계산
-            newRanking.setPreviousRank(previousRank); // 시즌에 따른 previous_rank 설정
-            newRanking.setSeason(currentSeason);
-            newRanking.setCreatedAt(LocalDateTime.now());
-            newRanking.setLastUpdatedAt(LocalDateTime.now());
-            newRanking.setActive(true);
+            log.info("증분 점수 업데이트 시작 - 사용자 ID: {}, 추가 점수: {}, 점수 타입: {}", userId, scoreToAdd, scoreType);
             
-            // 티어 계산
-            RankingTier newTier = calculateTier(newTotalScore);
-            newRanking.setTier(newTier);
-            
-            // 새 랭킹 레코드 저장
-            UserRanking savedRanking = userRankingRepository.save(newRanking);
+            // 이벤트 INSERT + 현재 랭킹 행 UPSERT (시즌이 바뀌었으면 previous_rank 초기화)
+            RankingScoreEventLog.Applied applied = rankingScoreEventLog.append(
+                    userId, getCurrentSeason(), scoreToAdd, scoreType, null);
             
             // 랭킹 순위 업데이트
-            updateUserRankingPosition(userId);
+            applyRankPosition(applied);
             
-            log.info("새 랭킹 레코드 생성 완료 - 사용자 ID: {}, 레코드 ID: {}, 이전 점수: {}, 추가 점수: {}, 새 총점: {}, 점수 타입: {}, 이전 티어: {}, 새 티어: {}", 
-                    userId, savedRanking.getId(), previousScore, scoreToAdd, newTotalScore, scoreType, 
-                    previousTier.name(), newTier.name());
+            log.info("증분 점수 업데이트 완료 - 사용자 ID: {}, 레코드 ID: {}, 이전 점수: {}, 추가 점수: {}, 새 총점: {}, 점수 타입: {}, 이전 티어: {}, 새 티어: {}", 
+                    userId, applied.rankingId(), applied.previousScore(), scoreToAdd, applied.totalScore(), scoreType, 
+                    applied.previousTier().name(), applied.tier().name());
             
             // 티어 변경 시 알림 발송
-            if (previousTier != newTier) {
-                sendTierChangeNotification(userId, previousTier, newTier);
+            if (applied.previousTier() != applied.tier()) {
+                sendTierChangeNotification(userId, applied.previousTier(), applied.tier());
             }
                     
         } catch (Exception e) {
@@ -938,6 +863,20 @@ public class RankingService {
         }
     }
 
+    /**
+     * 갱신된 점수를 리더보드 인덱스에 반영하고 새 순위를 저장
+     */
+    private void applyRankPosition(RankingScoreEventLog.Applied applied) {
+        int previousRank = leaderboardIndex.rankOf(applied.userId());
+        leaderboardIndex.upsert(applied.toEntry());
+        int rank = leaderboardIndex.rankOf(applied.userId());
+        rankingScoreEventLog.updateRankPosition(applied.rankingId(), rank);
+        if (previousRank != rank || applied.previousTier() != applied.tier()) {
+            rankingDeltaPublisher.rankChanged(applied.userId(), previousRank, applied.previousTier(),
+                    rank, applied.totalScore(), applied.tier());
+        }
+    }
+
     /**
      * 운동 목표 달성 시 점수 추가
      * @param userId 사용자 ID
@@ -1001,8 +940,8 @@ public class RankingService {
                     previousTier != null ? previousTier.getKoreanName() : "없음", 
                     newTier.getKoreanName());
             
-            // 알림 발송 (NotificationService 사용)
-            notificationService.saveNotification(userId, "TIER_CHANGE", "티어 승급!", message);
+            // 알림 저장 예약 (커밋 후 병합 구간마다 배치 INSERT)
+            rankingDeltaPublisher.tierChanged(userId, "티어 승급!", message);
             
             log.info("티어 변경 알림 발송 완료 - 사용자 ID: {}, {} -> {}", 
                     userId, 
@@ -0,0 +1,154 @@
+package com.lifebit.coreapi.service.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.zip.CRC32;
+
+/**
+ * 다중 인스턴스 환경에서 스케줄 작업을 한 노드에서만 실행하는 러너
+ * - PostgreSQL 세션 advisory lock으로 동시 실행 방지 (락 전용 커넥션을 작업 동안 유지)
+ * - 락 획득 후 minInterval 안에 성공한 실행이 있으면 건너뜀 (노드 간 시계 오차로 인한 중복 실행 방지)
+ * - 실행 이력(시작/종료/처리 건수/실패 사유)을 scheduled_job_run 테이블에 기록
+ */
+@Component
+@Slf4j
+public class ScheduledJobRunner {
+
+    private static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ScheduledJobRunner(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 작업 실행
+     * @param jobName 작업 이름 (락 키, 이력 구분)
+     * @param minInterval 이 시간 안에 성공한 실행이 있으면 건너뜀
+     * @param job 처리 건수를 반환하는 작업
+     * @return 이 노드에서 실제로 실행했으면 true
+     */
+    public boolean run(String jobName, Duration minInterval, LongSupplier job) {
+        long lockKey = lockKey(jobName);
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!tryAdvisoryLock(lockConnection, lockKey)) {
+                log.info("[스케줄러] {} - 다른 노드에서 실행 중이므로 건너뜀", jobName);
+                return false;
+            }
+            try {
+                if (hasRecentSuccess(jobName, minInterval)) {
+                    log.info("[스케줄러] {} - 최근 {} 안에 이미 실행되어 건너뜀", jobName, minInterval);
+                    return false;
+                }
+                execute(jobName, job);
+                return true;
+            } finally {
+                advisoryUnlock(lockConnection, lockKey);
+            }
+        } catch (SQLException e) {
+            log.error("[스케줄러] {} - 락 커넥션 처리 실패: {}", jobName, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 작업별 최근 실행 이력
+     */
+    public List<Map<String, Object>> getRecentRuns(String jobName, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id, job_name, node_id, status, rows_processed, error_message, started_at, finished_at " +
+                "FROM scheduled_job_run WHERE job_name = ? ORDER BY started_at DESC LIMIT ?", jobName, limit);
+    }
+
+    /**
+     * 작업별 마지막 실행 이력 (전체 작업)
+     */
+    public List<Map<String, Object>> getLatestRuns() {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT ON (job_name) id, job_name, node_id, status, rows_processed, error_message, started_at, finished_at " +
+                "FROM scheduled_job_run ORDER BY job_name, started_at DESC");
+    }
+
+    private void execute(String jobName, LongSupplier job) {
+        long runId = insertRun(jobName);
+        log.info("[스케줄러] {} 시작 - 노드: {}, 실행 ID: {}", jobName, NODE_ID, runId);
+        try {
+            long rows = job.getAsLong();
+            jdbcTemplate.update(
+                    "UPDATE scheduled_job_run SET status = 'SUCCESS', rows_processed = ?, finished_at = NOW() WHERE id = ?",
+                    rows, runId);
+            log.info("[스케줄러] {} 완료 - 처리 {}건", jobName, rows);
+        } catch (RuntimeException e) {
+            jdbcTemplate.update(
+                    "UPDATE scheduled_job_run SET status = 'FAILED', error_message = ?, finished_at = NOW() WHERE id = ?",
+                    String.valueOf(e.getMessage()), runId);
+            log.error("[스케줄러] {} 실패: {}", jobName, e.getMessage(), e);
+        }
+    }
+
+    private long insertRun(String jobName) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO scheduled_job_run (job_name, node_id, status, started_at) VALUES (?, ?, 'RUNNING', ?)",
+                    new String[]{"id"});
+            ps.setString(1, jobName);
+            ps.setString(2, NODE_ID);
+            ps.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private boolean hasRecentSuccess(String jobName, Duration minInterval) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM scheduled_job_run WHERE job_name = ? AND status = 'SUCCESS' AND started_at > ?",
+                Integer.class, jobName, Timestamp.valueOf(LocalDateTime.now().minus(minInterval)));
+        return count != null && count > 0;
+    }
+
+    private static boolean tryAdvisoryLock(Connection connection, long key) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            ps.setLong(1, key);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static void advisoryUnlock(Connection connection, long key) {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            ps.setLong(1, key);
+            ps.execute();
+        } catch (SQLException e) {
+            // 커넥션이 닫히면 세션 락도 함께 해제됨
+            log.warn("[스케줄러] advisory lock 해제 실패 (key={}): {}", key, e.getMessage());
+        }
+    }
+
+    private static long lockKey(String jobName) {
+        CRC32 crc = new CRC32();
+        crc.update(("lifebit:scheduled-job:" + jobName).getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,35 @@
+package com.lifebit.coreapi.service.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스케줄 작업 실행 이력 actuator 엔드포인트
+ * - GET /actuator/scheduledjobs : 작업별 마지막 실행
+ * - GET /actuator/scheduledjobs/{jobName} : 해당 작업의 최근 실행 이력
+ */
+@Component
+@Endpoint(id = "scheduledjobs")
+@RequiredArgsConstructor
+public class ScheduledJobsEndpoint {
+
+    private static final int HISTORY_LIMIT = 20;
+
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    @ReadOperation
+    public List<Map<String, Object>> latestRuns() {
+        return scheduledJobRunner.getLatestRuns();
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> jobRuns(@Selector String jobName) {
+        return scheduledJobRunner.getRecentRuns(jobName, HISTORY_LIMIT);
+    }
+}
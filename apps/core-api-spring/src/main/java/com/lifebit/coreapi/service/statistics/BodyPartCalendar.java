@@ -0,0 +1,114 @@
+package com.lifebit.coreapi.service.statistics;
+
+import com.lifebit.coreapi.entity.BodyPartType;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 기간 내 날짜별 운동 부위 비트마스크
+ * - 하루의 부위 집합은 BodyPartType 순서대로 한 비트씩 (7개 부위 → 1바이트)
+ * - 부위별로는 날짜 비트열(long 64일 단위)을 따로 두어, 부위별 운동 일수는 비트 수(popcount)로 계산
+ * - 세션/부위 문자열/Set 객체를 만들지 않으므로 조회 기간 일수에 비례하는 비용만 듦
+ *
+ * 스레드 안전하지 않음 (조회마다 새로 만들어 사용)
+ */
+public final class BodyPartCalendar {
+
+    private static final BodyPartType[] PARTS = BodyPartType.values();
+
+    private final LocalDate from;
+    private final int days;
+    // 날짜별 부위 비트마스크
+    private final byte[] dayMasks;
+    // 부위별 날짜 비트열
+    private final long[][] partDays;
+
+    public BodyPartCalendar(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.days = Math.max(0, (int) ChronoUnit.DAYS.between(from, to) + 1);
+        this.dayMasks = new byte[days];
+        this.partDays = new long[PARTS.length][(days + 63) / 64];
+    }
+
+    public static int bit(BodyPartType part) {
+        return 1 << part.ordinal();
+    }
+
+    public static boolean contains(int mask, BodyPartType part) {
+        return (mask & bit(part)) != 0;
+    }
+
+    /**
+     * 해당 날짜에 운동한 부위 추가 (기간 밖이면 무시)
+     */
+    public void mark(LocalDate date, int mask) {
+        int index = indexOf(date);
+        if (index < 0 || mask == 0) {
+            return;
+        }
+        dayMasks[index] |= (byte) mask;
+        for (int remaining = mask & 0x7F; remaining != 0; remaining &= remaining - 1) {
+            int part = Integer.numberOfTrailingZeros(remaining);
+            partDays[part][index >>> 6] |= 1L << index;
+        }
+    }
+
+    public void mark(LocalDate date, BodyPartType part) {
+        if (part != null) {
+            mark(date, bit(part));
+        }
+    }
+
+    public int maskOf(LocalDate date) {
+        int index = indexOf(date);
+        return index < 0 ? 0 : dayMasks[index] & 0x7F;
+    }
+
+    /**
+     * 그날 운동한 부위 수 (히트맵 강도)
+     */
+    public int intensityOf(LocalDate date) {
+        return Integer.bitCount(maskOf(date));
+    }
+
+    /**
+     * 기간 전체에서 해당 부위를 운동한 일수
+     */
+    public int daysWith(BodyPartType part) {
+        int count = 0;
+        for (long word : partDays[part.ordinal()]) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * [start, end] 구간에서 해당 부위를 운동한 일수
+     */
+    public int daysWith(BodyPartType part, LocalDate start, LocalDate end) {
+        int first = Math.max(0, (int) ChronoUnit.DAYS.between(from, start));
+        int last = Math.min(days - 1, (int) ChronoUnit.DAYS.between(from, end));
+        if (first > last) {
+            return 0;
+        }
+        long[] words = partDays[part.ordinal()];
+        int firstWord = first >>> 6;
+        int lastWord = last >>> 6;
+        long firstMask = -1L << first;
+        long lastMask = -1L >>> (63 - (last & 63));
+        if (firstWord == lastWord) {
+            return Long.bitCount(words[firstWord] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(words[firstWord] & firstMask);
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count + Long.bitCount(words[lastWord] & lastMask);
+    }
+
+    private int indexOf(LocalDate date) {
+        long index = ChronoUnit.DAYS.between(from, date);
+        return index < 0 || index >= days ? -1 : (int) index;
+    }
+}
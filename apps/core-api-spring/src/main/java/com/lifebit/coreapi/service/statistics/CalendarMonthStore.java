@@ -0,0 +1,132 @@
+package com.lifebit.coreapi.service.statistics;
+
+import com.lifebit.coreapi.dto.statistics.CalendarMonth;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 사용자 월 달력 저장소 (user_calendar_month)
+ * - 일별 요약(user_daily_summary)을 그 달의 날짜 순 배열로 묶어 (사용자, 월) 한 줄로 저장
+ * - 일별 요약이 바뀌면 그 날짜가 속한 달 한 줄만 다시 만듦 (최대 31행 집계)
+ * - 달력 화면은 기본 키로 한 줄만 읽으므로 기록 수와 무관하게 일정한 비용
+ */
+@Component
+@Slf4j
+public class CalendarMonthStore {
+
+    // 일별 요약 → 월 달력 (%s: 일별 요약 조건), 기록이 있는 달만 생성
+    private static final String FROM_DAILY_SQL_TEMPLATE = """
+            INSERT INTO user_calendar_month (user_id, month_start, workout_count, exercise_minutes, calories_burned,
+                                             primary_exercise_id, meal_count, kcal_intake, updated_at)
+            SELECT m.user_id, m.month_start,
+                   ARRAY_AGG(COALESCE(s.exercise_sessions, 0) ORDER BY d.day),
+                   ARRAY_AGG(COALESCE(s.exercise_minutes, 0) ORDER BY d.day),
+                   ARRAY_AGG(COALESCE(s.calories_burned, 0) ORDER BY d.day),
+                   ARRAY_AGG(s.primary_exercise_id ORDER BY d.day),
+                   ARRAY_AGG(COALESCE(s.meal_log_count, 0) ORDER BY d.day),
+                   ARRAY_AGG(CAST(COALESCE(ROUND(s.kcal_intake), 0) AS INTEGER) ORDER BY d.day),
+                   NOW()
+              FROM (SELECT DISTINCT user_id, CAST(DATE_TRUNC('month', summary_date) AS DATE) AS month_start
+                      FROM user_daily_summary
+                     WHERE %s) m
+             CROSS JOIN LATERAL (SELECT CAST(g AS DATE) AS day
+                                   FROM GENERATE_SERIES(m.month_start,
+                                                        m.month_start + INTERVAL '1 month' - INTERVAL '1 day',
+                                                        INTERVAL '1 day') g) d
+              LEFT JOIN user_daily_summary s ON s.user_id = m.user_id AND s.summary_date = d.day
+             GROUP BY m.user_id, m.month_start
+            """;
+
+    private static final String SELECT_SQL =
+            "SELECT * FROM user_calendar_month WHERE user_id = ? AND month_start = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CalendarMonthStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 날짜가 속한 달 다시 만들기 (일별 요약 갱신 직후, 기록이 모두 사라진 달은 삭제만 됨)
+     */
+    public void refreshMonth(Long userId, LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        Date start = Date.valueOf(month.atDay(1));
+        jdbcTemplate.update("DELETE FROM user_calendar_month WHERE user_id = ? AND month_start = ?", userId, start);
+        jdbcTemplate.update(fromDailySql("user_id = ? AND summary_date BETWEEN ? AND ?"),
+                userId, start, Date.valueOf(month.atEndOfMonth()));
+    }
+
+    /**
+     * 기간이 걸친 전체 사용자 달력 재구성
+     * @return 재구성된 행 수
+     */
+    @Transactional
+    public int rebuildRange(LocalDate from, LocalDate to) {
+        Date firstStart = Date.valueOf(from.withDayOfMonth(1));
+        Date lastEnd = Date.valueOf(YearMonth.from(to).atEndOfMonth());
+        jdbcTemplate.update("DELETE FROM user_calendar_month WHERE month_start BETWEEN ? AND ?",
+                firstStart, Date.valueOf(to.withDayOfMonth(1)));
+        return jdbcTemplate.update(fromDailySql("summary_date BETWEEN ? AND ?"), firstStart, lastEnd);
+    }
+
+    /**
+     * 전체 달력 재구성
+     * @return 재구성된 행 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        jdbcTemplate.update("DELETE FROM user_calendar_month");
+        int rows = jdbcTemplate.update(fromDailySql("TRUE"));
+        log.info("[월 달력] 전체 재구성 완료 - {}건", rows);
+        return rows;
+    }
+
+    /**
+     * 사용자 월 달력 (기록이 없는 달은 0으로 채운 빈 달력)
+     */
+    public CalendarMonth findMonth(Long userId, YearMonth month) {
+        List<CalendarMonth> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> CalendarMonth.builder()
+                .userId(userId)
+                .monthStart(rs.getDate("month_start").toLocalDate())
+                .workoutCount(ints(rs.getArray("workout_count")))
+                .exerciseMinutes(ints(rs.getArray("exercise_minutes")))
+                .caloriesBurned(ints(rs.getArray("calories_burned")))
+                .primaryExerciseId(longs(rs.getArray("primary_exercise_id")))
+                .mealCount(ints(rs.getArray("meal_count")))
+                .kcalIntake(ints(rs.getArray("kcal_intake")))
+                .build(), userId, Date.valueOf(month.atDay(1)));
+        return rows.isEmpty() ? CalendarMonth.empty(userId, month) : rows.get(0);
+    }
+
+    private static int[] ints(Array array) throws SQLException {
+        Object[] values = (Object[]) array.getArray();
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i] != null ? ((Number) values[i]).intValue() : 0;
+        }
+        return result;
+    }
+
+    private static long[] longs(Array array) throws SQLException {
+        Object[] values = (Object[]) array.getArray();
+        long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i] != null ? ((Number) values[i]).longValue() : 0L;
+        }
+        return result;
+    }
+
+    private static String fromDailySql(String condition) {
+        return FROM_DAILY_SQL_TEMPLATE.formatted(condition);
+    }
+}
@@ -0,0 +1,66 @@
+package com.lifebit.coreapi.service.statistics;
+
+import com.lifebit.coreapi.service.scheduling.ScheduledJobRunner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 일별 요약(user_daily_summary) 백필/보정 작업
+ * - 기동 시 요약이 비어 있으면 전체 기록으로 한 번 채움 (도입 직후, 테이블 재생성 후)
+ * - 엔티티 리스너를 거치지 않는 변경(벌크 삭제, 다른 서비스의 직접 SQL 등)은 매일 최근 reconcile-days 일만 다시 집계해 보정
+ *   (그보다 오래된 날짜는 관리자 재구성으로 복구, 음식 영양 정보 수정은 DietService 에서 해당 음식을 쓴 날짜를 바로 재집계)
+ */
+@Component
+@Slf4j
+public class DailySummaryBackfillJob {
+
+    static final String BACKFILL_JOB_NAME = "daily-summary-backfill";
+    static final String RECONCILE_JOB_NAME = "daily-summary-reconcile";
+
+    private final DailySummaryRollup dailySummaryRollup;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    @Value("${statistics.daily-summary.reconcile-days:2}")
+    private int reconcileDays;
+
+    public DailySummaryBackfillJob(DailySummaryRollup dailySummaryRollup,
+                                   ScheduledJobRunner scheduledJobRunner,
+                                   ThreadPoolTaskScheduler taskScheduler) {
+        this.dailySummaryRollup = dailySummaryRollup;
+        this.scheduledJobRunner = scheduledJobRunner;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (!dailySummaryRollup.isEmpty()) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("[일별 요약] 백필 필요 여부 확인 실패 - 오류: {}", e.getMessage());
+            return;
+        }
+        // 기동을 막지 않도록 스케줄러 스레드에서 실행
+        taskScheduler.execute(() -> scheduledJobRunner.run(BACKFILL_JOB_NAME, Duration.ofMinutes(10), dailySummaryRollup::rebuildAll));
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void scheduledReconcile() {
+        scheduledJobRunner.run(RECONCILE_JOB_NAME, Duration.ofHours(1), this::reconcile);
+    }
+
+    public long reconcile() {
+        LocalDate today = LocalDate.now();
+        return dailySummaryRollup.rebuildRange(today.minusDays(reconcileDays), today);
+    }
+}
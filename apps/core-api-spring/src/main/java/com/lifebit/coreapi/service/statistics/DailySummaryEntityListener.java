@@ -0,0 +1,114 @@
+package com.lifebit.coreapi.service.statistics;
+
+import com.lifebit.coreapi.entity.ExerciseSession;
+import com.lifebit.coreapi.entity.HealthRecord;
+import com.lifebit.coreapi.entity.MealLog;
+import com.lifebit.coreapi.service.SavepointRunner;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 운동/식단/건강 기록 엔티티 변경을 일별 요약(user_daily_summary)에 반영하는 JPA 리스너
+ * - 바뀐 기록의 (사용자, 날짜) 요약만 다시 집계하고, 수정으로 날짜가 옮겨지면 이전 날짜도 다시 집계
+ * - 운동/식단의 로드 시점 날짜는 StreakEntityListener와 같은 필드를 쓰므로 @EntityListeners 에서 이 리스너를 먼저 둔다
+ *   (연속 기록 리스너가 수정 처리 후 로드 시점 날짜를 현재 값으로 덮어씀)
+ * - 요약 갱신 실패가 기록 저장을 막지 않도록 세이브포인트 안에서 갱신하고, 실패하면 되돌린 뒤 로그만 남김 (관리자 재구성으로 복구)
+ */
+@Component
+@Slf4j
+public class DailySummaryEntityListener {
+
+    // 리스너는 EntityManagerFactory 생성 중에 만들어지므로 지연 조회
+    private final ObjectProvider<DailySummaryRollup> dailySummaryRollup;
+    private final ObjectProvider<SavepointRunner> savepointRunner;
+
+    public DailySummaryEntityListener(ObjectProvider<DailySummaryRollup> dailySummaryRollup,
+                                      ObjectProvider<SavepointRunner> savepointRunner) {
+        this.dailySummaryRollup = dailySummaryRollup;
+        this.savepointRunner = savepointRunner;
+    }
+
+    @PostLoad
+    public void onLoad(Object entity) {
+        if (entity instanceof HealthRecord record) {
+            record.setLoadedRecordDate(record.getRecordDate());
+        }
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        refresh(current(entity));
+        onLoad(entity);
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        refreshMoved(entity);
+        onLoad(entity);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        refreshMoved(entity);
+    }
+
+    private void refreshMoved(Object entity) {
+        Day current = current(entity);
+        Day previous = loaded(entity);
+        refresh(current);
+        if (previous != null && !Objects.equals(previous, current)) {
+            refresh(previous);
+        }
+    }
+
+    private void refresh(Day day) {
+        if (day == null) {
+            return;
+        }
+        try {
+            savepointRunner.getObject().run(() -> dailySummaryRollup.getObject().refreshDay(day.userId(), day.date()));
+        } catch (Exception e) {
+            log.warn("[일별 요약] 증분 갱신 실패 - 사용자: {}, 날짜: {}, 오류: {}", day.userId(), day.date(), e.getMessage());
+        }
+    }
+
+    private record Day(Long userId, LocalDate date) {}
+
+    private static Day current(Object entity) {
+        if (entity instanceof ExerciseSession session) {
+            return day(session.getUser() != null ? session.getUser().getUserId() : null, session.getExerciseDate());
+        }
+        if (entity instanceof MealLog mealLog) {
+            return day(mealLog.getUser() != null ? mealLog.getUser().getUserId() : null, mealLog.getLogDate());
+        }
+        if (entity instanceof HealthRecord record) {
+            return day(record.getUserId(), record.getRecordDate());
+        }
+        return null;
+    }
+
+    private static Day loaded(Object entity) {
+        if (entity instanceof ExerciseSession session) {
+            return day(session.getUser() != null ? session.getUser().getUserId() : null, session.getLoadedExerciseDate());
+        }
+        if (entity instanceof MealLog mealLog) {
+            return day(mealLog.getUser() != null ? mealLog.getUser().getUserId() : null, mealLog.getLoadedLogDate());
+        }
+        if (entity instanceof HealthRecord record) {
+            return day(record.getUserId(), record.getLoadedRecordDate());
+        }
+        return null;
+    }
+
+    private static Day day(Long userId, LocalDate date) {
+        return userId != null && date != null ? new Day(userId, date) : null;
+    }
+}
@@ -0,0 +1,351 @@
+package com.lifebit.coreapi.service.statistics;
+
+import com.lifebit.coreapi.dto.statistics.DailySummary;
+import com.lifebit.coreapi.entity.BodyPartType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 사용자별 일별 요약(user_daily_summary) 저장소
+ * - 운동 세션/식단/건강 기록이 바뀌면 해당 (사용자, 날짜) 한 줄만 원본 테이블에서 다시 집계 (증분 갱신)
+ * - 차트/통계는 원본 행 대신 하루 한 줄의 요약을 읽으므로 1년 조회도 최대 365행
+ * - 재집계는 같은 SQL을 범위 조건만 바꿔 사용하므로 증분 갱신과 전체 재구성 결과가 항상 같음
+ * - 일별 요약이 바뀌면 그 날짜가 속한 주/월/연 구간 집계(PeriodBucketStore)와 월 달력(CalendarMonthStore)도 함께 갱신
+ * - 증분 갱신은 사용자 단위 트랜잭션 advisory lock 을 먼저 잡아 같은 사용자의 동시 갱신을 커밋 순서대로 직렬화
+ *   (READ COMMITTED 에서 잠금 대기 후 실행되는 재집계 문장은 먼저 커밋된 기록까지 포함하므로 갱신이 유실되지 않음)
+ */
+@Component
+@Slf4j
+public class DailySummaryRollup {
+
+    /**
+     * 요약을 읽는 관점 (해당 데이터가 있는 날짜만 조회)
+     */
+    public enum Facet {
+        EXERCISE("exercise_sessions > 0"),
+        MEAL("meal_log_count > 0"),
+        HEALTH_RECORD("health_record_count > 0"),
+        ANY("TRUE");
+
+        private final String condition;
+
+        Facet(String condition) {
+            this.condition = condition;
+        }
+    }
+
+    private static final List<BodyPartType> BODY_PARTS = Arrays.asList(BodyPartType.values());
+
+    private static final String BODY_PART_COLUMNS = BODY_PARTS.stream()
+            .map(part -> part.name() + "_count, " + part.name() + "_minutes")
+            .collect(Collectors.joining(", "));
+
+    // 재집계 시 덮어쓰는 컬럼
+    private static final List<String> UPDATE_COLUMNS = Stream.of(
+                    Stream.of("exercise_sessions", "exercise_minutes", "calories_burned", "total_sets"),
+                    BODY_PARTS.stream().flatMap(part -> Stream.of(part.name() + "_count", part.name() + "_minutes")),
+                    Stream.of("body_part_mask", "primary_exercise", "primary_exercise_id", "meal_log_count", "kcal_intake", "carbs_intake", "protein_intake",
+                            "fat_intake", "health_record_count", "weight", "bmi", "height"))
+            .flatMap(columns -> columns)
+            .toList();
+
+    // 세 원본 테이블을 (사용자, 날짜)로 각각 집계한 뒤 FULL JOIN 으로 합침
+    // %1$s/%2$s/%3$s: 운동/식단/건강 기록 범위 조건
+    // 대표 운동은 가장 많이 기록한 카탈로그 ID 하나를 MODE() 로 고르고 이름은 그 ID 의 이름 (동률이어도 ID 와 이름이 항상 같은 운동)
+    // 식단 영양소는 NutritionAccumulator 와 같은 규칙 (섭취량 0 이하/없음 제외, 음수 영양소 0, 날짜 합계에서 한 번만 반올림)
+    private static final String ROLLUP_SQL_TEMPLATE = """
+            WITH ex AS (
+                SELECT es.user_id, es.exercise_date AS day,
+                       COUNT(*) AS sessions,
+                       COALESCE(SUM(es.duration_minutes), 0) AS minutes,
+                       COALESCE(SUM(es.calories_burned), 0) AS calories,
+                       COALESCE(SUM(es.sets), 0) AS sets,
+                       %4$s,
+                       COALESCE(BIT_OR(%9$s), 0) AS body_part_mask,
+                       MODE() WITHIN GROUP (ORDER BY es.exercise_catalog_id) AS primary_exercise_id
+                  FROM exercise_sessions es
+                  LEFT JOIN exercise_catalog ec ON ec.exercise_catalog_id = es.exercise_catalog_id
+                 WHERE es.exercise_date IS NOT NULL %1$s
+                 GROUP BY es.user_id, es.exercise_date
+            ), ml AS (
+                SELECT ml.user_id, ml.log_date AS day,
+                       COUNT(*) AS meal_logs,
+                       ROUND(COALESCE(SUM(GREATEST(fi.calories, 0) * ml.quantity) FILTER (WHERE ml.quantity > 0), 0) / 100, 2) AS kcal,
+                       ROUND(COALESCE(SUM(GREATEST(fi.carbs, 0) * ml.quantity) FILTER (WHERE ml.quantity > 0), 0) / 100, 2) AS carbs,
+                       ROUND(COALESCE(SUM(GREATEST(fi.protein, 0) * ml.quantity) FILTER (WHERE ml.quantity > 0), 0) / 100, 2) AS protein,
+                       ROUND(COALESCE(SUM(GREATEST(fi.fat, 0) * ml.quantity) FILTER (WHERE ml.quantity > 0), 0) / 100, 2) AS fat
+                  FROM meal_logs ml
+                  LEFT JOIN food_items fi ON fi.food_item_id = ml.food_item_id
+                 WHERE ml.user_id IS NOT NULL %2$s
+                 GROUP BY ml.user_id, ml.log_date
+            ), hr AS (
+                SELECT DISTINCT ON (hr.user_id, hr.record_date)
+                       hr.user_id, hr.record_date AS day, hr.weight, hr.bmi, hr.height,
+                       COUNT(*) OVER (PARTITION BY hr.user_id, hr.record_date) AS records
+                  FROM health_records hr
+                 WHERE TRUE %3$s
+                 ORDER BY hr.user_id, hr.record_date, hr.created_at DESC NULLS LAST, hr.health_record_id DESC
+            ), merged AS (
+                SELECT COALESCE(ex.user_id, ml.user_id) AS user_id, COALESCE(ex.day, ml.day) AS day,
+                       ex.sessions, ex.minutes, ex.calories, ex.sets, %5$s, ex.body_part_mask, pc.name AS primary_exercise,
+                       ex.primary_exercise_id, ml.meal_logs, ml.kcal, ml.carbs, ml.protein, ml.fat
+                  FROM ex FULL JOIN ml ON ml.user_id = ex.user_id AND ml.day = ex.day
+                  LEFT JOIN exercise_catalog pc ON pc.exercise_catalog_id = ex.primary_exercise_id
+            )
+            INSERT INTO user_daily_summary (user_id, summary_date, exercise_sessions, exercise_minutes, calories_burned,
+                                            total_sets, %6$s, body_part_mask, primary_exercise, primary_exercise_id, meal_log_count, kcal_intake,
+                                            carbs_intake, protein_intake, fat_intake, health_record_count,
+                                            weight, bmi, height, updated_at)
+            SELECT COALESCE(m.user_id, hr.user_id), COALESCE(m.day, hr.day),
+                   COALESCE(m.sessions, 0), COALESCE(m.minutes, 0), COALESCE(m.calories, 0), COALESCE(m.sets, 0),
+                   %7$s, COALESCE(m.body_part_mask, 0), m.primary_exercise, m.primary_exercise_id,
+                   COALESCE(m.meal_logs, 0), COALESCE(m.kcal, 0), COALESCE(m.carbs, 0), COALESCE(m.protein, 0),
+                   COALESCE(m.fat, 0), COALESCE(hr.records, 0), hr.weight, hr.bmi, hr.height, NOW()
+              FROM merged m FULL JOIN hr ON hr.user_id = m.user_id AND hr.day = m.day
+            ON CONFLICT (user_id, summary_date)
+            DO UPDATE SET %8$s, updated_at = NOW()
+            """;
+
+    private static final String DAY_SQL = rollupSql(
+            "AND es.user_id = ? AND es.exercise_date = ?",
+            "AND ml.user_id = ? AND ml.log_date = ?",
+            "AND hr.user_id = ? AND hr.record_date = ?");
+
+    private static final String RANGE_SQL = rollupSql(
+            "AND es.exercise_date BETWEEN ? AND ?",
+            "AND ml.log_date BETWEEN ? AND ?",
+            "AND hr.record_date BETWEEN ? AND ?");
+
+    private static final String ALL_SQL = rollupSql("", "", "");
+
+    // 원본 기록이 모두 사라진 날짜의 요약 삭제
+    private static final String DELETE_IF_EMPTY_SQL = """
+            DELETE FROM user_daily_summary s
+             WHERE s.user_id = ? AND s.summary_date = ?
+               AND NOT EXISTS (SELECT 1 FROM exercise_sessions WHERE user_id = s.user_id AND exercise_date = s.summary_date)
+               AND NOT EXISTS (SELECT 1 FROM meal_logs WHERE user_id = s.user_id AND log_date = s.summary_date)
+               AND NOT EXISTS (SELECT 1 FROM health_records WHERE user_id = s.user_id AND record_date = s.summary_date)
+            """;
+
+    // 두 정수 키 advisory lock 의 첫 번째 키 (스케줄 작업의 64비트 키 공간과 겹치지 않음)
+    private static final int USER_LOCK_CLASS = 0x4C424453;
+
+    private static final String LOCK_USER_SQL = "SELECT pg_advisory_xact_lock(?, ?)";
+
+    // 음식 영양 정보가 바뀌었을 때 다시 집계할 (사용자, 날짜), 잠금 순서를 맞추기 위해 사용자 순
+    private static final String FOOD_ITEM_DAYS_SQL =
+            "SELECT DISTINCT user_id, log_date FROM meal_logs WHERE food_item_id = ? AND user_id IS NOT NULL"
+                    + " ORDER BY user_id, log_date";
+
+    // 운동 카탈로그(이름/부위)가 바뀌었을 때 다시 집계할 (사용자, 날짜), 잠금 순서를 맞추기 위해 사용자 순
+    private static final String EXERCISE_CATALOG_DAYS_SQL =
+            "SELECT DISTINCT user_id, exercise_date AS day FROM exercise_sessions"
+                    + " WHERE exercise_catalog_id = ? AND user_id IS NOT NULL AND exercise_date IS NOT NULL"
+                    + " ORDER BY user_id, day";
+
+    private static final RowMapper<UserDay> USER_DAY_MAPPER = (rs, rowNum) ->
+            new UserDay(rs.getLong("user_id"), rs.getDate("day").toLocalDate());
+
+    private static final String SELECT_RANGE_SQL =
+            "SELECT * FROM user_daily_summary WHERE user_id = ? AND summary_date BETWEEN ? AND ? AND %s"
+                    + " ORDER BY summary_date DESC";
+
+    private static final RowMapper<DailySummary> ROW_MAPPER = (rs, rowNum) -> {
+        Map<BodyPartType, Integer> sessions = new EnumMap<>(BodyPartType.class);
+        Map<BodyPartType, Integer> minutes = new EnumMap<>(BodyPartType.class);
+        for (BodyPartType part : BODY_PARTS) {
+            sessions.put(part, rs.getInt(part.name() + "_count"));
+            minutes.put(part, rs.getInt(part.name() + "_minutes"));
+        }
+        return DailySummary.builder()
+                .userId(rs.getLong("user_id"))
+                .summaryDate(rs.getDate("summary_date").toLocalDate())
+                .exerciseSessions(rs.getInt("exercise_sessions"))
+                .exerciseMinutes(rs.getInt("exercise_minutes"))
+                .caloriesBurned(rs.getInt("calories_burned"))
+                .totalSets(rs.getInt("total_sets"))
+                .bodyPartSessions(sessions)
+                .bodyPartMinutes(minutes)
+                .bodyPartMask(rs.getInt("body_part_mask"))
+                .primaryExercise(rs.getString("primary_exercise"))
+                .primaryExerciseId(rs.getObject("primary_exercise_id", Long.class))
+                .mealLogCount(rs.getInt("meal_log_count"))
+                .kcalIntake(rs.getBigDecimal("kcal_intake"))
+                .carbsIntake(rs.getBigDecimal("carbs_intake"))
+                .proteinIntake(rs.getBigDecimal("protein_intake"))
+                .fatIntake(rs.getBigDecimal("fat_intake"))
+                .healthRecordCount(rs.getInt("health_record_count"))
+                .weight(rs.getBigDecimal("weight"))
+                .bmi(rs.getBigDecimal("bmi"))
+                .height(rs.getBigDecimal("height"))
+                .build();
+    };
+
+    /**
+     * 재집계 대상 (사용자, 날짜)
+     */
+    public record UserDay(Long userId, LocalDate date) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PeriodBucketStore periodBucketStore;
+    private final CalendarMonthStore calendarMonthStore;
+
+    public DailySummaryRollup(JdbcTemplate jdbcTemplate, PeriodBucketStore periodBucketStore,
+                              CalendarMonthStore calendarMonthStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.periodBucketStore = periodBucketStore;
+        this.calendarMonthStore = calendarMonthStore;
+    }
+
+    /**
+     * 사용자 하루 요약 재집계 (기록 추가/수정/삭제 시, 기록을 저장하는 트랜잭션 안에서 호출)
+     */
+    public void refreshDay(Long userId, LocalDate date) {
+        lockUser(userId);
+        Date day = Date.valueOf(date);
+        jdbcTemplate.update(DAY_SQL, userId, day, userId, day, userId, day);
+        jdbcTemplate.update(DELETE_IF_EMPTY_SQL, userId, day);
+        periodBucketStore.refreshContaining(userId, date);
+        calendarMonthStore.refreshMonth(userId, date);
+    }
+
+    /**
+     * 음식 영양 정보 수정 후 그 음식을 기록한 모든 (사용자, 날짜) 재집계
+     * @return 재집계한 날짜 수
+     */
+    public int refreshFoodItem(Long foodItemId) {
+        List<Map<String, Object>> days = jdbcTemplate.queryForList(FOOD_ITEM_DAYS_SQL, foodItemId);
+        for (Map<String, Object> day : days) {
+            refreshDay(((Number) day.get("user_id")).longValue(), ((Date) day.get("log_date")).toLocalDate());
+        }
+        if (!days.isEmpty()) {
+            log.info("[일별 요약] 음식 영양 정보 변경 반영 - 음식: {}, {}일", foodItemId, days.size());
+        }
+        return days.size();
+    }
+
+    /**
+     * 운동 카탈로그 이름/부위 수정 후 그 운동을 기록한 모든 (사용자, 날짜) 재집계
+     * (부위별 횟수/시간, 부위 비트, 대표 운동이 카탈로그 값을 따르므로)
+     * @return 재집계한 날짜 수
+     */
+    public int refreshExerciseCatalog(Long catalogId) {
+        List<UserDay> days = exerciseCatalogDays(catalogId);
+        refreshDays(days);
+        if (!days.isEmpty()) {
+            log.info("[일별 요약] 운동 카탈로그 변경 반영 - 카탈로그: {}, {}일", catalogId, days.size());
+        }
+        return days.size();
+    }
+
+    /**
+     * 운동 카탈로그를 기록한 (사용자, 날짜) 목록
+     * 카탈로그 삭제 시 세션의 카탈로그 참조가 NULL 로 바뀌므로 삭제 전에 읽어 두고 삭제 후 refreshDays 로 재집계
+     */
+    public List<UserDay> exerciseCatalogDays(Long catalogId) {
+        return jdbcTemplate.query(EXERCISE_CATALOG_DAYS_SQL, USER_DAY_MAPPER, catalogId);
+    }
+
+    /**
+     * 여러 (사용자, 날짜) 재집계 (잠금 순서를 맞추기 위해 사용자 순으로 정렬된 목록)
+     */
+    public void refreshDays(List<UserDay> days) {
+        for (UserDay day : days) {
+            refreshDay(day.userId(), day.date());
+        }
+    }
+
+    /**
+     * 기간 내 전체 사용자 요약 재구성
+     * @return 재구성된 행 수
+     */
+    @Transactional
+    public int rebuildRange(LocalDate from, LocalDate to) {
+        Date start = Date.valueOf(from);
+        Date end = Date.valueOf(to);
+        jdbcTemplate.update("DELETE FROM user_daily_summary WHERE summary_date BETWEEN ? AND ?", start, end);
+        int rows = jdbcTemplate.update(RANGE_SQL, start, end, start, end, start, end);
+        periodBucketStore.rebuildRange(from, to);
+        calendarMonthStore.rebuildRange(from, to);
+        log.info("[일별 요약] 기간 재구성 완료 - {} ~ {}, {}건", from, to, rows);
+        return rows;
+    }
+
+    /**
+     * 전체 요약 재구성 (백필/관리자 명령)
+     * @return 재구성된 행 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        jdbcTemplate.update("DELETE FROM user_daily_summary");
+        int rows = jdbcTemplate.update(ALL_SQL);
+        periodBucketStore.rebuildAll();
+        calendarMonthStore.rebuildAll();
+        log.info("[일별 요약] 전체 재구성 완료 - {}건", rows);
+        return rows;
+    }
+
+    public boolean isEmpty() {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM user_daily_summary)", Boolean.class);
+        return !Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * 기간 내 해당 데이터가 있는 날짜의 요약 (최신순)
+     */
+    public List<DailySummary> findDays(Long userId, LocalDate from, LocalDate to, Facet facet) {
+        return jdbcTemplate.query(SELECT_RANGE_SQL.formatted(facet.condition), ROW_MAPPER,
+                userId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * 운동한 날짜 수 (전체 기간)
+     */
+    public int countWorkoutDays(Long userId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_daily_summary WHERE user_id = ? AND exercise_sessions > 0",
+                Integer.class, userId);
+        return count != null ? count : 0;
+    }
+
+    private void lockUser(Long userId) {
+        jdbcTemplate.query(LOCK_USER_SQL, (ResultSetExtractor<Void>) rs -> null, USER_LOCK_CLASS, Long.hashCode(userId));
+    }
+
+    private static String rollupSql(String exerciseFilter, String mealFilter, String healthFilter) {
+        String aggregates = BODY_PARTS.stream()
+                .map(part -> "COUNT(*) FILTER (WHERE ec.body_part = '" + part.name() + "') AS " + part.name() + "_count, "
+                        + "COALESCE(SUM(es.duration_minutes) FILTER (WHERE ec.body_part = '" + part.name() + "'), 0) AS "
+                        + part.name() + "_minutes")
+                .collect(Collectors.joining(",\n                       "));
+        String merged = BODY_PARTS.stream()
+                .map(part -> "ex." + part.name() + "_count, ex." + part.name() + "_minutes")
+                .collect(Collectors.joining(", "));
+        String values = BODY_PARTS.stream()
+                .map(part -> "COALESCE(m." + part.name() + "_count, 0), COALESCE(m." + part.name() + "_minutes, 0)")
+                .collect(Collectors.joining(", "));
+        // 부위별 비트 (BodyPartType 순서, BodyPartCalendar.bit 와 같은 값)
+        String maskBits = BODY_PARTS.stream()
+                .map(part -> "WHEN '" + part.name() + "' THEN " + BodyPartCalendar.bit(part))
+                .collect(Collectors.joining(" ", "CASE ec.body_part ", " ELSE 0 END"));
+        String assignments = UPDATE_COLUMNS.stream()
+                .map(column -> column + " = EXCLUDED." + column)
+                .collect(Collectors.joining(", "));
+        return ROLLUP_SQL_TEMPLATE.formatted(exerciseFilter, mealFilter, healthFilter,
+                aggregates, merged, BODY_PART_COLUMNS, values, assignments, maskBits);
+    }
+}
@@ -0,0 +1,548 @@
+package com.lifebit.coreapi.service.statistics;
+
+import com.lifebit.coreapi.dto.statistics.DailySummary;
+import com.lifebit.coreapi.dto.statistics.HealthStatisticsReport;
+import com.lifebit.coreapi.dto.statistics.HealthStatisticsReport.BodyPartFrequency;
+import com.lifebit.coreapi.dto.statistics.HealthStatisticsReport.BodyPartSummary;
+import com.lifebit.coreapi.dto.statistics.HealthStatisticsReport.ExerciseChartPoint;
+import com.lifebit.coreapi.dto.statistics.HealthStatisticsReport.ExerciseSummary;
+import com.lifebit.coreapi.dto.statistics.HealthStatisticsReport.GoalTargets;
+import com.lifebit.coreapi.dto.statistics.HealthStatisticsReport.HealthChartPoint;
+import com.lifebit.coreapi.dto.statistics.HealthStatisticsReport.HealthRecordSummary;
+import com.lifebit.coreapi.dto.statistics.HealthStatisticsReport.MealSummary;
+import com.lifebit.coreapi.dto.statistics.HealthStatisticsReport.NutritionSummary;
+import com.lifebit.coreapi.dto.statistics.HealthStatisticsReport.WeeklyWorkoutSummary;
+import com.lifebit.coreapi.dto.statistics.PeriodBucket;
+import com.lifebit.coreapi.entity.BodyPartType;
+import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.entity.UserGoal;
+import com.lifebit.coreapi.service.UserGoalService;
+import com.lifebit.coreapi.service.UserService;
+import com.lifebit.coreapi.service.statistics.DailySummaryRollup.Facet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 종합 건강 통계 계산 엔진
+ * - 운동/식단/건강 기록을 원본 행 대신 일별 요약(user_daily_summary)에서 요청에 필요한 가장 넓은 구간으로 각각 한 번만 조회
+ * - 운동/건강 차트는 주/월/연 기간이면 구간 집계(PeriodBucketStore)에서 표시 구간 + 앞쪽 약 3개월(직전 값 채우기용) 구간만 읽음
+ *   (일 기간만 일별 요약에서 최근 97일)
+ * - 서로 독립인 조회(프로필/운동/건강 기록/식단)는 가상 스레드에서 동시에 실행하고, 조회마다 제한 시간을 둔다
+ * - 동시 조회 허가는 요청 단위로 한 번에 확보하고, 확보하지 못하면 기다리지 않고 호출 스레드에서 순차 조회
+ *   (요청이 몰려도 허가 대기로 섹션이 비는 일 없이 커넥션 사용량만 요청당 1개로 줄어듦)
+ * - 제한 시간 초과나 오류가 난 조회에 의존하는 섹션만 비우고 degradedSections로 알려준다 (나머지 섹션은 정상 응답)
+ *   프로필 조회 실패 시 현재 체중/키/BMI는 임의 값 대신 null
+ * - 조회한 날짜별 요약을 한 번씩 순회하며 나머지 섹션(기간 통계, 부위별 빈도, 주간 통계, 연속 일수, 영양소)을 동시에 집계
+ */
+@Component
+@Slf4j
+public class HealthStatisticsEngine {
+
+    // 기간 대비 목표 달성률 변화 기준값 (이전 기간 데이터 도입 전 임시값)
+    private static final int BASELINE_ACHIEVEMENT_RATE = 85;
+
+    /**
+     * 독립적으로 조회되는 데이터 묶음과, 조회 실패 시 비워지는 응답 섹션
+     */
+    enum Load {
+        PROFILE("profile", "goals"),
+        EXERCISE("exercise", "weekly", "bodyParts"),
+        HEALTH_RECORDS("healthRecords"),
+        MEALS("meals", "nutrition"),
+        CHARTS("exerciseChart", "healthChart");
+
+        private final List<String> sections;
+
+        Load(String... sections) {
+            this.sections = List.of(sections);
+        }
+    }
+
+    private record Profile(User user, UserGoal goal) {}
+
+    private record ExerciseLoad(List<DailySummary> days, int totalWorkoutDays) {}
+
+    private record ChartLoad(List<ExerciseChartPoint> exercise, List<HealthChartPoint> health) {}
+
+    private final UserService userService;
+    private final UserGoalService userGoalService;
+    private final DailySummaryRollup dailySummaryRollup;
+    private final PeriodBucketStore periodBucketStore;
+    private final ExecutorService statisticsExecutor;
+    private final Semaphore loadPermits;
+
+    // false면 호출 스레드에서 순차 조회 (실패한 조회의 섹션만 비우는 동작은 동일)
+    @Value("${statistics.fanout.enabled:true}")
+    private boolean fanOutEnabled;
+
+    // 조회별 제한 시간 (모든 조회가 동시에 시작하므로 응답 시간은 가장 느린 조회를 넘지 않음)
+    @Value("${statistics.fanout.section-timeout-ms:1500}")
+    private long sectionTimeoutMillis;
+
+    public HealthStatisticsEngine(UserService userService,
+                                  UserGoalService userGoalService,
+                                  DailySummaryRollup dailySummaryRollup,
+                                  PeriodBucketStore periodBucketStore,
+                                  @Qualifier("statisticsExecutor") ExecutorService statisticsExecutor,
+                                  @Value("${statistics.fanout.max-concurrent-loads:8}") int maxConcurrentLoads) {
+        this.userService = userService;
+        this.userGoalService = userGoalService;
+        this.dailySummaryRollup = dailySummaryRollup;
+        this.periodBucketStore = periodBucketStore;
+        this.statisticsExecutor = statisticsExecutor;
+        // 가상 스레드는 개수 제한이 없으므로 커넥션 풀보다 작은 수로 동시 조회를 제한 (최소 한 요청분)
+        this.loadPermits = new Semaphore(Math.max(maxConcurrentLoads, Load.values().length));
+    }
+
+    /**
+     * 종합 건강 통계 계산
+     */
+    public HealthStatisticsReport compute(Long userId, String period) {
+        StatisticsWindow window = StatisticsWindow.of(period, LocalDate.now());
+        StatisticsWindow.DateRange exerciseRange = window.exerciseLoadRange();
+
+        Callable<Profile> profileLoader = () -> new Profile(
+                userService.getUserById(userId), userGoalService.getUserGoalOrDefault(userId));
+        Callable<ExerciseLoad> exerciseLoader = () -> new ExerciseLoad(
+                dailySummaryRollup.findDays(userId, exerciseRange.start(), exerciseRange.end(), Facet.EXERCISE),
+                dailySummaryRollup.countWorkoutDays(userId));
+        Callable<List<DailySummary>> healthRecordLoader = () -> dailySummaryRollup.findDays(
+                userId, window.healthRecordStatsRange().start(), window.healthRecordStatsRange().end(), Facet.HEALTH_RECORD);
+        Callable<List<DailySummary>> mealLoader = () -> dailySummaryRollup.findDays(
+                userId, window.mealRange().start(), window.mealRange().end(), Facet.MEAL);
+        Callable<ChartLoad> chartLoader = () -> loadCharts(userId, window);
+
+        Set<Load> failed = EnumSet.noneOf(Load.class);
+        Profile profile;
+        ExerciseLoad exercise;
+        List<DailySummary> healthRecords;
+        List<DailySummary> meals;
+        ChartLoad charts;
+        if (fanOutEnabled && loadPermits.tryAcquire(Load.values().length)) {
+            // 조회마다 허가 하나씩, 조회가 끝나거나 취소되면 반납
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMillis);
+            PermitFuture<Profile> profileFuture = submit(profileLoader);
+            PermitFuture<ExerciseLoad> exerciseFuture = submit(exerciseLoader);
+            PermitFuture<List<DailySummary>> healthRecordFuture = submit(healthRecordLoader);
+            PermitFuture<List<DailySummary>> mealFuture = submit(mealLoader);
+            PermitFuture<ChartLoad> chartFuture = submit(chartLoader);
+
+            profile = await(userId, Load.PROFILE, profileFuture, deadline, failed);
+            exercise = await(userId, Load.EXERCISE, exerciseFuture, deadline, failed);
+            healthRecords = await(userId, Load.HEALTH_RECORDS, healthRecordFuture, deadline, failed);
+            meals = await(userId, Load.MEALS, mealFuture, deadline, failed);
+            charts = await(userId, Load.CHARTS, chartFuture, deadline, failed);
+        } else {
+            if (fanOutEnabled) {
+                log.debug("건강 통계 동시 조회 한도 도달 - 사용자: {}, 순차 조회", userId);
+            }
+            profile = loadInline(userId, Load.PROFILE, profileLoader, failed);
+            exercise = loadInline(userId, Load.EXERCISE, exerciseLoader, failed);
+            healthRecords = loadInline(userId, Load.HEALTH_RECORDS, healthRecordLoader, failed);
+            meals = loadInline(userId, Load.MEALS, mealLoader, failed);
+            charts = loadInline(userId, Load.CHARTS, chartLoader, failed);
+        }
+
+        List<String> degradedSections = failed.stream().flatMap(load -> load.sections.stream()).toList();
+        return assemble(userId, window,
+                profile != null ? profile.user() : null,
+                profile != null ? profile.goal() : null,
+                exercise != null ? exercise.days() : null,
+                exercise != null ? exercise.totalWorkoutDays() : 0,
+                healthRecords, meals, charts, degradedSections);
+    }
+
+    /**
+     * 차트 데이터: 일 기간은 일별 요약, 그 외는 구간 집계 (기록이 있는 날/구간만, 구간 시작일 기준)
+     */
+    private ChartLoad loadCharts(Long userId, StatisticsWindow window) {
+        List<ExerciseChartPoint> exercise = new ArrayList<>();
+        List<HealthChartPoint> health = new ArrayList<>();
+        PeriodBucketStore.BucketType bucketType = window.chartBucketType();
+        if (bucketType == null) {
+            List<DailySummary> days = dailySummaryRollup.findDays(
+                    userId, window.chartRange().start(), window.chartRange().end(), Facet.ANY);
+            for (DailySummary day : days.reversed()) {
+                if (day.getExerciseSessions() > 0) {
+                    exercise.add(new ExerciseChartPoint(day.getSummaryDate(), day.getExerciseMinutes(), day.getCaloriesBurned()));
+                }
+                if (day.getHealthRecordCount() > 0) {
+                    health.add(new HealthChartPoint(day.getSummaryDate(), toDouble(day.getWeight()),
+                            toDouble(day.getBmi()), toDouble(day.getHeight())));
+                }
+            }
+            return new ChartLoad(exercise, health);
+        }
+        for (PeriodBucket bucket : periodBucketStore.findRecent(userId, bucketType, window.chartBucketCount())) {
+            if (bucket.getExerciseSessions() > 0) {
+                exercise.add(new ExerciseChartPoint(bucket.getBucketStart(), bucket.getExerciseMinutes(),
+                        bucket.getCaloriesBurned()));
+            }
+            if (bucket.getWeightDays() > 0 || bucket.getBmiDays() > 0) {
+                // 구간 평균 (키는 구간 집계에 없음)
+                health.add(new HealthChartPoint(bucket.getBucketStart(), toDouble(bucket.getAverageWeight()),
+                        toDouble(bucket.getAverageBmi()), null));
+            }
+        }
+        return new ChartLoad(exercise, health);
+    }
+
+    private static Double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : null;
+    }
+
+    /**
+     * 요청이 미리 확보한 허가 하나를 쓰는 조회 (완료 또는 취소 시 한 번만 반납)
+     */
+    private record PermitFuture<T>(Future<T> future, AtomicBoolean released) {}
+
+    private <T> PermitFuture<T> submit(Callable<T> loader) {
+        AtomicBoolean released = new AtomicBoolean();
+        Future<T> future = statisticsExecutor.submit(() -> {
+            try {
+                return loader.call();
+            } finally {
+                releasePermit(released);
+            }
+        });
+        return new PermitFuture<>(future, released);
+    }
+
+    private void releasePermit(AtomicBoolean released) {
+        if (released.compareAndSet(false, true)) {
+            loadPermits.release();
+        }
+    }
+
+    /**
+     * 조회 취소 (시작 전에 취소되면 작업 안의 반납이 실행되지 않으므로 여기서 반납)
+     */
+    private void cancel(PermitFuture<?> pending) {
+        pending.future().cancel(true);
+        releasePermit(pending.released());
+    }
+
+    /**
+     * 공통 마감 시각까지 조회 결과를 기다림 (실패/초과 시 null, 해당 조회는 failed에 기록)
+     */
+    private <T> T await(Long userId, Load load, PermitFuture<T> pending, long deadline, Set<Load> failed) {
+        Future<T> future = pending.future();
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            cancel(pending);
+            log.warn("건강 통계 조회 시간 초과 - 사용자: {}, 조회: {}, 제한: {}ms", userId, load, sectionTimeoutMillis);
+        } catch (ExecutionException e) {
+            log.warn("건강 통계 조회 실패 - 사용자: {}, 조회: {}, 오류: {}", userId, load, e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(pending);
+            log.warn("건강 통계 조회 대기 중 인터럽트 - 사용자: {}, 조회: {}", userId, load);
+        }
+        failed.add(load);
+        return null;
+    }
+
+    private <T> T loadInline(Long userId, Load load, Callable<T> loader, Set<Load> failed) {
+        try {
+            return loader.call();
+        } catch (Exception e) {
+            log.warn("건강 통계 조회 실패 - 사용자: {}, 조회: {}, 오류: {}", userId, load, e.getMessage(), e);
+            failed.add(load);
+            return null;
+        }
+    }
+
+    /**
+     * 조회 결과로 보고서 조립 (null인 입력에 의존하는 섹션은 비워 둠)
+     */
+    HealthStatisticsReport assemble(Long userId, StatisticsWindow window, User user, UserGoal goal,
+                                    List<DailySummary> exerciseDays, int totalWorkoutDays,
+                                    List<DailySummary> healthRecordDays, List<DailySummary> mealDays,
+                                    ChartLoad charts, List<String> degradedSections) {
+        HealthStatisticsReport.HealthStatisticsReportBuilder report = HealthStatisticsReport.builder()
+                .userId(userId)
+                .period(window.period())
+                .degradedSections(degradedSections);
+
+        // 프로필 조회에 실패하면 체중/키/BMI는 비워 둠 (profile 섹션 누락으로 표시)
+        if (user != null) {
+            BigDecimal currentWeight = user.getWeight() != null ? user.getWeight() : BigDecimal.valueOf(70.0);
+            BigDecimal currentHeight = user.getHeight() != null ? user.getHeight() : BigDecimal.valueOf(170.0);
+            report.currentWeight(currentWeight.doubleValue())
+                    .currentHeight(currentHeight.doubleValue())
+                    .currentBMI(calculateBMI(currentWeight, currentHeight).doubleValue());
+        }
+
+        if (goal != null) {
+            report.goals(new GoalTargets(goal.getWeeklyWorkoutTarget(), goal.getDailyCarbsTarget(),
+                    goal.getDailyProteinTarget(), goal.getDailyFatTarget()));
+        }
+        if (exerciseDays != null) {
+            ExerciseAggregates exercise = aggregateExercise(window, exerciseDays);
+            report.exercise(exercise.summary(window, goal, totalWorkoutDays))
+                    .weekly(exercise.weekly())
+                    .bodyParts(exercise.bodyParts());
+        }
+        if (healthRecordDays != null) {
+            report.healthRecords(summarizeHealthRecords(window, healthRecordDays));
+        }
+        if (charts != null) {
+            report.exerciseChart(charts.exercise())
+                    .healthChart(charts.health());
+        }
+        if (mealDays != null) {
+            report.meals(summarizeTodayMeals(window, mealDays))
+                    .nutrition(summarizeNutrition(window, mealDays));
+        }
+
+        log.info("건강 통계 계산 완료 - 사용자: {}, 기간: {}, 운동 {}일, 건강기록 {}일, 식단 {}일, 누락 섹션: {}",
+                userId, window.period(), sizeOf(exerciseDays), sizeOf(healthRecordDays), sizeOf(mealDays), degradedSections);
+        return report.build();
+    }
+
+    private static String sizeOf(List<?> rows) {
+        return rows != null ? String.valueOf(rows.size()) : "-";
+    }
+
+    // ------------------------------------------------------------------
+    // 운동: 한 번의 순회로 기간 통계, 차트, 부위별 빈도, 주간 통계, 연속 일수 집계
+    // ------------------------------------------------------------------
+
+    private ExerciseAggregates aggregateExercise(StatisticsWindow window, List<DailySummary> days) {
+        StatisticsWindow.DateRange bodyPartRange = window.bodyPartRange();
+        ExerciseAggregates agg = new ExerciseAggregates(bodyPartRange);
+        for (DailySummary day : days) {
+            LocalDate date = day.getSummaryDate();
+            int sessions = day.getExerciseSessions();
+            int minutes = day.getExerciseMinutes();
+            int calories = day.getCaloriesBurned();
+
+            if (window.periodRange().contains(date)) {
+                agg.periodWorkouts += sessions;
+                agg.periodMinutes += minutes;
+                agg.periodCalories += calories;
+            }
+            if (window.streakRange().contains(date)) {
+                agg.activeDays.add(date);
+            }
+            if (window.weekRange().contains(date)) {
+                agg.weeklyWorkouts += sessions;
+                for (BodyPartType bodyPart : BodyPartType.values()) {
+                    String part = bodyPart.name().toUpperCase();
+                    agg.weeklyCounts.merge(part, day.sessionsFor(bodyPart), Integer::sum);
+                    agg.weeklyMinutes.merge(part, day.minutesFor(bodyPart), Integer::sum);
+                }
+            }
+            if (bodyPartRange.contains(date)) {
+                agg.bodyPartSessions += sessions;
+                // 하루에 한 부위는 1번만 카운트 (일별 부위 비트마스크), 시간은 모든 세션 합계
+                int mask = day.getBodyPartMask();
+                agg.bodyPartCalendar.mark(date, mask);
+                for (BodyPartType bodyPart : BodyPartType.values()) {
+                    if (BodyPartCalendar.contains(mask, bodyPart)) {
+                        agg.bodyPartDuration[bodyPart.ordinal()] += day.minutesFor(bodyPart);
+                    }
+                }
+            }
+        }
+        agg.streak = currentStreak(window.today(), agg.activeDays);
+        return agg;
+    }
+
+    /**
+     * 오늘부터 거슬러 올라가며 운동한 날이 이어지는 일수
+     */
+    private static int currentStreak(LocalDate today, Set<LocalDate> activeDays) {
+        int streak = 0;
+        LocalDate cursor = today;
+        while (activeDays.contains(cursor)) {
+            streak++;
+            cursor = cursor.minusDays(1);
+        }
+        return streak;
+    }
+
+    private static final class ExerciseAggregates {
+        int periodWorkouts;
+        int periodMinutes;
+        int periodCalories;
+        int weeklyWorkouts;
+        int bodyPartSessions;
+        int streak;
+        final Set<LocalDate> activeDays = new HashSet<>();
+        final Map<String, Integer> weeklyCounts = HealthStatisticsReport.emptyBodyPartMap();
+        final Map<String, Integer> weeklyMinutes = HealthStatisticsReport.emptyBodyPartMap();
+        final BodyPartCalendar bodyPartCalendar;
+        final int[] bodyPartDuration = new int[BodyPartType.values().length];
+
+        ExerciseAggregates(StatisticsWindow.DateRange bodyPartRange) {
+            this.bodyPartCalendar = new BodyPartCalendar(bodyPartRange.start(), bodyPartRange.end());
+        }
+
+        ExerciseSummary summary(StatisticsWindow window, UserGoal goal, int totalWorkoutDays) {
+            int averageDailyCalories = window.periodDays() > 0 ? periodCalories / window.periodDays() : 0;
+            // 목표 조회 실패 시 달성률은 0
+            Integer weeklyTarget = goal != null ? goal.getWeeklyWorkoutTarget() : null;
+            int adjustedGoal = window.adjustGoal(weeklyTarget != null ? weeklyTarget : 0);
+            int goalAchievementRate = adjustedGoal > 0 ? (periodWorkouts * 100 / adjustedGoal) : 0;
+            return new ExerciseSummary(window.workoutKey(), window.minutesKey(), periodWorkouts, periodMinutes,
+                    periodCalories, averageDailyCalories, streak, totalWorkoutDays,
+                    goalAchievementRate, goalAchievementRate - BASELINE_ACHIEVEMENT_RATE);
+        }
+
+        WeeklyWorkoutSummary weekly() {
+            return new WeeklyWorkoutSummary(weeklyWorkouts, weeklyCounts, weeklyMinutes);
+        }
+
+        BodyPartSummary bodyParts() {
+            // 부위별 운동 일수 = 부위 날짜 비트열의 비트 수
+            List<BodyPartFrequency> frequency = Arrays.stream(BodyPartType.values())
+                    .filter(part -> bodyPartCalendar.daysWith(part) > 0)
+                    .map(part -> {
+                        String bodyPart = part.name();
+                        int count = bodyPartCalendar.daysWith(part);
+                        double percentage = (double) count / bodyPartSessions * 100;
+                        return new BodyPartFrequency(bodyPart, bodyPartKoreanName(bodyPart), count,
+                                bodyPartDuration[part.ordinal()],
+                                Math.round(percentage * 10.0) / 10.0, bodyPartColor(bodyPart));
+                    })
+                    .sorted(Comparator.comparingInt(BodyPartFrequency::count).reversed())
+                    .toList();
+            return new BodyPartSummary(frequency, bodyPartSessions);
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // 건강 기록
+    // ------------------------------------------------------------------
+
+    /**
+     * 최근 2개 기록일의 체중/BMI 변화 (days는 최신순, 각 날짜의 마지막 기록 기준)
+     */
+    private static HealthRecordSummary summarizeHealthRecords(StatisticsWindow window, List<DailySummary> days) {
+        DailySummary latest = null;
+        DailySummary previous = null;
+        int count = 0;
+        for (DailySummary day : days) {
+            if (!window.healthRecordStatsRange().contains(day.getSummaryDate())) {
+                continue;
+            }
+            count += day.getHealthRecordCount();
+            if (latest == null) {
+                latest = day;
+            } else if (previous == null) {
+                previous = day;
+            }
+        }
+        BigDecimal weightChange = BigDecimal.ZERO;
+        BigDecimal bmiChange = BigDecimal.ZERO;
+        if (previous != null) {
+            if (latest.getWeight() != null && previous.getWeight() != null) {
+                weightChange = latest.getWeight().subtract(previous.getWeight());
+            }
+            if (latest.getBmi() != null && previous.getBmi() != null) {
+                bmiChange = latest.getBmi().subtract(previous.getBmi());
+            }
+        }
+        return new HealthRecordSummary(weightChange.doubleValue(), bmiChange.doubleValue(), count);
+    }
+
+    // ------------------------------------------------------------------
+    // 식단
+    // ------------------------------------------------------------------
+
+    /**
+     * 오늘 식단 영양소 합계
+     */
+    private static MealSummary summarizeTodayMeals(StatisticsWindow window, List<DailySummary> days) {
+        for (DailySummary day : days) {
+            if (window.today().equals(day.getSummaryDate())) {
+                return new MealSummary(day.getKcalIntake().doubleValue(), day.getCarbsIntake().doubleValue(),
+                        day.getProteinIntake().doubleValue(), day.getFatIntake().doubleValue(), day.getMealLogCount());
+            }
+        }
+        return new MealSummary(0, 0, 0, 0, 0);
+    }
+
+    /**
+     * 오늘(없으면 최근 7일 중 가장 최근 날짜) 식단의 영양소 합계 (days는 최신순)
+     */
+    private static NutritionSummary summarizeNutrition(StatisticsWindow window, List<DailySummary> days) {
+        if (days.isEmpty()) {
+            return new NutritionSummary(0, 0, 0, 0, 0, "meal_logs_direct");
+        }
+        DailySummary target = days.get(0);
+        return new NutritionSummary(target.getKcalIntake().doubleValue(), target.getCarbsIntake().doubleValue(),
+                target.getProteinIntake().doubleValue(), target.getFatIntake().doubleValue(),
+                target.getMealLogCount(), "meal_logs_direct");
+    }
+
+    // ------------------------------------------------------------------
+    // 공통
+    // ------------------------------------------------------------------
+
+    private static BigDecimal calculateBMI(BigDecimal weight, BigDecimal height) {
+        if (height.compareTo(BigDecimal.ZERO) <= 0) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal heightInMeters = height.divide(BigDecimal.valueOf(100));
+        return weight.divide(heightInMeters.multiply(heightInMeters), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 운동 부위 한글명
+     */
+    static String bodyPartKoreanName(String bodyPart) {
+        return switch (bodyPart.toLowerCase()) {
+            case "chest" -> "가슴";
+            case "back" -> "등";
+            case "legs" -> "하체";
+            case "shoulders" -> "어깨";
+            case "arms" -> "팔";
+            case "abs" -> "복근";
+            case "cardio" -> "유산소";
+            case "full_body" -> "전신";
+            default -> bodyPart;
+        };
+    }
+
+    /**
+     * 운동 부위별 차트 색상
+     */
+    static String bodyPartColor(String bodyPart) {
+        return switch (bodyPart.toLowerCase()) {
+            case "chest" -> "#FF6B6B";
+            case "back" -> "#4ECDC4";
+            case "legs" -> "#45B7D1";
+            case "shoulders" -> "#FFA07A";
+            case "arms" -> "#98D8C8";
+            case "abs" -> "#F7DC6F";
+            case "cardio" -> "#BB8FCE";
+            case "full_body" -> "#85C1E9";
+            default -> "#BDC3C7";
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.lifebit.coreapi.service.statistics;
+
+import com.lifebit.coreapi.dto.statistics.MealNutritionRow;
+
+import java.math.BigDecimal;
+
+/**
+ * 식단 기록 영양소 합계 (대시보드/식단/랭킹 공통)
+ * - 음식 영양소(100g 기준)와 섭취량은 모두 DECIMAL(6,2) 이므로 소수 둘째 자리까지를 정수(1/100 단위)로 바꿔
+ *   long 곱셈/덧셈으로만 누적 (행마다 BigDecimal 곱셈/나눗셈을 하지 않음)
+ * - 반올림은 결과를 꺼낼 때 한 번만 (소수 둘째 자리, HALF_UP)
+ * - 음식 정보가 없거나 섭취량이 0 이하인 기록, 음수 영양소 값은 합계에서 제외
+ *
+ * 스레드 안전하지 않음 (호출마다 새로 만들어 사용)
+ */
+public final class NutritionAccumulator {
+
+    // 영양소(1/100) × 섭취량(1/100) = 1/10^4 단위, 여기에 100g 기준 환산(÷100)까지 포함한 분모
+    private static final long PRODUCT_SCALE = 1_000_000L;
+    // 결과를 소수 둘째 자리까지 남기기 위한 단위
+    private static final long OUTPUT_UNIT = PRODUCT_SCALE / 100;
+
+    private long calories;
+    private long carbs;
+    private long protein;
+    private long fat;
+    private int mealCount;
+    private int countedCount;
+
+    /**
+     * 식단 기록 한 건 누적 (음식 정보가 없는 기록도 기록 수에는 포함)
+     */
+    public NutritionAccumulator add(MealNutritionRow row) {
+        return add(row.getQuantity(), row.getCalories(), row.getCarbs(), row.getProtein(), row.getFat());
+    }
+
+    /**
+     * 섭취량과 음식의 100g 기준 영양소로 누적
+     */
+    public NutritionAccumulator add(BigDecimal quantity, BigDecimal calories, BigDecimal carbs,
+                                    BigDecimal protein, BigDecimal fat) {
+        mealCount++;
+        long grams = toHundredths(quantity);
+        if (grams <= 0 || (calories == null && carbs == null && protein == null && fat == null)) {
+            return this;
+        }
+        countedCount++;
+        this.calories += grams * nonNegative(toHundredths(calories));
+        this.carbs += grams * nonNegative(toHundredths(carbs));
+        this.protein += grams * nonNegative(toHundredths(protein));
+        this.fat += grams * nonNegative(toHundredths(fat));
+        return this;
+    }
+
+    public NutritionAccumulator addAll(Iterable<MealNutritionRow> rows) {
+        for (MealNutritionRow row : rows) {
+            add(row);
+        }
+        return this;
+    }
+
+    public double calories() {
+        return round(calories);
+    }
+
+    public double carbs() {
+        return round(carbs);
+    }
+
+    public double protein() {
+        return round(protein);
+    }
+
+    public double fat() {
+        return round(fat);
+    }
+
+    /**
+     * 누적한 식단 기록 수 (음식 정보가 없는 기록 포함)
+     */
+    public int mealCount() {
+        return mealCount;
+    }
+
+    /**
+     * 영양소 합계에 실제로 반영된 기록 수
+     */
+    public int countedCount() {
+        return countedCount;
+    }
+
+    /**
+     * 한 건의 섭취 영양소 (섭취량 기준 환산, 소수 둘째 자리 반올림)
+     */
+    public static double portion(BigDecimal per100g, BigDecimal quantity) {
+        long grams = toHundredths(quantity);
+        if (per100g == null || grams <= 0) {
+            return 0.0;
+        }
+        return round(grams * nonNegative(toHundredths(per100g)));
+    }
+
+    private static long toHundredths(BigDecimal value) {
+        if (value == null) {
+            return 0L;
+        }
+        // 작은 값은 BigDecimal 내부의 long 표현을 그대로 옮기므로 BigInteger 변환 없이 처리됨
+        return value.movePointRight(2).longValue();
+    }
+
+    private static long nonNegative(long value) {
+        return Math.max(value, 0L);
+    }
+
+    private static double round(long product) {
+        return Math.floorDiv(product + OUTPUT_UNIT / 2, OUTPUT_UNIT) / 100.0;
+    }
+}
@@ -0,0 +1,329 @@
+package com.lifebit.coreapi.service.statistics;
+
+import com.lifebit.coreapi.dto.statistics.PeriodBucket;
+import com.lifebit.coreapi.service.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 주/월/연 구간 집계 저장소 (user_period_summary)
+ * - 일(user_daily_summary) → ISO 주/월, 월 → 연 순서로 합산 (평균은 합계/일수로 저장해 상위 구간에서 그대로 합산)
+ * - 일별 요약이 바뀌면 그 날짜가 속한 주/월/연 구간 한 줄씩만 다시 계산 (보통 진행 중인 현재 구간)
+ * - 종료된 구간은 과거 날짜 기록이 수정될 때만 바뀌므로 메모리에 캐시하고, 그런 수정이 있으면 해당 사용자 캐시를 비움
+ *   (다른 인스턴스의 캐시는 최대 보관 시간이 지나면 갱신)
+ */
+@Component
+@Slf4j
+public class PeriodBucketStore {
+
+    /**
+     * 구간 단위 (주는 월요일 시작 ISO 주)
+     */
+    public enum BucketType {
+        WEEK("week") {
+            @Override
+            public LocalDate start(LocalDate date) {
+                return date.with(DayOfWeek.MONDAY);
+            }
+
+            @Override
+            public LocalDate shift(LocalDate start, int amount) {
+                return start.plusWeeks(amount);
+            }
+        },
+        MONTH("month") {
+            @Override
+            public LocalDate start(LocalDate date) {
+                return date.withDayOfMonth(1);
+            }
+
+            @Override
+            public LocalDate shift(LocalDate start, int amount) {
+                return start.plusMonths(amount);
+            }
+        },
+        YEAR("year") {
+            @Override
+            public LocalDate start(LocalDate date) {
+                return date.withDayOfYear(1);
+            }
+
+            @Override
+            public LocalDate shift(LocalDate start, int amount) {
+                return start.plusYears(amount);
+            }
+        };
+
+        private final String truncUnit;
+
+        BucketType(String truncUnit) {
+            this.truncUnit = truncUnit;
+        }
+
+        public abstract LocalDate start(LocalDate date);
+
+        public abstract LocalDate shift(LocalDate start, int amount);
+
+        public LocalDate end(LocalDate start) {
+            return shift(start, 1).minusDays(1);
+        }
+    }
+
+    private static final String INSERT_COLUMNS = """
+            INSERT INTO user_period_summary (user_id, bucket_type, bucket_start, exercise_sessions, exercise_minutes,
+                                             calories_burned, total_sets, workout_days, meal_days, kcal_intake,
+                                             carbs_intake, protein_intake, fat_intake, health_record_count,
+                                             weight_sum, weight_days, bmi_sum, bmi_days, updated_at)
+            """;
+
+    private static final String UPSERT_ASSIGNMENTS = """
+            ON CONFLICT (user_id, bucket_type, bucket_start)
+            DO UPDATE SET exercise_sessions = EXCLUDED.exercise_sessions,
+                          exercise_minutes = EXCLUDED.exercise_minutes,
+                          calories_burned = EXCLUDED.calories_burned,
+                          total_sets = EXCLUDED.total_sets,
+                          workout_days = EXCLUDED.workout_days,
+                          meal_days = EXCLUDED.meal_days,
+                          kcal_intake = EXCLUDED.kcal_intake,
+                          carbs_intake = EXCLUDED.carbs_intake,
+                          protein_intake = EXCLUDED.protein_intake,
+                          fat_intake = EXCLUDED.fat_intake,
+                          health_record_count = EXCLUDED.health_record_count,
+                          weight_sum = EXCLUDED.weight_sum,
+                          weight_days = EXCLUDED.weight_days,
+                          bmi_sum = EXCLUDED.bmi_sum,
+                          bmi_days = EXCLUDED.bmi_days,
+                          updated_at = NOW()
+            """;
+
+    // 일별 요약 → 주/월 (%1$s: 구간 종류, %2$s: DATE_TRUNC 단위, %3$s: 조건)
+    private static final String FROM_DAILY_SQL_TEMPLATE = INSERT_COLUMNS + """
+            SELECT user_id, '%1$s', CAST(DATE_TRUNC('%2$s', summary_date) AS DATE),
+                   SUM(exercise_sessions), SUM(exercise_minutes), SUM(calories_burned), SUM(total_sets),
+                   COUNT(*) FILTER (WHERE exercise_sessions > 0), COUNT(*) FILTER (WHERE meal_log_count > 0),
+                   SUM(kcal_intake), SUM(carbs_intake), SUM(protein_intake), SUM(fat_intake), SUM(health_record_count),
+                   COALESCE(SUM(weight), 0), COUNT(weight), COALESCE(SUM(bmi), 0), COUNT(bmi), NOW()
+              FROM user_daily_summary
+             WHERE %3$s
+             GROUP BY user_id, CAST(DATE_TRUNC('%2$s', summary_date) AS DATE)
+            """ + UPSERT_ASSIGNMENTS;
+
+    // 월 → 연 (%1$s: 조건)
+    private static final String YEAR_FROM_MONTHS_SQL_TEMPLATE = INSERT_COLUMNS + """
+            SELECT user_id, 'YEAR', CAST(DATE_TRUNC('year', bucket_start) AS DATE),
+                   SUM(exercise_sessions), SUM(exercise_minutes), SUM(calories_burned), SUM(total_sets),
+                   SUM(workout_days), SUM(meal_days),
+                   SUM(kcal_intake), SUM(carbs_intake), SUM(protein_intake), SUM(fat_intake), SUM(health_record_count),
+                   SUM(weight_sum), SUM(weight_days), SUM(bmi_sum), SUM(bmi_days), NOW()
+              FROM user_period_summary
+             WHERE bucket_type = 'MONTH' AND %1$s
+             GROUP BY user_id, CAST(DATE_TRUNC('year', bucket_start) AS DATE)
+            """ + UPSERT_ASSIGNMENTS;
+
+    private static final String DELETE_BUCKET_SQL =
+            "DELETE FROM user_period_summary WHERE user_id = ? AND bucket_type = ? AND bucket_start = ?";
+
+    private static final String DELETE_RANGE_SQL =
+            "DELETE FROM user_period_summary WHERE bucket_type = ? AND bucket_start BETWEEN ? AND ?";
+
+    private static final String SELECT_SQL = """
+            SELECT * FROM user_period_summary
+             WHERE user_id = ? AND bucket_type = ? AND bucket_start BETWEEN ? AND ?
+             ORDER BY bucket_start
+            """;
+
+    private static final List<BucketType> DAILY_BUCKETS = List.of(BucketType.WEEK, BucketType.MONTH);
+
+    private record CacheKey(Long userId, BucketType type, LocalDate first, LocalDate last) {}
+
+    private record CachedBuckets(List<PeriodBucket> buckets, long loadedAtMillis) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<CacheKey, CachedBuckets> closedBuckets;
+
+    // 다른 인스턴스에서 과거 날짜가 수정된 경우를 위한 종료 구간 캐시 최대 보관 시간
+    @Value("${statistics.buckets.closed-cache-ttl-ms:600000}")
+    private long closedCacheTtlMillis;
+
+    public PeriodBucketStore(JdbcTemplate jdbcTemplate,
+                             @Value("${statistics.buckets.closed-cache-size:5000}") int closedCacheSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.closedBuckets = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedBuckets> eldest) {
+                return size() > closedCacheSize;
+            }
+        });
+    }
+
+    /**
+     * 날짜가 속한 주/월/연 구간 재계산 (일별 요약 갱신 직후)
+     */
+    public void refreshContaining(Long userId, LocalDate date) {
+        for (BucketType type : DAILY_BUCKETS) {
+            LocalDate start = type.start(date);
+            jdbcTemplate.update(DELETE_BUCKET_SQL, userId, type.name(), Date.valueOf(start));
+            jdbcTemplate.update(fromDailySql(type, "user_id = ? AND summary_date BETWEEN ? AND ?"),
+                    userId, Date.valueOf(start), Date.valueOf(type.end(start)));
+        }
+        LocalDate yearStart = BucketType.YEAR.start(date);
+        jdbcTemplate.update(DELETE_BUCKET_SQL, userId, BucketType.YEAR.name(), Date.valueOf(yearStart));
+        jdbcTemplate.update(yearFromMonthsSql("user_id = ? AND bucket_start BETWEEN ? AND ?"),
+                userId, Date.valueOf(yearStart), Date.valueOf(BucketType.YEAR.end(yearStart)));
+
+        // 종료된 주나 월에 속한 날짜가 바뀌었으면 캐시 무효화 (연은 월보다 먼저 끝나지 않음)
+        LocalDate today = LocalDate.now();
+        if (BucketType.WEEK.end(BucketType.WEEK.start(date)).isBefore(today)
+                || BucketType.MONTH.end(BucketType.MONTH.start(date)).isBefore(today)) {
+            TransactionCallbacks.afterCommit(() -> evictUser(userId));
+        }
+    }
+
+    /**
+     * 기간이 걸친 전체 사용자 구간 재구성
+     * @return 재구성된 행 수
+     */
+    @Transactional
+    public int rebuildRange(LocalDate from, LocalDate to) {
+        int rows = 0;
+        for (BucketType type : DAILY_BUCKETS) {
+            LocalDate firstStart = type.start(from);
+            LocalDate lastStart = type.start(to);
+            jdbcTemplate.update(DELETE_RANGE_SQL, type.name(), Date.valueOf(firstStart), Date.valueOf(lastStart));
+            rows += jdbcTemplate.update(fromDailySql(type, "summary_date BETWEEN ? AND ?"),
+                    Date.valueOf(firstStart), Date.valueOf(type.end(lastStart)));
+        }
+        LocalDate firstYear = BucketType.YEAR.start(from);
+        LocalDate lastYear = BucketType.YEAR.start(to);
+        jdbcTemplate.update(DELETE_RANGE_SQL, BucketType.YEAR.name(), Date.valueOf(firstYear), Date.valueOf(lastYear));
+        rows += jdbcTemplate.update(yearFromMonthsSql("bucket_start BETWEEN ? AND ?"),
+                Date.valueOf(firstYear), Date.valueOf(BucketType.YEAR.end(lastYear)));
+        TransactionCallbacks.afterCommit(closedBuckets::clear);
+        return rows;
+    }
+
+    /**
+     * 전체 구간 재구성
+     * @return 재구성된 행 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        jdbcTemplate.update("DELETE FROM user_period_summary");
+        int rows = 0;
+        for (BucketType type : DAILY_BUCKETS) {
+            rows += jdbcTemplate.update(fromDailySql(type, "TRUE"));
+        }
+        rows += jdbcTemplate.update(yearFromMonthsSql("TRUE"));
+        TransactionCallbacks.afterCommit(closedBuckets::clear);
+        log.info("[구간 집계] 전체 재구성 완료 - {}건", rows);
+        return rows;
+    }
+
+    /**
+     * 현재 구간을 포함한 최근 count개 구간 (오래된 순, 기록이 없는 구간은 0으로 채움)
+     * 종료된 구간은 캐시에서, 현재 구간만 매번 조회
+     */
+    public List<PeriodBucket> findRecent(Long userId, BucketType type, int count) {
+        LocalDate today = LocalDate.now();
+        LocalDate current = type.start(today);
+        LocalDate first = type.shift(current, -(count - 1));
+
+        List<PeriodBucket> buckets = new ArrayList<>(count);
+        if (count > 1) {
+            buckets.addAll(closedBuckets(userId, type, first, type.shift(current, -1), today));
+        }
+        buckets.addAll(load(userId, type, current, current, today));
+        return buckets;
+    }
+
+    private List<PeriodBucket> closedBuckets(Long userId, BucketType type, LocalDate first, LocalDate last,
+                                             LocalDate today) {
+        CacheKey key = new CacheKey(userId, type, first, last);
+        long now = System.currentTimeMillis();
+        CachedBuckets cached = closedBuckets.get(key);
+        if (cached != null && now - cached.loadedAtMillis() <= closedCacheTtlMillis) {
+            return cached.buckets();
+        }
+        List<PeriodBucket> loaded = List.copyOf(load(userId, type, first, last, today));
+        closedBuckets.put(key, new CachedBuckets(loaded, now));
+        return loaded;
+    }
+
+    private List<PeriodBucket> load(Long userId, BucketType type, LocalDate first, LocalDate last, LocalDate today) {
+        Map<LocalDate, PeriodBucket> stored = new TreeMap<>();
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            LocalDate start = rs.getDate("bucket_start").toLocalDate();
+            stored.put(start, PeriodBucket.builder()
+                    .bucketType(type.name())
+                    .bucketStart(start)
+                    .bucketEnd(type.end(start))
+                    .closed(type.end(start).isBefore(today))
+                    .exerciseSessions(rs.getInt("exercise_sessions"))
+                    .exerciseMinutes(rs.getInt("exercise_minutes"))
+                    .caloriesBurned(rs.getInt("calories_burned"))
+                    .totalSets(rs.getInt("total_sets"))
+                    .workoutDays(rs.getInt("workout_days"))
+                    .mealDays(rs.getInt("meal_days"))
+                    .kcalIntake(rs.getBigDecimal("kcal_intake"))
+                    .carbsIntake(rs.getBigDecimal("carbs_intake"))
+                    .proteinIntake(rs.getBigDecimal("protein_intake"))
+                    .fatIntake(rs.getBigDecimal("fat_intake"))
+                    .healthRecordCount(rs.getInt("health_record_count"))
+                    .weightSum(rs.getBigDecimal("weight_sum"))
+                    .weightDays(rs.getInt("weight_days"))
+                    .bmiSum(rs.getBigDecimal("bmi_sum"))
+                    .bmiDays(rs.getInt("bmi_days"))
+                    .build());
+        }, userId, type.name(), Date.valueOf(first), Date.valueOf(last));
+
+        List<PeriodBucket> buckets = new ArrayList<>();
+        for (LocalDate start = first; !start.isAfter(last); start = type.shift(start, 1)) {
+            PeriodBucket bucket = stored.get(start);
+            buckets.add(bucket != null ? bucket : empty(type, start, today));
+        }
+        return buckets;
+    }
+
+    private static PeriodBucket empty(BucketType type, LocalDate start, LocalDate today) {
+        return PeriodBucket.builder()
+                .bucketType(type.name())
+                .bucketStart(start)
+                .bucketEnd(type.end(start))
+                .closed(type.end(start).isBefore(today))
+                .kcalIntake(BigDecimal.ZERO)
+                .carbsIntake(BigDecimal.ZERO)
+                .proteinIntake(BigDecimal.ZERO)
+                .fatIntake(BigDecimal.ZERO)
+                .weightSum(BigDecimal.ZERO)
+                .bmiSum(BigDecimal.ZERO)
+                .build();
+    }
+
+    private void evictUser(Long userId) {
+        synchronized (closedBuckets) {
+            closedBuckets.keySet().removeIf(key -> key.userId().equals(userId));
+        }
+    }
+
+    private static String fromDailySql(BucketType type, String condition) {
+        return FROM_DAILY_SQL_TEMPLATE.formatted(type.name(), type.truncUnit, condition);
+    }
+
+    private static String yearFromMonthsSql(String condition) {
+        return YEAR_FROM_MONTHS_SQL_TEMPLATE.formatted(condition);
+    }
+}
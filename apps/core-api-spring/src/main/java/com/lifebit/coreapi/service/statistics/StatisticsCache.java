@@ -0,0 +1,187 @@
+package com.lifebit.coreapi.service.statistics;
+
+import com.lifebit.coreapi.event.HealthDataChangedEvent;
+import com.lifebit.coreapi.event.HealthDataChangedEvent.DataType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 통계 결과 캐시
+ * - (사용자) 단위 LRU: 최근에 조회한 사용자 수를 상한으로 두고, 사용자 안에서 (영역, 기간) 별로 결과를 보관
+ * - 기록 변경 이벤트(HealthDataChangedEvent)가 커밋되면 해당 사용자의 영향받는 영역만 무효화
+ * - 결과가 '오늘' 기준으로 계산되므로 날짜가 바뀌면 자동으로 만료, 이벤트를 내지 않는 경로를 위해 최대 보관 시간도 둠
+ * - 계산 중에 무효화가 일어나면 사용자별 버전이 바뀌므로 계산 결과를 저장하지 않음
+ * - 적중/실패/축출 수는 actuator 메트릭(statistics.cache.*)으로 노출
+ */
+@Component
+@Slf4j
+public class StatisticsCache {
+
+    /**
+     * 캐시 영역과, 영역을 무효화하는 기록 종류
+     */
+    public enum Region {
+        HEALTH_STATISTICS(EnumSet.allOf(DataType.class)),
+        EXERCISE_HEATMAP(EnumSet.of(DataType.EXERCISE)),
+        MEAL_NUTRITION(EnumSet.of(DataType.MEAL));
+
+        private final Set<DataType> invalidatedBy;
+
+        Region(Set<DataType> invalidatedBy) {
+            this.invalidatedBy = invalidatedBy;
+        }
+    }
+
+    private record Entry(Object value, LocalDate day, long cachedAtMillis) {}
+
+    /**
+     * 한 사용자의 캐시 항목 (버전은 무효화마다 증가)
+     */
+    private static final class UserEntries {
+        long version;
+        final Map<Region, Map<String, Entry>> regions = new EnumMap<>(Region.class);
+
+        int size() {
+            return regions.values().stream().mapToInt(Map::size).sum();
+        }
+    }
+
+    private final LinkedHashMap<Long, UserEntries> users;
+    private final Map<Region, Counter> hits = new EnumMap<>(Region.class);
+    private final Map<Region, Counter> misses = new EnumMap<>(Region.class);
+    private final Counter sizeEvictions;
+    private final Counter invalidations;
+    private final Counter expirations;
+
+    @Value("${statistics.cache.enabled:true}")
+    private boolean enabled;
+
+    // 이벤트를 받지 못하는 변경(다른 인스턴스, 관리자 재구성 등)을 위한 최대 보관 시간
+    @Value("${statistics.cache.ttl-ms:300000}")
+    private long ttlMillis;
+
+    public StatisticsCache(@Value("${statistics.cache.max-users:10000}") int maxUsers,
+                           MeterRegistry meterRegistry) {
+        this.sizeEvictions = Counter.builder("statistics.cache.evictions")
+                .tag("cause", "size")
+                .description("용량 초과로 축출된 사용자 수")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("statistics.cache.evictions")
+                .tag("cause", "invalidation")
+                .description("기록 변경으로 무효화된 항목 수")
+                .register(meterRegistry);
+        this.expirations = Counter.builder("statistics.cache.evictions")
+                .tag("cause", "expired")
+                .description("날짜 변경/보관 시간 초과로 만료된 항목 수")
+                .register(meterRegistry);
+        for (Region region : Region.values()) {
+            hits.put(region, Counter.builder("statistics.cache.requests")
+                    .tag("region", region.name()).tag("result", "hit").register(meterRegistry));
+            misses.put(region, Counter.builder("statistics.cache.requests")
+                    .tag("region", region.name()).tag("result", "miss").register(meterRegistry));
+        }
+        this.users = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserEntries> eldest) {
+                if (size() > maxUsers) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        meterRegistry.gauge("statistics.cache.users", users, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        });
+    }
+
+    /**
+     * 캐시 조회, 없으면 계산 후 저장
+     * @param cacheable 저장 여부 (오류/부분 결과는 저장하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Region region, Long userId, String key, Supplier<T> loader, Predicate<T> cacheable) {
+        if (!enabled || userId == null) {
+            return loader.get();
+        }
+        LocalDate today = LocalDate.now();
+        long now = System.currentTimeMillis();
+        long version;
+        synchronized (users) {
+            UserEntries entries = users.get(userId);
+            if (entries != null) {
+                Map<String, Entry> regionEntries = entries.regions.get(region);
+                Entry entry = regionEntries != null ? regionEntries.get(key) : null;
+                if (entry != null) {
+                    if (entry.day().equals(today) && now - entry.cachedAtMillis() <= ttlMillis) {
+                        hits.get(region).increment();
+                        return (T) entry.value();
+                    }
+                    regionEntries.remove(key);
+                    expirations.increment();
+                }
+            }
+            version = entries != null ? entries.version : 0L;
+        }
+
+        misses.get(region).increment();
+        T value = loader.get();
+        if (value == null || !cacheable.test(value)) {
+            return value;
+        }
+        synchronized (users) {
+            UserEntries entries = users.computeIfAbsent(userId, id -> new UserEntries());
+            // 계산하는 동안 무효화되었으면 저장하지 않음
+            if (entries.version == version) {
+                entries.regions.computeIfAbsent(region, r -> new HashMap<>())
+                        .put(key, new Entry(value, today, now));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 기록 변경 커밋 후 해당 사용자의 영향받는 영역 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHealthDataChanged(HealthDataChangedEvent event) {
+        invalidate(event.getUserId(), event.getDataType());
+    }
+
+    public void invalidate(Long userId, DataType dataType) {
+        if (userId == null) {
+            return;
+        }
+        synchronized (users) {
+            UserEntries entries = users.get(userId);
+            if (entries == null) {
+                // 진행 중인 계산이 무효화 이전 값을 저장하지 못하도록 버전만 남김
+                UserEntries marker = new UserEntries();
+                marker.version = 1;
+                users.put(userId, marker);
+                return;
+            }
+            entries.version++;
+            int before = entries.size();
+            entries.regions.keySet().removeIf(region -> region.invalidatedBy.contains(dataType));
+            invalidations.increment(before - entries.size());
+        }
+        log.debug("[통계 캐시] 무효화 - 사용자: {}, 기록 종류: {}", userId, dataType);
+    }
+}
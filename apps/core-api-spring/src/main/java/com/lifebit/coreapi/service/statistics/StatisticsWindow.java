@@ -0,0 +1,154 @@
+package com.lifebit.coreapi.service.statistics;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 통계 요청 한 건에 필요한 날짜 구간 모음
+ * 각 섹션이 쓰던 조회 구간을 한곳에서 계산하고, 테이블별로 이를 모두 덮는 가장 넓은 구간을 한 번만 조회한다.
+ */
+public record StatisticsWindow(
+        String period,
+        LocalDate today,
+        int periodDays,
+        DateRange periodRange,
+        DateRange chartRange,
+        DateRange healthRecordStatsRange,
+        DateRange streakRange,
+        DateRange weekRange,
+        DateRange mealRange) {
+
+    // 최근 건강 기록 비교 구간 (일)
+    static final int HEALTH_RECORD_STATS_DAYS = 30;
+    // 연속 운동 일수 계산 구간 (일)
+    static final int STREAK_LOOKBACK_DAYS = 365;
+    // 오늘 식단이 없을 때 대체할 최근 구간 (일)
+    static final int MEAL_FALLBACK_DAYS = 7;
+
+    public record DateRange(LocalDate start, LocalDate end) {
+        public boolean contains(LocalDate date) {
+            return date != null && !date.isBefore(start) && !date.isAfter(end);
+        }
+
+        DateRange span(DateRange other) {
+            return new DateRange(start.isBefore(other.start) ? start : other.start,
+                    end.isAfter(other.end) ? end : other.end);
+        }
+    }
+
+    public static StatisticsWindow of(String period, LocalDate today) {
+        String normalized = period != null ? period.toLowerCase() : "week";
+        int periodDays = periodDays(normalized);
+        int chartLookbackDays = chartLookbackDays(normalized);
+        LocalDate chartEnd = switch (normalized) {
+            case "day" -> today.plusDays(1);
+            case "week" -> today.plusWeeks(1);
+            case "year" -> today.plusYears(1);
+            default -> today.plusMonths(1);
+        };
+        // 일요일 ~ 토요일
+        LocalDate weekStart = today.getDayOfWeek() == DayOfWeek.SUNDAY
+                ? today : today.minusDays(today.getDayOfWeek().getValue());
+        return new StatisticsWindow(
+                normalized,
+                today,
+                periodDays,
+                new DateRange(today.minusDays(periodDays), today),
+                new DateRange(today.minusDays(chartLookbackDays), chartEnd),
+                new DateRange(today.minusDays(HEALTH_RECORD_STATS_DAYS), today.plusDays(HEALTH_RECORD_STATS_DAYS)),
+                new DateRange(today.minusDays(STREAK_LOOKBACK_DAYS), today),
+                new DateRange(weekStart, weekStart.plusDays(6)),
+                new DateRange(today.minusDays(MEAL_FALLBACK_DAYS), today));
+    }
+
+    /**
+     * 운동 세션 조회 구간 (기간 통계, 차트, 연속 일수, 이번 주를 모두 포함)
+     */
+    public DateRange exerciseLoadRange() {
+        return periodRange.span(chartRange).span(streakRange).span(weekRange);
+    }
+
+    /**
+     * 운동 부위별 빈도 구간 (주간은 이번 주, 그 외는 차트 구간)
+     */
+    public DateRange bodyPartRange() {
+        return "week".equals(period) ? weekRange : chartRange;
+    }
+
+    /**
+     * 차트 구간 단위 (일 기간은 null: 일별 요약 사용, 연 기간은 월 단위)
+     */
+    public PeriodBucketStore.BucketType chartBucketType() {
+        return switch (period) {
+            case "day" -> null;
+            case "week" -> PeriodBucketStore.BucketType.WEEK;
+            default -> PeriodBucketStore.BucketType.MONTH;
+        };
+    }
+
+    /**
+     * 차트 구간 수 (표시 구간 + 직전 값 채우기용 약 3개월)
+     */
+    public int chartBucketCount() {
+        return switch (period) {
+            case "week" -> 6 + 13;
+            case "year" -> 12 + 3;
+            default -> 6 + 3;
+        };
+    }
+
+    public boolean isWeekly() {
+        return "week".equals(period);
+    }
+
+    public String workoutKey() {
+        return switch (period) {
+            case "day" -> "dailyWorkouts";
+            case "month" -> "monthlyWorkouts";
+            case "year" -> "yearlyWorkouts";
+            default -> "weeklyWorkouts";
+        };
+    }
+
+    public String minutesKey() {
+        return switch (period) {
+            case "day" -> "dailyExerciseMinutes";
+            case "month" -> "monthlyExerciseMinutes";
+            case "year" -> "yearlyExerciseMinutes";
+            default -> "weeklyExerciseMinutes";
+        };
+    }
+
+    /**
+     * 주간 목표를 기간에 맞게 조정 (월간 = 주간 × 4, 연간 = 주간 × 52)
+     */
+    public int adjustGoal(int weeklyGoal) {
+        return switch (period) {
+            case "day" -> Math.round(weeklyGoal / 7.0f);
+            case "month" -> weeklyGoal * 4;
+            case "year" -> weeklyGoal * 52;
+            default -> weeklyGoal;
+        };
+    }
+
+    private static int periodDays(String period) {
+        return switch (period) {
+            case "day" -> 1;
+            case "month" -> 30;
+            case "year" -> 365;
+            default -> 7;
+        };
+    }
+
+    /**
+     * 차트 시작점에 표시할 데이터가 있도록 3개월 전 데이터까지 포함
+     */
+    private static int chartLookbackDays(String period) {
+        return switch (period) {
+            case "day" -> 97;    // 7일 + 90일
+            case "week" -> 132;  // 6주 + 90일
+            case "year" -> 455;  // 1년 + 90일
+            default -> 270;      // 6개월 + 90일
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.lifebit.coreapi.service.streak;
+
+import com.lifebit.coreapi.entity.ExerciseSession;
+import com.lifebit.coreapi.entity.MealLog;
+import com.lifebit.coreapi.entity.ValidationStatusType;
+import com.lifebit.coreapi.service.SavepointRunner;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 운동/식단 기록 엔티티 변경을 연속 기록 저장소에 반영하는 JPA 리스너
+ * - 저장 경로(서비스, 노트, 음성 입력 등)가 여러 곳이라 엔티티 수명주기에서 한 번에 처리
+ * - 로드 시점의 (날짜, 검증 상태)를 기억해 두었다가 수정 시 이전 날짜 제거 + 새 날짜 추가로 반영
+ * - 연속 기록 갱신 실패가 기록 저장을 막지 않도록 세이브포인트 안에서 갱신하고, 실패하면 되돌린 뒤 로그만 남김 (관리자 재계산으로 복구)
+ */
+@Component
+@Slf4j
+public class StreakEntityListener {
+
+    // 리스너는 EntityManagerFactory 생성 중에 만들어지므로 지연 조회
+    private final ObjectProvider<StreakTracker> streakTracker;
+    private final ObjectProvider<SavepointRunner> savepointRunner;
+
+    public StreakEntityListener(ObjectProvider<StreakTracker> streakTracker,
+                                ObjectProvider<SavepointRunner> savepointRunner) {
+        this.streakTracker = streakTracker;
+        this.savepointRunner = savepointRunner;
+    }
+
+    @PostLoad
+    public void onLoad(Object entity) {
+        if (entity instanceof ExerciseSession session) {
+            session.setLoadedExerciseDate(session.getExerciseDate());
+            session.setLoadedValidationStatus(session.getValidationStatus());
+        } else if (entity instanceof MealLog mealLog) {
+            mealLog.setLoadedLogDate(mealLog.getLogDate());
+            mealLog.setLoadedValidationStatus(mealLog.getValidationStatus());
+        }
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        Activity current = current(entity);
+        if (current != null && current.validated()) {
+            apply(() -> streakTracker.getObject().onActivityAdded(current.userId(), current.kind(), current.date()));
+        }
+        onLoad(entity);
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        Activity previous = loaded(entity);
+        Activity current = current(entity);
+        if (current == null) {
+            return;
+        }
+        if (previous != null && previous.validated()
+                && (!current.validated() || !Objects.equals(previous.date(), current.date()))) {
+            apply(() -> streakTracker.getObject().onActivityRemoved(previous.userId(), previous.kind(), previous.date()));
+        }
+        if (current.validated()
+                && (previous == null || !previous.validated() || !Objects.equals(previous.date(), current.date()))) {
+            apply(() -> streakTracker.getObject().onActivityAdded(current.userId(), current.kind(), current.date()));
+        }
+        onLoad(entity);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        Activity current = current(entity);
+        if (current != null && current.validated()) {
+            apply(() -> streakTracker.getObject().onActivityRemoved(current.userId(), current.kind(), current.date()));
+        }
+    }
+
+    private void apply(Runnable update) {
+        try {
+            savepointRunner.getObject().run(update);
+        } catch (Exception e) {
+            log.warn("[연속 기록] 증분 갱신 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    private record Activity(Long userId, StreakTracker.Kind kind, LocalDate date, boolean validated) {}
+
+    private static Activity current(Object entity) {
+        if (entity instanceof ExerciseSession session) {
+            return activity(session.getUser() != null ? session.getUser().getUserId() : null,
+                    StreakTracker.Kind.EXERCISE, session.getExerciseDate(), session.getValidationStatus());
+        }
+        if (entity instanceof MealLog mealLog) {
+            return activity(mealLog.getUser() != null ? mealLog.getUser().getUserId() : null,
+                    StreakTracker.Kind.MEAL, mealLog.getLogDate(), mealLog.getValidationStatus());
+        }
+        return null;
+    }
+
+    private static Activity loaded(Object entity) {
+        if (entity instanceof ExerciseSession session) {
+            return activity(session.getUser() != null ? session.getUser().getUserId() : null,
+                    StreakTracker.Kind.EXERCISE, session.getLoadedExerciseDate(), session.getLoadedValidationStatus());
+        }
+        if (entity instanceof MealLog mealLog) {
+            return activity(mealLog.getUser() != null ? mealLog.getUser().getUserId() : null,
+                    StreakTracker.Kind.MEAL, mealLog.getLoadedLogDate(), mealLog.getLoadedValidationStatus());
+        }
+        return null;
+    }
+
+    private static Activity activity(Long userId, StreakTracker.Kind kind, LocalDate date, ValidationStatusType status) {
+        if (userId == null || date == null) {
+            return null;
+        }
+        return new Activity(userId, kind, date, status == ValidationStatusType.VALIDATED);
+    }
+}
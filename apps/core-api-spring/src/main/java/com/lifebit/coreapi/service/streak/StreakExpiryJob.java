@@ -0,0 +1,41 @@
+package com.lifebit.coreapi.service.streak;
+
+import com.lifebit.coreapi.service.ranking.LeaderboardIndex;
+import com.lifebit.coreapi.service.scheduling.ScheduledJobRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 자정 이후 끊긴 운동 연속 기록을 랭킹 표시값(user_ranking.streak_days)에 반영
+ * 연속 기록 자체는 기록 변경 시에만 갱신되므로, 활동이 없어 끊긴 경우는 하루 한 번 일괄 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StreakExpiryJob {
+
+    static final String JOB_NAME = "streak-expiry";
+
+    private final StreakTracker streakTracker;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final LeaderboardIndex leaderboardIndex;
+
+    @Scheduled(cron = "0 10 0 * * *")
+    public void scheduledExpiry() {
+        scheduledJobRunner.run(JOB_NAME, Duration.ofHours(1), this::expire);
+    }
+
+    public long expire() {
+        int expired = streakTracker.expireRankingStreaks(LocalDate.now());
+        if (expired > 0) {
+            leaderboardIndex.rebuildAfterCommit();
+        }
+        log.info("[연속 기록] 끊긴 운동 연속 기록 초기화 - {}건", expired);
+        return expired;
+    }
+}
@@ -0,0 +1,282 @@
+package com.lifebit.coreapi.service.streak;
+
+import com.lifebit.coreapi.service.ranking.LeaderboardIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자별 연속 기록(운동/식단) 상태 저장소
+ * - user_streak 테이블에 (현재 연속 일수, 최대 연속 일수, 마지막 활동일)을 보관
+ * - 검증된 기록이 추가/삭제될 때 대부분 O(1)로 갱신
+ *   (과거 날짜 추가, 연속 구간 중간 삭제처럼 구간이 합쳐지거나 쪼개지는 경우만 해당 사용자 재계산)
+ * - 운동 현재 연속 일수는 user_ranking.streak_days 에도 반영
+ * - 사용자 행을 잠근 뒤 갱신하여 같은 사용자의 동시 기록 저장이 서로의 갱신을 덮지 않음
+ * - 행이 없는 사용자(도입 이전 기록만 있는 기존 사용자)는 처음 조회/갱신할 때 원본 기록으로부터 채움
+ */
+@Component
+@Slf4j
+public class StreakTracker {
+
+    /**
+     * 연속 기록 종류 (원본 테이블/날짜 컬럼)
+     */
+    public enum Kind {
+        EXERCISE("exercise_sessions", "exercise_date"),
+        MEAL("meal_logs", "log_date");
+
+        private final String table;
+        private final String dateColumn;
+
+        Kind(String table, String dateColumn) {
+            this.table = table;
+            this.dateColumn = dateColumn;
+        }
+    }
+
+    /**
+     * 연속 기록 상태 (currentStreak은 lastActiveDate에서 끝나는 구간의 길이)
+     */
+    public record Streak(int currentStreak, int maxStreak, LocalDate lastActiveDate) {
+        static final Streak EMPTY = new Streak(0, 0, null);
+
+        /**
+         * 기준일 현재 이어지고 있는 연속 일수 (어제까지 기록이 있으면 유지, 그 전에 끊겼으면 0)
+         */
+        public int currentStreakAsOf(LocalDate today) {
+            if (lastActiveDate == null || lastActiveDate.isBefore(today.minusDays(1))) {
+                return 0;
+            }
+            return currentStreak;
+        }
+    }
+
+    private static final String SELECT_SQL =
+            "SELECT current_streak, max_streak, last_active_date FROM user_streak WHERE user_id = ? AND kind = ?";
+
+    private static final String LOCK_SQL = SELECT_SQL + " FOR UPDATE";
+
+    // 행이 없을 때 빈 행을 먼저 넣어 잠금 (동시에 넣으려는 트랜잭션은 커밋까지 대기)
+    private static final String INSERT_EMPTY_SQL =
+            "INSERT INTO user_streak (user_id, kind) VALUES (?, ?) ON CONFLICT (user_id, kind) DO NOTHING";
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO user_streak (user_id, kind, current_streak, max_streak, last_active_date, updated_at)
+            VALUES (?, ?, ?, ?, ?, NOW())
+            ON CONFLICT (user_id, kind)
+            DO UPDATE SET current_streak = EXCLUDED.current_streak,
+                          max_streak = EXCLUDED.max_streak,
+                          last_active_date = EXCLUDED.last_active_date,
+                          updated_at = NOW()
+            """;
+
+    // 날짜 - ROW_NUMBER 가 같은 날짜들이 하나의 연속 구간 (gaps and islands)
+    private static final String REBUILD_SQL_TEMPLATE = """
+            WITH days AS (
+                SELECT DISTINCT user_id, %2$s AS d
+                  FROM %1$s
+                 WHERE validation_status = 'VALIDATED' %3$s
+            ), islands AS (
+                SELECT user_id, COUNT(*) AS len, MAX(d) AS end_d
+                  FROM (SELECT user_id, d, d - CAST(ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY d) AS INTEGER) AS grp
+                          FROM days) runs
+                 GROUP BY user_id, grp
+            ), summary AS (
+                SELECT user_id, MAX(len) AS max_len, MAX(end_d) AS last_d
+                  FROM islands
+                 GROUP BY user_id
+            )
+            INSERT INTO user_streak (user_id, kind, current_streak, max_streak, last_active_date, updated_at)
+            SELECT s.user_id, ?, i.len, s.max_len, s.last_d, NOW()
+              FROM summary s
+              JOIN islands i ON i.user_id = s.user_id AND i.end_d = s.last_d
+            ON CONFLICT (user_id, kind)
+            DO UPDATE SET current_streak = EXCLUDED.current_streak,
+                          max_streak = EXCLUDED.max_streak,
+                          last_active_date = EXCLUDED.last_active_date,
+                          updated_at = NOW()
+            """;
+
+    private static final String SYNC_RANKING_STREAK_SQL =
+            "UPDATE user_ranking SET streak_days = ? WHERE user_id = ? AND is_active = TRUE";
+
+    // 어제 이전에 끊긴 운동 연속 기록은 랭킹 표시값을 0으로
+    private static final String EXPIRE_RANKING_STREAK_SQL = """
+            UPDATE user_ranking ur
+               SET streak_days = 0
+              FROM user_streak s
+             WHERE s.user_id = ur.user_id AND s.kind = 'EXERCISE'
+               AND ur.is_active = TRUE AND ur.streak_days <> 0
+               AND (s.last_active_date IS NULL OR s.last_active_date < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    // 엔티티 리스너에서 사용되므로 JPA 초기화 순환을 피하기 위해 지연 조회
+    private final ObjectProvider<LeaderboardIndex> leaderboardIndex;
+
+    public StreakTracker(JdbcTemplate jdbcTemplate, ObjectProvider<LeaderboardIndex> leaderboardIndex) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaderboardIndex = leaderboardIndex;
+    }
+
+    /**
+     * 사용자 연속 기록 조회 (행이 없으면 원본 기록으로부터 채운 뒤 반환)
+     */
+    public Streak get(Long userId, Kind kind) {
+        List<Streak> rows = select(SELECT_SQL, userId, kind);
+        if (!rows.isEmpty()) {
+            return rows.get(0);
+        }
+        rebuild(userId, kind);
+        rows = select(SELECT_SQL, userId, kind);
+        return rows.isEmpty() ? Streak.EMPTY : rows.get(0);
+    }
+
+    /**
+     * 검증된 기록이 date에 추가됨 (기록 저장 트랜잭션 안에서 호출, 행 잠금은 커밋까지 유지)
+     */
+    public void onActivityAdded(Long userId, Kind kind, LocalDate date) {
+        if (countValidated(userId, kind, date) > 1) {
+            return; // 이미 활동한 날
+        }
+        Streak streak = lockOrBackfill(userId, kind);
+        if (streak == null) {
+            return; // 원본 기록(이번 기록 포함)으로부터 새로 채움
+        }
+        LocalDate last = streak.lastActiveDate();
+        if (last == null) {
+            save(userId, kind, new Streak(1, Math.max(1, streak.maxStreak()), date));
+        } else if (date.equals(last.plusDays(1))) {
+            int current = streak.currentStreak() + 1;
+            save(userId, kind, new Streak(current, Math.max(current, streak.maxStreak()), date));
+        } else if (date.isAfter(last)) {
+            save(userId, kind, new Streak(1, Math.max(1, streak.maxStreak()), date));
+        } else if (!date.equals(last)) {
+            // 과거 날짜 추가: 두 구간이 이어질 수 있으므로 재계산
+            rebuild(userId, kind);
+        }
+    }
+
+    /**
+     * date의 검증된 기록이 삭제되었거나 검증 상태가 해제됨 (기록 저장 트랜잭션 안에서 호출)
+     */
+    public void onActivityRemoved(Long userId, Kind kind, LocalDate date) {
+        if (countValidated(userId, kind, date) > 0) {
+            return; // 같은 날 다른 기록이 남아 있음
+        }
+        Streak streak = lockOrBackfill(userId, kind);
+        if (streak == null) {
+            return; // 원본 기록(이번 삭제 반영)으로부터 새로 채움
+        }
+        LocalDate last = streak.lastActiveDate();
+        if (last == null || date.isAfter(last)) {
+            return; // 반영된 적 없는 날짜
+        }
+        if (date.equals(last) && streak.currentStreak() > 1 && streak.maxStreak() > streak.currentStreak()) {
+            // 현재 구간 끝을 하루 당김 (전날은 구간 안이므로 활동일, 최대 기록은 다른 구간)
+            save(userId, kind, new Streak(streak.currentStreak() - 1, streak.maxStreak(), last.minusDays(1)));
+        } else {
+            rebuild(userId, kind);
+        }
+    }
+
+    /**
+     * 사용자 한 명의 연속 기록을 원본 기록으로부터 다시 계산
+     */
+    public void rebuild(Long userId, Kind kind) {
+        if (jdbcTemplate.update(rebuildSql(kind, "AND user_id = ?"), userId, kind.name()) == 0) {
+            // 기록이 없어도 빈 행을 남겨 다음 조회에서 다시 채우지 않도록
+            save(userId, kind, Streak.EMPTY);
+        } else if (kind == Kind.EXERCISE) {
+            syncRankingStreak(userId, select(SELECT_SQL, userId, kind).get(0));
+        }
+    }
+
+    /**
+     * 전체 사용자 연속 기록 재계산 (관리자 명령)
+     * @return 재계산된 사용자-종류 행 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        int rows = 0;
+        for (Kind kind : Kind.values()) {
+            jdbcTemplate.update("DELETE FROM user_streak WHERE kind = ?", kind.name());
+            rows += jdbcTemplate.update(rebuildSql(kind, ""), kind.name());
+        }
+        jdbcTemplate.update("""
+                UPDATE user_ranking ur
+                   SET streak_days = s.current_streak
+                  FROM user_streak s
+                 WHERE s.user_id = ur.user_id AND s.kind = 'EXERCISE' AND ur.is_active = TRUE
+                """);
+        expireRankingStreaks(LocalDate.now());
+        LeaderboardIndex index = leaderboardIndex.getIfAvailable();
+        if (index != null) {
+            index.rebuildAfterCommit();
+        }
+        log.info("[연속 기록] 전체 재계산 완료 - {}건", rows);
+        return rows;
+    }
+
+    /**
+     * 어제 이전에 끊긴 운동 연속 기록의 랭킹 표시값 초기화
+     */
+    public int expireRankingStreaks(LocalDate today) {
+        return jdbcTemplate.update(EXPIRE_RANKING_STREAK_SQL, Date.valueOf(today.minusDays(1)));
+    }
+
+    /**
+     * 사용자 행을 잠그고 현재 상태 반환
+     * 행이 없던 사용자는 빈 행으로 잠근 뒤 원본 기록으로부터 재계산하고 null 반환
+     */
+    private Streak lockOrBackfill(Long userId, Kind kind) {
+        if (jdbcTemplate.update(INSERT_EMPTY_SQL, userId, kind.name()) > 0) {
+            rebuild(userId, kind);
+            return null;
+        }
+        List<Streak> rows = select(LOCK_SQL, userId, kind);
+        return rows.isEmpty() ? Streak.EMPTY : rows.get(0);
+    }
+
+    private List<Streak> select(String sql, Long userId, Kind kind) {
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new Streak(rs.getInt("current_streak"), rs.getInt("max_streak"),
+                        rs.getDate("last_active_date") != null ? rs.getDate("last_active_date").toLocalDate() : null),
+                userId, kind.name());
+    }
+
+    private void save(Long userId, Kind kind, Streak streak) {
+        jdbcTemplate.update(UPSERT_SQL, userId, kind.name(), streak.currentStreak(), streak.maxStreak(),
+                streak.lastActiveDate() != null ? Date.valueOf(streak.lastActiveDate()) : null);
+        if (kind == Kind.EXERCISE) {
+            syncRankingStreak(userId, streak);
+        }
+    }
+
+    private void syncRankingStreak(Long userId, Streak streak) {
+        int streakDays = streak.currentStreakAsOf(LocalDate.now());
+        jdbcTemplate.update(SYNC_RANKING_STREAK_SQL, streakDays, userId);
+        LeaderboardIndex index = leaderboardIndex.getIfAvailable();
+        if (index != null) {
+            index.updateStreakDays(userId, streakDays);
+        }
+    }
+
+    private int countValidated(Long userId, Kind kind, LocalDate date) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + kind.table + " WHERE user_id = ? AND " + kind.dateColumn
+                        + " = ? AND validation_status = 'VALIDATED'",
+                Integer.class, userId, Date.valueOf(date));
+        return count != null ? count : 0;
+    }
+
+    private static String rebuildSql(Kind kind, String userFilter) {
+        return REBUILD_SQL_TEMPLATE.formatted(kind.table, kind.dateColumn, userFilter);
+    }
+}
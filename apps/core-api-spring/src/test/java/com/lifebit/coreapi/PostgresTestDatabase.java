@@ -0,0 +1,87 @@
+package com.lifebit.coreapi;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 실제 PostgreSQL 로 SQL 을 검증하는 테스트용 DB 연결
+ * - URL_ENV 환경 변수가 있을 때만 사용 (테스트 클래스에 @EnabledIfEnvironmentVariable(named = URL_ENV, matches = ".+"))
+ *   예: docker-compose.local.yml 의 postgres-db 를 띄우고
+ *       LIFEBIT_TEST_DB_URL=jdbc:postgresql://localhost:5432/lifebit_db?stringtype=unspecified
+ * - 테스트마다 begin() 으로 트랜잭션을 열고 rollback() 으로 되돌리므로 DB 에 데이터가 남지 않음
+ *   (JdbcTemplate 호출은 모두 이 트랜잭션의 커넥션 사용)
+ */
+public class PostgresTestDatabase {
+
+	public static final String URL_ENV = "LIFEBIT_TEST_DB_URL";
+
+	private final DataSourceTransactionManager transactionManager;
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedJdbcTemplate;
+	private TransactionStatus transaction;
+
+	public PostgresTestDatabase() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getenv(URL_ENV),
+				env("LIFEBIT_TEST_DB_USER", "lifebit_user"), env("LIFEBIT_TEST_DB_PASSWORD", "lifebit_password"));
+		this.transactionManager = new DataSourceTransactionManager(dataSource);
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+	}
+
+	public void begin() {
+		transaction = transactionManager.getTransaction(new DefaultTransactionDefinition());
+	}
+
+	public void rollback() {
+		if (transaction != null) {
+			transactionManager.rollback(transaction);
+			transaction = null;
+		}
+	}
+
+	public JdbcTemplate jdbcTemplate() {
+		return jdbcTemplate;
+	}
+
+	/**
+	 * 리포지토리 네이티브 쿼리(:name 파라미터)를 그대로 실행할 때 사용
+	 */
+	public NamedParameterJdbcTemplate namedJdbcTemplate() {
+		return namedJdbcTemplate;
+	}
+
+	/**
+	 * 테스트 사용자 생성
+	 * @return user_id
+	 */
+	public long insertUser() {
+		String key = UUID.randomUUID().toString();
+		return jdbcTemplate.queryForObject("INSERT INTO users (email, nickname) VALUES (?, ?) RETURNING user_id",
+				Long.class, key + "@test.lifebit", key);
+	}
+
+	/**
+	 * 리포지토리 메서드의 @Query 문자열 (JPA 없이 같은 SQL 을 실행하기 위해)
+	 */
+	public static String queryOf(Class<?> repository, String methodName) {
+		Method method = Arrays.stream(repository.getMethods())
+				.filter(candidate -> candidate.getName().equals(methodName))
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException(repository.getSimpleName() + "." + methodName));
+		return method.getAnnotation(Query.class).value();
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value != null && !value.isBlank() ? value : defaultValue;
+	}
+}
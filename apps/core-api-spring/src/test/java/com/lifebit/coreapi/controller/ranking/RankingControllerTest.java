@@ -0,0 +1,25 @@
+package com.lifebit.coreapi.controller.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankingControllerTest {
+
+	private static final String ETAG = "\"lb-1a-7\"";
+
+	@Test
+	void etagMatchesListsWeakTagsAndWildcard() {
+		assertThat(RankingController.etagMatches(ETAG, ETAG)).isTrue();
+		assertThat(RankingController.etagMatches("\"other\", " + ETAG, ETAG)).isTrue();
+		assertThat(RankingController.etagMatches("W/" + ETAG, ETAG)).isTrue();
+		assertThat(RankingController.etagMatches("*", ETAG)).isTrue();
+	}
+
+	@Test
+	void etagDoesNotMatchOtherValues() {
+		assertThat(RankingController.etagMatches(null, ETAG)).isFalse();
+		assertThat(RankingController.etagMatches("\"lb-1a-8\"", ETAG)).isFalse();
+		assertThat(RankingController.etagMatches("\"a\", W/\"b\"", ETAG)).isFalse();
+	}
+}
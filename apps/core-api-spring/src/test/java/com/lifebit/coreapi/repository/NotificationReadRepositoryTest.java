@@ -0,0 +1,113 @@
+package com.lifebit.coreapi.repository;
+
+import com.lifebit.coreapi.PostgresTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Map;
+
+import static com.lifebit.coreapi.PostgresTestDatabase.queryOf;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시스템 알림 워터마크와 읽지 않은 알림 수 네이티브 쿼리를 실제 PostgreSQL 에서 실행
+ */
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_ENV, matches = ".+")
+class NotificationReadRepositoryTest {
+
+	private PostgresTestDatabase database;
+	private NamedParameterJdbcTemplate jdbcTemplate;
+	private long userId;
+
+	@BeforeEach
+	void setUp() {
+		database = new PostgresTestDatabase();
+		database.begin();
+		jdbcTemplate = database.namedJdbcTemplate();
+		userId = database.insertUser();
+		// 이미 있는 시스템 알림은 모두 읽은 상태에서 시작
+		update(NotificationReadRepository.class, "markAllSystemNotificationsRead", Map.of("userId", userId));
+	}
+
+	@AfterEach
+	void tearDown() {
+		database.rollback();
+	}
+
+	@Test
+	void unreadCountCombinesPersonalAndSystemAboveWatermark() {
+		insertNotification(userId, false);
+		insertNotification(userId, true);
+		insertNotification(null, false);
+		insertNotification(null, false);
+		// 다른 사용자의 개인 알림은 세지 않음
+		insertNotification(database.insertUser(), false);
+
+		assertThat(countUnread()).isEqualTo(3);
+
+		update(NotificationReadRepository.class, "markAllSystemNotificationsRead", Map.of("userId", userId));
+
+		assertThat(countUnread()).isEqualTo(1);
+	}
+
+	@Test
+	void individualReadsAdvanceWatermarkAndAreThenDropped() {
+		insertNotification(userId, false);
+		long first = insertNotification(null, false);
+		long second = insertNotification(null, false);
+		long third = insertNotification(null, false);
+		assertThat(countUnread()).isEqualTo(4);
+
+		assertThat(markRead(second)).isEqualTo(1);
+		assertThat(markRead(second)).isZero();
+		assertThat(countUnread()).isEqualTo(3);
+
+		// 가장 오래된 시스템 알림을 안 읽었으면 워터마크는 그 바로 앞까지만
+		advanceWatermark();
+		assertThat(watermark()).isEqualTo(first - 1);
+
+		assertThat(markRead(first)).isEqualTo(1);
+		advanceWatermark();
+		assertThat(watermark()).isEqualTo(third - 1);
+		assertThat(countUnread()).isEqualTo(2);
+
+		// 워터마크 아래로 내려간 개별 읽음 기록은 정리해도 개수가 그대로
+		assertThat(update(NotificationReadRepository.class, "deleteSystemReadsBelowWatermark",
+				Map.of("userId", userId))).isEqualTo(2);
+		assertThat(countUnread()).isEqualTo(2);
+		// 워터마크 이하 알림은 다시 읽어도 기록하지 않음
+		assertThat(markRead(first)).isZero();
+	}
+
+	private long insertNotification(Long owner, boolean read) {
+		return database.jdbcTemplate().queryForObject(
+				"INSERT INTO notification (user_id, type, title, message, is_read) VALUES (?, 'SYSTEM', '공지', '내용', ?) RETURNING id",
+				Long.class, owner, read);
+	}
+
+	private long countUnread() {
+		return jdbcTemplate.queryForObject(queryOf(NotificationRepository.class, "countUnread"),
+				Map.of("userId", userId), Long.class);
+	}
+
+	private long watermark() {
+		return jdbcTemplate.queryForObject(queryOf(NotificationReadRepository.class, "findSystemWatermark"),
+				Map.of("userId", userId), Long.class);
+	}
+
+	private int markRead(long notificationId) {
+		return update(NotificationReadRepository.class, "markRead",
+				Map.of("userId", userId, "notificationId", notificationId));
+	}
+
+	private void advanceWatermark() {
+		update(NotificationReadRepository.class, "advanceSystemWatermark", Map.of("userId", userId));
+	}
+
+	private int update(Class<?> repository, String method, Map<String, ?> params) {
+		return jdbcTemplate.update(queryOf(repository, method), params);
+	}
+}
@@ -0,0 +1,103 @@
+package com.lifebit.coreapi.service;
+
+import com.lifebit.coreapi.dto.NotificationFeedDto;
+import com.lifebit.coreapi.entity.Notification;
+import com.lifebit.coreapi.repository.NotificationReadRepository;
+import com.lifebit.coreapi.repository.NotificationRepository;
+import com.lifebit.coreapi.service.notification.NotificationOutbox;
+import com.lifebit.coreapi.service.notification.UnreadCountCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationServiceTest {
+
+	private NotificationRepository notificationRepository;
+	private UnreadCountCache unreadCountCache;
+	private NotificationService notificationService;
+
+	@BeforeEach
+	void setUp() {
+		notificationRepository = mock(NotificationRepository.class);
+		NotificationReadRepository notificationReadRepository = mock(NotificationReadRepository.class);
+		when(notificationReadRepository.findSystemWatermark(1L)).thenReturn(0L);
+		unreadCountCache = mock(UnreadCountCache.class);
+		notificationService = new NotificationService(notificationRepository, notificationReadRepository,
+				unreadCountCache, mock(NotificationOutbox.class));
+	}
+
+	@Test
+	void nextCursorResumesAfterLastItem() {
+		// 초 단위가 0인 시각(toString 에서 초가 생략됨)과 마이크로초 시각 모두 그대로 돌아와야 함
+		LocalDateTime onTheMinute = LocalDateTime.of(2026, 10, 14, 9, 30);
+		LocalDateTime withMicros = LocalDateTime.of(2026, 10, 14, 9, 29, 59, 123_456_000);
+		List<NotificationRepository.FeedRow> firstPage = List.of(
+				row(30L, onTheMinute), row(29L, withMicros), row(28L, withMicros.minusSeconds(1)));
+		when(notificationRepository.findFeed(eq(1L), eq(0L), eq(LocalDateTime.of(9999, 12, 31, 23, 59, 59)),
+				eq(Long.MAX_VALUE), anyBoolean(), anyBoolean(), anyInt())).thenReturn(firstPage);
+
+		NotificationFeedDto page = notificationService.getNotificationFeed(1L, null, 2, null);
+
+		assertThat(page.isHasNext()).isTrue();
+		assertThat(page.getItems()).extracting("id").containsExactly(30L, 29L);
+
+		notificationService.getNotificationFeed(1L, page.getNextCursor(), 2, null);
+
+		verify(notificationRepository).findFeed(eq(1L), eq(0L), eq(withMicros), eq(29L), eq(false), eq(false), eq(3));
+	}
+
+	@Test
+	void lastPageHasNoCursor() {
+		List<NotificationRepository.FeedRow> onlyPage = List.of(row(1L, LocalDateTime.now()));
+		when(notificationRepository.findFeed(eq(1L), anyLong(), eq(LocalDateTime.of(9999, 12, 31, 23, 59, 59)),
+				anyLong(), anyBoolean(), anyBoolean(), anyInt())).thenReturn(onlyPage);
+
+		NotificationFeedDto page = notificationService.getNotificationFeed(1L, null, 20, null);
+
+		assertThat(page.isHasNext()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		assertThatThrownBy(() -> notificationService.getNotificationFeed(1L, "not-a-cursor", 20, null))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void concurrentReadOfSameNotificationDecrementsOnce() {
+		Notification notification = new Notification();
+		notification.setId(5L);
+		notification.setUserId(1L);
+		when(notificationRepository.findById(5L)).thenReturn(Optional.of(notification));
+		// 두 요청 모두 읽기 전 상태를 봤지만 조건부 UPDATE 는 한 요청만 성공
+		when(notificationRepository.markReadIfUnread(5L, 1L)).thenReturn(1, 0);
+
+		notificationService.markAsRead(5L, 1L);
+		notificationService.markAsRead(5L, 1L);
+
+		verify(unreadCountCache, times(1)).read(1L);
+	}
+
+	private static NotificationRepository.FeedRow row(Long id, LocalDateTime createdAt) {
+		NotificationRepository.FeedRow row = mock(NotificationRepository.FeedRow.class);
+		when(row.getId()).thenReturn(id);
+		when(row.getCreatedAt()).thenReturn(createdAt);
+		when(row.getType()).thenReturn("GOAL_SET");
+		return row;
+	}
+}
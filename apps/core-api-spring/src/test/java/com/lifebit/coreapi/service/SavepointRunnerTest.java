@@ -0,0 +1,73 @@
+package com.lifebit.coreapi.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SavepointRunnerTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private Connection connection;
+	private Savepoint savepoint;
+	private SavepointRunner runner;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		connection = mock(Connection.class);
+		savepoint = mock(Savepoint.class);
+		when(connection.setSavepoint()).thenReturn(savepoint);
+		when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+				.thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+		runner = new SavepointRunner(jdbcTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+	}
+
+	@Test
+	void failureRollsBackToSavepointOnly() throws Exception {
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		assertThatThrownBy(() -> runner.run(() -> {
+			throw new IllegalStateException("update failed");
+		})).isInstanceOf(IllegalStateException.class);
+
+		// 바깥 트랜잭션은 그대로, 세이브포인트 이후만 되돌림
+		verify(connection).rollback(savepoint);
+		verify(connection, never()).rollback();
+	}
+
+	@Test
+	void successReleasesSavepoint() throws Exception {
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		runner.run(() -> { });
+
+		verify(connection).releaseSavepoint(savepoint);
+		verify(connection, never()).rollback(savepoint);
+	}
+
+	@Test
+	void runsDirectlyOutsideTransaction() {
+		runner.run(() -> { });
+
+		verifyNoInteractions(jdbcTemplate);
+	}
+}
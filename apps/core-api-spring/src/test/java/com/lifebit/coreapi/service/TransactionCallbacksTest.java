@@ -0,0 +1,62 @@
+package com.lifebit.coreapi.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionCallbacksTest {
+
+	private final List<String> runs = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void runsImmediatelyOutsideTransaction() {
+		TransactionCallbacks.afterCommit(() -> runs.add("commit"));
+		TransactionCallbacks.afterRollback(() -> runs.add("rollback"));
+
+		assertThat(runs).containsExactly("commit");
+	}
+
+	@Test
+	void commitRunsOnlyCommitActions() {
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionCallbacks.afterCommit(() -> runs.add("commit"));
+		TransactionCallbacks.afterRollback(() -> runs.add("rollback"));
+		assertThat(runs).isEmpty();
+
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(runs).containsExactly("commit");
+	}
+
+	@Test
+	void rollbackRunsOnlyRollbackActions() {
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionCallbacks.afterCommit(() -> runs.add("commit"));
+		TransactionCallbacks.afterRollback(() -> runs.add("rollback"));
+
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertThat(runs).containsExactly("rollback");
+	}
+
+	private static void complete(int status) {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		if (status == TransactionSynchronization.STATUS_COMMITTED) {
+			synchronizations.forEach(TransactionSynchronization::afterCommit);
+		}
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+	}
+}
@@ -0,0 +1,68 @@
+package com.lifebit.coreapi.service;
+
+import com.lifebit.coreapi.dto.UserProfileUpdateRequest;
+import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.event.HealthDataChangedEvent;
+import com.lifebit.coreapi.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+	private UserRepository userRepository;
+	private ApplicationEventPublisher eventPublisher;
+	private UserService userService;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		eventPublisher = mock(ApplicationEventPublisher.class);
+		userService = new UserService(userRepository, mock(PasswordEncoder.class), mock(NotificationService.class),
+				eventPublisher);
+
+		user = new User();
+		user.setNickname("lifebit");
+		user.setWeight(BigDecimal.valueOf(70));
+		user.setHeight(BigDecimal.valueOf(175));
+		when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+		when(userRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@Test
+	void weightChangePublishesProfileEvent() {
+		UserProfileUpdateRequest request = new UserProfileUpdateRequest();
+		request.setWeight(BigDecimal.valueOf(68.5));
+
+		userService.updateUserProfile(1L, request, null);
+
+		ArgumentCaptor<HealthDataChangedEvent> captor = ArgumentCaptor.forClass(HealthDataChangedEvent.class);
+		verify(eventPublisher).publishEvent(captor.capture());
+		assertThat(captor.getValue().getUserId()).isEqualTo(1L);
+		assertThat(captor.getValue().getDataType()).isEqualTo(HealthDataChangedEvent.DataType.PROFILE);
+	}
+
+	@Test
+	void unchangedBodyMetricsPublishNothing() {
+		UserProfileUpdateRequest request = new UserProfileUpdateRequest();
+		request.setNickname("lifebit");
+		request.setHeight(new BigDecimal("175.0"));
+
+		userService.updateUserProfile(1L, request, null);
+
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+	}
+}
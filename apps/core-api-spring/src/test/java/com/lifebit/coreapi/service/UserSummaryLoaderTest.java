@@ -0,0 +1,74 @@
+package com.lifebit.coreapi.service;
+
+import com.lifebit.coreapi.dto.UserSummaryDto;
+import com.lifebit.coreapi.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserSummaryLoaderTest {
+
+	private UserRepository userRepository;
+	private UserSummaryLoader loader;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		when(userRepository.findSummariesByUserIdIn(anyCollection())).thenReturn(List.of(
+				new UserSummaryDto(1L, "하나", "one.png"), new UserSummaryDto(2L, "둘", null)));
+		loader = new UserSummaryLoader(userRepository);
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void loadsAllUsersWithOneQueryAndFillsUnknown() {
+		Map<Long, UserSummaryDto> summaries = loader.loadAll(Arrays.asList(1L, 2L, 2L, 3L, null));
+
+		verify(userRepository).findSummariesByUserIdIn(Set.of(1L, 2L, 3L));
+		assertThat(summaries).containsOnlyKeys(1L, 2L, 3L);
+		assertThat(summaries.get(1L).getNickname()).isEqualTo("하나");
+		assertThat(summaries.get(3L).getNicknameOrDefault()).isEqualTo("사용자3");
+	}
+
+	@Test
+	void requestReusesLoadedUsers() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		loader.loadAll(List.of(1L, 2L));
+		UserSummaryDto again = loader.load(1L);
+		loader.loadAll(List.of(2L, 3L));
+
+		// 같은 요청 안에서는 새 사용자(3)만 다시 조회
+		assertThat(again.getNickname()).isEqualTo("하나");
+		verify(userRepository, times(1)).findSummariesByUserIdIn(Set.of(1L, 2L));
+		verify(userRepository, times(1)).findSummariesByUserIdIn(Set.of(3L));
+		verify(userRepository, times(2)).findSummariesByUserIdIn(anyCollection());
+	}
+
+	@Test
+	void withoutRequestEveryCallQueries() {
+		loader.load(1L);
+		loader.load(1L);
+
+		verify(userRepository, times(2)).findSummariesByUserIdIn(anyCollection());
+	}
+}
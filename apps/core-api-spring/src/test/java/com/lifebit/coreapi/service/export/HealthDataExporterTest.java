@@ -0,0 +1,90 @@
+package com.lifebit.coreapi.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HealthDataExporterTest {
+
+	private HealthDataExporter exporter;
+
+	@BeforeEach
+	void setUp() {
+		exporter = new HealthDataExporter(mock(DataSource.class), new ObjectMapper(), 500, 2);
+	}
+
+	@Test
+	void sameUserCannotRunTwoExports() {
+		HealthDataExporter.Slot slot = exporter.tryAcquire(1L);
+
+		assertThat(slot).isNotNull();
+		assertThat(exporter.tryAcquire(1L)).isNull();
+
+		slot.close();
+		slot.close();
+		assertThat(exporter.tryAcquire(1L)).isNotNull();
+	}
+
+	@Test
+	void totalSlotsAreBounded() {
+		assertThat(exporter.tryAcquire(1L)).isNotNull();
+		HealthDataExporter.Slot second = exporter.tryAcquire(2L);
+		assertThat(second).isNotNull();
+
+		// 전체 자리가 없을 때 거절된 사용자는 자리가 나면 다시 받을 수 있어야 함
+		assertThat(exporter.tryAcquire(3L)).isNull();
+		second.close();
+		assertThat(exporter.tryAcquire(3L)).isNotNull();
+	}
+
+	@Test
+	void ndjsonLinesHaveNoLeadingSeparator() throws Exception {
+		JdbcTemplate cursorTemplate = mock(JdbcTemplate.class);
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getObject(anyInt())).thenReturn(1L);
+		doAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(1);
+			handler.processRow(rs);
+			handler.processRow(rs);
+			return null;
+		}).when(cursorTemplate).query(contains("FROM health_records"), any(RowCallbackHandler.class), any(Object[].class));
+		ReflectionTestUtils.setField(exporter, "cursorTemplate", cursorTemplate);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		exporter.export(1L, HealthDataExporter.Format.NDJSON, null, null, false, out);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(lines).hasSize(2).allSatisfy(line -> assertThat(line).startsWith("{\"type\":\"health_record\""));
+	}
+
+	@Test
+	void csvTextNeutralizesFormulaPrefixes() {
+		assertThat(HealthDataExporter.csvText("=HYPERLINK(\"http://x\")")).isEqualTo("'=HYPERLINK(\"http://x\")");
+		assertThat(HealthDataExporter.csvText("+1")).isEqualTo("'+1");
+		assertThat(HealthDataExporter.csvText("-carbs")).isEqualTo("'-carbs");
+		assertThat(HealthDataExporter.csvText("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+		assertThat(HealthDataExporter.csvText("\t=1+1")).isEqualTo("'\t=1+1");
+		assertThat(HealthDataExporter.csvText("\r=1+1")).isEqualTo("'\r=1+1");
+		assertThat(HealthDataExporter.csvText("닭가슴살")).isEqualTo("닭가슴살");
+		// 숫자 값은 음수여도 그대로
+		assertThat(HealthDataExporter.csvText(new BigDecimal("-1.50"))).isEqualTo("-1.50");
+		assertThat(HealthDataExporter.csvText(null)).isNull();
+	}
+}
@@ -0,0 +1,142 @@
+package com.lifebit.coreapi.service.notification;
+
+import com.lifebit.coreapi.service.SavepointRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationOutboxTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private MeterRegistry meterRegistry;
+	private NotificationOutbox outbox;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		meterRegistry = new SimpleMeterRegistry();
+		outbox = newOutbox(1);
+		when(jdbcTemplate.queryForObject(contains("RETURNING id"), eq(Long.class), any(Object[].class)))
+				.thenReturn(11L, 12L);
+		when(jdbcTemplate.queryForList(contains("ORDER BY id LIMIT 1"), eq(Timestamp.class))).thenReturn(List.of());
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void rowIsInsertedInCallerTransactionAndSurvivesCrash() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		outbox.enqueue(message(1L));
+
+		// 커밋 전에 이미 호출자 트랜잭션 안에서 outbox 행 INSERT, 메모리 큐는 아직 비어 있음
+		verify(jdbcTemplate).queryForObject(contains("INSERT INTO notification_outbox"), eq(Long.class), any(Object[].class));
+		assertThat(meterRegistry.get("notification.outbox.queue.depth").gauge().value()).isZero();
+		commit();
+		assertThat(meterRegistry.get("notification.outbox.queue.depth").gauge().value()).isEqualTo(1.0);
+
+		// 커밋 직후 프로세스가 죽어 메모리 큐를 잃어도, 재기동한 인스턴스가 테이블에서 읽어 저장
+		NotificationOutbox restarted = newOutbox(1);
+		when(jdbcTemplate.query(startsWith("DELETE FROM notification_outbox\n"), any(RowMapper.class), anyInt()))
+				.thenReturn(List.of(message(1L)));
+
+		restarted.flush();
+
+		verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO notification "), argThat((List<Object[]> rows) -> rows.size() == 1));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void fullQueueLeavesRowForTableFlush() {
+		outbox.enqueue(message(1L));
+		outbox.enqueue(message(2L));
+
+		// 두 번째는 큐에 못 들어가도 행은 이미 테이블에 있음
+		assertThat(meterRegistry.get("notification.outbox.spilled").counter().count()).isEqualTo(1.0);
+		when(jdbcTemplate.queryForList(eq("DELETE FROM notification_outbox WHERE id = ANY(?) RETURNING id"), eq(Long.class),
+				any(Object.class))).thenReturn(List.of(11L));
+		when(jdbcTemplate.query(startsWith("DELETE FROM notification_outbox\n"), any(RowMapper.class), anyInt()))
+				.thenReturn(List.of(message(2L)));
+
+		outbox.flush();
+
+		verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO notification "), argThat((List<Object[]> rows) ->
+				rows.size() == 2 && rows.get(0)[0].equals(1L) && rows.get(1)[0].equals(2L)));
+	}
+
+	@Test
+	void queuedMessageTakenElsewhereIsNotWrittenTwice() {
+		outbox.enqueue(message(1L));
+		// 다른 인스턴스가 테이블에서 먼저 가져가 저장한 행
+		when(jdbcTemplate.queryForList(eq("DELETE FROM notification_outbox WHERE id = ANY(?) RETURNING id"), eq(Long.class),
+				any(Object.class))).thenReturn(List.of());
+
+		outbox.flush();
+
+		verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT INTO notification "), anyList());
+	}
+
+	@Test
+	void lagIncludesOldestOutboxRow() {
+		when(jdbcTemplate.queryForList(contains("ORDER BY id LIMIT 1"), eq(Timestamp.class)))
+				.thenReturn(List.of(Timestamp.valueOf(LocalDateTime.now().minusMinutes(5))));
+
+		outbox.flush();
+
+		// 메모리 큐는 비어 있어도 테이블에 5분 묵은 행이 있으면 지연으로 보임
+		assertThat(meterRegistry.get("notification.outbox.lag.ms").gauge().value()).isGreaterThanOrEqualTo(300_000);
+	}
+
+	private NotificationOutbox newOutbox(int capacity) {
+		SavepointRunner savepointRunner = mock(SavepointRunner.class);
+		when(savepointRunner.call(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+		NotificationOutbox created = new NotificationOutbox(jdbcTemplate, mock(PlatformTransactionManager.class),
+				savepointRunner, mock(UnreadCountCache.class), mock(ThreadPoolTaskScheduler.class), capacity,
+				meterRegistry);
+		ReflectionTestUtils.setField(created, "batchSize", 500);
+		ReflectionTestUtils.setField(created, "dedupTypes", Set.of());
+		return created;
+	}
+
+	private static NotificationOutbox.Message message(Long userId) {
+		return new NotificationOutbox.Message(userId, "GOAL_SET", null, "목표 설정", "목표가 설정되었습니다.");
+	}
+
+	private static void commit() {
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+	}
+}
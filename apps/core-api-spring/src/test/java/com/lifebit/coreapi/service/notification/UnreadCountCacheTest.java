@@ -0,0 +1,102 @@
+package com.lifebit.coreapi.service.notification;
+
+import com.lifebit.coreapi.handler.HealthWebSocketHandler;
+import com.lifebit.coreapi.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UnreadCountCacheTest {
+
+	private NotificationRepository notificationRepository;
+	private HealthWebSocketHandler webSocketHandler;
+	private UnreadCountChangeFeed changeFeed;
+	private UnreadCountCache cache;
+
+	@BeforeEach
+	void setUp() {
+		notificationRepository = mock(NotificationRepository.class);
+		webSocketHandler = mock(HealthWebSocketHandler.class);
+		changeFeed = mock(UnreadCountChangeFeed.class);
+		cache = new UnreadCountCache(notificationRepository, webSocketHandler, changeFeed, 100, new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "ttlMillis", 60_000L);
+		when(webSocketHandler.isUserConnected(any())).thenReturn(true);
+	}
+
+	@Test
+	void broadcastSendsDeltaToUncachedUsersWithoutCounting() {
+		when(notificationRepository.countUnread(1L)).thenReturn(4L);
+		cache.get(1L);
+		when(webSocketHandler.getConnectedUserIds()).thenReturn(List.of("1", "2", "3"));
+
+		cache.added(null);
+
+		// 캐시된 사용자는 새 값, 나머지는 변화량만 (COUNT 쿼리는 처음 조회한 한 번뿐)
+		verify(webSocketHandler).sendNotificationCount("1", 5L);
+		verify(webSocketHandler).sendNotificationCountChanged("2", 1L);
+		verify(webSocketHandler).sendNotificationCountChanged("3", 1L);
+		verify(notificationRepository, times(1)).countUnread(anyLong());
+	}
+
+	@Test
+	void invalidateSignalsStaleWithoutCounting() {
+		cache.invalidate(7L);
+
+		verify(webSocketHandler).sendNotificationCountChanged("7", null);
+		verify(notificationRepository, never()).countUnread(anyLong());
+	}
+
+	@Test
+	void localChangeIsPublishedForOtherNodes() {
+		cache.read(3L);
+		cache.added(null);
+
+		verify(changeFeed).publish(3L, -1L);
+		verify(changeFeed).publish(null, 1L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void otherNodeChangeDropsCachedValueAndSignalsDelta() {
+		when(notificationRepository.countUnread(1L)).thenReturn(4L, 5L);
+		cache.get(1L);
+		doAnswer(invocation -> {
+			invocation.<Consumer<UnreadCountChangeFeed.Change>>getArgument(0).accept(new UnreadCountChangeFeed.Change(1L, 1L));
+			return null;
+		}).when(changeFeed).poll(any(), any());
+
+		cache.syncFromOtherNodes();
+
+		// 다른 노드의 +1 을 캐시 값에 더하지 않고 버린 뒤 다시 셈 (변경 후에 센 값이면 두 번 반영되므로)
+		verify(webSocketHandler).sendNotificationCountChanged("1", 1L);
+		assertThat(cache.get(1L)).isEqualTo(5L);
+		verify(changeFeed, never()).publish(any(), any());
+	}
+
+	@Test
+	void expiredEntryIsRecounted() {
+		when(notificationRepository.countUnread(1L)).thenReturn(2L, 9L);
+		assertThat(cache.get(1L)).isEqualTo(2L);
+		assertThat(cache.get(1L)).isEqualTo(2L);
+
+		ReflectionTestUtils.setField(cache, "ttlMillis", -1L);
+
+		assertThat(cache.get(1L)).isEqualTo(9L);
+		verify(notificationRepository, times(2)).countUnread(1L);
+	}
+}
@@ -0,0 +1,104 @@
+package com.lifebit.coreapi.service.notification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UnreadCountChangeFeedTest {
+
+	// notification_count_change 테이블 대신 (id, node_id, user_id, delta)
+	private final List<Object[]> rows = new ArrayList<>();
+	private final List<UnreadCountChangeFeed.Change> applied = new ArrayList<>();
+	private final AtomicInteger resets = new AtomicInteger();
+	private UnreadCountChangeFeed feed;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		when(jdbcTemplate.update(startsWith("INSERT INTO notification_count_change"), any(Object[].class)))
+				.thenAnswer(invocation -> {
+					rows.add(new Object[] {rows.size() + 1L, invocation.getArgument(1), invocation.getArgument(2),
+							invocation.getArgument(3)});
+					return 1;
+				});
+		when(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE(MAX(id), 0)"), eq(Long.class)))
+				.thenAnswer(invocation -> (long) rows.size());
+		when(jdbcTemplate.query(startsWith("SELECT id, user_id, delta"), any(RowMapper.class), anyLong(), anyString(), anyInt()))
+				.thenAnswer(invocation -> {
+					long after = invocation.getArgument(2);
+					String nodeId = invocation.getArgument(3);
+					RowMapper<Object> mapper = invocation.getArgument(1);
+					List<Object> result = new ArrayList<>();
+					for (Object[] row : rows) {
+						if ((long) row[0] > after && !row[1].equals(nodeId)) {
+							result.add(mapper.mapRow(resultSet(row), 0));
+						}
+					}
+					return result;
+				});
+		feed = new UnreadCountChangeFeed(jdbcTemplate);
+	}
+
+	@Test
+	void otherNodeChangesAreAppliedOnce() {
+		poll();
+		otherNode(7L, 1L);
+		otherNode(null, null);
+		feed.publish(9L, -1L);
+
+		poll();
+		poll();
+
+		// 이 노드가 남긴 행은 건너뛰고, 다른 노드 행은 한 번만 반영
+		assertThat(applied).containsExactly(new UnreadCountChangeFeed.Change(7L, 1L), new UnreadCountChangeFeed.Change(null, null));
+		assertThat(resets).hasValue(1);
+	}
+
+	@Test
+	void tooManyChangesResetWholeCache() {
+		poll();
+		for (long userId = 1; userId <= UnreadCountChangeFeed.MAX_ROWS_PER_POLL + 1; userId++) {
+			otherNode(userId, 1L);
+		}
+
+		poll();
+		poll();
+
+		assertThat(applied).isEmpty();
+		assertThat(resets).hasValue(2);
+	}
+
+	private void poll() {
+		feed.poll(applied::add, resets::incrementAndGet);
+	}
+
+	private void otherNode(Long userId, Long delta) {
+		rows.add(new Object[] {rows.size() + 1L, "other-node", userId, delta});
+	}
+
+	private static ResultSet resultSet(Object[] row) throws SQLException {
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getLong("id")).thenReturn((long) row[0]);
+		when(rs.getObject("user_id", Long.class)).thenReturn((Long) row[2]);
+		when(rs.getObject("delta", Long.class)).thenReturn((Long) row[3]);
+		return rs;
+	}
+}
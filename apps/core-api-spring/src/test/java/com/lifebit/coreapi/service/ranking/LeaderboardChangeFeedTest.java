@@ -0,0 +1,137 @@
+package com.lifebit.coreapi.service.ranking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LeaderboardChangeFeedTest {
+
+	// leaderboard_change 테이블 대신 (id, user_id, settled)
+	private final List<Object[]> rows = new ArrayList<>();
+	private final List<Set<Long>> reloads = new ArrayList<>();
+	private final AtomicInteger rebuilds = new AtomicInteger();
+	private LeaderboardChangeFeed feed;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		when(jdbcTemplate.update(startsWith("INSERT INTO leaderboard_change"), any(Object[].class)))
+				.thenAnswer(invocation -> {
+					rows.add(new Object[] {rows.size() + 1L, invocation.getArgument(1), false});
+					return 1;
+				});
+		when(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE(MAX(id), 0)"), eq(Long.class)))
+				.thenAnswer(invocation -> rows.stream().filter(row -> (boolean) row[2])
+						.mapToLong(row -> (long) row[0]).max().orElse(0));
+		when(jdbcTemplate.query(startsWith("SELECT id, user_id"), any(RowMapper.class), anyLong(), anyInt()))
+				.thenAnswer(invocation -> {
+					long after = invocation.getArgument(2);
+					RowMapper<Object> mapper = invocation.getArgument(1);
+					List<Object> result = new ArrayList<>();
+					for (Object[] row : rows) {
+						if ((long) row[0] > after) {
+							result.add(mapper.mapRow(resultSet(row), 0));
+						}
+					}
+					return result;
+				});
+		feed = new LeaderboardChangeFeed(jdbcTemplate);
+	}
+
+	@Test
+	void firstCheckRebuildsThenOnlyOnChange() {
+		assertThat(refresh()).isTrue();
+		assertThat(refresh()).isFalse();
+		assertThat(rebuilds).hasValue(1);
+		assertThat(reloads).isEmpty();
+	}
+
+	@Test
+	void userChangesAreReloadedWithoutRebuild() {
+		refresh();
+		feed.changed(7L);
+		feed.changed(7L);
+		feed.changed(9L);
+		settleAll();
+
+		assertThat(refresh()).isTrue();
+		assertThat(reloads).containsExactly(Set.of(7L, 9L));
+		assertThat(refresh()).isFalse();
+		assertThat(rebuilds).hasValue(1);
+	}
+
+	@Test
+	void recentRowsAreReadAgainUntilSettled() {
+		refresh();
+		feed.changed(7L);
+
+		refresh();
+		settleAll();
+		refresh();
+		refresh();
+
+		// 커밋 순서가 어긋난 행을 놓치지 않도록 최근 행은 한 번 더 읽고, 오래되면 더 읽지 않음
+		assertThat(reloads).containsExactly(Set.of(7L), Set.of(7L));
+	}
+
+	@Test
+	void fullRecalculationTriggersRebuild() {
+		refresh();
+		feed.changed(7L);
+		feed.changedAll();
+		settleAll();
+
+		assertThat(refresh()).isTrue();
+		assertThat(rebuilds).hasValue(2);
+		assertThat(reloads).isEmpty();
+		assertThat(refresh()).isFalse();
+	}
+
+	@Test
+	void tooManyChangesTriggerRebuild() {
+		refresh();
+		for (long userId = 1; userId <= LeaderboardChangeFeed.MAX_ROWS_PER_POLL + 1; userId++) {
+			feed.changed(userId);
+		}
+		settleAll();
+
+		refresh();
+
+		assertThat(rebuilds).hasValue(2);
+		assertThat(reloads).isEmpty();
+	}
+
+	private boolean refresh() {
+		return feed.refresh(reloads::add, rebuilds::incrementAndGet);
+	}
+
+	private void settleAll() {
+		rows.forEach(row -> row[2] = true);
+	}
+
+	private static ResultSet resultSet(Object[] row) throws SQLException {
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getLong("id")).thenReturn((long) row[0]);
+		when(rs.getObject("user_id", Long.class)).thenReturn((Long) row[1]);
+		when(rs.getBoolean("settled")).thenReturn((boolean) row[2]);
+		return rs;
+	}
+}
@@ -0,0 +1,185 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.entity.UserRanking;
+import com.lifebit.coreapi.entity.enums.RankingTier;
+import com.lifebit.coreapi.repository.ranking.UserRankingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaderboardIndexTest {
+
+	private UserRankingRepository repository;
+	private LeaderboardIndex index;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(UserRankingRepository.class);
+		index = new LeaderboardIndex(repository, mock(LeaderboardChangeFeed.class));
+	}
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void tiedScoresShareRank() {
+		index.upsert(entry(1L, 100));
+		index.upsert(entry(2L, 100));
+		index.upsert(entry(3L, 50));
+
+		assertThat(index.rankOf(1L)).isEqualTo(1);
+		assertThat(index.rankOf(2L)).isEqualTo(1);
+		assertThat(index.rankOf(3L)).isEqualTo(3);
+		assertThat(index.top(1, 3)).extracting(e -> index.rankOfScore(1, e.totalScore())).containsExactly(1, 1, 3);
+	}
+
+	@Test
+	void ranksAreScopedToSeason() {
+		// 야간 배치의 RANK() OVER (PARTITION BY season)과 같은 규칙
+		index.upsert(new LeaderboardIndex.Entry(1L, 500, 0, RankingTier.UNRANK, 1));
+		index.upsert(new LeaderboardIndex.Entry(2L, 100, 0, RankingTier.UNRANK, 2));
+		index.upsert(new LeaderboardIndex.Entry(3L, 50, 0, RankingTier.UNRANK, 2));
+
+		assertThat(index.rankOf(2L)).isEqualTo(1);
+		assertThat(index.rankOf(3L)).isEqualTo(2);
+		assertThat(index.latestSeason()).isEqualTo(2);
+		assertThat(index.top(2, 10)).extracting(LeaderboardIndex.Entry::userId).containsExactly(2L, 3L);
+		assertThat(index.size(2)).isEqualTo(2);
+
+		// 시즌이 바뀐 사용자는 이전 시즌 순위에서 빠짐
+		index.upsert(new LeaderboardIndex.Entry(1L, 0, 0, RankingTier.UNRANK, 2));
+		assertThat(index.size(1)).isZero();
+		assertThat(index.rankOf(1L)).isEqualTo(3);
+	}
+
+	@Test
+	void rebuildReplaysChangesMadeWhileLoading() {
+		// DB 조회 도중에 커밋된 점수 변경은 조회 결과(이전 값)에 덮이지 않아야 함
+		when(repository.findAllActive()).thenAnswer(invocation -> {
+			index.upsert(entry(1L, 300));
+			index.upsert(entry(3L, 10));
+			return List.of(ranking(1L, 100), ranking(2L, 200));
+		});
+
+		index.rebuild();
+
+		assertThat(index.get(1L).totalScore()).isEqualTo(300);
+		assertThat(index.get(3L).totalScore()).isEqualTo(10);
+		assertThat(index.rankOf(1L)).isEqualTo(1);
+		assertThat(index.size()).isEqualTo(3);
+	}
+
+	@Test
+	void rollbackDoesNotOverwriteLaterChange() {
+		index.upsert(entry(1L, 100));
+
+		TransactionSynchronizationManager.initSynchronization();
+		index.upsert(entry(1L, 150));
+		List<TransactionSynchronization> rolledBack = new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+		TransactionSynchronizationManager.clearSynchronization();
+
+		// 롤백되기 전에 다른 트랜잭션의 변경이 먼저 반영됨
+		index.upsert(entry(1L, 200));
+		rolledBack.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		assertThat(index.get(1L).totalScore()).isEqualTo(200);
+	}
+
+	@Test
+	void rollbackRestoresPreviousEntry() {
+		index.upsert(entry(1L, 100));
+
+		TransactionSynchronizationManager.initSynchronization();
+		index.upsert(entry(1L, 150));
+		index.upsert(entry(2L, 80));
+		List<TransactionSynchronization> rolledBack = new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+		TransactionSynchronizationManager.clearSynchronization();
+		rolledBack.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		assertThat(index.get(1L).totalScore()).isEqualTo(100);
+		assertThat(index.get(2L)).isNull();
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentUpsertsKeepCountsConsistent() throws InterruptedException {
+		int users = 2000;
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch done = new CountDownLatch(users);
+		for (long userId = 1; userId <= users; userId++) {
+			long id = userId;
+			executor.execute(() -> {
+				index.upsert(entry(id, (int) (id % 100)));
+				index.upsert(entry(id, (int) (id % 50)));
+				done.countDown();
+			});
+		}
+		assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+
+		assertThat(index.size()).isEqualTo(users);
+		// 점수가 가장 낮은 사용자의 순위 = 더 높은 점수 인원 + 1
+		assertThat(index.rankOfScore(1, 0)).isEqualTo(users - users / 50 + 1);
+		assertThat(index.rankOfScore(1, 49)).isEqualTo(1);
+	}
+
+	@Test
+	void reloadAppliesOnlyChangedUsers() {
+		index.upsert(entry(1L, 100));
+		index.upsert(entry(2L, 50));
+		index.upsert(entry(3L, 10));
+		// 다른 노드에서 1번 점수 변경, 3번 비활성화
+		when(repository.findActiveByUserIdIn(Set.of(1L, 3L))).thenReturn(List.of(ranking(1L, 20)));
+
+		index.reload(Set.of(1L, 3L));
+
+		assertThat(index.get(1L).totalScore()).isEqualTo(20);
+		assertThat(index.get(3L)).isNull();
+		assertThat(index.rankOf(2L)).isEqualTo(1);
+		assertThat(index.size()).isEqualTo(2);
+		verify(repository, never()).findAllActive();
+	}
+
+	@Test
+	void seasonVersionChangesOnlyForAffectedSeason() {
+		index.upsert(new LeaderboardIndex.Entry(1L, 100, 0, RankingTier.UNRANK, 1));
+		long season1 = index.seasonVersion(1);
+		long season2 = index.seasonVersion(2);
+
+		index.upsert(new LeaderboardIndex.Entry(2L, 50, 0, RankingTier.UNRANK, 2));
+
+		assertThat(index.seasonVersion(1)).isEqualTo(season1);
+		assertThat(index.seasonVersion(2)).isGreaterThan(season2);
+	}
+
+	private static LeaderboardIndex.Entry entry(Long userId, int score) {
+		return new LeaderboardIndex.Entry(userId, score, 0, RankingTier.UNRANK, 1);
+	}
+
+	private static UserRanking ranking(Long userId, int score) {
+		UserRanking ranking = new UserRanking();
+		ranking.setUserId(userId);
+		ranking.setTotalScore(score);
+		return ranking;
+	}
+}
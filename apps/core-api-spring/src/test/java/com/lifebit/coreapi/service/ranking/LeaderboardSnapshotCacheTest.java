@@ -0,0 +1,55 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifebit.coreapi.dto.ranking.RankingUserDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class LeaderboardSnapshotCacheTest {
+
+	@Test
+	void etagDependsOnContentOnly() {
+		// 노드(인스턴스)가 달라도 같은 내용이면 같은 ETag, 내용이 바뀌면 다른 ETag
+		LeaderboardSnapshotCache node1 = newCache(mock(ThreadPoolTaskScheduler.class));
+		LeaderboardSnapshotCache node2 = newCache(mock(ThreadPoolTaskScheduler.class));
+		node2.get("home", () -> List.of(ranker(2L, 10)));
+
+		String etag1 = node1.get("season:1", () -> List.of(ranker(1L, 100))).etag();
+		String etag2 = node2.get("season:1", () -> List.of(ranker(1L, 100))).etag();
+
+		assertThat(etag1).isEqualTo(etag2);
+		node1.invalidateAll();
+		assertThat(node1.get("season:1", () -> List.of(ranker(1L, 101))).etag()).isNotEqualTo(etag1);
+	}
+
+	@Test
+	void staleSnapshotIsRebuiltOnDedicatedScheduler() {
+		ThreadPoolTaskScheduler snapshotScheduler = mock(ThreadPoolTaskScheduler.class);
+		LeaderboardSnapshotCache cache = newCache(snapshotScheduler);
+		LeaderboardSnapshotCache.Snapshot first = cache.get("home", () -> List.of(ranker(1L, 100)));
+		ReflectionTestUtils.setField(cache, "maxAgeMillis", -1L);
+
+		// 기존 스냅샷을 그대로 응답하고 재생성은 전용 스케줄러로 제출
+		assertThat(cache.get("home", () -> List.of(ranker(1L, 200)))).isSameAs(first);
+		verify(snapshotScheduler).execute(any(Runnable.class));
+	}
+
+	private static LeaderboardSnapshotCache newCache(ThreadPoolTaskScheduler scheduler) {
+		LeaderboardSnapshotCache cache = new LeaderboardSnapshotCache(mock(LeaderboardIndex.class), new ObjectMapper(), scheduler);
+		ReflectionTestUtils.setField(cache, "maxAgeMillis", 60_000L);
+		ReflectionTestUtils.setField(cache, "minRebuildIntervalMillis", 1_000L);
+		return cache;
+	}
+
+	private static RankingUserDto ranker(Long userId, int score) {
+		return RankingUserDto.builder().rank(1).userId(userId).nickname("user" + userId).score(score).build();
+	}
+}
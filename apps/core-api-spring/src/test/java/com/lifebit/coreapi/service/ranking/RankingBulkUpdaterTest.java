@@ -0,0 +1,113 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.PostgresTestDatabase;
+import com.lifebit.coreapi.entity.enums.RankingTier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankingBulkUpdaterTest {
+
+	// 티어 경계 (각 하한, 하한 - 1) + 0점/음수/최대 점수
+	private static final int[] SCORES = {-5, 0, 1, 999, 1000, 1999, 2000, 2999, 3000, 3999, 4000, 4999, 5000, 5999,
+			6000, 6999, 7000, 10000};
+
+	private PostgresTestDatabase database;
+
+	@AfterEach
+	void tearDown() {
+		if (database != null) {
+			database.rollback();
+		}
+	}
+
+	@Test
+	void tierCaseFollowsRankingTierAtEveryBoundary() {
+		// CASE 는 위에서부터 처음 맞는 WHEN 을 고르므로 같은 순서로 평가
+		String expression = RankingBulkUpdater.tierCaseExpression("s");
+		Matcher when = Pattern.compile("WHEN s (=|>=) (\\d+) THEN '(\\w+)'").matcher(expression);
+		Matcher otherwise = Pattern.compile("ELSE '(\\w+)' END$").matcher(expression);
+		assertThat(otherwise.find()).isTrue();
+
+		for (int score : SCORES) {
+			String tier = otherwise.group(1);
+			when.reset();
+			while (when.find()) {
+				int bound = Integer.parseInt(when.group(2));
+				if (when.group(1).equals("=") ? score == bound : score >= bound) {
+					tier = when.group(3);
+					break;
+				}
+			}
+			assertThat(tier).as("score %d", score).isEqualTo(RankingTier.fromScore(score).name());
+		}
+	}
+
+	@Test
+	@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_ENV, matches = ".+")
+	void tierCaseRunsInPostgres() {
+		JdbcTemplate jdbcTemplate = begin();
+
+		for (int score : SCORES) {
+			String tier = jdbcTemplate.queryForObject(
+					"SELECT " + RankingBulkUpdater.tierCaseExpression("v.score") + " FROM (VALUES (?)) v(score)",
+					String.class, score);
+			assertThat(tier).as("score %d", score).isEqualTo(RankingTier.fromScore(score).name());
+		}
+	}
+
+	@Test
+	@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_ENV, matches = ".+")
+	void ranksEachSeasonWithTiesAndKeepsPreviousRank() {
+		JdbcTemplate jdbcTemplate = begin();
+		// 다른 데이터와 섞이지 않는 시즌 번호
+		int season = 90_001;
+		long top = insertRanking(season, 5000, 7, true);
+		long tiedA = insertRanking(season, 2500, 1, true);
+		long tiedB = insertRanking(season, 2500, 2, true);
+		long last = insertRanking(season, 0, 3, true);
+		long inactive = insertRanking(season, 9000, 4, false);
+		long otherSeason = insertRanking(season + 1, 100, 9, true);
+
+		new RankingBulkUpdater(jdbcTemplate).recalculateRankPositions();
+
+		// RANK(): 동점은 같은 순위, 다음 순위는 건너뜀 / 기존 순위는 previous_rank 로
+		assertThat(row(top)).containsEntry("rank_position", 1).containsEntry("previous_rank", 7)
+				.containsEntry("tier", "MASTER");
+		assertThat(row(tiedA)).containsEntry("rank_position", 2).containsEntry("previous_rank", 1)
+				.containsEntry("tier", "GOLD");
+		assertThat(row(tiedB)).containsEntry("rank_position", 2).containsEntry("previous_rank", 2);
+		assertThat(row(last)).containsEntry("rank_position", 4).containsEntry("tier", "UNRANK");
+		// 비활성 행은 순위 계산에서 빠지고 값도 그대로
+		assertThat(row(inactive)).containsEntry("rank_position", 4).containsEntry("previous_rank", 0);
+		// 시즌마다 1위부터
+		assertThat(row(otherSeason)).containsEntry("rank_position", 1).containsEntry("previous_rank", 9)
+				.containsEntry("tier", "BRONZE");
+	}
+
+	private JdbcTemplate begin() {
+		database = new PostgresTestDatabase();
+		database.begin();
+		return database.jdbcTemplate();
+	}
+
+	private long insertRanking(int season, int score, int rank, boolean active) {
+		return database.jdbcTemplate().queryForObject("""
+				INSERT INTO user_ranking (user_id, total_score, rank_position, previous_rank, season, is_active)
+				VALUES (?, ?, ?, 0, ?, ?)
+				RETURNING id
+				""", Long.class, database.insertUser(), score, rank, season, active);
+	}
+
+	private Map<String, Object> row(long id) {
+		return database.jdbcTemplate().queryForMap(
+				"SELECT rank_position, previous_rank, tier FROM user_ranking WHERE id = ?", id);
+	}
+}
@@ -0,0 +1,96 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.dto.ranking.RankingDeltaDto;
+import com.lifebit.coreapi.entity.enums.RankingTier;
+import com.lifebit.coreapi.handler.HealthWebSocketHandler;
+import com.lifebit.coreapi.repository.ranking.UserRankingRepository;
+import com.lifebit.coreapi.service.notification.NotificationOutbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RankingDeltaPublisherTest {
+
+	private HealthWebSocketHandler webSocketHandler;
+	private LeaderboardIndex index;
+	private RankingDeltaPublisher publisher;
+
+	@BeforeEach
+	void setUp() {
+		webSocketHandler = mock(HealthWebSocketHandler.class);
+		index = new LeaderboardIndex(mock(UserRankingRepository.class), mock(LeaderboardChangeFeed.class));
+		publisher = new RankingDeltaPublisher(webSocketHandler, index, mock(NotificationOutbox.class));
+		ReflectionTestUtils.setField(publisher, "rankingPage", "ranking");
+		ReflectionTestUtils.setField(publisher, "topSize", 1);
+	}
+
+	@Test
+	void overtakenUserReceivesNewRank() {
+		for (long userId = 1; userId <= 4; userId++) {
+			index.upsert(entry(userId, (int) (100 - userId * 10)));
+		}
+		when(webSocketHandler.getUserIdsOnPage("ranking")).thenReturn(List.of("2", "3", "4"));
+		publisher.rankingRefreshed();
+		publisher.flush();
+
+		// 4위 사용자가 2위로 올라가면 2, 3위 사용자는 한 계단씩 밀림
+		index.upsert(entry(4L, 85));
+		publisher.rankChanged(4L, 4, RankingTier.UNRANK, 2, 85, RankingTier.UNRANK);
+		publisher.flush();
+
+		assertThat(lastUpdate("2").getPreviousRank()).isEqualTo(2);
+		assertThat(lastUpdate("2").getRank()).isEqualTo(3);
+		assertThat(lastUpdate("3").getRank()).isEqualTo(4);
+		assertThat(lastUpdate("4").getRank()).isEqualTo(2);
+		assertThat(lastUpdate("4").isLeaderboardChanged()).isFalse();
+	}
+
+	@Test
+	void userOutsideAffectedRangeIsNotPushed() {
+		for (long userId = 1; userId <= 4; userId++) {
+			index.upsert(entry(userId, (int) (100 - userId * 10)));
+		}
+		when(webSocketHandler.getUserIdsOnPage("ranking")).thenReturn(List.of("1", "3", "4"));
+		publisher.rankingRefreshed();
+		publisher.flush();
+
+		index.upsert(entry(4L, 75));
+		publisher.rankChanged(4L, 4, RankingTier.UNRANK, 3, 75, RankingTier.UNRANK);
+		publisher.flush();
+
+		// 1위 사용자의 순위는 그대로이고 상위 목록도 바뀌지 않았으므로 추가 전송 없음 (새로고침 때 1건)
+		verify(webSocketHandler, times(1)).sendRankingUpdate(eq("1"), any());
+		assertThat(lastUpdate("3").getRank()).isEqualTo(4);
+	}
+
+	@Test
+	void nothingSentWhenNoChanges() {
+		publisher.flush();
+
+		verify(webSocketHandler, never()).getUserIdsOnPage(any());
+		verify(webSocketHandler, never()).sendRankingUpdate(any(), any());
+	}
+
+	private RankingDeltaDto lastUpdate(String userId) {
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(webSocketHandler, atLeastOnce()).sendRankingUpdate(eq(userId), captor.capture());
+		return (RankingDeltaDto) captor.getValue();
+	}
+
+	private static LeaderboardIndex.Entry entry(Long userId, int score) {
+		return new LeaderboardIndex.Entry(userId, score, 0, RankingTier.UNRANK, 1);
+	}
+}
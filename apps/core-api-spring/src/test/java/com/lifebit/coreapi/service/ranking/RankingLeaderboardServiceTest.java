@@ -0,0 +1,53 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.dto.ranking.LeaderboardPageDto;
+import com.lifebit.coreapi.dto.ranking.RankingUserDto;
+import com.lifebit.coreapi.dto.ranking.RankingWithUserDto;
+import com.lifebit.coreapi.entity.enums.RankingTier;
+import com.lifebit.coreapi.repository.ranking.UserRankingRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RankingLeaderboardServiceTest {
+
+	private final UserRankingRepository repository = mock(UserRankingRepository.class);
+	private final RankingLeaderboardService service = new RankingLeaderboardService(repository);
+
+	@Test
+	void ranksAreComputedWithinRequestedSeason() {
+		// 지난 시즌 2 페이지: 커서 앞에 더 높은 점수 4명
+		when(repository.findSeasonRankingsAfter(eq(2), anyInt(), anyLong(), any()))
+				.thenReturn(List.of(row(10L, 80), row(11L, 80), row(12L, 70)));
+		when(repository.countSeasonRankingsAbove(2, 80)).thenReturn(4L);
+
+		LeaderboardPageDto page = service.getLeaderboardPage(2, "90_5", 10);
+
+		assertThat(page.getItems()).extracting(RankingUserDto::getRank).containsExactly(5, 5, 7);
+		assertThat(page.isHasNext()).isFalse();
+	}
+
+	@Test
+	void firstPageStartsAtRankOne() {
+		when(repository.findSeasonRankingsWithUser(eq(1), any()))
+				.thenReturn(List.of(row(1L, 100), row(2L, 90), row(3L, 90)));
+		when(repository.countSeasonRankingsAbove(1, 100)).thenReturn(0L);
+
+		LeaderboardPageDto page = service.getLeaderboardPage(1, null, 2);
+
+		assertThat(page.getItems()).extracting(RankingUserDto::getRank).containsExactly(1, 2);
+		assertThat(page.getNextCursor()).isEqualTo("90_2");
+	}
+
+	private static RankingWithUserDto row(Long id, int score) {
+		return new RankingWithUserDto(id, id, score, 0, 0, RankingTier.UNRANK, "user" + id, null);
+	}
+}
@@ -0,0 +1,115 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.entity.UserGoal;
+import com.lifebit.coreapi.service.UserGoalService;
+import com.lifebit.coreapi.service.notification.NotificationOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RankingScoreBatchJobTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private RankingScoreEventLog rankingScoreEventLog;
+	private NotificationOutbox notificationOutbox;
+	private RankingScoreBatchJob job;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() throws SQLException {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		rankingScoreEventLog = mock(RankingScoreEventLog.class);
+		notificationOutbox = mock(NotificationOutbox.class);
+		UserGoalService userGoalService = mock(UserGoalService.class);
+		when(userGoalService.getDefaultDietGoalForGender(anyString())).thenReturn(new UserGoal());
+		// 사용자 1~5 (3번만 100점, 나머지 0점), 사용자 1~2 는 같은 날 이전 실행에서 완료
+		List<ResultSet> rows = new ArrayList<>();
+		for (long userId = 1; userId <= 5; userId++) {
+			rows.add(rankingRow(userId + 10, userId, userId == 3 ? 100 : 0));
+		}
+		when(jdbcTemplate.query(startsWith("SELECT ur.id"), any(RowMapper.class))).thenAnswer(invocation -> {
+			RowMapper<Object> mapper = invocation.getArgument(1);
+			List<Object> mapped = new ArrayList<>();
+			for (ResultSet rs : rows) {
+				mapped.add(mapper.mapRow(rs, mapped.size()));
+			}
+			return mapped;
+		});
+		when(jdbcTemplate.query(startsWith("SELECT first_user_id"), any(RowMapper.class), any(Object[].class)))
+				.thenReturn(List.of(new long[] {1, 2}));
+		job = new RankingScoreBatchJob(jdbcTemplate, mock(PlatformTransactionManager.class), userGoalService,
+				notificationOutbox, rankingScoreEventLog, new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(job, "chunkSize", 2);
+		ReflectionTestUtils.setField(job, "parallelism", 2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void skipsCompletedRangesAndCheckpointsEachChunk() {
+		RankingScoreBatchJob.Result result = job.run();
+
+		assertThat(result.usersResumed()).isEqualTo(2);
+		assertThat(result.usersProcessed()).isEqualTo(3);
+		assertThat(result.chunks()).isEqualTo(2);
+		ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate, times(2)).batchUpdate(startsWith("UPDATE user_ranking SET total_score"), updates.capture());
+		assertThat(updates.getAllValues().stream().flatMap(List::stream).map(row -> row[2]))
+				.containsExactlyInAnyOrder(13L, 14L, 15L);
+		verify(jdbcTemplate, times(2)).update(startsWith("INSERT INTO ranking_batch_checkpoint"), any(Object[].class));
+		// 끝까지 완료된 실행은 그날 체크포인트를 지워 같은 날 재실행 시 전체 재계산
+		verify(jdbcTemplate).update(eq("DELETE FROM ranking_batch_checkpoint WHERE job_name = ? AND run_date = ?"),
+				eq(RankingScoreBatchJob.JOB_NAME), eq(LocalDate.now()));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void changedScoresLeaveCorrectionEventAndTierNotification() {
+		RankingScoreBatchJob.Result result = job.run();
+
+		ArgumentCaptor<List<Object[]>> events = ArgumentCaptor.forClass(List.class);
+		verify(rankingScoreEventLog, atLeastOnce()).recordOverwrites(events.capture());
+		assertThat(events.getAllValues().stream().flatMap(List::stream).toList())
+				.singleElement()
+				.satisfies(event -> assertThat(event).containsExactly(3L, 1, -100, RankingScoreEventLog.DAILY_RECALC));
+		ArgumentCaptor<List<NotificationOutbox.Message>> notifications = ArgumentCaptor.forClass(List.class);
+		verify(notificationOutbox, atLeastOnce()).enqueueDurably(notifications.capture());
+		assertThat(notifications.getAllValues().stream().flatMap(List::stream).toList())
+				.singleElement()
+				.satisfies(message -> assertThat(message.userId()).isEqualTo(3L));
+		assertThat(result.tierChanges()).isEqualTo(1);
+		verify(notificationOutbox, times(2)).enqueueDurably(anyList());
+	}
+
+	private static ResultSet rankingRow(long id, long userId, int totalScore) throws SQLException {
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getLong("id")).thenReturn(id);
+		when(rs.getLong("user_id")).thenReturn(userId);
+		when(rs.getInt("total_score")).thenReturn(totalScore);
+		when(rs.getString("tier")).thenReturn(totalScore == 0 ? "UNRANK" : "BRONZE");
+		when(rs.getInt("season")).thenReturn(1);
+		return rs;
+	}
+}
@@ -0,0 +1,92 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.PostgresTestDatabase;
+import com.lifebit.coreapi.entity.enums.RankingTier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트 INSERT + 사용자당 활성 행 UPSERT 를 실제 PostgreSQL 에서 실행
+ * (ON CONFLICT 가 uq_user_ranking_active_user 부분 인덱스를 쓰는지 확인)
+ */
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_ENV, matches = ".+")
+class RankingScoreEventLogTest {
+
+	private static final int SEASON = 90_001;
+
+	private PostgresTestDatabase database;
+	private JdbcTemplate jdbcTemplate;
+	private RankingScoreEventLog eventLog;
+	private long userId;
+
+	@BeforeEach
+	void setUp() {
+		database = new PostgresTestDatabase();
+		database.begin();
+		jdbcTemplate = database.jdbcTemplate();
+		eventLog = new RankingScoreEventLog(jdbcTemplate);
+		userId = database.insertUser();
+	}
+
+	@AfterEach
+	void tearDown() {
+		database.rollback();
+	}
+
+	@Test
+	void appendsEventsAndKeepsOneActiveRow() {
+		RankingScoreEventLog.Applied first = eventLog.append(userId, SEASON, 800, "EXERCISE", null);
+		eventLog.updateRankPosition(first.rankingId(), 5);
+		RankingScoreEventLog.Applied second = eventLog.append(userId, SEASON, 300, "MEAL", 40);
+
+		assertThat(second.rankingId()).isEqualTo(first.rankingId());
+		assertThat(second.previousScore()).isEqualTo(800);
+		assertThat(second.totalScore()).isEqualTo(1100);
+		assertThat(second.previousTier()).isEqualTo(RankingTier.BRONZE);
+		assertThat(second.tier()).isEqualTo(RankingTier.SILVER);
+		assertThat(activeRow()).containsEntry("total_score", 1100).containsEntry("goal_based_score", 40)
+				.containsEntry("previous_rank", 5).containsEntry("tier", "SILVER");
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_ranking WHERE user_id = ?", Integer.class, userId))
+				.isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject("SELECT SUM(delta) FROM ranking_score_event WHERE user_id = ?",
+				Integer.class, userId)).isEqualTo(1100);
+	}
+
+	@Test
+	void goalScoreIsKeptWhenNotGivenAndSeasonChangeResetsPreviousRank() {
+		RankingScoreEventLog.Applied first = eventLog.append(userId, SEASON, 100, "EXERCISE", 70);
+		eventLog.updateRankPosition(first.rankingId(), 3);
+
+		eventLog.append(userId, SEASON + 1, 50, "EXERCISE", null);
+
+		assertThat(activeRow()).containsEntry("goal_based_score", 70).containsEntry("previous_rank", 0)
+				.containsEntry("season", SEASON + 1);
+		assertThat(eventLog.currentGoalBasedScore(userId)).isEqualTo(70);
+	}
+
+	@Test
+	void overwriteRecordsOnlyTheDifference() {
+		eventLog.append(userId, SEASON, 500, "EXERCISE", null);
+
+		eventLog.recordOverwrite(userId, SEASON, 500, 450, RankingScoreEventLog.DAILY_RECALC);
+		eventLog.recordOverwrite(userId, SEASON, 450, 450, RankingScoreEventLog.DAILY_RECALC);
+
+		assertThat(jdbcTemplate.queryForList("SELECT delta FROM ranking_score_event WHERE user_id = ? ORDER BY id",
+				Integer.class, userId)).containsExactly(500, -50);
+	}
+
+	private Map<String, Object> activeRow() {
+		return jdbcTemplate.queryForMap("""
+				SELECT total_score, goal_based_score, previous_rank, season, tier
+				  FROM user_ranking
+				 WHERE user_id = ? AND is_active = TRUE
+				""", userId);
+	}
+}
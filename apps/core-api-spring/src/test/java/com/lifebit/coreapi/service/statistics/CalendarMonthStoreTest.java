@@ -0,0 +1,141 @@
+package com.lifebit.coreapi.service.statistics;
+
+import com.lifebit.coreapi.PostgresTestDatabase;
+import com.lifebit.coreapi.dto.statistics.CalendarMonth;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CalendarMonthStoreTest {
+
+	// 윤년 2월 (29일)
+	private static final YearMonth MONTH = YearMonth.of(2024, 2);
+
+	private PostgresTestDatabase database;
+
+	@AfterEach
+	void tearDown() {
+		if (database != null) {
+			database.rollback();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void arraysMapToDayIndexedValuesWithNullsAsZero() throws SQLException {
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getDate("month_start")).thenReturn(Date.valueOf(MONTH.atDay(1)));
+		Array workouts = array(new Integer[] {2, null, 1});
+		Array primary = array(new Long[] {11L, null, 12L});
+		Array zeros = array(new Integer[] {0, 0, 0});
+		when(rs.getArray("workout_count")).thenReturn(workouts);
+		when(rs.getArray("primary_exercise_id")).thenReturn(primary);
+		for (String column : List.of("exercise_minutes", "calories_burned", "meal_count", "kcal_intake")) {
+			when(rs.getArray(column)).thenReturn(zeros);
+		}
+		when(jdbcTemplate.query(startsWith("SELECT * FROM user_calendar_month"), any(RowMapper.class), eq(7L),
+				eq(Date.valueOf(MONTH.atDay(1))))).thenAnswer(invocation ->
+				List.of(invocation.<RowMapper<CalendarMonth>>getArgument(1).mapRow(rs, 0)));
+
+		CalendarMonth month = new CalendarMonthStore(jdbcTemplate).findMonth(7L, MONTH);
+
+		assertThat(month.getWorkoutCount()).containsExactly(2, 0, 1);
+		assertThat(month.getPrimaryExerciseId()).containsExactly(11L, 0L, 12L);
+		assertThat(month.dateOf(2)).isEqualTo(LocalDate.of(2024, 2, 3));
+	}
+
+	@Test
+	void missingMonthIsEmptyCalendar() {
+		CalendarMonth month = new CalendarMonthStore(mock(JdbcTemplate.class)).findMonth(7L, MONTH);
+
+		assertThat(month.days()).isEqualTo(29);
+		assertThat(month.getKcalIntake()).containsOnly(0);
+	}
+
+	@Test
+	@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_ENV, matches = ".+")
+	void refreshBuildsOneSlotPerDayOfMonth() {
+		JdbcTemplate db = beginDatabase();
+		CalendarMonthStore store = new CalendarMonthStore(db);
+		long userId = database.insertUser();
+		insertSummary(db, userId, MONTH.atDay(1), 2, 45, 300, 11L, 3, "1800.60");
+		insertSummary(db, userId, MONTH.atEndOfMonth(), 0, 0, 0, null, 1, "500.40");
+		// 다른 달의 요약은 들어가지 않음
+		insertSummary(db, userId, MONTH.plusMonths(1).atDay(1), 1, 30, 100, 12L, 0, "0");
+
+		store.refreshMonth(userId, MONTH.atDay(10));
+		// 다시 만들어도 같은 한 줄
+		store.refreshMonth(userId, MONTH.atDay(10));
+
+		CalendarMonth month = store.findMonth(userId, MONTH);
+		assertThat(month.days()).isEqualTo(29);
+		assertThat(month.getWorkoutCount()[0]).isEqualTo(2);
+		assertThat(month.getExerciseMinutes()[0]).isEqualTo(45);
+		assertThat(month.getCaloriesBurned()[0]).isEqualTo(300);
+		assertThat(month.getPrimaryExerciseId()[0]).isEqualTo(11L);
+		assertThat(month.getMealCount()[0]).isEqualTo(3);
+		assertThat(month.getKcalIntake()[0]).isEqualTo(1801);
+		assertThat(month.getMealCount()[28]).isEqualTo(1);
+		assertThat(month.getKcalIntake()[28]).isEqualTo(500);
+		assertThat(month.getPrimaryExerciseId()[28]).isZero();
+		assertThat(month.getWorkoutCount()).containsOnly(0, 2);
+		assertThat(db.queryForObject("SELECT COUNT(*) FROM user_calendar_month WHERE user_id = ?", Integer.class, userId))
+				.isEqualTo(1);
+	}
+
+	@Test
+	@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_ENV, matches = ".+")
+	void refreshDropsMonthWithoutSummaries() {
+		JdbcTemplate db = beginDatabase();
+		CalendarMonthStore store = new CalendarMonthStore(db);
+		long userId = database.insertUser();
+		insertSummary(db, userId, MONTH.atDay(5), 1, 30, 100, 11L, 0, "0");
+		store.refreshMonth(userId, MONTH.atDay(5));
+
+		db.update("DELETE FROM user_daily_summary WHERE user_id = ?", userId);
+		store.refreshMonth(userId, MONTH.atDay(5));
+
+		assertThat(db.queryForObject("SELECT COUNT(*) FROM user_calendar_month WHERE user_id = ?", Integer.class, userId))
+				.isZero();
+		assertThat(store.findMonth(userId, MONTH).getWorkoutCount()).containsOnly(0);
+	}
+
+	private JdbcTemplate beginDatabase() {
+		database = new PostgresTestDatabase();
+		database.begin();
+		return database.jdbcTemplate();
+	}
+
+	private static void insertSummary(JdbcTemplate db, long userId, LocalDate day, int sessions, int minutes, int calories,
+									  Long primaryExerciseId, int meals, String kcal) {
+		db.update("""
+				INSERT INTO user_daily_summary (user_id, summary_date, exercise_sessions, exercise_minutes, calories_burned,
+				                                primary_exercise_id, meal_log_count, kcal_intake)
+				VALUES (?, ?, ?, ?, ?, ?, ?, CAST(? AS DECIMAL))
+				""", userId, Date.valueOf(day), sessions, minutes, calories, primaryExerciseId, meals, kcal);
+	}
+
+	private static Array array(Object[] values) throws SQLException {
+		Array array = mock(Array.class);
+		when(array.getArray()).thenReturn(values);
+		return array;
+	}
+}
@@ -0,0 +1,231 @@
+package com.lifebit.coreapi.service.statistics;
+
+import com.lifebit.coreapi.PostgresTestDatabase;
+import com.lifebit.coreapi.dto.statistics.DailySummary;
+import com.lifebit.coreapi.entity.BodyPartType;
+import com.lifebit.coreapi.entity.HealthRecord;
+import com.lifebit.coreapi.service.SavepointRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DailySummaryRollupTest {
+
+	private static final LocalDate DAY = LocalDate.of(2026, 10, 14);
+
+	private JdbcTemplate jdbcTemplate;
+	private PeriodBucketStore periodBucketStore;
+	private DailySummaryRollup rollup;
+	private PostgresTestDatabase database;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		periodBucketStore = mock(PeriodBucketStore.class);
+		rollup = new DailySummaryRollup(jdbcTemplate, periodBucketStore, mock(CalendarMonthStore.class));
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (database != null) {
+			database.rollback();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void refreshLocksUserBeforeRecomputing() {
+		rollup.refreshDay(7L, DAY);
+
+		// 잠금 대기 후 실행되는 재집계 문장이 먼저 커밋된 기록까지 보도록 잠금이 가장 먼저
+		InOrder order = inOrder(jdbcTemplate, periodBucketStore);
+		order.verify(jdbcTemplate).query(contains("pg_advisory_xact_lock"), any(ResultSetExtractor.class), anyInt(), eq(7));
+		order.verify(jdbcTemplate).update(contains("ON CONFLICT (user_id, summary_date)"),
+				eq(7L), eq(Date.valueOf(DAY)), eq(7L), eq(Date.valueOf(DAY)), eq(7L), eq(Date.valueOf(DAY)));
+		order.verify(periodBucketStore).refreshContaining(7L, DAY);
+	}
+
+	@Test
+	void primaryExerciseNameFollowsChosenId() {
+		ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+		rollup.refreshDay(7L, DAY);
+
+		// 대표 운동은 MODE() 한 번으로 ID 를 고르고, 이름은 그 ID 의 카탈로그에서 가져옴 (동률에서 ID/이름 불일치 방지)
+		verify(jdbcTemplate).update(sql.capture(), eq(7L), eq(Date.valueOf(DAY)), eq(7L), eq(Date.valueOf(DAY)),
+				eq(7L), eq(Date.valueOf(DAY)));
+		assertThat(sql.getValue().split("MODE\\(\\)", -1)).hasSize(2);
+		assertThat(sql.getValue())
+				.contains("MODE() WITHIN GROUP (ORDER BY es.exercise_catalog_id) AS primary_exercise_id")
+				.contains("pc.name AS primary_exercise")
+				.contains("pc.exercise_catalog_id = ex.primary_exercise_id");
+	}
+
+	@Test
+	void foodItemChangeRefreshesEveryDayThatUsesIt() {
+		when(jdbcTemplate.queryForList(contains("WHERE food_item_id = ?"), eq(3L))).thenReturn(List.of(
+				Map.of("user_id", 1L, "log_date", Date.valueOf(DAY)),
+				Map.of("user_id", 2L, "log_date", Date.valueOf(DAY.minusDays(30)))));
+
+		assertThat(rollup.refreshFoodItem(3L)).isEqualTo(2);
+
+		verify(periodBucketStore).refreshContaining(1L, DAY);
+		verify(periodBucketStore).refreshContaining(2L, DAY.minusDays(30));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void exerciseCatalogChangeRefreshesEveryDayThatUsesIt() {
+		when(jdbcTemplate.query(contains("WHERE exercise_catalog_id = ?"), any(RowMapper.class), eq(5L))).thenReturn(List.of(
+				new DailySummaryRollup.UserDay(1L, DAY), new DailySummaryRollup.UserDay(4L, DAY.minusDays(3))));
+
+		assertThat(rollup.refreshExerciseCatalog(5L)).isEqualTo(2);
+
+		verify(periodBucketStore).refreshContaining(1L, DAY);
+		verify(periodBucketStore).refreshContaining(4L, DAY.minusDays(3));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void listenerFailureDoesNotPropagateToRecordSave() {
+		DailySummaryRollup failing = mock(DailySummaryRollup.class);
+		doThrow(new DataIntegrityViolationException("duplicate key")).when(failing).refreshDay(any(), any());
+		SavepointRunner savepointRunner = mock(SavepointRunner.class);
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(savepointRunner).run(any());
+		ObjectProvider<DailySummaryRollup> rollupProvider = mock(ObjectProvider.class);
+		ObjectProvider<SavepointRunner> savepointProvider = mock(ObjectProvider.class);
+		when(rollupProvider.getObject()).thenReturn(failing);
+		when(savepointProvider.getObject()).thenReturn(savepointRunner);
+		DailySummaryEntityListener listener = new DailySummaryEntityListener(rollupProvider, savepointProvider);
+
+		HealthRecord record = new HealthRecord();
+		record.setUserId(1L);
+		record.setRecordDate(DAY);
+
+		// 요약 갱신은 세이브포인트 안에서 실행되고, 실패는 기록 저장으로 전파되지 않음
+		assertThatCode(() -> listener.onPersist(record)).doesNotThrowAnyException();
+		verify(savepointRunner).run(any());
+	}
+
+	@Test
+	@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_ENV, matches = ".+")
+	void upsertAggregatesDayAndOverwritesOnRefresh() {
+		JdbcTemplate db = beginDatabase();
+		DailySummaryRollup dbRollup = new DailySummaryRollup(db, periodBucketStore, mock(CalendarMonthStore.class));
+		long userId = database.insertUser();
+		long benchPress = insertCatalog(db, "벤치프레스", BodyPartType.chest);
+		long squat = insertCatalog(db, "스쿼트", BodyPartType.legs);
+		insertSession(db, userId, benchPress, 30, 200, 3);
+		insertSession(db, userId, benchPress, 20, 100, 2);
+		insertSession(db, userId, squat, 10, 50, 1);
+		Long rice = db.queryForObject(
+				"INSERT INTO food_items (name, calories, carbs, protein, fat) VALUES ('밥', 200, 40, 4, -1) RETURNING food_item_id",
+				Long.class);
+		// 150g → 100g 당 값의 1.5배, 음수 영양소는 0
+		db.update("INSERT INTO meal_logs (user_id, food_item_id, quantity, log_date) VALUES (?, ?, 150, ?)",
+				userId, rice, Date.valueOf(DAY));
+		db.update("INSERT INTO health_records (user_id, weight, height, record_date) VALUES (?, 70, 175, ?)",
+				userId, Date.valueOf(DAY));
+
+		dbRollup.refreshDay(userId, DAY);
+
+		DailySummary summary = onlyDay(dbRollup, userId);
+		assertThat(summary.getExerciseSessions()).isEqualTo(3);
+		assertThat(summary.getExerciseMinutes()).isEqualTo(60);
+		assertThat(summary.getCaloriesBurned()).isEqualTo(350);
+		assertThat(summary.getTotalSets()).isEqualTo(6);
+		assertThat(summary.getBodyPartSessions()).containsEntry(BodyPartType.chest, 2).containsEntry(BodyPartType.legs, 1)
+				.containsEntry(BodyPartType.back, 0);
+		assertThat(summary.getBodyPartMinutes()).containsEntry(BodyPartType.chest, 50).containsEntry(BodyPartType.legs, 10);
+		assertThat(summary.getBodyPartMask())
+				.isEqualTo(BodyPartCalendar.bit(BodyPartType.chest) | BodyPartCalendar.bit(BodyPartType.legs));
+		assertThat(summary.getPrimaryExerciseId()).isEqualTo(benchPress);
+		assertThat(summary.getPrimaryExercise()).isEqualTo("벤치프레스");
+		assertThat(summary.getMealLogCount()).isEqualTo(1);
+		assertThat(summary.getKcalIntake()).isEqualByComparingTo("300");
+		assertThat(summary.getFatIntake()).isEqualByComparingTo(BigDecimal.ZERO);
+		assertThat(summary.getHealthRecordCount()).isEqualTo(1);
+		assertThat(summary.getWeight()).isEqualByComparingTo("70");
+
+		// 같은 날 다시 집계하면 새 행 대신 기존 행을 덮어씀
+		insertSession(db, userId, squat, 40, 300, 4);
+		insertSession(db, userId, squat, 10, 50, 1);
+		dbRollup.refreshDay(userId, DAY);
+
+		summary = onlyDay(dbRollup, userId);
+		assertThat(summary.getExerciseSessions()).isEqualTo(5);
+		assertThat(summary.getBodyPartSessions()).containsEntry(BodyPartType.legs, 3);
+		assertThat(summary.getPrimaryExerciseId()).isEqualTo(squat);
+		assertThat(summary.getPrimaryExercise()).isEqualTo("스쿼트");
+	}
+
+	@Test
+	@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.URL_ENV, matches = ".+")
+	void refreshDeletesDayWhoseRecordsAreGone() {
+		JdbcTemplate db = beginDatabase();
+		DailySummaryRollup dbRollup = new DailySummaryRollup(db, periodBucketStore, mock(CalendarMonthStore.class));
+		long userId = database.insertUser();
+		insertSession(db, userId, insertCatalog(db, "달리기", BodyPartType.cardio), 30, 300, 0);
+		dbRollup.refreshDay(userId, DAY);
+		assertThat(dbRollup.findDays(userId, DAY, DAY, DailySummaryRollup.Facet.ANY)).hasSize(1);
+
+		db.update("DELETE FROM exercise_sessions WHERE user_id = ?", userId);
+		dbRollup.refreshDay(userId, DAY);
+
+		assertThat(dbRollup.findDays(userId, DAY, DAY, DailySummaryRollup.Facet.ANY)).isEmpty();
+	}
+
+	private JdbcTemplate beginDatabase() {
+		database = new PostgresTestDatabase();
+		database.begin();
+		return database.jdbcTemplate();
+	}
+
+	private static long insertCatalog(JdbcTemplate db, String name, BodyPartType bodyPart) {
+		return db.queryForObject("INSERT INTO exercise_catalog (name, body_part) VALUES (?, ?) RETURNING exercise_catalog_id",
+				Long.class, name, bodyPart.name());
+	}
+
+	private static void insertSession(JdbcTemplate db, long userId, long catalogId, int minutes, int calories, int sets) {
+		db.update("""
+				INSERT INTO exercise_sessions (user_id, exercise_catalog_id, duration_minutes, calories_burned, sets, exercise_date)
+				VALUES (?, ?, ?, ?, ?, ?)
+				""", userId, catalogId, minutes, calories, sets, Date.valueOf(DAY));
+	}
+
+	private static DailySummary onlyDay(DailySummaryRollup dbRollup, long userId) {
+		List<DailySummary> days = dbRollup.findDays(userId, DAY, DAY, DailySummaryRollup.Facet.ANY);
+		assertThat(days).hasSize(1);
+		return days.get(0);
+	}
+}
@@ -0,0 +1,122 @@
+package com.lifebit.coreapi.service.statistics;
+
+import com.lifebit.coreapi.dto.statistics.HealthStatisticsReport;
+import com.lifebit.coreapi.dto.statistics.PeriodBucket;
+import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.entity.UserGoal;
+import com.lifebit.coreapi.service.UserGoalService;
+import com.lifebit.coreapi.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HealthStatisticsEngineTest {
+
+	private UserService userService;
+	private UserGoalService userGoalService;
+	private DailySummaryRollup rollup;
+	private PeriodBucketStore periodBucketStore;
+	private ExecutorService executor;
+	private HealthStatisticsEngine engine;
+
+	@BeforeEach
+	void setUp() {
+		userService = mock(UserService.class);
+		userGoalService = mock(UserGoalService.class);
+		rollup = mock(DailySummaryRollup.class);
+		periodBucketStore = mock(PeriodBucketStore.class);
+		executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().factory());
+		// 허가 수 = 한 요청분
+		engine = new HealthStatisticsEngine(userService, userGoalService, rollup, periodBucketStore, executor, 5);
+		ReflectionTestUtils.setField(engine, "fanOutEnabled", true);
+		ReflectionTestUtils.setField(engine, "sectionTimeoutMillis", 5000L);
+
+		User user = new User();
+		user.setWeight(BigDecimal.valueOf(65));
+		user.setHeight(BigDecimal.valueOf(165));
+		when(userService.getUserById(any())).thenReturn(user);
+		when(userGoalService.getUserGoalOrDefault(any())).thenReturn(new UserGoal());
+		when(rollup.findDays(any(), any(), any(), any())).thenReturn(List.of());
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.close();
+	}
+
+	@Test
+	void saturatedPermitsFallBackToSequentialLoadsInsteadOfDegrading() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(rollup.countWorkoutDays(eq(1L))).thenAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return 3;
+		});
+		when(rollup.countWorkoutDays(eq(2L))).thenReturn(7);
+
+		ExecutorService caller = Executors.newSingleThreadExecutor();
+		Future<HealthStatisticsReport> slow = caller.submit(() -> engine.compute(1L, "week"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// 첫 요청이 허가를 모두 쥐고 있는 동안의 요청은 순차 조회로 모든 섹션을 채움
+		HealthStatisticsReport report = engine.compute(2L, "week");
+		release.countDown();
+
+		assertThat(report.getDegradedSections()).isEmpty();
+		assertThat(report.getExercise().totalWorkoutDays()).isEqualTo(7);
+		assertThat(slow.get(5, TimeUnit.SECONDS).getDegradedSections()).isEmpty();
+		caller.shutdown();
+
+		// 허가가 모두 반납되어 다음 요청은 다시 동시 조회
+		assertThat(engine.compute(2L, "week").getDegradedSections()).isEmpty();
+	}
+
+	@Test
+	void weeklyChartsComeFromPeriodBuckets() {
+		LocalDate weekStart = LocalDate.of(2026, 10, 12);
+		when(periodBucketStore.findRecent(1L, PeriodBucketStore.BucketType.WEEK, 19)).thenReturn(List.of(
+				PeriodBucket.builder().bucketStart(weekStart.minusWeeks(1)).weightDays(0).bmiDays(0).build(),
+				PeriodBucket.builder().bucketStart(weekStart).exerciseSessions(2).exerciseMinutes(90)
+						.caloriesBurned(400).weightSum(BigDecimal.valueOf(130)).weightDays(2).build()));
+
+		HealthStatisticsReport report = engine.compute(1L, "week");
+
+		// 기록이 있는 구간만 점으로, 원본 일별 행은 차트용으로 읽지 않음
+		assertThat(report.getExerciseChart()).singleElement()
+				.satisfies(point -> assertThat(point.date()).isEqualTo(weekStart));
+		assertThat(report.getHealthChart()).singleElement()
+				.satisfies(point -> assertThat(point.weight()).isEqualTo(65.0));
+		verify(rollup, never()).findDays(any(), any(), any(), eq(DailySummaryRollup.Facet.ANY));
+	}
+
+	@Test
+	void failedProfileLeavesBodyMetricsEmpty() {
+		when(userService.getUserById(any())).thenThrow(new IllegalStateException("db down"));
+
+		HealthStatisticsReport report = engine.compute(1L, "week");
+
+		assertThat(report.getDegradedSections()).contains("profile", "goals");
+		assertThat(report.getCurrentWeight()).isNull();
+		assertThat(report.getCurrentBMI()).isNull();
+		assertThat(report.toMap().get("currentWeight")).isNull();
+	}
+}
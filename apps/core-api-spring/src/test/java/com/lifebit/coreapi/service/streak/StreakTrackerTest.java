@@ -0,0 +1,82 @@
+package com.lifebit.coreapi.service.streak;
+
+import com.lifebit.coreapi.service.ranking.LeaderboardIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreakTrackerTest {
+
+	private static final LocalDate TODAY = LocalDate.now();
+
+	private JdbcTemplate jdbcTemplate;
+	private StreakTracker tracker;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		ObjectProvider<LeaderboardIndex> index = mock(ObjectProvider.class);
+		tracker = new StreakTracker(jdbcTemplate, index);
+		when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*)"), eq(Integer.class), any(), any())).thenReturn(1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void firstUpdateOfExistingUserBackfillsFromRecords() {
+		// 도입 이전 기록만 있는 사용자: 행이 없으므로 빈 행으로 잠근 뒤 원본 기록에서 재계산
+		when(jdbcTemplate.update(startsWith("INSERT INTO user_streak (user_id, kind) VALUES"), eq(1L), eq("EXERCISE"))).thenReturn(1);
+		when(jdbcTemplate.update(contains("WITH days AS"), eq(1L), eq("EXERCISE"))).thenReturn(1);
+		when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any()))
+				.thenReturn(List.of(new StreakTracker.Streak(12, 20, TODAY)));
+
+		tracker.onActivityAdded(1L, StreakTracker.Kind.EXERCISE, TODAY);
+
+		verify(jdbcTemplate).update(contains("AND user_id = ?"), eq(1L), eq("EXERCISE"));
+		verify(jdbcTemplate).update(startsWith("UPDATE user_ranking SET streak_days"), eq(12), eq(1L));
+		verify(jdbcTemplate, never()).query(contains("FOR UPDATE"), any(RowMapper.class), any(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void existingRowIsLockedBeforeIncrement() {
+		when(jdbcTemplate.query(contains("FOR UPDATE"), any(RowMapper.class), any(), any()))
+				.thenReturn(List.of(new StreakTracker.Streak(3, 5, TODAY.minusDays(1))));
+
+		tracker.onActivityAdded(1L, StreakTracker.Kind.MEAL, TODAY);
+
+		verify(jdbcTemplate).update(contains("VALUES (?, ?, ?, ?, ?, NOW())"),
+				eq(1L), eq("MEAL"), eq(4), eq(5), eq(Date.valueOf(TODAY)));
+		verify(jdbcTemplate, never()).update(contains("WITH days AS"), eq(1L), eq("MEAL"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void userWithoutRecordsKeepsEmptyRow() {
+		when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any())).thenReturn(List.of());
+
+		StreakTracker.Streak streak = tracker.get(1L, StreakTracker.Kind.MEAL);
+
+		// 재계산 결과가 없어도 빈 행을 남겨 다음 조회 때 다시 재계산하지 않음
+		verify(jdbcTemplate).update(contains("VALUES (?, ?, ?, ?, ?, NOW())"),
+				eq(1L), eq("MEAL"), eq(0), eq(0), eq(null));
+		assertThat(streak).isEqualTo(StreakTracker.Streak.EMPTY);
+	}
+}
@@ -103,7 +103,7 @@ export const StatisticsCharts: React.FC<StatisticsChartsProps> = memo(({
     data: healthStatistics,
     isLoading: statsLoading,
     error: statsError
-  } = useHealthStatistics(userId, apiPeriod);
+  } = useHealthStatistics(userId, period); // 차트는 서버가 기간 단위(주/월) 구간으로 집계해서 내려줌
 
   console.log('🔍 [StatisticsCharts] API 호출 상태:', {
     userId,